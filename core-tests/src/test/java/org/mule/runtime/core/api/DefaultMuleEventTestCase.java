@@ -9,7 +9,12 @@ package org.mule.runtime.core.api;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.rules.ExpectedException.none;
+import static org.mule.runtime.api.el.BindingContextUtils.PAYLOAD;
+import static org.mule.runtime.api.el.BindingContextUtils.VARS;
 import static org.mule.runtime.api.message.Message.of;
 import static org.mule.runtime.api.metadata.MediaType.APPLICATION_XML;
 import static org.mule.runtime.core.api.event.CoreEvent.builder;
@@ -17,6 +22,7 @@ import static org.mule.runtime.core.api.event.EventContextFactory.create;
 import static org.mule.tck.MuleTestUtils.getTestFlow;
 import static org.mule.tck.junit4.matcher.DataTypeMatcher.like;
 
+import org.mule.runtime.api.el.BindingContext;
 import org.mule.runtime.api.event.EventContext;
 import org.mule.runtime.api.message.Message;
 import org.mule.runtime.api.metadata.DataType;
@@ -119,4 +125,32 @@ public class DefaultMuleEventTestCase extends AbstractMuleContextTestCase {
     expected.expect(NullPointerException.class);
     muleEvent = (PrivilegedEvent) builder(messageContext).build();
   }
+
+  @Test
+  public void bindingContextReusedWhenBindingsUnchanged() throws Exception {
+    BindingContext bindingContext = muleEvent.asBindingContext();
+    CoreEvent derived = CoreEvent.builder(muleEvent).addInternalParameter(PROPERTY_NAME, PROPERTY_VALUE).build();
+
+    assertThat(derived.asBindingContext(), is(sameInstance(bindingContext)));
+  }
+
+  @Test
+  public void bindingContextDerivedWhenPayloadChanged() throws Exception {
+    muleEvent = (PrivilegedEvent) CoreEvent.builder(muleEvent).addVariable(PROPERTY_NAME, PROPERTY_VALUE).build();
+    BindingContext bindingContext = muleEvent.asBindingContext();
+    CoreEvent derived = CoreEvent.builder(muleEvent).message(of("other-data")).build();
+
+    assertThat(derived.asBindingContext(), is(not(sameInstance(bindingContext))));
+    assertThat(derived.asBindingContext().lookup(PAYLOAD).get().getValue(), is("other-data"));
+    assertThat(derived.asBindingContext().lookup(VARS).get().getValue(),
+               is(bindingContext.lookup(VARS).get().getValue()));
+  }
+
+  @Test
+  public void bindingContextRebuiltWhenVariablesChanged() throws Exception {
+    BindingContext bindingContext = muleEvent.asBindingContext();
+    CoreEvent derived = CoreEvent.builder(muleEvent).addVariable(PROPERTY_NAME, PROPERTY_VALUE).build();
+
+    assertThat(derived.asBindingContext(), is(not(sameInstance(bindingContext))));
+  }
 }
@@ -10,7 +10,13 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import org.mule.runtime.api.notification.Notification;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.internal.context.notification.Policy;
 import org.mule.runtime.core.privileged.context.notification.OptimisedNotificationHandler;
 import org.mule.tck.junit4.AbstractMuleTestCase;
@@ -167,6 +173,49 @@ public class NotificationManagerTestCase extends AbstractMuleTestCase {
     assertTrue(listener2.isNotified());
   }
 
+  @Test
+  public void testSendersResolvedByConcreteClass() throws ClassNotFoundException {
+    registerDefaultEvents();
+    registerDefaultListeners();
+    Policy policy = manager.getPolicy();
+    assertFalse(policy.hasSenders(Event1.class));
+    assertTrue(policy.hasSenders(SubEvent1.class));
+    assertTrue(policy.hasSenders(SubSubEvent1.class));
+    assertTrue(policy.hasSenders(SubEvent2.class));
+    assertFalse(policy.hasSenders(Event3.class));
+
+    manager.removeListener(listener2);
+    assertFalse(manager.getPolicy().hasSenders(SubEvent2.class));
+  }
+
+  @Test
+  public void noAsyncDispatcherForListenerRemovedWhileFiring() throws Exception {
+    manager = new ServerNotificationManager() {
+
+      @Override
+      protected void notifyListeners(Notification notification, NotifierCallback notifier) {
+        // The listener is removed after the notification was resolved to be sent to it
+        Policy policy = getPolicy();
+        removeListener(listener2);
+        policy.dispatch(notification, notifier);
+      }
+    };
+    MuleContext muleContext = mock(MuleContext.class);
+    SchedulerService schedulerService = mock(SchedulerService.class);
+    when(muleContext.getSchedulerService()).thenReturn(schedulerService);
+    when(schedulerService.cpuLightScheduler()).thenReturn(mock(Scheduler.class));
+    when(schedulerService.ioScheduler()).thenReturn(mock(Scheduler.class));
+    manager.setMuleContext(muleContext);
+    manager.initialise();
+    registerDefaultEvents();
+    registerDefaultListeners();
+
+    manager.fireNotification(new Event2());
+
+    assertTrue(manager.getAsyncListenersStatistics().isEmpty());
+    assertFalse(listener2.isNotified());
+  }
+
   protected void assertNoListenersNotified() {
     assertFalse(listener1.isNotified());
     assertFalse(listener2.isNotified());
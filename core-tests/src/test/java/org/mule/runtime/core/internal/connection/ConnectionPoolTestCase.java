@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.connection;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_NONE;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_FAIL;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_GROW;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_WAIT;
+import static org.mule.runtime.api.connection.ConnectionValidationResult.failure;
+import static org.mule.runtime.api.connection.ConnectionValidationResult.success;
+import org.mule.runtime.api.config.PoolingProfile;
+import org.mule.runtime.api.connection.ConnectionProvider;
+import org.mule.runtime.api.connection.ConnectionValidationResult;
+import org.mule.runtime.core.internal.connection.ConnectionPool.Entry;
+import org.mule.tck.SimpleUnitTestSupportScheduler;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.probe.JUnitLambdaProbe;
+import org.mule.tck.probe.PollingProber;
+import org.mule.tck.size.SmallTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class ConnectionPoolTestCase extends AbstractMuleTestCase {
+
+  private static final int MAX_ACTIVE = 4;
+  private static final long MAX_WAIT = 500;
+
+  private final TestConnectionProvider connectionProvider = new TestConnectionProvider();
+  private ExecutorService executor;
+  private SimpleUnitTestSupportScheduler scheduler;
+  private ConnectionPool<Object> pool;
+
+  @Before
+  public void before() {
+    executor = newFixedThreadPool(16);
+    scheduler = new SimpleUnitTestSupportScheduler(2, Thread::new, new AbortPolicy());
+  }
+
+  @After
+  public void after() {
+    if (pool != null) {
+      pool.close();
+    }
+    executor.shutdownNow();
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  public void maxActiveUnderConcurrentBorrowers() throws Exception {
+    pool = new ConnectionPool<>(connectionProvider, profile(WHEN_EXHAUSTED_WAIT), null);
+    final AtomicInteger borrowed = new AtomicInteger();
+    final AtomicInteger maxBorrowed = new AtomicInteger();
+
+    List<Future<?>> borrowers = new ArrayList<>();
+    for (int i = 0; i < 16; ++i) {
+      borrowers.add(executor.submit(() -> {
+        for (int j = 0; j < 1000; ++j) {
+          final Entry<Object> entry = pool.borrow();
+          maxBorrowed.accumulateAndGet(borrowed.incrementAndGet(), Math::max);
+          borrowed.decrementAndGet();
+          pool.returnConnection(entry);
+        }
+        return null;
+      }));
+    }
+    for (Future<?> borrower : borrowers) {
+      borrower.get(30, SECONDS);
+    }
+
+    assertThat(maxBorrowed.get(), is(lessThanOrEqualTo(MAX_ACTIVE)));
+    assertThat(connectionProvider.connects.get(), is(lessThanOrEqualTo(MAX_ACTIVE)));
+    assertThat(pool.getNumActive(), is(0));
+  }
+
+  @Test
+  public void returnedConnectionIsHandedOverToWaiter() throws Exception {
+    pool = new ConnectionPool<>(connectionProvider, new PoolingProfile(1, 1, 5000, WHEN_EXHAUSTED_WAIT, INITIALISE_NONE), null);
+    final Entry<Object> entry = pool.borrow();
+
+    final CountDownLatch waiting = new CountDownLatch(1);
+    final Future<Entry<Object>> waiter = executor.submit(() -> {
+      waiting.countDown();
+      return pool.borrow();
+    });
+    waiting.await();
+    Thread.sleep(100);
+    assertThat(waiter.isDone(), is(false));
+
+    pool.returnConnection(entry);
+    assertThat(waiter.get(5, SECONDS), is(sameInstance(entry)));
+    assertThat(connectionProvider.connects.get(), is(1));
+  }
+
+  @Test
+  public void threadReusesItsLastReturnedConnection() throws Exception {
+    pool = new ConnectionPool<>(connectionProvider, profile(WHEN_EXHAUSTED_WAIT), null);
+    final Entry<Object> first = pool.borrow();
+    final Entry<Object> second = pool.borrow();
+    pool.returnConnection(first);
+    pool.returnConnection(second);
+
+    assertThat(pool.borrow(), is(sameInstance(second)));
+    // Other threads look among all the idle connections
+    assertThat(executor.submit(() -> pool.borrow()).get(5, SECONDS), is(sameInstance(first)));
+    assertThat(connectionProvider.connects.get(), is(2));
+  }
+
+  @Test
+  public void waitTimesOut() throws Exception {
+    pool = new ConnectionPool<>(connectionProvider, profile(WHEN_EXHAUSTED_WAIT), null);
+    for (int i = 0; i < MAX_ACTIVE; ++i) {
+      pool.borrow();
+    }
+
+    final long start = nanoTime();
+    try {
+      pool.borrow();
+      fail("Was expecting the wait to time out");
+    } catch (NoSuchElementException e) {
+      assertThat(NANOSECONDS.toMillis(nanoTime() - start), is(lessThan(MAX_WAIT * 2)));
+    }
+  }
+
+  @Test
+  public void waitDoesNotRestartWhenWokenUp() throws Exception {
+    pool = new ConnectionPool<>(connectionProvider,
+                                new PoolingProfile(1, 1, MAX_WAIT, WHEN_EXHAUSTED_WAIT, INITIALISE_NONE), null);
+    pool.invalidate(pool.borrow());
+
+    // Keeps destroying and creating the only connection, waking up the waiter each time
+    final AtomicBoolean churn = new AtomicBoolean(true);
+    final Future<?> churner = executor.submit(() -> {
+      while (churn.get()) {
+        pool.invalidate(pool.borrow());
+      }
+      return null;
+    });
+
+    final long start = nanoTime();
+    try {
+      pool.invalidate(pool.borrow());
+    } catch (NoSuchElementException e) {
+      // The churner may win every time
+    } finally {
+      churn.set(false);
+    }
+
+    assertThat(NANOSECONDS.toMillis(nanoTime() - start), is(lessThan(MAX_WAIT * 2)));
+    churner.get(5, SECONDS);
+  }
+
+  @Test
+  public void exhaustedFail() throws Exception {
+    pool = new ConnectionPool<>(connectionProvider, profile(WHEN_EXHAUSTED_FAIL), null);
+    for (int i = 0; i < MAX_ACTIVE; ++i) {
+      pool.borrow();
+    }
+
+    final long start = nanoTime();
+    try {
+      pool.borrow();
+      fail("Was expecting the pool to be exhausted");
+    } catch (NoSuchElementException e) {
+      assertThat(NANOSECONDS.toMillis(nanoTime() - start), is(lessThan(MAX_WAIT)));
+    }
+  }
+
+  @Test
+  public void exhaustedGrow() throws Exception {
+    pool = new ConnectionPool<>(connectionProvider, profile(WHEN_EXHAUSTED_GROW), null);
+    for (int i = 0; i < MAX_ACTIVE * 2; ++i) {
+      pool.borrow();
+    }
+
+    assertThat(pool.getNumActive(), is(MAX_ACTIVE * 2));
+    assertThat(connectionProvider.connects.get(), is(MAX_ACTIVE * 2));
+  }
+
+  @Test
+  public void idleConnectionsEvicted() throws Exception {
+    final PoolingProfile poolingProfile = profile(WHEN_EXHAUSTED_WAIT);
+    poolingProfile.setEvictionCheckIntervalMillis(50);
+    poolingProfile.setMinEvictionMillis(100);
+    pool = new ConnectionPool<>(connectionProvider, poolingProfile, scheduler);
+
+    pool.returnConnection(pool.borrow());
+    assertThat(pool.getNumIdle(), is(1));
+
+    new PollingProber(5000, 50).check(new JUnitLambdaProbe(() -> {
+      assertThat(pool.getNumIdle(), is(0));
+      assertThat(connectionProvider.disconnects.get(), is(1));
+      assertThat(pool.getStatistics().getEvictions(), is(1L));
+      return true;
+    }));
+  }
+
+  @Test
+  public void invalidIdleConnectionsDestroyed() throws Exception {
+    final PoolingProfile poolingProfile = profile(WHEN_EXHAUSTED_WAIT);
+    poolingProfile.setEvictionCheckIntervalMillis(50);
+    poolingProfile.setMinEvictionMillis(60000);
+    pool = new ConnectionPool<>(connectionProvider, poolingProfile, scheduler);
+
+    pool.returnConnection(pool.borrow());
+    connectionProvider.valid = false;
+
+    new PollingProber(5000, 50).check(new JUnitLambdaProbe(() -> {
+      assertThat(pool.getNumIdle(), is(0));
+      assertThat(connectionProvider.disconnects.get(), is(1));
+      assertThat(pool.getStatistics().getValidationFailures(), is(1L));
+      return true;
+    }));
+  }
+
+  private PoolingProfile profile(int exhaustedAction) {
+    return new PoolingProfile(MAX_ACTIVE, MAX_ACTIVE, MAX_WAIT, exhaustedAction, INITIALISE_NONE);
+  }
+
+  private static class TestConnectionProvider implements ConnectionProvider<Object> {
+
+    private final AtomicInteger connects = new AtomicInteger();
+    private final AtomicInteger disconnects = new AtomicInteger();
+    private volatile boolean valid = true;
+
+    @Override
+    public Object connect() {
+      connects.incrementAndGet();
+      return new Object();
+    }
+
+    @Override
+    public void disconnect(Object connection) {
+      disconnects.incrementAndGet();
+    }
+
+    @Override
+    public ConnectionValidationResult validate(Object connection) {
+      return valid ? success() : failure("Invalid", new Exception());
+    }
+  }
+}
@@ -10,33 +10,28 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
-import static org.mockito.Matchers.anyObject;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
-import static org.mule.runtime.api.connection.ConnectionValidationResult.failure;
-import static org.mule.runtime.api.connection.ConnectionValidationResult.success;
 
 import org.mule.runtime.api.connection.ConnectionProvider;
 import org.mule.runtime.api.connection.PoolingListener;
+import org.mule.runtime.core.internal.connection.ConnectionPool.Entry;
 import org.mule.tck.junit4.AbstractMuleTestCase;
 import org.mule.tck.size.SmallTest;
 
-import org.apache.commons.pool.ObjectPool;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
-import java.io.IOException;
-
 @SmallTest
 @RunWith(MockitoJUnitRunner.class)
 public class PoolingConnectionHandlerTestCase extends AbstractMuleTestCase {
 
   @Mock
-  private ObjectPool<Object> pool;
+  private ConnectionPool<Object> pool;
 
   @Mock
   private Object config;
@@ -50,12 +45,14 @@ public class PoolingConnectionHandlerTestCase extends AbstractMuleTestCase {
   @Mock
   private ConnectionProvider connectionProvider;
 
+  private Entry<Object> entry;
+
   private PoolingConnectionHandler<Object> managedConnection;
 
   @Before
   public void before() {
-    managedConnection = new PoolingConnectionHandler<>(connection, pool, poolingListener, connectionProvider);
-    when(connectionProvider.validate(connection)).thenReturn(success());
+    entry = new Entry<>(connection);
+    managedConnection = new PoolingConnectionHandler<>(entry, pool, poolingListener, connectionProvider);
   }
 
   @Test
@@ -66,24 +63,30 @@ public class PoolingConnectionHandlerTestCase extends AbstractMuleTestCase {
   @Test
   public void release() throws Exception {
     managedConnection.release();
-    verify(pool).returnObject(connection);
+    verify(pool).returnConnection(entry);
     verify(poolingListener).onReturn(connection);
     assertDisconnected();
   }
 
   @Test
-  public void releaseInvalidConnection() throws Exception {
-    when(connectionProvider.validate(connection)).thenReturn(failure("Connection is invalid", new IOException()));
+  public void releaseDoesNotValidate() throws Exception {
+    managedConnection.release();
+    verify(connectionProvider, never()).validate(any());
+    verify(pool, never()).invalidate(entry);
+  }
+
+  @Test
+  public void releaseAfterInvalidate() throws Exception {
+    managedConnection.invalidate();
     managedConnection.release();
-    verify(pool).invalidateObject(connection);
-    verify(pool, never()).returnObject(connection);
-    verify(poolingListener, never()).onReturn(connection);
+    verify(pool).invalidate(entry);
+    verify(pool, never()).returnConnection(any());
   }
 
   @Test
   public void invalidate() throws Exception {
     managedConnection.invalidate();
-    verify(pool).invalidateObject(connection);
+    verify(pool).invalidate(entry);
     assertDisconnected();
   }
 
@@ -99,7 +102,7 @@ public class PoolingConnectionHandlerTestCase extends AbstractMuleTestCase {
   @Test
   public void close() throws Exception {
     managedConnection.close();
-    verify(pool, never()).returnObject(anyObject());
+    verify(pool, never()).returnConnection(any());
   }
 
   @Test
@@ -6,10 +6,14 @@
  */
 package org.mule.runtime.core.internal.connection;
 
+import static java.lang.System.clearProperty;
+import static java.lang.System.setProperty;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
@@ -17,14 +21,17 @@ import static org.mockito.Matchers.anyObject;
 import static org.mockito.Matchers.anyVararg;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mule.runtime.api.config.PoolingProfile.DEFAULT_MAX_POOL_WAIT;
+import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_ALL;
 import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_NONE;
 import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_FAIL;
 import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_WAIT;
+import static org.mule.runtime.core.internal.connection.ConnectionPool.KEEP_MIN_IDLE_PROPERTY;
 import static org.mule.tck.MuleTestUtils.spyInjector;
 import org.mule.runtime.api.config.PoolingProfile;
 import org.mule.runtime.api.connection.ConnectionException;
@@ -32,12 +39,16 @@ import org.mule.runtime.api.connection.ConnectionHandler;
 import org.mule.runtime.api.connection.ConnectionProvider;
 import org.mule.runtime.api.connection.ConnectionValidationResult;
 import org.mule.runtime.api.connection.PoolingListener;
+import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.core.api.Injector;
 import org.mule.runtime.api.lifecycle.Lifecycle;
+import org.mule.runtime.core.api.management.stats.ConnectionPoolStatistics;
 import org.mule.tck.junit4.AbstractMuleContextTestCase;
 
 import java.util.Arrays;
+import java.util.Map;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -55,6 +66,7 @@ public class PoolingConnectionManagementStrategyTestCase extends AbstractMuleCon
   private PoolingConnectionManagementStrategy<Object> strategy;
   private PoolingListener<Object> poolingListener;
   private Injector injector;
+  private Scheduler scheduler;
 
   private ConnectionHandler<Object> connection1;
   private ConnectionHandler<Object> connection2;
@@ -64,6 +76,7 @@ public class PoolingConnectionManagementStrategyTestCase extends AbstractMuleCon
     poolingListener = mock(PoolingListener.class);
     injector = spyInjector(muleContext);
     muleContext.start();
+    scheduler = muleContext.getSchedulerService().ioScheduler();
     resetConnectionProvider();
 
     initStrategy();
@@ -72,6 +85,11 @@ public class PoolingConnectionManagementStrategyTestCase extends AbstractMuleCon
     connection2 = strategy.getConnectionHandler();
   }
 
+  @After
+  public void after() {
+    scheduler.stop();
+  }
+
   @Test
   public void getConnection() throws Exception {
     assertThat(connection1, is(not(sameInstance(connection2))));
@@ -132,6 +150,85 @@ public class PoolingConnectionManagementStrategyTestCase extends AbstractMuleCon
     verify(connectionProvider, times(2)).disconnect(any(Object.class));
   }
 
+  @Test
+  public void warmUp() throws Exception {
+    poolingProfile = new PoolingProfile(MAX_ACTIVE, MAX_ACTIVE, DEFAULT_MAX_POOL_WAIT, WHEN_EXHAUSTED_WAIT, INITIALISE_ALL);
+    resetConnectionProvider();
+    setProperty(KEEP_MIN_IDLE_PROPERTY, "true");
+    try {
+      initStrategy();
+    } finally {
+      clearProperty(KEEP_MIN_IDLE_PROPERTY);
+    }
+
+    strategy.warmUp("config").get(5, SECONDS);
+    verify(connectionProvider, times(MAX_ACTIVE)).connect();
+
+    strategy.getConnectionHandler();
+    strategy.getConnectionHandler();
+    verify(connectionProvider, times(MAX_ACTIVE)).connect();
+  }
+
+  @Test
+  public void lazyByDefault() throws Exception {
+    poolingProfile = new PoolingProfile(MAX_ACTIVE, MAX_ACTIVE, DEFAULT_MAX_POOL_WAIT, WHEN_EXHAUSTED_WAIT, INITIALISE_ALL);
+    resetConnectionProvider();
+    initStrategy();
+
+    strategy.warmUp("config").get(5, SECONDS);
+    verify(connectionProvider, never()).connect();
+
+    strategy.getConnectionHandler();
+    verify(connectionProvider, times(1)).connect();
+  }
+
+  @Test
+  public void statisticsRegisteredOnCreation() throws Exception {
+    muleContext.getStatistics().setEnabled(true);
+    initStrategy();
+
+    // Not warmed up, so its owner is not known yet
+    assertThat(muleContext.getStatistics().getConnectionPoolStatistics().size(), is(1));
+
+    strategy.warmUp("config").get(5, SECONDS);
+    final Map<String, ConnectionPoolStatistics> statistics = muleContext.getStatistics().getConnectionPoolStatistics();
+    assertThat(statistics.size(), is(1));
+    assertThat(statistics.keySet().iterator().next(), startsWith("config"));
+
+    strategy.close();
+    assertThat(muleContext.getStatistics().getConnectionPoolStatistics().isEmpty(), is(true));
+  }
+
+  @Test
+  public void warmUpStatistics() throws Exception {
+    muleContext.getStatistics().setEnabled(true);
+    poolingProfile = new PoolingProfile(MAX_ACTIVE, MAX_ACTIVE, DEFAULT_MAX_POOL_WAIT, WHEN_EXHAUSTED_WAIT, INITIALISE_ALL);
+    setProperty(KEEP_MIN_IDLE_PROPERTY, "true");
+    final PoolingConnectionManagementStrategy<Object> firstStrategy;
+    try {
+      initStrategy();
+      strategy.warmUp("config").get(5, SECONDS);
+      firstStrategy = strategy;
+      initStrategy();
+      strategy.warmUp("config").get(5, SECONDS);
+    } finally {
+      clearProperty(KEEP_MIN_IDLE_PROPERTY);
+    }
+
+    // Pools with the same owner name, such as the ones of the instances of a dynamic config, don't replace each other's
+    final Map<String, ConnectionPoolStatistics> statistics = muleContext.getStatistics().getConnectionPoolStatistics();
+    assertThat(statistics.size(), is(2));
+    statistics.forEach((name, poolStatistics) -> {
+      assertThat(name, startsWith("config"));
+      assertThat(poolStatistics.getWarmedUpConnections(), is(MAX_ACTIVE));
+    });
+
+    firstStrategy.close();
+    assertThat(muleContext.getStatistics().getConnectionPoolStatistics().size(), is(1));
+    strategy.close();
+    assertThat(muleContext.getStatistics().getConnectionPoolStatistics().isEmpty(), is(true));
+  }
+
   @Test(expected = ConnectionException.class)
   public void failDueToInvalidConnection() throws ConnectionException {
     when(connectionProvider.validate(anyVararg())).thenReturn(ConnectionValidationResult
@@ -154,7 +251,8 @@ public class PoolingConnectionManagementStrategyTestCase extends AbstractMuleCon
   }
 
   private void initStrategy() {
-    strategy = new PoolingConnectionManagementStrategy<>(connectionProvider, poolingProfile, poolingListener, muleContext);
+    strategy =
+        new PoolingConnectionManagementStrategy<>(connectionProvider, poolingProfile, poolingListener, muleContext, scheduler);
   }
 
   private <T> void verifyThat(Assertion<T> assertion) throws Exception {
@@ -11,6 +11,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
@@ -29,11 +30,16 @@ import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 import static org.mule.runtime.api.message.Message.of;
 import static org.mule.runtime.core.api.construct.Flow.INITIAL_STATE_STOPPED;
+import static org.mule.runtime.core.api.exception.Errors.ComponentIdentifiers.Unhandleable.OVERLOAD;
+import static org.mule.runtime.core.api.management.stats.BackPressureReason.EVENTS_ACCUMULATED;
+import static org.mule.runtime.core.api.management.stats.BackPressureReason.MAX_CONCURRENCY_EXCEEDED;
+import static org.mule.runtime.core.api.management.stats.BackPressureReason.REQUIRED_SCHEDULER_BUSY;
 import static org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType.BLOCKING;
 import static org.mule.runtime.core.api.processor.strategy.AsyncProcessingStrategyFactory.DEFAULT_MAX_CONCURRENCY;
 import static org.mule.tck.util.MuleContextUtils.eventBuilder;
 import static reactor.core.publisher.Mono.just;
 import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.message.ErrorType;
 import org.mule.runtime.api.i18n.I18nMessage;
 import org.mule.runtime.api.lifecycle.Disposable;
 import org.mule.runtime.api.lifecycle.LifecycleException;
@@ -42,6 +48,7 @@ import org.mule.runtime.api.lifecycle.Stoppable;
 import org.mule.runtime.core.api.construct.Flow;
 import org.mule.runtime.core.api.construct.FlowConstruct;
 import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.management.stats.BackPressureStatistics;
 import org.mule.runtime.core.api.processor.Processor;
 import org.mule.runtime.core.api.processor.ReactiveProcessor;
 import org.mule.runtime.core.api.processor.Sink;
@@ -58,6 +65,7 @@ import org.mule.tck.core.lifecycle.LifecycleTrackerProcessor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.BiFunction;
 
 import org.junit.After;
@@ -369,4 +377,83 @@ public class DefaultFlowTestCase extends AbstractFlowConstructTestCase {
     }
 
   }
+
+  @Test
+  public void backPressureRequiredSchedulerBusy() throws Exception {
+    Sink sink = mock(Sink.class);
+    doThrow(new RejectedExecutionException()).when(sink).accept(any(CoreEvent.class));
+    startFlowWithSink(sink);
+
+    flow.flowWaitMapper(e -> e, (request, response) -> response).apply(testEvent());
+
+    assertThat(getBackPressureStatistics().getRejections(REQUIRED_SCHEDULER_BUSY), is(1L));
+    assertThat(getBackPressureStatistics().getRejections(MAX_CONCURRENCY_EXCEEDED), is(0L));
+    assertThat(getBackPressureStatistics().getRejections(EVENTS_ACCUMULATED), is(0L));
+  }
+
+  @Test
+  public void backPressureEventsAccumulated() throws Exception {
+    Sink sink = mock(Sink.class);
+    when(sink.emit(any(CoreEvent.class))).thenReturn(false);
+    startFlowWithSink(sink);
+
+    flow.flowFailDropMapper(e -> e, (request, response) -> response, getOverloadErrorType()).apply(testEvent());
+
+    assertThat(getBackPressureStatistics().getRejections(EVENTS_ACCUMULATED), is(1L));
+    assertThat(getBackPressureStatistics().getRejections(MAX_CONCURRENCY_EXCEEDED), is(0L));
+  }
+
+  @Test
+  public void backPressureMaxConcurrencyExceeded() throws Exception {
+    Sink sink = mock(Sink.class);
+    when(sink.emit(any(CoreEvent.class))).thenReturn(true, false);
+    startFlowWithSink(sink);
+
+    // The first event is still in flight when the second one is rejected
+    flow.flowFailDropMapper(e -> e, (request, response) -> response, getOverloadErrorType()).apply(testEvent());
+    flow.flowFailDropMapper(e -> e, (request, response) -> response, getOverloadErrorType()).apply(testEvent());
+
+    assertThat(getBackPressureStatistics().getRejections(MAX_CONCURRENCY_EXCEEDED), is(1L));
+    assertThat(getBackPressureStatistics().getRejections(EVENTS_ACCUMULATED), is(0L));
+  }
+
+  @Test
+  public void maxConcurrencyExceededWithStatisticsDisabled() throws Exception {
+    Sink sink = mock(Sink.class);
+    when(sink.emit(any(CoreEvent.class))).thenReturn(true, false);
+    startFlowWithSink(sink, false);
+
+    flow.flowFailDropMapper(e -> e, (request, response) -> response, getOverloadErrorType()).apply(testEvent());
+    flow.flowFailDropMapper(e -> e, (request, response) -> response, getOverloadErrorType()).apply(testEvent());
+
+    // Notification listeners still need to know why the event was rejected
+    assertThat(flow.getSinkFullReason(), is(MAX_CONCURRENCY_EXCEEDED));
+  }
+
+  private void startFlowWithSink(Sink sink) throws MuleException {
+    startFlowWithSink(sink, true);
+  }
+
+  private void startFlowWithSink(Sink sink, boolean statisticsEnabled) throws MuleException {
+    muleContext.getStatistics().setEnabled(statisticsEnabled);
+    ProcessingStrategy processingStrategy = mock(ProcessingStrategy.class);
+    when(processingStrategy.createSink(any(FlowConstruct.class), any(ReactiveProcessor.class))).thenReturn(sink);
+    flow = (DefaultFlow) Flow.builder(FLOW_NAME, muleContext)
+        .source(directInboundMessageSource)
+        .processors(getSensingNullMessageProcessor())
+        .processingStrategyFactory((muleContext, s) -> processingStrategy)
+        .maxConcurrency(1)
+        .build();
+
+    flow.initialise();
+    flow.start();
+  }
+
+  private ErrorType getOverloadErrorType() {
+    return muleContext.getErrorTypeRepository().getErrorType(OVERLOAD).get();
+  }
+
+  private BackPressureStatistics getBackPressureStatistics() {
+    return muleContext.getStatistics().getBackPressureStatistics(FLOW_NAME);
+  }
 }
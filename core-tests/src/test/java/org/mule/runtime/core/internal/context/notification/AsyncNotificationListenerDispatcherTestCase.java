@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.context.notification;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.core.internal.context.notification.AsyncNotificationListenerDispatcher.OverflowPolicy.DROP;
+
+import org.mule.runtime.api.notification.Notification;
+import org.mule.runtime.api.notification.NotificationListener;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class AsyncNotificationListenerDispatcherTestCase extends AbstractMuleTestCase {
+
+  private final List<Runnable> submitted = new ArrayList<>();
+  private final List<Notification> delivered = new ArrayList<>();
+
+  private Scheduler scheduler;
+  private NotificationListener listener;
+
+  @Before
+  public void before() {
+    scheduler = mock(Scheduler.class);
+    doAnswer(invocation -> {
+      submitted.add(invocation.getArgumentAt(0, Runnable.class));
+      return null;
+    }).when(scheduler).submit(any(Runnable.class));
+
+    listener = mock(NotificationListener.class);
+    doAnswer(invocation -> delivered.add(invocation.getArgumentAt(0, Notification.class))).when(listener).onNotification(any());
+  }
+
+  @Test
+  public void singleConsumerForManyNotifications() {
+    AsyncNotificationListenerDispatcher dispatcher = new AsyncNotificationListenerDispatcher(listener, scheduler, 8, DROP);
+    Notification first = mock(Notification.class);
+    Notification second = mock(Notification.class);
+
+    dispatcher.dispatch(first);
+    dispatcher.dispatch(second);
+
+    assertThat(submitted.size(), is(1));
+    assertThat(dispatcher.getPendingCount(), is(2L));
+
+    submitted.remove(0).run();
+
+    assertThat(delivered.size(), is(2));
+    assertThat(delivered.get(0), is(first));
+    assertThat(delivered.get(1), is(second));
+    assertThat(dispatcher.getPendingCount(), is(0L));
+    assertThat(dispatcher.getDeliveredCount(), is(2L));
+    assertThat(submitted.isEmpty(), is(true));
+  }
+
+  @Test
+  public void dropWhenFull() {
+    AsyncNotificationListenerDispatcher dispatcher = new AsyncNotificationListenerDispatcher(listener, scheduler, 2, DROP);
+
+    for (int i = 0; i < 5; ++i) {
+      dispatcher.dispatch(mock(Notification.class));
+    }
+
+    assertThat(dispatcher.getPendingCount(), is(2L));
+    assertThat(dispatcher.getDroppedCount(), is(3L));
+
+    submitted.remove(0).run();
+    assertThat(delivered.size(), is(2));
+
+    dispatcher.dispatch(mock(Notification.class));
+    assertThat(dispatcher.getPendingCount(), is(1L));
+  }
+
+  @Test
+  public void rejectedConsumerRetriedOnNextNotification() {
+    Scheduler rejectingScheduler = mock(Scheduler.class);
+    when(rejectingScheduler.submit(any(Runnable.class))).thenThrow(new RejectedExecutionException());
+    AsyncNotificationListenerDispatcher dispatcher =
+        new AsyncNotificationListenerDispatcher(listener, rejectingScheduler, 8, DROP);
+
+    dispatcher.dispatch(mock(Notification.class));
+    dispatcher.dispatch(mock(Notification.class));
+
+    verify(rejectingScheduler, times(2)).submit(any(Runnable.class));
+    verify(listener, never()).onNotification(any());
+  }
+
+  @Test
+  public void noDeliveryAfterDispose() {
+    AsyncNotificationListenerDispatcher dispatcher = new AsyncNotificationListenerDispatcher(listener, scheduler, 8, DROP);
+
+    dispatcher.dispatch(mock(Notification.class));
+    dispatcher.dispose();
+    submitted.remove(0).run();
+    dispatcher.dispatch(mock(Notification.class));
+
+    assertThat(delivered.isEmpty(), is(true));
+    assertThat(submitted.isEmpty(), is(true));
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.context.notification;
+
+import static java.lang.Math.min;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.core.internal.context.notification.DefaultProcessorsTrace.CAPACITY;
+import static org.mule.runtime.core.internal.context.notification.DefaultProcessorsTrace.INITIAL_CAPACITY;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.List;
+
+import org.junit.Test;
+
+@SmallTest
+public class DefaultProcessorsTraceTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void emptyTrace() {
+    assertThat(new DefaultProcessorsTrace().getExecutedProcessors(), is(empty()));
+  }
+
+  @Test
+  public void executedProcessorsInOrder() {
+    DefaultProcessorsTrace trace = new DefaultProcessorsTrace();
+    trace.addExecutedProcessors("/comp1");
+    trace.addExecutedProcessors("/comp2");
+
+    assertThat(trace.getExecutedProcessors(), contains("/comp1", "/comp2"));
+  }
+
+  @Test
+  public void onlyLastExecutedProcessorsKept() {
+    DefaultProcessorsTrace trace = new DefaultProcessorsTrace();
+    for (int i = 0; i < CAPACITY + 2; ++i) {
+      trace.addExecutedProcessors("/comp" + i);
+    }
+
+    List<String> executedProcessors = trace.getExecutedProcessors();
+    assertThat(executedProcessors.size(), is(CAPACITY));
+    assertThat(executedProcessors.get(0), is("/comp2"));
+    assertThat(executedProcessors.get(CAPACITY - 1), is("/comp" + (CAPACITY + 1)));
+  }
+
+  @Test
+  public void bufferGrowsAsNeeded() {
+    DefaultProcessorsTrace trace = new DefaultProcessorsTrace();
+    assertThat(trace.getBufferCapacity(), is(0));
+
+    trace.addExecutedProcessors("/comp0");
+    assertThat(trace.getBufferCapacity(), is(INITIAL_CAPACITY));
+
+    for (int i = 1; i < INITIAL_CAPACITY + 1; ++i) {
+      trace.addExecutedProcessors("/comp" + i);
+    }
+
+    List<String> executedProcessors = trace.getExecutedProcessors();
+    assertThat(trace.getBufferCapacity(), is(min(INITIAL_CAPACITY * 2, CAPACITY)));
+    assertThat(executedProcessors.size(), is(min(INITIAL_CAPACITY + 1, CAPACITY)));
+    assertThat(executedProcessors.get(executedProcessors.size() - 1), is("/comp" + INITIAL_CAPACITY));
+  }
+}
@@ -12,6 +12,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -138,6 +139,44 @@ public class ThreadNotificationLoggerTestCase {
     }));
   }
 
+  @Test
+  public void unsampledEventNotMeasured() throws InterruptedException {
+    // "id".hashCode() is odd, so the event is not sampled when measuring 1 in 2 events
+    logger = new ThreadNotificationLogger(service, true, 2, 0);
+
+    switchThread("id");
+
+    verify(service, never()).addThreadNotificationElement(any());
+  }
+
+  @Test
+  public void sampledEventMeasured() throws InterruptedException {
+    logger = new ThreadNotificationLogger(service, true, 2, 0);
+    // "ie".hashCode() is even, so the event is sampled when measuring 1 in 2 events
+    switchThread("ie");
+
+    verify(service, times(1)).addThreadNotificationElement(any());
+  }
+
+  @Test
+  public void samplesPerSecondLimited() throws InterruptedException {
+    logger = new ThreadNotificationLogger(service, true, 1, 1);
+
+    for (int i = 0; i < 5; ++i) {
+      switchThread("id");
+    }
+
+    // Allow for the test running across 2 different seconds
+    verify(service, atMost(2)).addThreadNotificationElement(any());
+  }
+
+  private void switchThread(String eventId) throws InterruptedException {
+    logger.setStartingThread(eventId);
+    Thread otherThread = new Thread(() -> logger.setFinishThread(eventId));
+    otherThread.start();
+    otherThread.join();
+  }
+
   class TestScheduler extends ScheduledThreadPoolExecutor implements Scheduler {
 
     private String threadNamePrefix;
@@ -45,6 +45,7 @@ import static org.mule.runtime.api.el.BindingContextUtils.MESSAGE;
 import static org.mule.runtime.api.el.BindingContextUtils.NULL_BINDING_CONTEXT;
 import static org.mule.runtime.api.el.BindingContextUtils.PAYLOAD;
 import static org.mule.runtime.api.el.BindingContextUtils.VARS;
+import static org.mule.runtime.api.el.BindingContextUtils.addEventBindings;
 import static org.mule.runtime.api.metadata.DataType.BOOLEAN;
 import static org.mule.runtime.api.metadata.DataType.OBJECT;
 import static org.mule.runtime.api.metadata.DataType.STRING;
@@ -553,6 +554,7 @@ public class DataWeaveExpressionLanguageAdaptorTestCase extends AbstractWeaveExp
     when(event.getMessage().getAttributes()).thenReturn(new TypedValue<>(null, OBJECT));
     when(event.getAuthentication()).thenReturn(empty());
     when(event.getItemSequenceInfo()).thenReturn(empty());
+    when(event.asBindingContext()).thenAnswer(invocation -> addEventBindings(event, NULL_BINDING_CONTEXT));
     return event;
   }
 
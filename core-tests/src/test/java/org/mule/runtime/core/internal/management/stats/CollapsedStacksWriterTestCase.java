@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.stats;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import org.mule.runtime.core.api.management.stats.ProcessorProfile;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+@SmallTest
+public class CollapsedStacksWriterTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void nestedProcessorsAreSubtractedFromTheirParent() throws Exception {
+    Map<String, ProcessorProfile> profiles = new HashMap<>();
+    profiles.put("flow/processors/0", profile(100));
+    profiles.put("flow/processors/1", profile(500));
+    profiles.put("flow/processors/1/processors/0", profile(200));
+    profiles.put("flow/processors/1/processors/1", profile(250));
+    profiles.put("flow/errorHandler/0/processors/0", profile(10));
+
+    StringWriter writer = new StringWriter();
+    CollapsedStacksWriter.write(profiles, ProcessorProfile::getCpuTime, writer);
+
+    assertThat(writer.toString(), equalTo("flow;errorHandler/0;processors/0 10\n"
+        + "flow;processors/0 100\n"
+        + "flow;processors/1 50\n"
+        + "flow;processors/1;processors/0 200\n"
+        + "flow;processors/1;processors/1 250\n"));
+  }
+
+  @Test
+  public void processorsWithoutValueAreOmitted() throws Exception {
+    Map<String, ProcessorProfile> profiles = new HashMap<>();
+    profiles.put("flow/processors/0", profile(0));
+
+    StringWriter writer = new StringWriter();
+    CollapsedStacksWriter.write(profiles, ProcessorProfile::getCpuTime, writer);
+
+    assertThat(writer.toString(), equalTo(""));
+  }
+
+  private ProcessorProfile profile(long cpuTime) {
+    ProcessorProfile profile = new ProcessorProfile();
+    profile.record(cpuTime, -1);
+    return profile;
+  }
+}
@@ -13,6 +13,8 @@ import org.mule.runtime.core.api.management.stats.ComponentStatistics;
 import org.mule.tck.junit4.AbstractMuleTestCase;
 import org.mule.tck.junit4.rule.SystemProperty;
 
+import org.apache.commons.lang3.SerializationUtils;
+
 import org.junit.Rule;
 import org.junit.Test;
 
@@ -150,4 +152,14 @@ public class ComponentStatisticsTestCase extends AbstractMuleTestCase {
     stats.addExecutionBranchTime(true, 100L, 100L);
     assertValues(stats, 2L, 200L, 100L, 100L, 100L);
   }
+
+  @Test
+  public void serializationRoundTrip() {
+    ComponentStatistics stats = new ComponentStatistics();
+    stats.addExecutionTime(100L);
+    stats.addExecutionTime(300L);
+
+    ComponentStatistics deserialized = SerializationUtils.clone(stats);
+    assertValues(deserialized, 2L, 400L, 200L, 300L, 100L);
+  }
 }
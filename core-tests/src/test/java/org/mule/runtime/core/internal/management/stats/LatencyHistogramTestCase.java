@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.stats;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import org.mule.runtime.core.api.management.stats.AllStatistics;
+import org.mule.runtime.core.api.management.stats.LatencyHistogram;
+import org.mule.runtime.core.api.management.stats.LatencySnapshot;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+@SmallTest
+public class LatencyHistogramTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void emptySnapshot() {
+    LatencySnapshot snapshot = new LatencyHistogram().getSnapshot();
+    assertThat(snapshot.getCount(), equalTo(0L));
+    assertThat(snapshot.getMin(), equalTo(0L));
+    assertThat(snapshot.getMax(), equalTo(0L));
+    assertThat(snapshot.getP99(), equalTo(0L));
+  }
+
+  @Test
+  public void exactSmallValues() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (long i = 1; i <= 50; ++i) {
+      histogram.record(i);
+    }
+
+    LatencySnapshot snapshot = histogram.getSnapshot();
+    assertThat(snapshot.getCount(), equalTo(50L));
+    assertThat(snapshot.getMin(), equalTo(1L));
+    assertThat(snapshot.getMax(), equalTo(50L));
+    assertThat(snapshot.getP50(), equalTo(25L));
+    assertThat(snapshot.getValueAtPercentile(100), equalTo(50L));
+  }
+
+  @Test
+  public void percentilesWithinPrecision() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (long i = 1; i <= 100000; ++i) {
+      histogram.record(i * 1000);
+    }
+
+    LatencySnapshot snapshot = histogram.getSnapshot();
+    assertWithinPrecision(snapshot.getP50(), 50000000L);
+    assertWithinPrecision(snapshot.getP99(), 99000000L);
+    assertWithinPrecision(snapshot.getP999(), 99900000L);
+    assertThat(snapshot.getMax(), equalTo(100000000L));
+  }
+
+  @Test
+  public void intervalSnapshots() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(10);
+    histogram.record(20);
+    assertThat(histogram.getIntervalSnapshot().getCount(), equalTo(2L));
+
+    histogram.record(30);
+    LatencySnapshot interval = histogram.getIntervalSnapshot();
+    assertThat(interval.getCount(), equalTo(1L));
+    assertThat(interval.getP50(), equalTo(30L));
+
+    assertThat(histogram.getSnapshot().getCount(), equalTo(3L));
+  }
+
+  @Test
+  public void clear() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(10);
+    histogram.clear();
+    assertThat(histogram.getSnapshot().getCount(), equalTo(0L));
+    assertThat(histogram.getIntervalSnapshot().getCount(), equalTo(0L));
+  }
+
+  @Test
+  public void export() {
+    AllStatistics statistics = new AllStatistics();
+    statistics.getFlowLatencyHistogram("flow").record(10);
+    statistics.getProcessorLatencyHistogram("flow/processors/0").record(5);
+
+    Map<String, LatencySnapshot> exported = new HashMap<>();
+    statistics.addLatencyExporter((flows, processors) -> {
+      exported.putAll(flows);
+      exported.putAll(processors);
+    });
+    statistics.exportLatencies();
+
+    assertThat(exported.get("flow").getCount(), equalTo(1L));
+    assertThat(exported.get("flow/processors/0").getMax(), equalTo(5L));
+
+    statistics.exportLatencies();
+    assertThat(exported.get("flow").getCount(), equalTo(0L));
+  }
+
+  private static void assertWithinPrecision(long actual, long expected) {
+    assertThat(actual, allOf(greaterThanOrEqualTo(expected), lessThanOrEqualTo(expected + expected / 32)));
+  }
+}
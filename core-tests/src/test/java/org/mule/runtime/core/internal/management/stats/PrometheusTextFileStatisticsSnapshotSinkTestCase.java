@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.stats;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.readAllBytes;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import org.mule.runtime.core.api.management.stats.StatisticsSnapshot;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.File;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@SmallTest
+public class PrometheusTextFileStatisticsSnapshotSinkTestCase extends AbstractMuleTestCase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void samplesOfSeveralFlowsAreGroupedByName() throws Exception {
+    StatisticsSnapshot snapshot = StatisticsSnapshot.builder(0, 1000)
+        .sample("mule_flow_events_total", "flow", "flow1", 10)
+        .sample("mule_flow_inflight", "flow", "flow1", 1)
+        .sample("mule_flow_events_total", "flow", "flow2", 20)
+        .sample("mule_flow_inflight", "flow", "flow2", 2)
+        .build();
+
+    File file = new File(temporaryFolder.getRoot(), "mule.prom");
+    new PrometheusTextFileStatisticsSnapshotSink(file).write(snapshot);
+
+    assertThat(new String(readAllBytes(file.toPath()), UTF_8), equalTo("# TYPE mule_flow_events_total counter\n"
+        + "mule_flow_events_total{flow=\"flow1\"} 10.0\n"
+        + "mule_flow_events_total{flow=\"flow2\"} 20.0\n"
+        + "# TYPE mule_flow_inflight gauge\n"
+        + "mule_flow_inflight{flow=\"flow1\"} 1.0\n"
+        + "mule_flow_inflight{flow=\"flow2\"} 2.0\n"));
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.stats;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.core.api.management.stats.BackPressureReason.EVENTS_ACCUMULATED;
+import static org.mule.runtime.core.api.management.stats.BackPressureReason.MAX_CONCURRENCY_EXCEEDED;
+import static org.mule.runtime.core.api.management.stats.BackPressureReason.REQUIRED_SCHEDULER_BUSY;
+
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.management.stats.AllStatistics;
+import org.mule.runtime.core.api.management.stats.BackPressureReason;
+import org.mule.runtime.core.api.management.stats.StatisticsSnapshot;
+import org.mule.runtime.core.api.management.stats.StatisticsSnapshot.Sample;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@SmallTest
+public class StatisticsSnapshotServiceTestCase extends AbstractMuleTestCase {
+
+  private static final String FLOW_NAME = "flow";
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private AllStatistics allStatistics;
+  private DefaultFlowConstructStatistics flowStatistics;
+  private StatisticsSnapshotService snapshotService;
+
+  @Before
+  public void before() {
+    allStatistics = new AllStatistics();
+    flowStatistics = new DefaultFlowConstructStatistics("Flow", FLOW_NAME);
+    flowStatistics.setEnabled(true);
+    allStatistics.add(flowStatistics);
+
+    MuleContext muleContext = mock(MuleContext.class);
+    when(muleContext.getStatistics()).thenReturn(allStatistics);
+
+    snapshotService = new StatisticsSnapshotService();
+    snapshotService.setMuleContext(muleContext);
+  }
+
+  @Test
+  public void countersAndRates() throws Exception {
+    snapshotService.takeSnapshot();
+
+    flowStatistics.incReceivedEvents();
+    flowStatistics.incReceivedEvents();
+    Thread.sleep(10);
+    StatisticsSnapshot snapshot = snapshotService.takeSnapshot();
+
+    assertThat(flowSample(snapshot, "mule_flow_events_received_total").getValue(), equalTo(2.0));
+    assertThat(flowSample(snapshot, "mule_flow_events_received_rate").getValue(), greaterThan(0.0));
+
+    Thread.sleep(10);
+    snapshot = snapshotService.takeSnapshot();
+    assertThat(flowSample(snapshot, "mule_flow_events_received_total").getValue(), equalTo(2.0));
+    assertThat(flowSample(snapshot, "mule_flow_events_received_rate").getValue(), equalTo(0.0));
+  }
+
+  @Test
+  public void prometheusTextFile() throws Exception {
+    flowStatistics.incReceivedEvents();
+    File file = new File(temporaryFolder.getRoot(), "statistics.prom");
+
+    new PrometheusTextFileStatisticsSnapshotSink(file).write(snapshotService.takeSnapshot());
+
+    String content = new String(Files.readAllBytes(file.toPath()), UTF_8);
+    assertThat(content, containsString("# TYPE mule_flow_events_received_total counter\n"));
+    assertThat(content, containsString("mule_flow_events_received_total{flow=\"flow\"} 1.0\n"));
+  }
+
+  @Test
+  public void backPressureRejectionsBySourceAndReason() {
+    allStatistics.getBackPressureStatistics(FLOW_NAME).record("flow/source", MAX_CONCURRENCY_EXCEEDED);
+    allStatistics.getBackPressureStatistics(FLOW_NAME).record("flow/source", MAX_CONCURRENCY_EXCEEDED);
+    allStatistics.getBackPressureStatistics(FLOW_NAME).record("flow/source", REQUIRED_SCHEDULER_BUSY);
+
+    StatisticsSnapshot snapshot = snapshotService.takeSnapshot();
+
+    assertThat(backPressureSample(snapshot, MAX_CONCURRENCY_EXCEEDED).getValue(), equalTo(2.0));
+    assertThat(backPressureSample(snapshot, REQUIRED_SCHEDULER_BUSY).getValue(), equalTo(1.0));
+    assertThat(backPressureSample(snapshot, EVENTS_ACCUMULATED).getValue(), equalTo(0.0));
+    assertThat(allStatistics.getBackPressureStatistics(FLOW_NAME).getRejections(MAX_CONCURRENCY_EXCEEDED), equalTo(2L));
+  }
+
+  private Sample backPressureSample(StatisticsSnapshot snapshot, BackPressureReason reason) {
+    return snapshot.getSamples().stream()
+        .filter(sample -> sample.getName().equals("mule_flow_backpressure_rejections_total")
+            && "flow/source".equals(sample.getLabels().get("source"))
+            && reason.name().equals(sample.getLabels().get("reason")))
+        .findFirst().get();
+  }
+
+  private Sample flowSample(StatisticsSnapshot snapshot, String name) {
+    return snapshot.getSamples().stream()
+        .filter(sample -> sample.getName().equals(name) && FLOW_NAME.equals(sample.getLabels().get("flow")))
+        .findFirst().get();
+  }
+}
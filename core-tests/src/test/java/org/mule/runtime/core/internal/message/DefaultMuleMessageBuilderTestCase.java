@@ -328,6 +328,30 @@ public class DefaultMuleMessageBuilderTestCase extends AbstractMuleTestCase {
     assertThat(copy.getPayload().getByteLength().getAsLong(), is(appleSize));
   }
 
+  @Test
+  public void copyWithPropertiesModifiedDoesNotAffectOriginal() {
+    InternalMessage message = (InternalMessage) new DefaultMessageBuilder().value(TEST_PAYLOAD)
+        .addOutboundProperty(PROPERTY_KEY, PROPERTY_VALUE).build();
+    InternalMessage copy = (InternalMessage) new DefaultMessageBuilder(message).addOutboundProperty("other", PROPERTY_VALUE)
+        .removeOutboundProperty(PROPERTY_KEY).build();
+
+    assertThat(message.getOutboundPropertyNames(), hasSize(1));
+    assertThat(message.getOutboundProperty(PROPERTY_KEY), is(PROPERTY_VALUE));
+    assertThat(copy.getOutboundPropertyNames(), hasSize(1));
+    assertThat(copy.getOutboundProperty("other"), is(PROPERTY_VALUE));
+  }
+
+  @Test
+  public void builderModifiedAfterBuildDoesNotAffectBuiltMessage() {
+    DefaultMessageBuilder builder = new DefaultMessageBuilder();
+    builder.value(TEST_PAYLOAD).addInboundProperty(PROPERTY_KEY, PROPERTY_VALUE);
+    InternalMessage message = builder.build();
+    builder.addInboundProperty("other", PROPERTY_VALUE);
+
+    assertThat(message.getInboundPropertyNames(), hasSize(1));
+    assertThat(builder.build().getInboundPropertyNames(), hasSize(2));
+  }
+
   private Message createTestMessage() {
     return new DefaultMessageBuilder().value(TEST_PAYLOAD).mediaType(TEXT).build();
   }
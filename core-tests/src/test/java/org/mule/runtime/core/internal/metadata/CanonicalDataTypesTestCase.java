@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.metadata;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mule.runtime.api.metadata.MediaType.APPLICATION_JSON;
+import static org.mule.runtime.api.metadata.MediaType.TEXT;
+import static org.mule.runtime.core.internal.metadata.CanonicalDataTypes.fromObject;
+import static org.mule.runtime.core.internal.metadata.CanonicalDataTypes.withMediaType;
+
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+@SmallTest
+public class CanonicalDataTypesTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void sameInstanceForSameClass() {
+    assertThat(fromObject("hello"), is(sameInstance(fromObject("world"))));
+  }
+
+  @Test
+  public void equivalentToDataTypeFromObject() {
+    assertThat(fromObject("hello"), is(equalTo(DataType.fromObject("hello"))));
+    assertThat(fromObject(null), is(equalTo(DataType.fromObject(null))));
+    assertThat(fromObject(new ArrayList<>()), is(equalTo(DataType.fromObject(new ArrayList<>()))));
+  }
+
+  @Test
+  public void keepsMediaTypeOfBase() {
+    DataType base = DataType.builder().type(String.class).mediaType(APPLICATION_JSON).charset(UTF_8).build();
+
+    DataType dataType = fromObject(1, base);
+    assertThat(dataType, is(equalTo(DataType.builder(base).fromObject(1).build())));
+    assertThat(dataType, is(sameInstance(fromObject(2, base))));
+  }
+
+  @Test
+  public void keepsItemTypeOfCollectionBase() {
+    DataType base = DataType.builder().collectionType(List.class).itemType(String.class).build();
+
+    assertThat(fromObject(new ArrayList<>(), base), is(equalTo(DataType.builder(base).fromObject(new ArrayList<>()).build())));
+  }
+
+  @Test
+  public void changeMediaType() {
+    DataType dataType = withMediaType(DataType.STRING, TEXT);
+
+    assertThat(dataType, is(equalTo(DataType.builder(DataType.STRING).mediaType(TEXT).build())));
+    assertThat(dataType, is(sameInstance(withMediaType(fromObject("hello"), TEXT))));
+  }
+}
@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.core.internal.metadata.cache;
 
+import static java.lang.System.clearProperty;
+import static java.lang.System.setProperty;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
@@ -15,6 +17,7 @@ import static org.mockito.Matchers.charThat;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mule.runtime.core.internal.metadata.cache.DefaultPersistentMetadataCacheManager.MULE_METADATA_CACHE_MAX_ENTRIES;
 import org.mule.runtime.api.lock.LockFactory;
 import org.mule.runtime.api.metadata.MetadataCache;
 import org.mule.runtime.api.store.ObjectDoesNotExistException;
@@ -127,6 +130,44 @@ public class DefaultMetadataCacheManagerTestCase {
     verify(objectStore).remove(OTHER_KEY);
   }
 
+  @Test
+  public void hitsAndMisses() throws ObjectStoreException {
+    when(objectStore.contains(SOME_KEY)).thenReturn(true);
+    when(objectStore.retrieve(SOME_KEY)).thenReturn(mockCache);
+
+    cacheManager.getOrCreateCache(SOME_KEY);
+    cacheManager.getOrCreateCache(SOME_KEY);
+    cacheManager.getOrCreateCache(OTHER_KEY);
+
+    assertThat(cacheManager.getCacheHits(), is(2L));
+    assertThat(cacheManager.getCacheMisses(), is(1L));
+    assertThat(cacheManager.getCacheEvictions(), is(0L));
+  }
+
+  @Test
+  public void evictLeastRecentlyUsed() throws ObjectStoreException {
+    final String thirdKey = "1874947571-1840879217-456456456-1745289126";
+
+    setProperty(MULE_METADATA_CACHE_MAX_ENTRIES, "2");
+    try {
+      cacheManager.start();
+    } finally {
+      clearProperty(MULE_METADATA_CACHE_MAX_ENTRIES);
+    }
+
+    when(objectStore.contains(SOME_KEY)).thenReturn(true);
+    when(objectStore.retrieve(SOME_KEY)).thenReturn(mockCache);
+
+    cacheManager.getOrCreateCache(SOME_KEY);
+    cacheManager.getOrCreateCache(OTHER_KEY);
+    cacheManager.getOrCreateCache(SOME_KEY);
+    cacheManager.getOrCreateCache(thirdKey);
+
+    verify(objectStore).remove(OTHER_KEY);
+    verify(objectStore, never()).remove(SOME_KEY);
+    assertThat(cacheManager.getCacheEvictions(), is(1L));
+  }
+
   @Test
   public void clearMetadataCaches() throws ObjectStoreException {
     cacheManager.dispose("");
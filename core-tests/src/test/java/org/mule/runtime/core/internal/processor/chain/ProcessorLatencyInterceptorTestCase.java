@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.chain;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import static reactor.core.publisher.Flux.from;
+import static reactor.core.publisher.Mono.just;
+
+import org.mule.runtime.api.component.Component;
+import org.mule.runtime.api.component.location.ComponentLocation;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.management.stats.AllStatistics;
+import org.mule.runtime.core.api.processor.Processor;
+import org.mule.runtime.core.api.processor.ReactiveProcessor;
+import org.mule.tck.junit4.AbstractMuleContextTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class ProcessorLatencyInterceptorTestCase extends AbstractMuleContextTestCase {
+
+  private static final String LOCATION = "flow/processors/0";
+
+  private final AllStatistics statistics = new AllStatistics();
+  private Processor processor;
+
+  @Before
+  public void before() {
+    processor = mock(Processor.class, withSettings().extraInterfaces(Component.class));
+    ComponentLocation location = mock(ComponentLocation.class);
+    when(location.getLocation()).thenReturn(LOCATION);
+    when(((Component) processor).getLocation()).thenReturn(location);
+  }
+
+  @Test
+  public void latencyRecorded() throws Exception {
+    statistics.setEnabled(true);
+    ReactiveProcessor intercepted = new ProcessorLatencyInterceptor(statistics).apply(processor, stream -> from(stream));
+
+    CoreEvent event = testEvent();
+    assertThat(just(event).transform(intercepted).block(), is(sameInstance(event)));
+
+    assertThat(statistics.getProcessorLatencyHistogram(LOCATION).getSnapshot().getCount(), is(1L));
+  }
+
+  @Test
+  public void latencyNotRecordedOnError() throws Exception {
+    statistics.setEnabled(true);
+    ReactiveProcessor intercepted = new ProcessorLatencyInterceptor(statistics)
+        .apply(processor, stream -> from(stream).map(event -> {
+          throw new IllegalStateException("Expected");
+        }));
+
+    try {
+      just(testEvent()).transform(intercepted).block();
+      fail("Was expecting the processor to fail");
+    } catch (IllegalStateException e) {
+      assertThat(statistics.getProcessorLatencyHistogram(LOCATION).getSnapshot().getCount(), is(0L));
+    }
+  }
+
+  @Test
+  public void notInterceptedWhenStatisticsDisabled() {
+    ReactiveProcessor next = stream -> from(stream);
+
+    assertThat(new ProcessorLatencyInterceptor(statistics).apply(processor, next), is(sameInstance(next)));
+  }
+}
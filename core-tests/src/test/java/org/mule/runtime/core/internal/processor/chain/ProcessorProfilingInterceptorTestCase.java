@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.chain;
+
+import static java.lang.management.ManagementFactory.getThreadMXBean;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import static reactor.core.publisher.Flux.from;
+import static reactor.core.publisher.Mono.just;
+
+import org.mule.runtime.api.component.Component;
+import org.mule.runtime.api.component.location.ComponentLocation;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.management.stats.AllStatistics;
+import org.mule.runtime.core.api.management.stats.ProcessorProfile;
+import org.mule.runtime.core.api.processor.Processor;
+import org.mule.runtime.core.api.processor.ReactiveProcessor;
+import org.mule.tck.junit4.AbstractMuleContextTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.lang.management.ThreadMXBean;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class ProcessorProfilingInterceptorTestCase extends AbstractMuleContextTestCase {
+
+  private static final String LOCATION = "flow/processors/0";
+  private static final int ALLOCATED = 1024 * 1024;
+
+  private final AllStatistics statistics = new AllStatistics();
+  private Processor processor;
+
+  @Before
+  public void before() {
+    final ThreadMXBean threadMXBean = getThreadMXBean();
+    assumeThat(threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled(), is(true));
+
+    processor = mock(Processor.class, withSettings().extraInterfaces(Component.class));
+    ComponentLocation location = mock(ComponentLocation.class);
+    when(location.getLocation()).thenReturn(LOCATION);
+    when(((Component) processor).getLocation()).thenReturn(location);
+  }
+
+  @Test
+  public void sampledExecutionProfiled() throws Exception {
+    ReactiveProcessor intercepted = new ProcessorProfilingInterceptor(statistics, 1).apply(processor, allocating());
+
+    CoreEvent event = testEvent();
+    assertThat(just(event).transform(intercepted).block(), is(sameInstance(event)));
+
+    final ProcessorProfile profile = statistics.getProcessorProfile(LOCATION);
+    assertThat(profile.getSamples(), is(1L));
+    assertThat(profile.getCpuTime(), is(greaterThanOrEqualTo(0L)));
+    if (isAllocationMeasured()) {
+      assertThat(profile.getAllocatedBytes(), is(greaterThanOrEqualTo((long) ALLOCATED)));
+    }
+  }
+
+  @Test
+  public void unsampledExecutionNotProfiled() throws Exception {
+    CoreEvent event = testEvent();
+    final int eventIdHash = event.getContext().getId().hashCode() & Integer.MAX_VALUE;
+    assumeThat(eventIdHash, is(not(0)));
+    assumeThat(eventIdHash, is(not(Integer.MAX_VALUE)));
+
+    // The remainder of the hash is the hash itself, so the event is not one of the sampled ones
+    ReactiveProcessor intercepted =
+        new ProcessorProfilingInterceptor(statistics, eventIdHash + 1).apply(processor, allocating());
+    assertThat(just(event).transform(intercepted).block(), is(sameInstance(event)));
+
+    final ProcessorProfile profile = statistics.getProcessorProfile(LOCATION);
+    assertThat(profile.getSamples(), is(0L));
+    assertThat(profile.getCpuTime(), is(0L));
+    assertThat(profile.getAllocatedBytes(), is(0L));
+  }
+
+  @Test
+  public void samplesAccumulated() throws Exception {
+    ReactiveProcessor intercepted = new ProcessorProfilingInterceptor(statistics, 1).apply(processor, allocating());
+
+    for (int i = 0; i < 3; ++i) {
+      just(testEvent()).transform(intercepted).block();
+    }
+
+    final ProcessorProfile profile = statistics.getProcessorProfile(LOCATION);
+    assertThat(profile.getSamples(), is(3L));
+    if (isAllocationMeasured()) {
+      assertThat(profile.getAllocatedBytes(), is(greaterThan(2L * ALLOCATED)));
+    }
+  }
+
+  @Test
+  public void notInterceptedWithoutLocation() {
+    ReactiveProcessor next = stream -> from(stream);
+
+    assertThat(new ProcessorProfilingInterceptor(statistics, 1).apply(mock(Processor.class), next), is(sameInstance(next)));
+    assertThat(statistics.getProcessorProfiles().isEmpty(), is(true));
+  }
+
+  private ReactiveProcessor allocating() {
+    return stream -> from(stream).map(event -> {
+      byte[] allocated = new byte[ALLOCATED];
+      allocated[ALLOCATED - 1] = 1;
+      return allocated[ALLOCATED - 1] == 1 ? event : null;
+    });
+  }
+
+  private boolean isAllocationMeasured() {
+    final ThreadMXBean threadMXBean = getThreadMXBean();
+    return threadMXBean instanceof com.sun.management.ThreadMXBean
+        && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()
+        && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemoryEnabled();
+  }
+}
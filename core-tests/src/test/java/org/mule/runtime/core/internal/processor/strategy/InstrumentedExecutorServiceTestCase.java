@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.strategy;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType.BLOCKING;
+
+import org.mule.runtime.core.api.management.stats.ProcessingStrategyStatistics;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.Test;
+
+@SmallTest
+public class InstrumentedExecutorServiceTestCase extends AbstractMuleTestCase {
+
+  private final ProcessingStrategyStatistics statistics = new ProcessingStrategyStatistics();
+
+  @Test
+  public void recordsQueueingDelayAndServiceTime() {
+    final ExecutorService delegate = mock(ExecutorService.class);
+    doAnswer(invocation -> {
+      invocation.getArgumentAt(0, Runnable.class).run();
+      return null;
+    }).when(delegate).execute(any(Runnable.class));
+
+    new InstrumentedExecutorService(delegate, statistics, BLOCKING.name()).execute(() -> {
+    });
+
+    assertThat(statistics.getQueueingDelays().get(BLOCKING.name()).getCount(), is(1L));
+    assertThat(statistics.getServiceTimes().get(BLOCKING.name()).getCount(), is(1L));
+    assertThat(statistics.getRejections(), is(0L));
+  }
+
+  @Test
+  public void countsRejections() {
+    final ExecutorService delegate = mock(ExecutorService.class);
+    doThrow(new RejectedExecutionException()).when(delegate).execute(any(Runnable.class));
+
+    try {
+      new InstrumentedExecutorService(delegate, statistics, BLOCKING.name()).execute(() -> {
+      });
+      fail("Expected the rejection to be propagated");
+    } catch (RejectedExecutionException e) {
+      // expected
+    }
+
+    assertThat(statistics.getRejections(), is(1L));
+    assertThat(statistics.getServiceTimes().get(BLOCKING.name()).getCount(), is(0L));
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+import org.mule.runtime.core.privileged.event.BaseEventContext;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class CursorManagerTestCase extends AbstractMuleTestCase {
+
+  private static final long THRESHOLD_MILLIS = 100;
+
+  private final MutableStreamingStatistics statistics = new MutableStreamingStatistics();
+  private final BaseEventContext ownerContext = mock(BaseEventContext.class);
+  private CursorManager cursorManager;
+
+  @Before
+  public void before() {
+    when(ownerContext.getId()).thenReturn("id");
+    cursorManager = new CursorManager(statistics, mock(Scheduler.class));
+  }
+
+  @Test
+  public void providerLeakedPastThresholdIsReported() throws Exception {
+    cursorManager.manage(mock(CursorStreamProvider.class), ownerContext);
+    when(ownerContext.isComplete()).thenReturn(true);
+
+    // The first detection observes the completion of the event
+    cursorManager.detectLeaks(THRESHOLD_MILLIS);
+    assertThat(statistics.getLeakedCursorProvidersCount(), is(0L));
+
+    Thread.sleep(THRESHOLD_MILLIS * 2);
+    cursorManager.detectLeaks(THRESHOLD_MILLIS);
+    assertThat(statistics.getLeakedCursorProvidersCount(), is(1L));
+
+    // Each event is reported only once
+    cursorManager.detectLeaks(THRESHOLD_MILLIS);
+    assertThat(statistics.getLeakedCursorProvidersCount(), is(1L));
+  }
+
+  @Test
+  public void providerWithinThresholdIsNotReported() {
+    cursorManager.manage(mock(CursorStreamProvider.class), ownerContext);
+    when(ownerContext.isComplete()).thenReturn(true);
+
+    cursorManager.detectLeaks(THRESHOLD_MILLIS * 100);
+    cursorManager.detectLeaks(THRESHOLD_MILLIS * 100);
+
+    assertThat(statistics.getLeakedCursorProvidersCount(), is(0L));
+  }
+
+  @Test
+  public void providerOfIncompleteEventIsNotReported() throws Exception {
+    cursorManager.manage(mock(CursorStreamProvider.class), ownerContext);
+
+    cursorManager.detectLeaks(THRESHOLD_MILLIS);
+    Thread.sleep(THRESHOLD_MILLIS * 2);
+    cursorManager.detectLeaks(THRESHOLD_MILLIS);
+
+    assertThat(statistics.getLeakedCursorProvidersCount(), is(0L));
+  }
+}
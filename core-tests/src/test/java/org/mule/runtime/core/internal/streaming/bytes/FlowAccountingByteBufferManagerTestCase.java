@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming.bytes;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.core.internal.streaming.bytes.FlowAccountingByteBufferManager.UNKNOWN_FLOW;
+import static org.mule.test.allure.AllureConstants.StreamingFeature.STREAMING;
+import org.mule.runtime.api.component.location.ComponentLocation;
+import org.mule.runtime.api.event.EventContext;
+import org.mule.runtime.core.api.streaming.bytes.ByteBufferManager;
+import org.mule.runtime.core.internal.streaming.MutableStreamingStatistics;
+import org.mule.tck.core.streaming.SimpleByteBufferManager;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.nio.ByteBuffer;
+
+import io.qameta.allure.Feature;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+@SmallTest
+@Feature(STREAMING)
+public class FlowAccountingByteBufferManagerTestCase extends AbstractMuleTestCase {
+
+  private static final String FLOW_NAME = "myFlow";
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final MutableStreamingStatistics statistics = new MutableStreamingStatistics();
+
+  @Test
+  public void memoryAccountedToOwnerFlow() {
+    FlowAccountingByteBufferManager bufferManager =
+        new FlowAccountingByteBufferManager(new SimpleByteBufferManager(), statistics, eventContext(FLOW_NAME));
+
+    ByteBuffer first = bufferManager.allocate(100);
+    ByteBuffer second = bufferManager.allocate(50);
+    assertThat(statistics.getStreamingMemoryByFlow().get(FLOW_NAME), is(150L));
+
+    bufferManager.deallocate(first);
+    assertThat(statistics.getStreamingMemoryByFlow().get(FLOW_NAME), is(50L));
+
+    bufferManager.deallocate(second);
+    assertThat(statistics.getStreamingMemoryByFlow().get(FLOW_NAME), is(nullValue()));
+  }
+
+  @Test
+  public void unknownOwner() {
+    FlowAccountingByteBufferManager bufferManager =
+        new FlowAccountingByteBufferManager(new SimpleByteBufferManager(), statistics, mock(EventContext.class));
+
+    bufferManager.allocate(10);
+    assertThat(statistics.getStreamingMemoryByFlow().get(UNKNOWN_FLOW), is(10L));
+  }
+
+  @Test
+  public void memoryExceededReportsOwners() {
+    new FlowAccountingByteBufferManager(new SimpleByteBufferManager(), statistics, eventContext("otherFlow")).allocate(10);
+
+    ByteBufferManager exhausted = mock(ByteBufferManager.class);
+    when(exhausted.allocate(100))
+        .thenThrow(new MaxStreamingMemoryExceededException(createStaticMessage("Max streaming memory limit exceeded")));
+
+    expectedException.expect(MaxStreamingMemoryExceededException.class);
+    expectedException.expectMessage("otherFlow=10");
+    expectedException.expectMessage("'" + FLOW_NAME + "'");
+    new FlowAccountingByteBufferManager(exhausted, statistics, eventContext(FLOW_NAME)).allocate(100);
+  }
+
+  private EventContext eventContext(String flowName) {
+    EventContext eventContext = mock(EventContext.class);
+    ComponentLocation location = mock(ComponentLocation.class);
+    when(location.getRootContainerName()).thenReturn(flowName);
+    when(eventContext.getOriginatingLocation()).thenReturn(location);
+    return eventContext;
+  }
+}
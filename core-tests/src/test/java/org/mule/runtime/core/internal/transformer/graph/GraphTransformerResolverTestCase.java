@@ -6,13 +6,20 @@
  */
 package org.mule.runtime.core.internal.transformer.graph;
 
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mule.runtime.core.internal.transformer.graph.GraphTransformerResolver.MAX_CACHED_RESOLUTIONS;
 
+import org.mule.runtime.api.metadata.DataType;
 import org.mule.runtime.core.api.transformer.Converter;
 import org.mule.runtime.core.api.transformer.Transformer;
 import org.mule.tck.size.SmallTest;
@@ -22,6 +29,12 @@ import org.mule.runtime.core.internal.transformer.ResolverException;
 import org.mule.runtime.core.internal.transformer.builder.MockConverterBuilder;
 import org.mule.runtime.core.internal.transformer.builder.MockTransformerBuilder;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.junit.Test;
 
 @SmallTest
@@ -199,4 +212,69 @@ public class GraphTransformerResolverTestCase extends AbstractTransformationGrap
 
     graphResolver.resolve(XML_DATA_TYPE, INPUT_STREAM_DATA_TYPE);
   }
+
+  @Test
+  public void resolvesOnlyRequestedPairs() throws ResolverException {
+    Converter xmlToJson = new MockConverterBuilder().named("xmlToJson").from(XML_DATA_TYPE).to(JSON_DATA_TYPE).build();
+    Converter inputStreamToXml =
+        new MockConverterBuilder().named("inputStreamToXml").from(INPUT_STREAM_DATA_TYPE).to(XML_DATA_TYPE).build();
+
+    graphResolver.transformerChange(inputStreamToXml, TransformerResolver.RegistryAction.ADDED);
+    graphResolver.transformerChange(xmlToJson, TransformerResolver.RegistryAction.ADDED);
+
+    graphResolver.resolve(INPUT_STREAM_DATA_TYPE, JSON_DATA_TYPE);
+    assertEquals(1, graphResolver.getCachedResolutions());
+  }
+
+  @Test
+  public void boundsCachedResolutions() throws ResolverException {
+    Converter xmlToJson = new MockConverterBuilder().named("xmlToJson").from(XML_DATA_TYPE).to(JSON_DATA_TYPE).build();
+    graphResolver.transformerChange(xmlToJson, TransformerResolver.RegistryAction.ADDED);
+
+    for (int i = 0; i < MAX_CACHED_RESOLUTIONS * 2; ++i) {
+      DataType source = DataType.builder(XML_DATA_TYPE).mediaType("application/x-" + i).build();
+      graphResolver.resolve(source, JSON_DATA_TYPE);
+    }
+
+    assertThat(graphResolver.getCachedResolutions(), is(lessThanOrEqualTo((long) MAX_CACHED_RESOLUTIONS)));
+    assertEquals(xmlToJson, graphResolver.resolve(XML_DATA_TYPE, JSON_DATA_TYPE));
+  }
+
+  @Test
+  public void resolvesWhileGraphChanges() throws Exception {
+    Converter xmlToJson = new MockConverterBuilder().named("xmlToJson").from(XML_DATA_TYPE).to(JSON_DATA_TYPE).build();
+    Converter inputStreamToXml =
+        new MockConverterBuilder().named("inputStreamToXml").from(INPUT_STREAM_DATA_TYPE).to(XML_DATA_TYPE).build();
+    graphResolver.transformerChange(xmlToJson, TransformerResolver.RegistryAction.ADDED);
+
+    final AtomicBoolean changing = new AtomicBoolean(true);
+    final ExecutorService executor = newFixedThreadPool(4);
+    try {
+      List<Future<?>> resolvers = new ArrayList<>();
+      for (int i = 0; i < 4; ++i) {
+        resolvers.add(executor.submit(() -> {
+          while (changing.get()) {
+            graphResolver.resolve(INPUT_STREAM_DATA_TYPE, JSON_DATA_TYPE);
+          }
+          return null;
+        }));
+      }
+
+      for (int i = 0; i < 100; ++i) {
+        graphResolver.transformerChange(inputStreamToXml, TransformerResolver.RegistryAction.ADDED);
+        graphResolver.transformerChange(inputStreamToXml, TransformerResolver.RegistryAction.REMOVED);
+      }
+      graphResolver.transformerChange(inputStreamToXml, TransformerResolver.RegistryAction.ADDED);
+
+      changing.set(false);
+      for (Future<?> resolver : resolvers) {
+        resolver.get(5, SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Transformer transformer = graphResolver.resolve(INPUT_STREAM_DATA_TYPE, JSON_DATA_TYPE);
+    assertTrue(transformer instanceof CompositeConverter);
+  }
 }
@@ -146,6 +146,7 @@ public class MuleProperties {
   public static final String OBJECT_LOCK_PROVIDER = "_muleLockProvider";
   public static final String OBJECT_DEFAULT_MESSAGE_PROCESSING_MANAGER = "_muleMessageProcessingManager";
   public static final String OBJECT_PROCESSING_TIME_WATCHER = "_muleProcessingTimeWatcher";
+  public static final String OBJECT_STATISTICS_SNAPSHOT_SERVICE = "_muleStatisticsSnapshotService";
   public static final String OBJECT_POLLING_CONTROLLER = "_mulePollingController";
   public static final String OBJECT_CLUSTER_CONFIGURATION = "_muleClusterConfiguration";
   public static final String OBJECT_EXTENSION_MANAGER = "_muleExtensionManager";
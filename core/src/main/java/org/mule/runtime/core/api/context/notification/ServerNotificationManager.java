@@ -7,6 +7,7 @@
 package org.mule.runtime.core.api.context.notification;
 
 import static java.lang.Thread.currentThread;
+import static java.util.Collections.unmodifiableCollection;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.Collections.unmodifiableSet;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -47,7 +48,9 @@ import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.api.util.concurrent.Latch;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.context.MuleContextAware;
+import org.mule.runtime.core.api.management.stats.NotificationListenerStatistics;
 import org.mule.runtime.core.api.util.ClassUtils;
+import org.mule.runtime.core.internal.context.notification.AsyncNotificationListenerDispatcher;
 import org.mule.runtime.core.internal.context.notification.Configuration;
 import org.mule.runtime.core.internal.context.notification.Policy;
 import org.mule.runtime.core.privileged.context.notification.OptimisedNotificationHandler;
@@ -55,6 +58,8 @@ import org.mule.runtime.core.privileged.context.notification.OptimisedNotificati
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
@@ -101,6 +106,16 @@ public class ServerNotificationManager implements ServerNotificationHandler, Mul
   private Scheduler notificationsLiteScheduler;
   private Scheduler notificationsIoScheduler;
 
+  private final NotifierCallback syncNotifier = (listener, nfn) -> listener.onNotification(nfn);
+  private final ConcurrentMap<NotificationListener, AsyncNotificationListenerDispatcher> asyncDispatchers =
+      new ConcurrentHashMap<>();
+  private final NotifierCallback asyncNotifier = (listener, nfn) -> {
+    AsyncNotificationListenerDispatcher asyncDispatcher = asyncDispatcherFor(listener);
+    if (asyncDispatcher != null) {
+      asyncDispatcher.dispatch(nfn);
+    }
+  };
+
   @Override
   public boolean isNotificationDynamic() {
     return dynamic;
@@ -152,6 +167,10 @@ public class ServerNotificationManager implements ServerNotificationHandler, Mul
    */
   public void removeListener(NotificationListener<?> listener) {
     configuration.removeListener(listener);
+    asyncDispatchers.computeIfPresent(listener, (l, asyncDispatcher) -> {
+      asyncDispatcher.dispose();
+      return null;
+    });
   }
 
   public void disableInterface(Class<? extends NotificationListener> iface) {
@@ -184,22 +203,17 @@ public class ServerNotificationManager implements ServerNotificationHandler, Mul
       return;
     }
 
+    // Avoid any further work for the (most common) case of notifications no one listens to
+    if (!configuration.getPolicy().hasSenders(notification.getClass())) {
+      return;
+    }
+
     activeFires.incrementAndGet();
     try {
       if (notification instanceof AbstractServerNotification) {
         ((AbstractServerNotification) notification).setServerId(muleContext.getId());
       }
-      if (notification.isSynchronous()) {
-        notifyListeners(notification, (listener, nfn) -> listener.onNotification(nfn));
-      } else {
-        notifyListeners(notification, (listener, nfn) -> {
-          if (listener.isBlocking()) {
-            notificationsIoScheduler.submit(() -> listener.onNotification(nfn));
-          } else {
-            notificationsLiteScheduler.submit(() -> listener.onNotification(nfn));
-          }
-        });
-      }
+      notifyListeners(notification, notification.isSynchronous() ? syncNotifier : asyncNotifier);
     } finally {
       if (0 == activeFires.decrementAndGet() && disposed.get()) {
         disposeLatch.countDown();
@@ -211,6 +225,33 @@ public class ServerNotificationManager implements ServerNotificationHandler, Mul
     configuration.getPolicy().dispatch(notification, notifier);
   }
 
+  /**
+   * @return the dispatcher for the listener, or {@code null} if the listener was removed after the notification was resolved to
+   *         be sent to it.
+   */
+  private AsyncNotificationListenerDispatcher asyncDispatcherFor(NotificationListener listener) {
+    AsyncNotificationListenerDispatcher asyncDispatcher = asyncDispatchers.get(listener);
+    if (asyncDispatcher == null) {
+      // Checked within the same map operation as the removal in removeListener, so a dispatcher for a removed listener is never
+      // created
+      asyncDispatcher = asyncDispatchers
+          .computeIfAbsent(listener, l -> configuration.containsListener(l)
+              ? new AsyncNotificationListenerDispatcher(l, l.isBlocking()
+                  ? notificationsIoScheduler
+                  : notificationsLiteScheduler)
+              : null);
+    }
+    return asyncDispatcher;
+  }
+
+  /**
+   * @return the statistics of the delivery of notifications to each listener that receives them asynchronously.
+   * @since 4.2
+   */
+  public Collection<NotificationListenerStatistics> getAsyncListenersStatistics() {
+    return unmodifiableCollection(asyncDispatchers.values());
+  }
+
   @Override
   public boolean isNotificationEnabled(Class<? extends Notification> type) {
     boolean enabled = false;
@@ -239,6 +280,9 @@ public class ServerNotificationManager implements ServerNotificationHandler, Mul
       }
     }
 
+    asyncDispatchers.values().forEach(AsyncNotificationListenerDispatcher::dispose);
+    asyncDispatchers.clear();
+
     if (notificationsLiteScheduler != null) {
       notificationsLiteScheduler.stop();
       notificationsLiteScheduler = null;
@@ -6,12 +6,18 @@
  */
 package org.mule.runtime.core.api.management.stats;
 
+import static java.util.Collections.unmodifiableMap;
+
 import org.mule.api.annotation.NoExtend;
 import org.mule.runtime.core.internal.management.stats.ApplicationStatistics;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * <code>AllStatistics</code> TODO
@@ -23,6 +29,14 @@ public class AllStatistics {
   private long startTime;
   private ApplicationStatistics appStats;
   private Map<String, FlowConstructStatistics> flowConstructStats = new HashMap<String, FlowConstructStatistics>();
+  private final ConcurrentMap<String, LatencyHistogram> flowLatencies = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, LatencyHistogram> processorLatencies = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, RouterStatistics> routerStats = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, ConnectionPoolStatistics> connectionPoolStats = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, ProcessingStrategyStatistics> processingStrategyStats = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, BackPressureStatistics> backPressureStats = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, ProcessorProfile> processorProfiles = new ConcurrentHashMap<>();
+  private final List<LatencyStatisticsExporter> latencyExporters = new CopyOnWriteArrayList<>();
 
   /**
    * 
@@ -38,6 +52,12 @@ public class AllStatistics {
     for (FlowConstructStatistics statistics : getServiceStatistics()) {
       statistics.clear();
     }
+    flowLatencies.values().forEach(LatencyHistogram::clear);
+    processorLatencies.values().forEach(LatencyHistogram::clear);
+    processingStrategyStats.values().forEach(ProcessingStrategyStatistics::clear);
+    backPressureStats.values().forEach(BackPressureStatistics::clear);
+    processorProfiles.values().forEach(ProcessorProfile::clear);
+    connectionPoolStats.values().forEach(ConnectionPoolStatistics::clear);
     startTime = System.currentTimeMillis();
   }
 
@@ -76,6 +96,9 @@ public class AllStatistics {
   public synchronized void remove(FlowConstructStatistics stat) {
     if (stat != null) {
       flowConstructStats.remove(stat.getName());
+      flowLatencies.remove(stat.getName());
+      processingStrategyStats.remove(stat.getName());
+      backPressureStats.remove(stat.getName());
     }
   }
 
@@ -86,4 +109,187 @@ public class AllStatistics {
   public FlowConstructStatistics getApplicationStatistics() {
     return appStats;
   }
+
+  /**
+   * Registers the statistics of a router so they are available with the rest of the statistics of the application.
+   *
+   * @param name the name identifying the router, typically its location.
+   * @param stats the statistics of the router.
+   * @since 4.2
+   */
+  public void addRouterStatistics(String name, RouterStatistics stats) {
+    routerStats.put(name, stats);
+  }
+
+  /**
+   * @param name the name the router statistics were registered with.
+   * @since 4.2
+   */
+  public void removeRouterStatistics(String name) {
+    routerStats.remove(name);
+  }
+
+  /**
+   * @return the statistics of the routers in the application, keyed by the name they were registered with.
+   * @since 4.2
+   */
+  public Map<String, RouterStatistics> getRouterStatistics() {
+    return unmodifiableMap(routerStats);
+  }
+
+  /**
+   * Registers the statistics of a pool of connections so they are available with the rest of the statistics of the application.
+   *
+   * @param name the name identifying the pool, typically the name of the configuration that owns it followed by an id of the
+   *        pool.
+   * @param stats the statistics of the pool.
+   * @since 4.2
+   */
+  public void addConnectionPoolStatistics(String name, ConnectionPoolStatistics stats) {
+    connectionPoolStats.put(name, stats);
+  }
+
+  /**
+   * @param name the name the pool statistics were registered with.
+   * @since 4.2
+   */
+  public void removeConnectionPoolStatistics(String name) {
+    connectionPoolStats.remove(name);
+  }
+
+  /**
+   * @return the statistics of the pools of connections in the application, keyed by the name they were registered with.
+   * @since 4.2
+   */
+  public Map<String, ConnectionPoolStatistics> getConnectionPoolStatistics() {
+    return unmodifiableMap(connectionPoolStats);
+  }
+
+  /**
+   * @param flowName the name of the flow to get the processing strategy statistics for.
+   * @return the statistics of the processing strategy of the given flow.
+   * @since 4.2
+   */
+  public ProcessingStrategyStatistics getProcessingStrategyStatistics(String flowName) {
+    return processingStrategyStats.computeIfAbsent(flowName, name -> new ProcessingStrategyStatistics());
+  }
+
+  /**
+   * @return the statistics of the processing strategies of the flows in the application, keyed by flow name.
+   * @since 4.2
+   */
+  public Map<String, ProcessingStrategyStatistics> getAllProcessingStrategyStatistics() {
+    return unmodifiableMap(processingStrategyStats);
+  }
+
+  /**
+   * @param flowName the name of the flow to get the back-pressure statistics for.
+   * @return the statistics of the events the given flow didn't accept because of back-pressure.
+   * @since 4.2
+   */
+  public BackPressureStatistics getBackPressureStatistics(String flowName) {
+    return backPressureStats.computeIfAbsent(flowName, name -> new BackPressureStatistics());
+  }
+
+  /**
+   * @return the back-pressure statistics of the flows in the application, keyed by flow name.
+   * @since 4.2
+   */
+  public Map<String, BackPressureStatistics> getAllBackPressureStatistics() {
+    return unmodifiableMap(backPressureStats);
+  }
+
+  /**
+   * @param processorLocation the location of the processor to get the profile for.
+   * @return the profile where the CPU time and allocations of the given processor are recorded.
+   * @since 4.2
+   */
+  public ProcessorProfile getProcessorProfile(String processorLocation) {
+    return processorProfiles.computeIfAbsent(processorLocation, location -> new ProcessorProfile());
+  }
+
+  /**
+   * @return the profiles of the processors in the application, keyed by processor location.
+   * @since 4.2
+   */
+  public Map<String, ProcessorProfile> getProcessorProfiles() {
+    return unmodifiableMap(processorProfiles);
+  }
+
+  /**
+   * @param flowName the name of the flow to get the latencies for.
+   * @return the histogram where the latencies of the events processed by the given flow are recorded.
+   * @since 4.2
+   */
+  public LatencyHistogram getFlowLatencyHistogram(String flowName) {
+    return flowLatencies.computeIfAbsent(flowName, name -> new LatencyHistogram());
+  }
+
+  /**
+   * @param processorLocation the location of the processor to get the latencies for.
+   * @return the histogram where the latencies of the events processed by the processor in the given location are recorded.
+   * @since 4.2
+   */
+  public LatencyHistogram getProcessorLatencyHistogram(String processorLocation) {
+    return processorLatencies.computeIfAbsent(processorLocation, location -> new LatencyHistogram());
+  }
+
+  /**
+   * @return the distribution of the latencies of the events processed by each flow since statistics were last cleared, keyed
+   *         by flow name.
+   * @since 4.2
+   */
+  public Map<String, LatencySnapshot> getFlowLatencies() {
+    return snapshot(flowLatencies);
+  }
+
+  /**
+   * @return the distribution of the latencies of the events processed by each processor since statistics were last cleared,
+   *         keyed by processor location.
+   * @since 4.2
+   */
+  public Map<String, LatencySnapshot> getProcessorLatencies() {
+    return snapshot(processorLatencies);
+  }
+
+  private Map<String, LatencySnapshot> snapshot(Map<String, LatencyHistogram> histograms) {
+    Map<String, LatencySnapshot> snapshots = new HashMap<>();
+    histograms.forEach((key, histogram) -> snapshots.put(key, histogram.getSnapshot()));
+    return snapshots;
+  }
+
+  /**
+   * Registers an exporter to publish the latency distributions to when {@link #exportLatencies()} is called.
+   *
+   * @param exporter the exporter to register.
+   * @since 4.2
+   */
+  public void addLatencyExporter(LatencyStatisticsExporter exporter) {
+    latencyExporters.add(exporter);
+  }
+
+  /**
+   * @param exporter the exporter to unregister.
+   * @since 4.2
+   */
+  public void removeLatencyExporter(LatencyStatisticsExporter exporter) {
+    latencyExporters.remove(exporter);
+  }
+
+  /**
+   * Publishes the distributions of the latencies recorded since the previous call to this method to the registered
+   * {@link LatencyStatisticsExporter exporters}, and starts a new interval.
+   *
+   * @since 4.2
+   */
+  public synchronized void exportLatencies() {
+    Map<String, LatencySnapshot> flowIntervals = new HashMap<>();
+    flowLatencies.forEach((flowName, histogram) -> flowIntervals.put(flowName, histogram.getIntervalSnapshot()));
+    Map<String, LatencySnapshot> processorIntervals = new HashMap<>();
+    processorLatencies.forEach((location, histogram) -> processorIntervals.put(location, histogram.getIntervalSnapshot()));
+
+    for (LatencyStatisticsExporter exporter : latencyExporters) {
+      exporter.export(flowIntervals, processorIntervals);
+    }
+  }
 }
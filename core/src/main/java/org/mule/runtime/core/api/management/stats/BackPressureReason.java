@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.management.stats;
+
+/**
+ * The reasons why a flow may not accept an event dispatched to it by a source.
+ *
+ * @since 4.2
+ */
+public enum BackPressureReason {
+
+  /**
+   * The flow is already processing as many events as its {@code maxConcurrency} allows.
+   */
+  MAX_CONCURRENCY_EXCEEDED,
+
+  /**
+   * The buffer where the events wait to be processed by the flow is full.
+   */
+  EVENTS_ACCUMULATED,
+
+  /**
+   * A scheduler required for processing the event didn't accept it.
+   */
+  REQUIRED_SCHEDULER_BUSY
+}
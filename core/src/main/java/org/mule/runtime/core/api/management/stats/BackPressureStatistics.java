@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.management.stats;
+
+import static java.util.Collections.unmodifiableMap;
+
+import org.mule.api.annotation.NoExtend;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics about the events a flow didn't accept from its sources because of back-pressure, counted for each source and
+ * {@link BackPressureReason}.
+ *
+ * @since 4.2
+ */
+@NoExtend
+public class BackPressureStatistics {
+
+  private static final BackPressureReason[] REASONS = BackPressureReason.values();
+
+  private final ConcurrentMap<String, LongAdder[]> rejectionsBySource = new ConcurrentHashMap<>();
+
+  /**
+   * Accounts for an event not accepted by the flow.
+   *
+   * @param sourceLocation the location of the source that dispatched the event.
+   * @param reason why the event was not accepted.
+   */
+  public void record(String sourceLocation, BackPressureReason reason) {
+    LongAdder[] counters = rejectionsBySource.get(sourceLocation);
+    if (counters == null) {
+      counters = rejectionsBySource.computeIfAbsent(sourceLocation, location -> newCounters());
+    }
+    counters[reason.ordinal()].increment();
+  }
+
+  /**
+   * @param reason the reason to get the count for.
+   * @return how many events were not accepted by the flow for the given reason, from any source.
+   */
+  public long getRejections(BackPressureReason reason) {
+    long total = 0;
+    for (LongAdder[] counters : rejectionsBySource.values()) {
+      total += counters[reason.ordinal()].sum();
+    }
+    return total;
+  }
+
+  /**
+   * @return how many events were not accepted by the flow, keyed by the location of the source that dispatched them and then by
+   *         reason.
+   */
+  public Map<String, Map<BackPressureReason, Long>> getRejectionsBySource() {
+    final Map<String, Map<BackPressureReason, Long>> rejections = new HashMap<>();
+    rejectionsBySource.forEach((source, counters) -> {
+      final Map<BackPressureReason, Long> bySource = new EnumMap<>(BackPressureReason.class);
+      for (BackPressureReason reason : REASONS) {
+        bySource.put(reason, counters[reason.ordinal()].sum());
+      }
+      rejections.put(source, unmodifiableMap(bySource));
+    });
+    return rejections;
+  }
+
+  /**
+   * Resets the recorded values.
+   */
+  public void clear() {
+    for (LongAdder[] counters : rejectionsBySource.values()) {
+      for (LongAdder counter : counters) {
+        counter.reset();
+      }
+    }
+  }
+
+  private static LongAdder[] newCounters() {
+    final LongAdder[] counters = new LongAdder[REASONS.length];
+    for (int i = 0; i < counters.length; ++i) {
+      counters[i] = new LongAdder();
+    }
+    return counters;
+  }
+}
@@ -12,9 +12,13 @@ import org.mule.runtime.core.api.util.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
- * ComponentStatistics is a basic metrics aggregation class that is accessible via the JMX api. This class is not thread-safe -
- * occasional errors in reported statistics should be expected, especially when the {@link #clear()} method is used.
+ * ComponentStatistics is a basic metrics aggregation class that is accessible via the JMX api. Recording is lock-free, and the
+ * values are not updated atomically as a whole - occasional errors in reported statistics should be expected, especially when the
+ * {@link #clear()} method is used.
  */
 @NoExtend
 public class ComponentStatistics implements Statistics {
@@ -24,16 +28,15 @@ public class ComponentStatistics implements Statistics {
   /**
    * Serial version
    */
-  private static final long serialVersionUID = -2086999226732861674L;
+  private static final long serialVersionUID = 8410618323658014416L;
 
-  private long minExecutionTime = 0;
-  private long maxExecutionTime = 0;
-  private long averageExecutionTime = 0;
-  private long executedEvent = 0;
-  private long totalExecTime = 0;
+  private final AtomicLong minExecutionTime = new AtomicLong(Long.MAX_VALUE);
+  private final AtomicLong maxExecutionTime = new AtomicLong(0);
+  private final LongAdder executedEvent = new LongAdder();
+  private final LongAdder totalExecTime = new LongAdder();
   private boolean enabled = false;
   private long intervalTime = 0;
-  private long currentIntervalStartTime = 0;
+  private final AtomicLong currentIntervalStartTime = new AtomicLong(0);
   private boolean statIntervalTimeEnabled = false;
 
   /**
@@ -65,11 +68,10 @@ public class ComponentStatistics implements Statistics {
    * If called while a branch is being executed, then statistics may be slightly erroneous.
    */
   public void clear() {
-    minExecutionTime = 0;
-    maxExecutionTime = 0;
-    executedEvent = 0;
-    totalExecTime = 0;
-    averageExecutionTime = 0;
+    minExecutionTime.set(Long.MAX_VALUE);
+    maxExecutionTime.set(0);
+    executedEvent.reset();
+    totalExecTime.reset();
   }
 
   /**
@@ -102,7 +104,7 @@ public class ComponentStatistics implements Statistics {
    * @return The maximum time, or zero if no events have been started.
    */
   public long getMaxExecutionTime() {
-    return maxExecutionTime;
+    return maxExecutionTime.get();
   }
 
   /**
@@ -111,7 +113,8 @@ public class ComponentStatistics implements Statistics {
    * @return The maximum time, or zero if no events have been completed.
    */
   public long getMinExecutionTime() {
-    return minExecutionTime;
+    final long min = minExecutionTime.get();
+    return min == Long.MAX_VALUE ? 0 : min;
   }
 
   /**
@@ -121,7 +124,7 @@ public class ComponentStatistics implements Statistics {
    * @return The total cumulative execution time, in milliseconds.
    */
   public long getTotalExecutionTime() {
-    return totalExecTime;
+    return totalExecTime.sum();
   }
 
   /**
@@ -133,7 +136,7 @@ public class ComponentStatistics implements Statistics {
    * @return The number of events executed since last cleared.
    */
   public long getExecutedEvents() {
-    return executedEvent;
+    return executedEvent.sum();
   }
 
   /**
@@ -143,34 +146,20 @@ public class ComponentStatistics implements Statistics {
    * @param branch the time to execute this branch
    * @param total the total time (so far) for processing this event
    */
-  public synchronized void addExecutionBranchTime(boolean first, long branch, long total) {
+  public void addExecutionBranchTime(boolean first, long branch, long total) {
     // TODO MULE-9151 - ComponentStatistics should really create distinct Event
     // objects that can be used to aggregate statistics and then atomically
     // log them at completion time.
 
-    if (statIntervalTimeEnabled) {
-      long currentTime = System.currentTimeMillis();
-      if (currentIntervalStartTime == 0) {
-        currentIntervalStartTime = currentTime;
-      }
-
-      if ((currentTime - currentIntervalStartTime) > intervalTime) {
-        clear();
-        currentIntervalStartTime = currentTime;
-      }
-    }
+    checkInterval();
 
     if (first) {
-      executedEvent++;
+      executedEvent.increment();
     }
 
-    if (executedEvent > 0) {
-      totalExecTime += ProcessingTime.getEffectiveTime(branch);
-      long effectiveTotal = ProcessingTime.getEffectiveTime(total);
-      if (maxExecutionTime == 0 || effectiveTotal > maxExecutionTime) {
-        maxExecutionTime = effectiveTotal;
-      }
-      averageExecutionTime = totalExecTime / executedEvent;
+    if (executedEvent.sum() > 0) {
+      totalExecTime.add(ProcessingTime.getEffectiveTime(branch));
+      updateMax(ProcessingTime.getEffectiveTime(total));
     }
   }
 
@@ -181,12 +170,9 @@ public class ComponentStatistics implements Statistics {
    * 
    * @param time the total time required to process this event
    */
-  public synchronized void addCompleteExecutionTime(long time) {
-    if (executedEvent > 0) {
-      long effectiveTime = ProcessingTime.getEffectiveTime(time);
-      if (minExecutionTime == 0 || effectiveTime < minExecutionTime) {
-        minExecutionTime = effectiveTime;
-      }
+  public void addCompleteExecutionTime(long time) {
+    if (executedEvent.sum() > 0) {
+      updateMin(ProcessingTime.getEffectiveTime(time));
     }
   }
 
@@ -197,31 +183,46 @@ public class ComponentStatistics implements Statistics {
    *
    * @param time The total event time to be logged/recorded.
    */
-  public synchronized void addExecutionTime(long time) {
+  public void addExecutionTime(long time) {
+    checkInterval();
+
+    executedEvent.increment();
+
+    long effectiveTime = ProcessingTime.getEffectiveTime(time);
+    totalExecTime.add(effectiveTime);
+    updateMin(effectiveTime);
+    updateMax(effectiveTime);
+  }
+
+  private void updateMin(long time) {
+    long currentMin = minExecutionTime.get();
+    while (time < currentMin && !minExecutionTime.compareAndSet(currentMin, time)) {
+      currentMin = minExecutionTime.get();
+    }
+  }
+
+  private void updateMax(long time) {
+    long currentMax = maxExecutionTime.get();
+    while (time > currentMax && !maxExecutionTime.compareAndSet(currentMax, time)) {
+      currentMax = maxExecutionTime.get();
+    }
+  }
+
+  private void checkInterval() {
     if (statIntervalTimeEnabled) {
       long currentTime = System.currentTimeMillis();
-      if (currentIntervalStartTime == 0) {
-        currentIntervalStartTime = currentTime;
+      long intervalStartTime = currentIntervalStartTime.get();
+      if (intervalStartTime == 0) {
+        currentIntervalStartTime.compareAndSet(0, currentTime);
+        intervalStartTime = currentIntervalStartTime.get();
       }
 
-      if ((currentTime - currentIntervalStartTime) > intervalTime) {
+      // Only one of the threads that see the interval expired actually clears it
+      if ((currentTime - intervalStartTime) > intervalTime
+          && currentIntervalStartTime.compareAndSet(intervalStartTime, currentTime)) {
         clear();
-        currentIntervalStartTime = currentTime;
       }
     }
-
-    executedEvent++;
-
-    long effectiveTime = ProcessingTime.getEffectiveTime(time);
-    totalExecTime += effectiveTime;
-
-    if (minExecutionTime == 0 || effectiveTime < minExecutionTime) {
-      minExecutionTime = time;
-    }
-    if (maxExecutionTime == 0 || effectiveTime > maxExecutionTime) {
-      maxExecutionTime = time;
-    }
-    averageExecutionTime = totalExecTime / executedEvent;
   }
 
   /**
@@ -230,7 +231,8 @@ public class ComponentStatistics implements Statistics {
    * @return the total event time accumulated to this point, divided by the total number of events recorded.
    */
   public long getAverageExecutionTime() {
-    return averageExecutionTime;
+    final long executed = executedEvent.sum();
+    return executed == 0 ? 0 : totalExecTime.sum() / executed;
   }
 
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.management.stats;
+
+import org.mule.api.annotation.NoExtend;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics about the work a pool of connections does in the background: filling itself up on start, validating its idle
+ * connections and replacing the ones found invalid or evicted.
+ *
+ * @since 4.2
+ */
+@NoExtend
+public class ConnectionPoolStatistics {
+
+  private volatile long warmUpMillis = -1;
+  private volatile int warmedUpConnections;
+  private final LongAdder validations = new LongAdder();
+  private final LongAdder validationFailures = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder replacements = new LongAdder();
+
+  /**
+   * Accounts for the pool having been filled up.
+   *
+   * @param millis how long it took to create the connections.
+   * @param connections how many connections were created.
+   */
+  public void recordWarmUp(long millis, int connections) {
+    this.warmUpMillis = millis;
+    this.warmedUpConnections = connections;
+  }
+
+  /**
+   * Accounts for an idle connection having been validated in the background.
+   *
+   * @param valid whether the connection was found to be valid.
+   */
+  public void recordValidation(boolean valid) {
+    validations.increment();
+    if (!valid) {
+      validationFailures.increment();
+    }
+  }
+
+  /**
+   * Accounts for an idle connection having been evicted for being idle for too long.
+   */
+  public void recordEviction() {
+    evictions.increment();
+  }
+
+  /**
+   * Accounts for a connection having been created in the background to replace an evicted or invalid one.
+   */
+  public void recordReplacement() {
+    replacements.increment();
+  }
+
+  /**
+   * @return how long it took, in milliseconds, to fill up the pool on start, or {@code -1} if it wasn't.
+   */
+  public long getWarmUpMillis() {
+    return warmUpMillis;
+  }
+
+  /**
+   * @return how many connections were created when filling up the pool on start.
+   */
+  public int getWarmedUpConnections() {
+    return warmedUpConnections;
+  }
+
+  /**
+   * @return how many times idle connections were validated in the background.
+   */
+  public long getValidations() {
+    return validations.sum();
+  }
+
+  /**
+   * @return how many idle connections were found to be invalid in the background, and destroyed.
+   */
+  public long getValidationFailures() {
+    return validationFailures.sum();
+  }
+
+  /**
+   * @return how many connections were evicted for being idle for too long.
+   */
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * @return how many connections were created in the background to replace evicted or invalid ones.
+   */
+  public long getReplacements() {
+    return replacements.sum();
+  }
+
+  /**
+   * Resets the recorded values, except for those of the warm-up, which happens just once.
+   */
+  public void clear() {
+    validations.reset();
+    validationFailures.reset();
+    evictions.reset();
+    replacements.reset();
+  }
+}
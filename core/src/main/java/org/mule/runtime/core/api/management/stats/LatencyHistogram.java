@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.management.stats;
+
+import static java.lang.Long.numberOfLeadingZeros;
+import static java.lang.Math.max;
+
+import org.mule.api.annotation.NoExtend;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the distribution of the latencies recorded for a flow or processor, so that percentiles can be calculated from it.
+ * <p>
+ * Values are kept in log-linear buckets: values up to {@value #SUB_BUCKET_COUNT} are kept exactly, and bigger values are kept
+ * with a relative error lower than {@code 1 / (SUB_BUCKET_COUNT / 2)}. The counters of the buckets are allocated in chunks, as
+ * values in their range are recorded, so a histogram only takes memory for the orders of magnitude its values actually span.
+ * Recording a value is lock-free, and only allocates the first time a value in a new chunk is recorded.
+ * <p>
+ * Besides the cumulative distribution (see {@link #getSnapshot()}), the distribution of the values recorded since the last
+ * interval was taken can be obtained with {@link #getIntervalSnapshot()}.
+ *
+ * @since 4.2
+ */
+@NoExtend
+public class LatencyHistogram implements Serializable {
+
+  private static final long serialVersionUID = -3402919562358640395L;
+
+  static final int SUB_BUCKET_BITS = 6;
+  static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+  static final int BUCKETS = bucketIndex(Long.MAX_VALUE) + 1;
+
+  // Each chunk has the buckets for values with the same magnitude
+  static final int CHUNK_BITS = SUB_BUCKET_BITS - 1;
+  static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+  static final int CHUNKS = (BUCKETS + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+  private final AtomicReferenceArray<AtomicLongArray> counts = new AtomicReferenceArray<>(CHUNKS);
+  private final LongAdder sum = new LongAdder();
+  private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+  private final AtomicLong max = new AtomicLong(0);
+
+  private long[][] intervalStartCounts = new long[CHUNKS][];
+  private long intervalStartSum = 0;
+
+  /**
+   * Records a latency value.
+   *
+   * @param value the latency to record, in nanoseconds. Negative values are recorded as {@code 0}.
+   */
+  public void record(long value) {
+    value = max(value, 0);
+
+    final int bucketIndex = bucketIndex(value);
+    getOrCreateChunk(bucketIndex >>> CHUNK_BITS).incrementAndGet(bucketIndex & (CHUNK_SIZE - 1));
+    sum.add(value);
+
+    long currentMin = min.get();
+    while (value < currentMin && !min.compareAndSet(currentMin, value)) {
+      currentMin = min.get();
+    }
+    long currentMax = max.get();
+    while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+      currentMax = max.get();
+    }
+  }
+
+  private AtomicLongArray getOrCreateChunk(int chunkIndex) {
+    final AtomicLongArray chunk = counts.get(chunkIndex);
+    if (chunk != null) {
+      return chunk;
+    }
+
+    counts.compareAndSet(chunkIndex, null, new AtomicLongArray(CHUNK_SIZE));
+    return counts.get(chunkIndex);
+  }
+
+  /**
+   * @return the distribution of all the values recorded since this histogram was created or last cleared.
+   */
+  public LatencySnapshot getSnapshot() {
+    final long[] snapshotCounts = new long[BUCKETS];
+    for (int chunkIndex = 0; chunkIndex < CHUNKS; ++chunkIndex) {
+      final AtomicLongArray chunk = counts.get(chunkIndex);
+      if (chunk != null) {
+        copyChunk(chunkIndex, chunk, snapshotCounts);
+      }
+    }
+    return new LatencySnapshot(snapshotCounts, sum.sum(), min.get(), max.get());
+  }
+
+  /**
+   * Starts a new interval.
+   *
+   * @return the distribution of the values recorded since the previous call to this method, or since this histogram was created
+   *         or last cleared.
+   */
+  public synchronized LatencySnapshot getIntervalSnapshot() {
+    final long[] snapshotCounts = new long[BUCKETS];
+    final long[][] currentCounts = new long[CHUNKS][];
+    for (int chunkIndex = 0; chunkIndex < CHUNKS; ++chunkIndex) {
+      final AtomicLongArray chunk = counts.get(chunkIndex);
+      if (chunk == null) {
+        continue;
+      }
+
+      currentCounts[chunkIndex] = new long[CHUNK_SIZE];
+      for (int i = 0; i < CHUNK_SIZE; ++i) {
+        currentCounts[chunkIndex][i] = chunk.get(i);
+      }
+      final long[] chunkStartCounts = intervalStartCounts[chunkIndex];
+      for (int i = 0; i < CHUNK_SIZE && chunkIndex * CHUNK_SIZE + i < BUCKETS; ++i) {
+        snapshotCounts[chunkIndex * CHUNK_SIZE + i] =
+            max(currentCounts[chunkIndex][i] - (chunkStartCounts != null ? chunkStartCounts[i] : 0), 0);
+      }
+    }
+
+    long intervalMin = Long.MAX_VALUE;
+    long intervalMax = 0;
+    for (int i = 0; i < BUCKETS; ++i) {
+      if (snapshotCounts[i] > 0) {
+        // The exact values are not known for the interval, so the bounds of the buckets are used instead
+        intervalMin = Long.min(intervalMin, lowestEquivalentValue(i));
+        intervalMax = highestEquivalentValue(i);
+      }
+    }
+    final long currentSum = sum.sum();
+    final long intervalSum = currentSum - intervalStartSum;
+
+    intervalStartCounts = currentCounts;
+    intervalStartSum = currentSum;
+
+    return new LatencySnapshot(snapshotCounts, intervalSum, Long.min(intervalMin, max.get()), Long.min(intervalMax, max.get()));
+  }
+
+  /**
+   * Discards all the recorded values.
+   * <p/>
+   * If called while values are being recorded, then statistics may be slightly erroneous.
+   */
+  public synchronized void clear() {
+    for (int chunkIndex = 0; chunkIndex < CHUNKS; ++chunkIndex) {
+      counts.set(chunkIndex, null);
+    }
+    sum.reset();
+    min.set(Long.MAX_VALUE);
+    max.set(0);
+    intervalStartCounts = new long[CHUNKS][];
+    intervalStartSum = 0;
+  }
+
+  private static void copyChunk(int chunkIndex, AtomicLongArray chunk, long[] target) {
+    for (int i = 0; i < CHUNK_SIZE && chunkIndex * CHUNK_SIZE + i < BUCKETS; ++i) {
+      target[chunkIndex * CHUNK_SIZE + i] = chunk.get(i);
+    }
+  }
+
+  static int bucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+
+    final int shift = 64 - numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return shift * SUB_BUCKET_HALF_COUNT + (int) (value >>> shift);
+  }
+
+  static long lowestEquivalentValue(int bucketIndex) {
+    if (bucketIndex < SUB_BUCKET_COUNT) {
+      return bucketIndex;
+    }
+
+    final int shift = bucketIndex / SUB_BUCKET_HALF_COUNT - 1;
+    return ((long) (bucketIndex - shift * SUB_BUCKET_HALF_COUNT)) << shift;
+  }
+
+  static long highestEquivalentValue(int bucketIndex) {
+    if (bucketIndex < SUB_BUCKET_COUNT) {
+      return bucketIndex;
+    }
+
+    final int shift = bucketIndex / SUB_BUCKET_HALF_COUNT - 1;
+    final long nextLowest = ((long) (bucketIndex - shift * SUB_BUCKET_HALF_COUNT) + 1) << shift;
+    // The highest bucket would overflow
+    return nextLowest > 0 ? nextLowest - 1 : Long.MAX_VALUE;
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.management.stats;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.min;
+import static java.lang.Math.sqrt;
+import static org.mule.runtime.core.api.management.stats.LatencyHistogram.highestEquivalentValue;
+import static org.mule.runtime.core.api.management.stats.LatencyHistogram.lowestEquivalentValue;
+
+import java.io.Serializable;
+
+/**
+ * Immutable view of the distribution of the latencies recorded in a {@link LatencyHistogram} at a given moment.
+ * <p>
+ * All values are in nanoseconds.
+ *
+ * @since 4.2
+ */
+public final class LatencySnapshot implements Serializable {
+
+  private static final long serialVersionUID = 7018421526104457230L;
+
+  private final long[] counts;
+  private final long count;
+  private final long sum;
+  private final long min;
+  private final long max;
+
+  LatencySnapshot(long[] counts, long sum, long min, long max) {
+    this.counts = counts;
+    long totalCount = 0;
+    for (long bucketCount : counts) {
+      totalCount += bucketCount;
+    }
+    this.count = totalCount;
+    this.sum = sum;
+    this.min = totalCount == 0 ? 0 : min;
+    this.max = totalCount == 0 ? 0 : max;
+  }
+
+  /**
+   * @return the amount of values recorded.
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * @return the lowest value recorded, or zero if no values were recorded.
+   */
+  public long getMin() {
+    return min;
+  }
+
+  /**
+   * @return the highest value recorded, or zero if no values were recorded.
+   */
+  public long getMax() {
+    return max;
+  }
+
+  /**
+   * @return the average of the values recorded, or zero if no values were recorded.
+   */
+  public double getMean() {
+    return count == 0 ? 0 : (double) sum / count;
+  }
+
+  /**
+   * @return the standard deviation of the recorded values, estimated from the midpoint of the range of each bucket, or zero if
+   *         no values were recorded.
+   */
+  public double getStdDeviation() {
+    if (count == 0) {
+      return 0;
+    }
+
+    final double mean = getMean();
+    double squaredDeviations = 0;
+    for (int i = 0; i < counts.length; ++i) {
+      if (counts[i] != 0) {
+        final double deviation = (lowestEquivalentValue(i) / 2.0 + highestEquivalentValue(i) / 2.0) - mean;
+        squaredDeviations += deviation * deviation * counts[i];
+      }
+    }
+    return sqrt(squaredDeviations / count);
+  }
+
+  /**
+   * Obtains the value below which the given percentage of the recorded values fall.
+   *
+   * @param percentile the percentile to get the value for, between {@code 0} and {@code 100}.
+   * @return the value at the given percentile, or zero if no values were recorded.
+   */
+  public long getValueAtPercentile(double percentile) {
+    if (count == 0) {
+      return 0;
+    }
+
+    final long countAtPercentile = Long.max(1, (long) ceil(min(percentile, 100.0) / 100.0 * count));
+    long accumulated = 0;
+    for (int i = 0; i < counts.length; ++i) {
+      accumulated += counts[i];
+      if (accumulated >= countAtPercentile) {
+        return min(highestEquivalentValue(i), max);
+      }
+    }
+    return max;
+  }
+
+  /**
+   * @return the median of the recorded values.
+   */
+  public long getP50() {
+    return getValueAtPercentile(50.0);
+  }
+
+  /**
+   * @return the 99th percentile of the recorded values.
+   */
+  public long getP99() {
+    return getValueAtPercentile(99.0);
+  }
+
+  /**
+   * @return the 99.9th percentile of the recorded values.
+   */
+  public long getP999() {
+    return getValueAtPercentile(99.9);
+  }
+
+  @Override
+  public String toString() {
+    return "count=" + count + ", min=" + min + ", mean=" + (long) getMean() + ", p50=" + getP50() + ", p99=" + getP99()
+        + ", p999=" + getP999() + ", max=" + max;
+  }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.management.stats;
+
+import java.util.Map;
+
+/**
+ * Publishes the latency distributions gathered in {@link AllStatistics} to some monitoring system.
+ * <p>
+ * Exporters are registered with {@link AllStatistics#addLatencyExporter(LatencyStatisticsExporter)}, and are called each time
+ * {@link AllStatistics#exportLatencies()} is invoked with the distributions of the values recorded since the previous export.
+ *
+ * @since 4.2
+ */
+@FunctionalInterface
+public interface LatencyStatisticsExporter {
+
+  /**
+   * Publishes the given latency distributions.
+   *
+   * @param flowLatencies the latencies of the events processed by each flow, keyed by flow name.
+   * @param processorLatencies the latencies of the events processed by each processor, keyed by the processor location.
+   */
+  void export(Map<String, LatencySnapshot> flowLatencies, Map<String, LatencySnapshot> processorLatencies);
+
+}
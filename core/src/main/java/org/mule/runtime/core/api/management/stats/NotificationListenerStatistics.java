@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.management.stats;
+
+import org.mule.api.annotation.NoImplement;
+import org.mule.runtime.api.notification.NotificationListener;
+
+/**
+ * Statistics about the delivery of notifications to a listener that receives them asynchronously.
+ *
+ * @since 4.2
+ */
+@NoImplement
+public interface NotificationListenerStatistics {
+
+  /**
+   * @return the listener the notifications are delivered to.
+   */
+  NotificationListener getListener();
+
+  /**
+   * @return the amount of notifications enqueued and not yet delivered.
+   */
+  long getPendingCount();
+
+  /**
+   * @return the amount of notifications dropped because the buffer was full.
+   */
+  long getDroppedCount();
+
+  /**
+   * @return the amount of notifications delivered to the listener.
+   */
+  long getDeliveredCount();
+
+  /**
+   * @return the time the last delivered notification waited in the buffer, in nanoseconds.
+   */
+  long getLastLagNanos();
+
+  /**
+   * @return the maximum time a delivered notification waited in the buffer, in nanoseconds.
+   */
+  long getMaxLagNanos();
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.management.stats;
+
+import org.mule.api.annotation.NoExtend;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Statistics about how the processing strategy of a flow dispatches its events to the schedulers.
+ * <p>
+ * For each kind of scheduler used (typically named after the {@code ProcessingType} of the processors it runs), this keeps
+ * the distribution of the queueing delay (the time since a task is submitted until it starts running) and of the service time
+ * (the time the task runs for). A high queueing delay means the scheduler is saturated.
+ *
+ * @since 4.2
+ */
+@NoExtend
+public class ProcessingStrategyStatistics {
+
+  private static final LongSupplier NO_RING_BUFFER = () -> 0;
+
+  private final ConcurrentMap<String, LatencyHistogram> queueingDelays = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, LatencyHistogram> serviceTimes = new ConcurrentHashMap<>();
+  private final LongAdder rejections = new LongAdder();
+  private final LongAdder retries = new LongAdder();
+
+  private volatile LongSupplier ringBufferOccupancy = NO_RING_BUFFER;
+  private volatile int ringBufferSize = 0;
+
+  /**
+   * @param schedulerType the kind of scheduler the task is submitted to.
+   * @return the histogram where the time tasks wait until they start running in the given kind of scheduler is recorded, in
+   *         nanoseconds.
+   */
+  public LatencyHistogram getQueueingDelayHistogram(String schedulerType) {
+    return queueingDelays.computeIfAbsent(schedulerType, type -> new LatencyHistogram());
+  }
+
+  /**
+   * @param schedulerType the kind of scheduler the task runs in.
+   * @return the histogram where the time tasks run for in the given kind of scheduler is recorded, in nanoseconds.
+   */
+  public LatencyHistogram getServiceTimeHistogram(String schedulerType) {
+    return serviceTimes.computeIfAbsent(schedulerType, type -> new LatencyHistogram());
+  }
+
+  /**
+   * @return the distribution of the queueing delays, keyed by the kind of scheduler.
+   */
+  public Map<String, LatencySnapshot> getQueueingDelays() {
+    return snapshot(queueingDelays);
+  }
+
+  /**
+   * @return the distribution of the service times, keyed by the kind of scheduler.
+   */
+  public Map<String, LatencySnapshot> getServiceTimes() {
+    return snapshot(serviceTimes);
+  }
+
+  private Map<String, LatencySnapshot> snapshot(Map<String, LatencyHistogram> histograms) {
+    Map<String, LatencySnapshot> snapshots = new HashMap<>();
+    histograms.forEach((key, histogram) -> snapshots.put(key, histogram.getSnapshot()));
+    return snapshots;
+  }
+
+  /**
+   * Accounts for a task that a scheduler didn't accept.
+   */
+  public void incrementRejections() {
+    rejections.increment();
+  }
+
+  /**
+   * @return how many tasks were not accepted by the schedulers.
+   */
+  public long getRejections() {
+    return rejections.sum();
+  }
+
+  /**
+   * Accounts for a retry of the scheduling of a task after it was rejected.
+   */
+  public void incrementRetries() {
+    retries.increment();
+  }
+
+  /**
+   * @return how many times the scheduling of a task was retried after being rejected.
+   */
+  public long getRetries() {
+    return retries.sum();
+  }
+
+  /**
+   * Sets the ring buffer the events of the flow go through before being processed.
+   *
+   * @param occupancy provides the amount of events in the ring buffer waiting to be processed.
+   * @param size the capacity of the ring buffer.
+   */
+  public void setRingBuffer(LongSupplier occupancy, int size) {
+    this.ringBufferOccupancy = occupancy;
+    this.ringBufferSize = size;
+  }
+
+  /**
+   * @return the amount of events in the ring buffer waiting to be processed, or {@code 0} if there is no ring buffer.
+   */
+  public long getRingBufferOccupancy() {
+    return ringBufferOccupancy.getAsLong();
+  }
+
+  /**
+   * @return the capacity of the ring buffer, or {@code 0} if there is no ring buffer.
+   */
+  public int getRingBufferSize() {
+    return ringBufferSize;
+  }
+
+  /**
+   * Resets the recorded values.
+   */
+  public void clear() {
+    queueingDelays.values().forEach(LatencyHistogram::clear);
+    serviceTimes.values().forEach(LatencyHistogram::clear);
+    rejections.reset();
+    retries.reset();
+  }
+}
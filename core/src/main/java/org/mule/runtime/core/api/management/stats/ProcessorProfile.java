@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.management.stats;
+
+import org.mule.api.annotation.NoExtend;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The CPU time and memory allocated by the executions of a processor, for the sampled events.
+ * <p>
+ * The values of a processor that contains other processors (i.e.: a scope or router) include those of the processors it
+ * contains, as long as they run in the same thread.
+ *
+ * @since 4.2
+ */
+@NoExtend
+public class ProcessorProfile {
+
+  private final LongAdder samples = new LongAdder();
+  private final LongAdder cpuTime = new LongAdder();
+  private final LongAdder allocatedBytes = new LongAdder();
+
+  /**
+   * Accounts for a sampled execution of the processor.
+   *
+   * @param cpuTimeNanos the CPU time the execution took, in nanoseconds.
+   * @param allocated the amount of bytes allocated by the execution, or a negative value if not available.
+   */
+  public void record(long cpuTimeNanos, long allocated) {
+    samples.increment();
+    cpuTime.add(cpuTimeNanos);
+    if (allocated > 0) {
+      allocatedBytes.add(allocated);
+    }
+  }
+
+  /**
+   * @return how many executions of the processor were sampled.
+   */
+  public long getSamples() {
+    return samples.sum();
+  }
+
+  /**
+   * @return the total CPU time of the sampled executions, in nanoseconds.
+   */
+  public long getCpuTime() {
+    return cpuTime.sum();
+  }
+
+  /**
+   * @return the total amount of bytes allocated by the sampled executions.
+   */
+  public long getAllocatedBytes() {
+    return allocatedBytes.sum();
+  }
+
+  /**
+   * Resets the recorded values.
+   */
+  public void clear() {
+    samples.reset();
+    cpuTime.reset();
+    allocatedBytes.reset();
+  }
+}
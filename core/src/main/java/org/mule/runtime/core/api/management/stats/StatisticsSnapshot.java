@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.management.stats;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The values of the statistics of an application, taken at a given moment.
+ * <p>
+ * Each value is a {@link Sample} named following the Prometheus conventions, with labels identifying the flow, router, etc. it
+ * belongs to.
+ *
+ * @since 4.2
+ */
+public final class StatisticsSnapshot {
+
+  private final long timestamp;
+  private final long intervalMillis;
+  private final List<Sample> samples;
+
+  private StatisticsSnapshot(long timestamp, long intervalMillis, List<Sample> samples) {
+    this.timestamp = timestamp;
+    this.intervalMillis = intervalMillis;
+    this.samples = unmodifiableList(samples);
+  }
+
+  /**
+   * @return the moment this snapshot was taken, in milliseconds since the epoch.
+   */
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  /**
+   * @return the time elapsed since the previous snapshot was taken, in milliseconds. Rates are calculated over this interval.
+   */
+  public long getIntervalMillis() {
+    return intervalMillis;
+  }
+
+  /**
+   * @return the values in this snapshot.
+   */
+  public List<Sample> getSamples() {
+    return samples;
+  }
+
+  /**
+   * @param timestamp the moment the snapshot is taken, in milliseconds since the epoch.
+   * @param intervalMillis the time elapsed since the previous snapshot was taken, in milliseconds.
+   * @return a builder for a new snapshot.
+   */
+  public static Builder builder(long timestamp, long intervalMillis) {
+    return new Builder(timestamp, intervalMillis);
+  }
+
+  /**
+   * Builds {@link StatisticsSnapshot} instances.
+   */
+  public static final class Builder {
+
+    private final long timestamp;
+    private final long intervalMillis;
+    private final List<Sample> samples = new ArrayList<>();
+
+    private Builder(long timestamp, long intervalMillis) {
+      this.timestamp = timestamp;
+      this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * Adds a value to the snapshot.
+     *
+     * @param name the name of the value.
+     * @param labelName the name of the label identifying the owner of the value.
+     * @param labelValue the value of the label identifying the owner of the value.
+     * @param value the value.
+     * @return this builder.
+     */
+    public Builder sample(String name, String labelName, String labelValue, double value) {
+      Map<String, String> labels = new LinkedHashMap<>();
+      labels.put(labelName, labelValue);
+      samples.add(new Sample(name, labels, value));
+      return this;
+    }
+
+    /**
+     * Adds a value to the snapshot.
+     *
+     * @param name the name of the value.
+     * @param labels the labels identifying the owner of the value.
+     * @param value the value.
+     * @return this builder.
+     */
+    public Builder sample(String name, Map<String, String> labels, double value) {
+      samples.add(new Sample(name, new LinkedHashMap<>(labels), value));
+      return this;
+    }
+
+    public StatisticsSnapshot build() {
+      return new StatisticsSnapshot(timestamp, intervalMillis, samples);
+    }
+  }
+
+  /**
+   * A single value of a {@link StatisticsSnapshot}.
+   */
+  public static final class Sample {
+
+    private final String name;
+    private final Map<String, String> labels;
+    private final double value;
+
+    private Sample(String name, Map<String, String> labels, double value) {
+      this.name = name;
+      this.labels = unmodifiableMap(labels);
+      this.value = value;
+    }
+
+    /**
+     * @return the name of this value.
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * @return the labels identifying the owner of this value.
+     */
+    public Map<String, String> getLabels() {
+      return labels;
+    }
+
+    public double getValue() {
+      return value;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder builder = new StringBuilder(name);
+      if (!labels.isEmpty()) {
+        builder.append('{');
+        labels.forEach((labelName, labelValue) -> builder.append(labelName).append("=\"").append(labelValue).append("\","));
+        builder.setCharAt(builder.length() - 1, '}');
+      }
+      return builder.append(' ').append(value).toString();
+    }
+  }
+}
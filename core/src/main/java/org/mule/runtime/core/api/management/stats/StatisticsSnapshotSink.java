@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.management.stats;
+
+/**
+ * Publishes the {@link StatisticsSnapshot}s periodically taken of the statistics of an application.
+ * <p>
+ * Implementations are called from a single thread, one snapshot at a time.
+ *
+ * @since 4.2
+ */
+public interface StatisticsSnapshotSink {
+
+  /**
+   * Publishes the given snapshot.
+   *
+   * @param snapshot the snapshot to publish.
+   */
+  void write(StatisticsSnapshot snapshot);
+
+  /**
+   * Releases any resources held by this sink. No more snapshots will be written after this is called.
+   */
+  default void close() {
+    // Nothing to do by default
+  }
+}
@@ -6,9 +6,13 @@
  */
 package org.mule.runtime.core.api.streaming;
 
+import static java.lang.Long.getLong;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.api.util.IOUtils.closeQuietly;
+import static org.mule.runtime.core.internal.streaming.CursorManager.LEAK_DETECTION_PERIOD_PROPERTY;
+import static org.mule.runtime.core.internal.streaming.CursorManager.LEAK_DETECTION_THRESHOLD_PROPERTY;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import org.mule.api.annotation.NoExtend;
@@ -36,6 +40,7 @@ import org.mule.runtime.core.privileged.event.BaseEventContext;
 import org.slf4j.Logger;
 
 import java.io.InputStream;
+import java.util.concurrent.ScheduledFuture;
 
 import javax.inject.Inject;
 
@@ -53,6 +58,7 @@ public class DefaultStreamingManager implements StreamingManager, Initialisable,
 
   private Scheduler allocationScheduler;
   private Scheduler disposalScheduler;
+  private ScheduledFuture<?> leakDetection;
 
   @Inject
   private MuleContext muleContext;
@@ -76,6 +82,13 @@ public class DefaultStreamingManager implements StreamingManager, Initialisable,
       byteStreamingManager = createByteStreamingManager();
       objectStreamingManager = createObjectStreamingManager();
 
+      final long leakDetectionPeriod = getLong(LEAK_DETECTION_PERIOD_PROPERTY, 60000L);
+      if (leakDetectionPeriod > 0) {
+        final long leakDetectionThreshold = getLong(LEAK_DETECTION_THRESHOLD_PROPERTY, 60000L);
+        leakDetection = disposalScheduler.scheduleAtFixedRate(() -> cursorManager.detectLeaks(leakDetectionThreshold),
+                                                              leakDetectionPeriod, leakDetectionPeriod, MILLISECONDS);
+      }
+
       initialiseIfNeeded(byteStreamingManager, true, muleContext);
       initialiseIfNeeded(objectStreamingManager, true, muleContext);
       initialised = true;
@@ -95,6 +108,10 @@ public class DefaultStreamingManager implements StreamingManager, Initialisable,
    */
   @Override
   public void dispose() {
+    if (leakDetection != null) {
+      leakDetection.cancel(false);
+      leakDetection = null;
+    }
     disposeIfNeeded(byteStreamingManager, LOGGER);
     disposeIfNeeded(objectStreamingManager, LOGGER);
     disposeIfNeeded(bufferManager, LOGGER);
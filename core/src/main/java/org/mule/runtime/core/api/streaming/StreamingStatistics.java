@@ -10,6 +10,8 @@ import org.mule.api.annotation.NoImplement;
 import org.mule.runtime.api.streaming.bytes.CursorStream;
 import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
 
+import java.util.Map;
+
 /**
  * Statistics about current streaming assets
  *
@@ -27,4 +29,10 @@ public interface StreamingStatistics {
    * @return How many {@link CursorStream} instances are currently open
    */
   int getOpenCursorsCount();
+
+  /**
+   * @return How many bytes of streaming memory are currently allocated, by the name of the flow which allocated them
+   * @since 4.2
+   */
+  Map<String, Long> getStreamingMemoryByFlow();
 }
@@ -11,9 +11,12 @@ import org.mule.runtime.api.event.EventContext;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.functional.Either;
 import org.mule.runtime.core.api.streaming.StreamingManager;
+import org.mule.runtime.core.api.streaming.StreamingStatistics;
 import org.mule.runtime.core.api.streaming.bytes.ByteBufferManager;
 import org.mule.runtime.core.api.streaming.bytes.InMemoryCursorStreamConfig;
 import org.mule.runtime.core.api.streaming.bytes.InMemoryCursorStreamProvider;
+import org.mule.runtime.core.internal.streaming.MutableStreamingStatistics;
+import org.mule.runtime.core.internal.streaming.bytes.FlowAccountingByteBufferManager;
 
 import java.io.InputStream;
 
@@ -44,7 +47,7 @@ public class InMemoryCursorStreamProviderFactory extends AbstractCursorStreamPro
 
   @Override
   protected Object resolve(InputStream inputStream, EventContext eventContext) {
-    return doResolve(inputStream);
+    return doResolve(inputStream, eventContext);
   }
 
   /**
@@ -54,13 +57,21 @@ public class InMemoryCursorStreamProviderFactory extends AbstractCursorStreamPro
    */
   @Override
   protected Object resolve(InputStream inputStream, CoreEvent event) {
-    return doResolve(inputStream);
+    return doResolve(inputStream, event.getContext());
   }
 
-  private Object doResolve(InputStream inputStream) {
+  private Object doResolve(InputStream inputStream, EventContext eventContext) {
     InMemoryCursorStreamProvider inMemoryCursorStreamProvider =
-        new InMemoryCursorStreamProvider(inputStream, config, getBufferManager());
+        new InMemoryCursorStreamProvider(inputStream, config, flowAccountingBufferManager(eventContext));
     inMemoryCursorStreamProvider.setAnnotations(getAnnotations());
     return inMemoryCursorStreamProvider;
   }
+
+  private ByteBufferManager flowAccountingBufferManager(EventContext eventContext) {
+    StreamingStatistics statistics = streamingManager.getStreamingStatistics();
+    if (statistics instanceof MutableStreamingStatistics) {
+      return new FlowAccountingByteBufferManager(getBufferManager(), (MutableStreamingStatistics) statistics, eventContext);
+    }
+    return getBufferManager();
+  }
 }
@@ -25,6 +25,8 @@ import org.mule.runtime.core.api.retry.policy.RetryPolicyTemplate;
 import org.mule.runtime.core.internal.retry.ReconnectionConfig;
 import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.slf4j.Logger;
 
 /**
@@ -150,6 +152,15 @@ public class CompositeConnectionManager implements ConnectionManager, Connection
     return childConnectionManager.getDefaultPoolingProfile();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Void> warmUp(Object config, String configName) {
+    return childConnectionManager.hasBinding(config) ? childConnectionManager.warmUp(config, configName)
+        : parentConnectionManager.warmUp(config, configName);
+  }
+
   @Override
   public void dispose() {
     disposeIfNeeded(childConnectionManager, LOGGER);
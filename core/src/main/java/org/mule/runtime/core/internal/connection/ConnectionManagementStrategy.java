@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.core.internal.connection;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
 import org.mule.runtime.api.connection.ConnectionException;
 import org.mule.runtime.api.connection.ConnectionHandler;
 import org.mule.runtime.api.connection.ConnectionProvider;
@@ -13,6 +15,8 @@ import org.mule.runtime.core.api.Closeable;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.api.exception.MuleException;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Strategy to implement different connection management mechanisms.
  * <p>
@@ -48,6 +52,16 @@ abstract class ConnectionManagementStrategy<C> implements Closeable {
    */
   abstract ConnectionHandler<C> getConnectionHandler() throws ConnectionException;
 
+  /**
+   * Establishes, in the background, the connections this strategy keeps ready before they are requested, if any.
+   *
+   * @param ownerName the name of the owner of the connections, under which to report their statistics
+   * @return a future completed when the connections are established
+   */
+  CompletableFuture<Void> warmUp(String ownerName) {
+    return completedFuture(null);
+  }
+
   /**
    * Closes all connections and resources allocated through {@code this} instance.
    *
@@ -16,9 +16,12 @@ import org.mule.runtime.api.connection.CachedConnectionProvider;
 import org.mule.runtime.api.connection.ConnectionProvider;
 import org.mule.runtime.api.connection.PoolingConnectionProvider;
 import org.mule.runtime.api.connection.PoolingListener;
+import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.api.meta.model.connection.ConnectionManagementType;
 
+import java.util.function.Supplier;
+
 /**
  * Creates instances of {@link ConnectionManagementStrategy}
  *
@@ -28,16 +31,20 @@ final class ConnectionManagementStrategyFactory {
 
   private final PoolingProfile defaultPoolingProfile;
   private final MuleContext muleContext;
+  private final Supplier<Scheduler> poolsScheduler;
 
   /**
    * Creates a new instance
    *
    * @param defaultPoolingProfile the {@link PoolingProfile} that will be used to configure the pool of connections
    * @param muleContext the owning {@link MuleContext}
+   * @param poolsScheduler supplies the {@link Scheduler} on which the pools of connections do their background work
    */
-  ConnectionManagementStrategyFactory(PoolingProfile defaultPoolingProfile, MuleContext muleContext) {
+  ConnectionManagementStrategyFactory(PoolingProfile defaultPoolingProfile, MuleContext muleContext,
+                                      Supplier<Scheduler> poolsScheduler) {
     this.defaultPoolingProfile = defaultPoolingProfile;
     this.muleContext = muleContext;
+    this.poolsScheduler = poolsScheduler;
   }
 
   /**
@@ -80,7 +87,7 @@ final class ConnectionManagementStrategyFactory {
         : new PoolingConnectionManagementStrategy<>(connectionProvider, poolingProfile,
                                                     (PoolingListener<C>) unwrapProviderWrapper(connectionProvider,
                                                                                                PoolingConnectionProvider.class),
-                                                    muleContext);
+                                                    muleContext, poolsScheduler.get());
   }
 
   private <C> ConnectionManagementType getManagementType(ConnectionProvider<C> connectionProvider) {
@@ -14,6 +14,8 @@ import org.mule.runtime.core.api.connector.ConnectionManager;
 import org.mule.runtime.core.api.retry.policy.RetryPolicyTemplate;
 import org.mule.runtime.core.internal.retry.ReconnectionConfig;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Interface for {@link ConnectionManager} implementations which expands its contract with non API functionality
  *
@@ -46,4 +48,15 @@ public interface ConnectionManagerAdapter extends ConnectionManager, Lifecycle {
    * @return a {@link PoolingProfile}
    */
   PoolingProfile getDefaultPoolingProfile();
+
+  /**
+   * Establishes, in the background, the connections to keep ready for the given {@code config} before they are requested. This
+   * is, filling its pool of connections up to the minimum required by its {@link PoolingProfile}, if any.
+   *
+   * @param config the config the connections are bound to
+   * @param configName the name of the {@code config}, under which to report the statistics of its connections
+   * @return a future completed when the connections are established
+   * @since 4.2
+   */
+  CompletableFuture<Void> warmUp(Object config, String configName);
 }
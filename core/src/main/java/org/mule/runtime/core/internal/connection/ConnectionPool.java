@@ -0,0 +1,608 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.connection;
+
+import static java.lang.Boolean.getBoolean;
+import static java.lang.Long.getLong;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.System.currentTimeMillis;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_ALL;
+import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_ONE;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_FAIL;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_GROW;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.core.api.util.ClassUtils.withContextClassLoader;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.config.PoolingProfile;
+import org.mule.runtime.api.connection.ConnectionProvider;
+import org.mule.runtime.api.connection.ConnectionValidationResult;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.management.stats.ConnectionPoolStatistics;
+
+import java.lang.ref.WeakReference;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+
+/**
+ * A pool of connections obtained from a {@link ConnectionProvider}, configured through a {@link PoolingProfile}.
+ * <p>
+ * Borrowing and returning connections doesn't lock the pool:
+ * <ul>
+ * <li>A borrower first tries the last connection its thread returned, then looks for an idle connection among all the
+ * connections of the pool, and creates a new one if there is none and the {@link PoolingProfile#getMaxActive() maxActive}
+ * allows it.</li>
+ * <li>Otherwise, what happens depends on the {@link PoolingProfile#getExhaustedAction() exhaustedAction}. When waiting, the
+ * borrower is queued and the next connection to be returned is handed over directly to it.</li>
+ * </ul>
+ * Each connection transitions between states through compare-and-set, so only one borrower gets it.
+ * <p>
+ * Connections are not validated when returned. Instead, the idle connections are validated in the background and the invalid
+ * ones are destroyed. The same background task evicts the connections idle for longer than
+ * {@link PoolingProfile#getMinEvictionMillis() minEvictionMillis}. Each run is scheduled with some jitter, so the pools of an
+ * application don't validate their connections all at the same time. This background work runs on the {@link Scheduler} given
+ * to the pool, with the context class loader of the thread which created the pool, and doesn't happen if no {@link Scheduler}
+ * is given.
+ * <p>
+ * Connections are created lazily, when borrowed. Only if enabled through {@link #KEEP_MIN_IDLE_PROPERTY} and the
+ * {@link PoolingProfile#getInitialisationPolicy() initialisationPolicy} asks for it, the pool is filled up to a minimum of idle
+ * connections by {@link #warmUp()}, and connections are created in the background to keep it at that minimum when connections
+ * are evicted or found invalid, rather than on the request path.
+ *
+ * @param <C> the generic type of the pooled connections
+ * @since 4.2
+ */
+class ConnectionPool<C> {
+
+  private static final Logger LOGGER = getLogger(ConnectionPool.class);
+
+  /**
+   * How often to validate the idle connections in the background when {@link PoolingProfile#getEvictionCheckIntervalMillis()} is
+   * not positive. Defaults to {@code 30000}.
+   */
+  static final String VALIDATION_INTERVAL_PROPERTY = SYSTEM_PROPERTY_PREFIX + "connection.pool.validationIntervalMillis";
+
+  private static final long VALIDATION_INTERVAL = getLong(VALIDATION_INTERVAL_PROPERTY, 30000);
+
+  /**
+   * Whether pools keep the minimum of idle connections required by the {@link PoolingProfile#getInitialisationPolicy()
+   * initialisationPolicy}. Defaults to {@code false}, in which case connections are only created when borrowed.
+   */
+  static final String KEEP_MIN_IDLE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "connection.pool.keepMinIdle";
+
+  private static final int IDLE = 0;
+  private static final int IN_USE = 1;
+  private static final int RESERVED = 2;
+  private static final int REMOVED = 3;
+
+  /**
+   * How much, as a fraction of the interval, the time between background validations varies.
+   */
+  private static final double HOUSEKEEPING_JITTER = 0.2;
+
+  private final ConnectionProvider<C> connectionProvider;
+  private final Scheduler scheduler;
+  private final ClassLoader classLoader;
+  private final int maxActive;
+  private final int maxIdle;
+  private final long maxWait;
+  private final int exhaustedAction;
+  private final long minEvictionMillis;
+  private final int minIdle;
+  private final ConnectionPoolStatistics statistics = new ConnectionPoolStatistics();
+
+  private final CopyOnWriteArrayList<Entry<C>> entries = new CopyOnWriteArrayList<>();
+  private final Queue<CompletableFuture<Entry<C>>> waiters = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger total = new AtomicInteger();
+  private final AtomicInteger idle = new AtomicInteger();
+  private final AtomicBoolean filling = new AtomicBoolean();
+
+  /**
+   * The last connection returned by each thread. Only weakly referenced, so it doesn't keep destroyed connections around, and
+   * the values of all threads go away along with the pool.
+   */
+  private final ThreadLocal<WeakReference<Entry<C>>> returnedByThread = new ThreadLocal<>();
+  private volatile ScheduledFuture<?> housekeeping;
+
+  private volatile boolean closed = false;
+
+  /**
+   * Creates a new instance
+   *
+   * @param connectionProvider the {@link ConnectionProvider} used to create, validate and destroy the connections
+   * @param poolingProfile the {@link PoolingProfile} which configures {@code this} pool
+   * @param scheduler the {@link Scheduler} on which to do the background work of {@code this} pool. Nullable, in which case
+   *        there is none.
+   */
+  ConnectionPool(ConnectionProvider<C> connectionProvider, PoolingProfile poolingProfile, Scheduler scheduler) {
+    this.connectionProvider = connectionProvider;
+    this.scheduler = scheduler;
+    this.classLoader = currentThread().getContextClassLoader();
+    this.maxActive = poolingProfile.getMaxActive();
+    this.maxIdle = poolingProfile.getMaxIdle();
+    this.maxWait = poolingProfile.getMaxWait();
+    this.exhaustedAction = poolingProfile.getExhaustedAction();
+    this.minEvictionMillis =
+        poolingProfile.getEvictionCheckIntervalMillis() > 0 ? poolingProfile.getMinEvictionMillis() : -1;
+
+    this.minIdle = getBoolean(KEEP_MIN_IDLE_PROPERTY) ? minIdle(poolingProfile) : 0;
+
+    final long housekeepingInterval = poolingProfile.getEvictionCheckIntervalMillis() > 0
+        ? poolingProfile.getEvictionCheckIntervalMillis()
+        : VALIDATION_INTERVAL;
+    if (scheduler != null && housekeepingInterval > 0) {
+      new Housekeeping<>(this, housekeepingInterval).schedule();
+    }
+  }
+
+  /**
+   * Fills the pool up to its minimum of idle connections, in the background.
+   *
+   * @return a future completed when the pool has been filled up, or as much as possible if creating a connection failed
+   */
+  CompletableFuture<Void> warmUp() {
+    if (minIdle <= 0 || scheduler == null) {
+      return completedFuture(null);
+    }
+
+    try {
+      return runAsync(() -> withContextClassLoader(classLoader, () -> {
+        final long start = currentTimeMillis();
+        final int created = fill();
+        statistics.recordWarmUp(currentTimeMillis() - start, created);
+      }), scheduler);
+    } catch (RejectedExecutionException e) {
+      LOGGER.warn("Could not fill up the connection pool in the background, connections will be created as needed", e);
+      return completedFuture(null);
+    }
+  }
+
+  /**
+   * @return the statistics of the background work of {@code this} pool
+   */
+  ConnectionPoolStatistics getStatistics() {
+    return statistics;
+  }
+
+  /**
+   * Borrows a connection from the pool, blocking until one is available if the pool is exhausted and configured to wait.
+   *
+   * @return a borrowed connection, to be given back through {@link #returnConnection(Entry)} or {@link #invalidate(Entry)}
+   * @throws NoSuchElementException if the pool is exhausted or the wait for a connection timed out
+   * @throws Exception if a new connection could not be created
+   */
+  Entry<C> borrow() throws Exception {
+    final long deadline = maxWait > 0 ? nanoTime() + MILLISECONDS.toNanos(maxWait) : 0;
+    while (true) {
+      final Entry<C> entry = acquire();
+      if (entry != null) {
+        return entry;
+      }
+
+      final CompletableFuture<Entry<C>> waiter = enqueueWaiter();
+      Entry<C> handedOver;
+      try {
+        // Being woken up to create a connection and losing the race for it doesn't restart the wait
+        handedOver = maxWait > 0 ? waiter.get(max(deadline - nanoTime(), 0), NANOSECONDS) : waiter.get();
+      } catch (TimeoutException e) {
+        if (waiter.completeExceptionally(new NoSuchElementException("Timeout waiting for idle connection"))) {
+          waiters.remove(waiter);
+          throw new NoSuchElementException("Timeout waiting for idle connection");
+        }
+        // It was handed a connection right when the wait timed out
+        handedOver = waiter.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        if (!waiter.completeExceptionally(e)) {
+          final Entry<C> late = waiter.getNow(null);
+          if (late != null) {
+            returnConnection(late);
+          }
+        }
+        waiters.remove(waiter);
+        throw e;
+      } catch (ExecutionException e) {
+        throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+      }
+
+      // A null value means that room was made for a new connection, try again
+      if (handedOver != null) {
+        return handedOver;
+      }
+    }
+  }
+
+  /**
+   * Returns a borrowed connection to the pool, handing it over to a waiting borrower if there is one.
+   *
+   * @param entry the borrowed connection
+   */
+  void returnConnection(Entry<C> entry) {
+    requite(entry, true);
+  }
+
+  private void requite(Entry<C> entry, boolean used) {
+    if (closed) {
+      destroy(entry);
+      return;
+    }
+
+    while (true) {
+      CompletableFuture<Entry<C>> waiter;
+      while ((waiter = waiters.poll()) != null) {
+        if (waiter.complete(entry)) {
+          return;
+        }
+      }
+
+      if (maxIdle >= 0 && idle.get() >= maxIdle) {
+        destroy(entry);
+        return;
+      }
+
+      if (used) {
+        entry.lastReturned = currentTimeMillis();
+      }
+      idle.incrementAndGet();
+      entry.state.set(IDLE);
+
+      // A borrower may have started waiting right before the connection became idle. If so, it has to be handed to it.
+      if (waiters.isEmpty() || !entry.state.compareAndSet(IDLE, IN_USE)) {
+        if (used) {
+          rememberReturned(entry);
+        }
+        return;
+      }
+      idle.decrementAndGet();
+    }
+  }
+
+  private void rememberReturned(Entry<C> entry) {
+    final WeakReference<Entry<C>> returned = returnedByThread.get();
+    if (returned == null || returned.get() != entry) {
+      returnedByThread.set(new WeakReference<>(entry));
+    }
+  }
+
+  /**
+   * Destroys a borrowed connection instead of returning it to the pool.
+   *
+   * @param entry the borrowed connection
+   */
+  void invalidate(Entry<C> entry) {
+    destroy(entry);
+  }
+
+  /**
+   * Closes the pool, destroying the idle connections. Borrowed connections are destroyed when returned.
+   */
+  void close() {
+    closed = true;
+    final ScheduledFuture<?> housekeeping = this.housekeeping;
+    if (housekeeping != null) {
+      housekeeping.cancel(false);
+    }
+
+    CompletableFuture<Entry<C>> waiter;
+    while ((waiter = waiters.poll()) != null) {
+      waiter.completeExceptionally(new NoSuchElementException("Connection pool is closed"));
+    }
+    returnedByThread.remove();
+
+    for (Entry<C> entry : entries) {
+      if (entry.state.compareAndSet(IDLE, RESERVED)) {
+        idle.decrementAndGet();
+        destroy(entry);
+      }
+    }
+  }
+
+  /**
+   * @return how many connections are borrowed
+   */
+  int getNumActive() {
+    return total.get() - idle.get();
+  }
+
+  /**
+   * @return how many connections are idle in the pool
+   */
+  int getNumIdle() {
+    return idle.get();
+  }
+
+  private Entry<C> acquire() throws Exception {
+    if (closed) {
+      throw new IllegalStateException("Connection pool is closed");
+    }
+
+    Entry<C> entry = acquireIdle();
+    if (entry == null) {
+      entry = create();
+    }
+    return entry;
+  }
+
+  private Entry<C> acquireIdle() {
+    if (idle.get() <= 0) {
+      return null;
+    }
+
+    // Borrowers that keep to their own connections don't all contend for the first ones of the list
+    final WeakReference<Entry<C>> returned = returnedByThread.get();
+    if (returned != null) {
+      final Entry<C> entry = returned.get();
+      if (entry != null && entry.state.compareAndSet(IDLE, IN_USE)) {
+        idle.decrementAndGet();
+        return entry;
+      }
+    }
+
+    for (Entry<C> entry : entries) {
+      if (entry.state.compareAndSet(IDLE, IN_USE)) {
+        idle.decrementAndGet();
+        return entry;
+      }
+    }
+
+    return null;
+  }
+
+  private Entry<C> create() throws Exception {
+    if (exhaustedAction != WHEN_EXHAUSTED_GROW && maxActive >= 0) {
+      int current;
+      do {
+        current = total.get();
+        if (current >= maxActive) {
+          return null;
+        }
+      } while (!total.compareAndSet(current, current + 1));
+    } else {
+      total.incrementAndGet();
+    }
+
+    try {
+      final Entry<C> entry = new Entry<>(connectionProvider.connect());
+      entries.add(entry);
+      return entry;
+    } catch (Exception | Error e) {
+      total.decrementAndGet();
+      signalRoomAvailable();
+      throw e;
+    }
+  }
+
+  private CompletableFuture<Entry<C>> enqueueWaiter() throws Exception {
+    if (exhaustedAction == WHEN_EXHAUSTED_FAIL) {
+      throw new NoSuchElementException("Pool exhausted");
+    }
+
+    final CompletableFuture<Entry<C>> waiter = new CompletableFuture<>();
+    waiters.add(waiter);
+
+    // A connection may have been returned or destroyed right before this started waiting
+    final Entry<C> entry;
+    try {
+      entry = acquire();
+    } catch (Exception e) {
+      waiter.completeExceptionally(e);
+      waiters.remove(waiter);
+      return waiter;
+    }
+
+    if (entry != null && !waiter.complete(entry)) {
+      // Another connection was handed to it in the meantime
+      returnConnection(entry);
+    }
+    return waiter;
+  }
+
+  private void destroy(Entry<C> entry) {
+    if (entry.state.getAndSet(REMOVED) == REMOVED) {
+      return;
+    }
+
+    entries.remove(entry);
+    total.decrementAndGet();
+    try {
+      connectionProvider.disconnect(entry.connection);
+    } catch (Exception e) {
+      LOGGER.warn("Exception was found trying to disconnect connection of type " + entry.connection.getClass().getName(), e);
+    } finally {
+      signalRoomAvailable();
+    }
+  }
+
+  /**
+   * Lets a waiting borrower know that it may now create a new connection.
+   */
+  private void signalRoomAvailable() {
+    CompletableFuture<Entry<C>> waiter;
+    while ((waiter = waiters.poll()) != null) {
+      if (waiter.complete(null)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Creates connections until there are at least {@link #minIdle} idle ones.
+   *
+   * @return how many connections were created
+   */
+  private int fill() {
+    if (!filling.compareAndSet(false, true)) {
+      return 0;
+    }
+
+    int created = 0;
+    try {
+      while (!closed && idle.get() < minIdle) {
+        final Entry<C> entry = create();
+        if (entry == null) {
+          break;
+        }
+        ++created;
+        requite(entry, false);
+      }
+    } catch (Exception e) {
+      LOGGER.warn("Could not create a connection to fill up the pool", e);
+    } finally {
+      filling.set(false);
+    }
+    return created;
+  }
+
+  private void housekeeping() {
+    final long now = currentTimeMillis();
+    for (Entry<C> entry : entries) {
+      if (closed) {
+        return;
+      }
+      if (!entry.state.compareAndSet(IDLE, RESERVED)) {
+        continue;
+      }
+      idle.decrementAndGet();
+
+      if (minEvictionMillis > 0 && now - entry.lastReturned > minEvictionMillis) {
+        LOGGER.debug("Evicting connection idle for longer than {} ms", minEvictionMillis);
+        statistics.recordEviction();
+        destroy(entry);
+        continue;
+      }
+
+      final boolean valid = isValid(entry);
+      statistics.recordValidation(valid);
+      if (valid) {
+        // Validating it is not a usage, so it remains evictable
+        entry.state.set(IN_USE);
+        requite(entry, false);
+      } else {
+        LOGGER.debug("Connection is not valid, it is destroyed and removed from the pool.");
+        destroy(entry);
+      }
+    }
+
+    if (minIdle > 0) {
+      for (int i = fill(); i > 0; --i) {
+        statistics.recordReplacement();
+      }
+    }
+  }
+
+  private boolean isValid(Entry<C> entry) {
+    try {
+      final ConnectionValidationResult result = connectionProvider.validate(entry.connection);
+      return result != null && result.isValid();
+    } catch (Exception e) {
+      LOGGER.warn("Exception was found validating connection of type " + entry.connection.getClass().getName(), e);
+      return false;
+    }
+  }
+
+  private static int minIdle(PoolingProfile poolingProfile) {
+    if (poolingProfile.getInitialisationPolicy() == INITIALISE_ONE) {
+      return 1;
+    } else if (poolingProfile.getInitialisationPolicy() == INITIALISE_ALL) {
+      int minIdle = poolingProfile.getMaxIdle() >= 0 ? poolingProfile.getMaxIdle() : poolingProfile.getMaxActive();
+      if (poolingProfile.getMaxActive() >= 0) {
+        minIdle = min(minIdle, poolingProfile.getMaxActive());
+      }
+      return minIdle >= 0 ? minIdle : 1;
+    } else {
+      return 0;
+    }
+  }
+
+  /**
+   * Periodically runs the background validation of a pool, with some jitter. It only holds a weak reference to the pool, so pools
+   * that are discarded without being closed stop being validated once collected.
+   */
+  private static final class Housekeeping<C> implements Runnable {
+
+    private final WeakReference<ConnectionPool<C>> pool;
+    private final long interval;
+
+    private Housekeeping(ConnectionPool<C> pool, long interval) {
+      this.pool = new WeakReference<>(pool);
+      this.interval = interval;
+    }
+
+    private void schedule() {
+      final ConnectionPool<C> pool = this.pool.get();
+      if (pool == null || pool.closed) {
+        return;
+      }
+
+      final long jitter = (long) (interval * HOUSEKEEPING_JITTER);
+      final long delay = interval - jitter + ThreadLocalRandom.current().nextLong(2 * jitter + 1);
+      try {
+        pool.housekeeping = pool.scheduler.schedule(this, delay, MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        LOGGER.debug("Connection pool background validation stopped, its scheduler doesn't accept more tasks");
+      }
+    }
+
+    @Override
+    public void run() {
+      final ConnectionPool<C> pool = this.pool.get();
+      if (pool == null || pool.closed) {
+        return;
+      }
+
+      try {
+        withContextClassLoader(pool.classLoader, pool::housekeeping);
+      } catch (Exception e) {
+        LOGGER.warn("Exception was found validating the connections of the pool", e);
+      } finally {
+        schedule();
+      }
+    }
+  }
+
+  /**
+   * A connection held by the pool.
+   *
+   * @param <C> the generic type of the connection
+   */
+  static final class Entry<C> {
+
+    private final C connection;
+    private final AtomicInteger state = new AtomicInteger(IN_USE);
+    private volatile long lastReturned = currentTimeMillis();
+
+    Entry(C connection) {
+      this.connection = connection;
+    }
+
+    /**
+     * @return the pooled connection
+     */
+    C getConnection() {
+      return connection;
+    }
+  }
+}
@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.core.internal.connection;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.mule.runtime.api.connection.ConnectionValidationResult.failure;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.assertNotStopping;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
@@ -19,6 +20,8 @@ import org.mule.runtime.api.connection.ConnectionProvider;
 import org.mule.runtime.api.connection.ConnectionValidationResult;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.InitialisationException;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.scheduler.SchedulerService;
 import org.mule.runtime.api.util.Reference;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.connector.ConnectionManager;
@@ -30,6 +33,7 @@ import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -56,6 +60,7 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter
   private final PoolingProfile defaultPoolingProfile;
   private final ConnectionManagementStrategyFactory managementStrategyFactory;
   private final ReconnectionConfig defaultReconnectionConfig = ReconnectionConfig.getDefault();
+  private Scheduler poolsScheduler;
 
   /**
    * Creates a new instance
@@ -67,7 +72,8 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter
     this.muleContext = muleContext;
     this.defaultPoolingProfile = new PoolingProfile();
     this.retryPolicyTemplate = new NoRetryPolicyTemplate();
-    managementStrategyFactory = new ConnectionManagementStrategyFactory(defaultPoolingProfile, muleContext);
+    managementStrategyFactory =
+        new ConnectionManagementStrategyFactory(defaultPoolingProfile, muleContext, this::getPoolsScheduler);
   }
 
   /**
@@ -241,6 +247,22 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter
     return handlingStrategy.getConnectionHandler();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Void> warmUp(Object config, String configName) {
+    ConnectionManagementStrategy<?> handlingStrategy;
+    readLock.lock();
+    try {
+      handlingStrategy = connections.get(new Reference<>(config));
+    } finally {
+      readLock.unlock();
+    }
+
+    return handlingStrategy != null ? handlingStrategy.warmUp(configName) : completedFuture(null);
+  }
+
   /**
    * Breaks all bindings and closes all connections
    *
@@ -255,6 +277,28 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter
     } finally {
       writeLock.unlock();
     }
+    stopPoolsScheduler();
+  }
+
+  /**
+   * @return the {@link Scheduler} on which the pools of connections do their background work, created the first time it's
+   *         needed. {@code null} if there is no {@link SchedulerService} to get it from.
+   */
+  private synchronized Scheduler getPoolsScheduler() {
+    if (poolsScheduler == null) {
+      final SchedulerService schedulerService = muleContext.getSchedulerService();
+      if (schedulerService != null) {
+        poolsScheduler = schedulerService.ioScheduler(muleContext.getSchedulerBaseConfig().withName("ConnectionManager.pools"));
+      }
+    }
+    return poolsScheduler;
+  }
+
+  private synchronized void stopPoolsScheduler() {
+    if (poolsScheduler != null) {
+      poolsScheduler.stop();
+      poolsScheduler = null;
+    }
   }
 
   // TODO: MULE-9082
@@ -268,6 +312,7 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter
 
   @Override
   public void dispose() {
+    stopPoolsScheduler();
     disposeIfNeeded(retryPolicyTemplate, LOGGER);
   }
 
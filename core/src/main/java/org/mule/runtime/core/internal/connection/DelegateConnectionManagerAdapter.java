@@ -8,6 +8,7 @@ package org.mule.runtime.core.internal.connection;
 
 import static java.lang.Boolean.parseBoolean;
 import static java.lang.reflect.Proxy.newProxyInstance;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.mule.runtime.core.api.config.MuleDeploymentProperties.MULE_LAZY_CONNECTIONS_DEPLOYMENT_PROPERTY;
 import org.mule.runtime.api.config.PoolingProfile;
 import org.mule.runtime.api.connection.ConnectionException;
@@ -24,6 +25,7 @@ import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
 
 import javax.inject.Inject;
 
@@ -98,6 +100,11 @@ public final class DelegateConnectionManagerAdapter implements ConnectionManager
     return connectionManagerAdapterStrategy.testConnectivity(configurationInstance);
   }
 
+  @Override
+  public CompletableFuture<Void> warmUp(Object config, String configName) {
+    return connectionManagerAdapterStrategy.warmUp(config, configName);
+  }
+
   @Override
   public void initialise() throws InitialisationException {
     connectionManagerAdapterStrategy.initialise();
@@ -176,6 +183,11 @@ public final class DelegateConnectionManagerAdapter implements ConnectionManager
       return delegate.testConnectivity(configurationInstance);
     }
 
+    @Override
+    public CompletableFuture<Void> warmUp(Object config, String configName) {
+      return delegate.warmUp(config, configName);
+    }
+
     @Override
     public void initialise() throws InitialisationException {
       delegate.initialise();
@@ -280,6 +292,12 @@ public final class DelegateConnectionManagerAdapter implements ConnectionManager
     public PoolingProfile getDefaultPoolingProfile() {
       return delegate.getDefaultPoolingProfile();
     }
+
+    @Override
+    public CompletableFuture<Void> warmUp(Object config, String configName) {
+      // Connections are only established when used
+      return completedFuture(null);
+    }
   }
 
   class LazyInvocationHandler implements InvocationHandler {
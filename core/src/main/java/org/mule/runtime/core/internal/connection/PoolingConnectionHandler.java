@@ -11,8 +11,8 @@ import org.mule.runtime.api.connection.ConnectionException;
 import org.mule.runtime.api.connection.ConnectionProvider;
 import org.mule.runtime.api.connection.PoolingListener;
 import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.core.internal.connection.ConnectionPool.Entry;
 
-import org.apache.commons.pool.ObjectPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,19 +27,21 @@ final class PoolingConnectionHandler<C> implements ConnectionHandlerAdapter<C> {
   private static final Logger LOGGER = LoggerFactory.getLogger(PoolingConnectionHandler.class);
 
   private C connection;
-  private final ObjectPool<C> pool;
+  private Entry<C> entry;
+  private final ConnectionPool<C> pool;
   private final PoolingListener poolingListener;
   private final ConnectionProvider connectionProvider;
 
   /**
    * Creates a new instance
    *
-   * @param connection the connection to be wrapped
-   * @param pool       the pool from which the {@code connection} was obtained and to which it has to be returned
+   * @param entry the pooled connection to be wrapped
+   * @param pool  the pool from which the {@code entry} was obtained and to which it has to be returned
    */
-  PoolingConnectionHandler(C connection, ObjectPool<C> pool, PoolingListener poolingListener,
+  PoolingConnectionHandler(Entry<C> entry, ConnectionPool<C> pool, PoolingListener poolingListener,
                            ConnectionProvider connectionProvider) {
-    this.connection = connection;
+    this.entry = entry;
+    this.connection = entry.getConnection();
     this.pool = pool;
     this.poolingListener = poolingListener;
     this.connectionProvider = connectionProvider;
@@ -55,7 +57,7 @@ final class PoolingConnectionHandler<C> implements ConnectionHandlerAdapter<C> {
   }
 
   /**
-   * Returns the {@link #connection} to the {@link #pool}
+   * Returns the {@link #connection} to the {@link #pool}. The connection is not validated, the pool does it in the background.
    */
   @Override
   public void release() {
@@ -65,13 +67,9 @@ final class PoolingConnectionHandler<C> implements ConnectionHandlerAdapter<C> {
 
     boolean returnAttempted = false;
     try {
-      if (!connectionProvider.validate(connection).isValid()) {
-        LOGGER.debug("Connection is not valid, it is destroyed and not returned to the pool.");
-        return;
-      }
       poolingListener.onReturn(connection);
 
-      pool.returnObject(connection);
+      pool.returnConnection(entry);
       returnAttempted = true;
     } catch (Exception e) {
       LOGGER.warn("Could not return connection to the pool. Connection will be destroyed", e);
@@ -82,6 +80,7 @@ final class PoolingConnectionHandler<C> implements ConnectionHandlerAdapter<C> {
         }
       } finally {
         connection = null;
+        entry = null;
       }
     }
   }
@@ -91,12 +90,17 @@ final class PoolingConnectionHandler<C> implements ConnectionHandlerAdapter<C> {
    */
   @Override
   public void invalidate() {
+    if (entry == null) {
+      return;
+    }
+
     try {
-      pool.invalidateObject(connection);
+      pool.invalidate(entry);
     } catch (Exception e) {
       LOGGER.warn("Exception was found trying to invalidate connection of type " + connection.getClass().getName(), e);
     } finally {
       connection = null;
+      entry = null;
     }
   }
 
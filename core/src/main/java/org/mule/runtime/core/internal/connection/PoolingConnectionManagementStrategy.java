@@ -7,6 +7,7 @@
 package org.mule.runtime.core.internal.connection;
 
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.core.api.connection.util.ConnectionProviderUtils.unwrapProviderWrapper;
 import org.mule.runtime.api.config.PoolingProfile;
 import org.mule.runtime.api.connection.ConnectionException;
 import org.mule.runtime.api.connection.ConnectionHandler;
@@ -14,13 +15,14 @@ import org.mule.runtime.api.connection.ConnectionProvider;
 import org.mule.runtime.api.connection.PoolingListener;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.exception.DefaultMuleException;
+import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.management.stats.AllStatistics;
+import org.mule.runtime.core.internal.connection.ConnectionPool.Entry;
 
 import java.util.NoSuchElementException;
-
-import org.apache.commons.pool.ObjectPool;
-import org.apache.commons.pool.PoolableObjectFactory;
-import org.apache.commons.pool.impl.GenericObjectPool;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A {@link ConnectionManagementStrategy} which returns connections obtained from a {@link #pool}
@@ -30,9 +32,14 @@ import org.apache.commons.pool.impl.GenericObjectPool;
  */
 final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementStrategy<C> {
 
+  private static final AtomicLong POOL_IDS = new AtomicLong();
+
   private final PoolingProfile poolingProfile;
-  private final ObjectPool<C> pool;
+  private final ConnectionPool<C> pool;
   private final PoolingListener<C> poolingListener;
+  private final long poolId = POOL_IDS.incrementAndGet();
+  private volatile String statisticsName;
+  private boolean ownerNamed = false;
 
   /**
    * Creates a new instance
@@ -41,13 +48,15 @@ final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementS
    * @param poolingProfile the {@link PoolingProfile} which configures the {@link #pool}
    * @param poolingListener a {@link PoolingListener}
    * @param muleContext the application's {@link MuleContext}
+   * @param scheduler the {@link Scheduler} on which the {@link #pool} does its background work
    */
   PoolingConnectionManagementStrategy(ConnectionProvider<C> connectionProvider, PoolingProfile poolingProfile,
-                                      PoolingListener<C> poolingListener, MuleContext muleContext) {
+                                      PoolingListener<C> poolingListener, MuleContext muleContext, Scheduler scheduler) {
     super(connectionProvider, muleContext);
     this.poolingProfile = poolingProfile;
     this.poolingListener = poolingListener;
-    pool = createPool();
+    pool = new ConnectionPool<>(connectionProvider, poolingProfile, scheduler);
+    registerStatistics(unwrapProviderWrapper(connectionProvider).getClass().getSimpleName());
   }
 
   /**
@@ -60,25 +69,70 @@ final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementS
   public ConnectionHandler<C> getConnectionHandler() throws ConnectionException {
     try {
       return new PoolingConnectionHandler<>(borrowConnection(), pool, poolingListener, connectionProvider);
-    } catch (ConnectionException e) {
-      throw e;
-    } catch (NoSuchElementException e) {
-      throw new ConnectionException("Connection pool is exhausted", e);
     } catch (Exception e) {
-      throw new ConnectionException("An exception was found trying to obtain a connection: " + e.getMessage(), e);
+      throw toConnectionException(e);
+    }
+  }
+
+  /**
+   * Fills the {@link #pool} up to the minimum of idle connections required by the {@link PoolingProfile}, and reports the
+   * statistics of the pool under the name of its owner from then on.
+   * <p>
+   * The statistics are registered under the name of the owner followed by an id of the pool, since many pools may have the
+   * same owner name, as the instances of a dynamic configuration do.
+   *
+   * @param ownerName the name of the owner of the connections, under which to report their statistics
+   * @return a future completed when the pool has been filled up
+   */
+  @Override
+  synchronized CompletableFuture<Void> warmUp(String ownerName) {
+    if (!ownerNamed) {
+      ownerNamed = true;
+      registerStatistics(ownerName);
     }
+    return pool.warmUp();
+  }
+
+  /**
+   * Registers the statistics of the {@link #pool} as soon as it is created, under the name of the connection provider until
+   * the name of the owner is known, so the pools which are never warmed up are reported as well.
+   */
+  private synchronized void registerStatistics(String name) {
+    final AllStatistics statistics = muleContext.getStatistics();
+    if (statistics == null || !statistics.isEnabled()) {
+      return;
+    }
+
+    if (statisticsName != null) {
+      statistics.removeConnectionPoolStatistics(statisticsName);
+    }
+    statisticsName = name + "#" + poolId;
+    statistics.addConnectionPoolStatistics(statisticsName, pool.getStatistics());
+  }
+
+  private Entry<C> borrowConnection() throws Exception {
+    return onBorrow(pool.borrow());
   }
 
-  private C borrowConnection() throws Exception {
-    C connection = pool.borrowObject();
+  private Entry<C> onBorrow(Entry<C> entry) throws Exception {
     try {
-      poolingListener.onBorrow(connection);
+      poolingListener.onBorrow(entry.getConnection());
     } catch (Exception e) {
-      pool.invalidateObject(connection);
+      pool.invalidate(entry);
       throw e;
     }
 
-    return connection;
+    return entry;
+  }
+
+  private ConnectionException toConnectionException(Exception e) {
+    if (e instanceof ConnectionException) {
+      return (ConnectionException) e;
+    } else if (e instanceof NoSuchElementException) {
+      return new ConnectionException("Connection pool is exhausted", e);
+    } else {
+      return new ConnectionException("An exception was found trying to obtain a connection: " + e.getMessage(), e);
+    }
   }
 
   /**
@@ -89,6 +143,11 @@ final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementS
   // TODO: MULE-9082 - pool.close() doesn't destroy unreturned connections
   @Override
   public void close() throws MuleException {
+    final String statisticsName = this.statisticsName;
+    if (statisticsName != null) {
+      muleContext.getStatistics().removeConnectionPoolStatistics(statisticsName);
+    }
+
     try {
       pool.close();
     } catch (Exception e) {
@@ -96,44 +155,7 @@ final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementS
     }
   }
 
-  private ObjectPool<C> createPool() {
-    GenericObjectPool.Config config = new GenericObjectPool.Config();
-    config.maxIdle = poolingProfile.getMaxIdle();
-    config.maxActive = poolingProfile.getMaxActive();
-    config.maxWait = poolingProfile.getMaxWait();
-    config.whenExhaustedAction = (byte) poolingProfile.getExhaustedAction();
-    config.minEvictableIdleTimeMillis = poolingProfile.getMinEvictionMillis();
-    config.timeBetweenEvictionRunsMillis = poolingProfile.getEvictionCheckIntervalMillis();
-    GenericObjectPool genericPool = new GenericObjectPool(new ObjectFactoryAdapter(), config);
-
-    return genericPool;
-  }
-
   public PoolingProfile getPoolingProfile() {
     return poolingProfile;
   }
-
-  private class ObjectFactoryAdapter implements PoolableObjectFactory<C> {
-
-    @Override
-    public C makeObject() throws Exception {
-      return connectionProvider.connect();
-    }
-
-    @Override
-    public void destroyObject(C connection) throws Exception {
-      connectionProvider.disconnect(connection);
-    }
-
-    @Override
-    public boolean validateObject(C obj) {
-      return false;
-    }
-
-    @Override
-    public void activateObject(C connection) throws Exception {}
-
-    @Override
-    public void passivateObject(C connection) throws Exception {}
-  }
 }
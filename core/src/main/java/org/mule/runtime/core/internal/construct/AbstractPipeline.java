@@ -9,6 +9,7 @@ package org.mule.runtime.core.internal.construct;
 import static com.google.common.base.Functions.identity;
 import static java.lang.String.format;
 import static java.lang.System.currentTimeMillis;
+import static java.lang.System.nanoTime;
 import static java.util.Collections.unmodifiableList;
 import static org.mule.runtime.api.notification.EnrichedNotificationInfo.createInfo;
 import static org.mule.runtime.api.notification.PipelineMessageNotification.PROCESS_COMPLETE;
@@ -16,11 +17,15 @@ import static org.mule.runtime.api.notification.PipelineMessageNotification.PROC
 import static org.mule.runtime.api.notification.PipelineMessageNotification.PROCESS_START;
 import static org.mule.runtime.core.api.exception.Errors.ComponentIdentifiers.Unhandleable.OVERLOAD;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+import static org.mule.runtime.core.api.management.stats.BackPressureReason.EVENTS_ACCUMULATED;
+import static org.mule.runtime.core.api.management.stats.BackPressureReason.MAX_CONCURRENCY_EXCEEDED;
 import static org.mule.runtime.core.api.processor.strategy.AsyncProcessingStrategyFactory.DEFAULT_MAX_CONCURRENCY;
 import static org.mule.runtime.core.api.source.MessageSource.BackPressureStrategy.WAIT;
 import static org.mule.runtime.core.privileged.processor.MessageProcessors.processToApply;
 import static reactor.core.Exceptions.propagate;
 import static reactor.core.publisher.Flux.from;
+
+import org.mule.runtime.api.component.location.ComponentLocation;
 import org.mule.runtime.api.deployment.management.ComponentInitialStateManager;
 import org.mule.runtime.api.exception.DefaultMuleException;
 import org.mule.runtime.api.exception.MuleException;
@@ -34,9 +39,13 @@ import org.mule.runtime.core.api.config.MuleConfiguration;
 import org.mule.runtime.core.api.config.i18n.CoreMessages;
 import org.mule.runtime.core.api.connector.ConnectException;
 import org.mule.runtime.core.api.construct.Pipeline;
+import org.mule.runtime.core.api.context.notification.ServerNotificationManager;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.exception.FlowExceptionHandler;
+import org.mule.runtime.core.api.management.stats.BackPressureReason;
+import org.mule.runtime.core.api.management.stats.BackPressureStatistics;
 import org.mule.runtime.core.api.management.stats.FlowConstructStatistics;
+import org.mule.runtime.core.api.management.stats.LatencyHistogram;
 import org.mule.runtime.core.api.processor.Processor;
 import org.mule.runtime.core.api.processor.ReactiveProcessor;
 import org.mule.runtime.core.api.processor.Sink;
@@ -47,6 +56,7 @@ import org.mule.runtime.core.api.source.MessageSource;
 import org.mule.runtime.core.api.util.func.CheckedRunnable;
 import org.mule.runtime.core.internal.context.MuleContextWithRegistry;
 import org.mule.runtime.core.internal.exception.MessagingException;
+import org.mule.runtime.core.internal.processor.strategy.AbstractProcessingStrategy;
 import org.mule.runtime.core.internal.processor.strategy.DirectProcessingStrategyFactory;
 import org.mule.runtime.core.privileged.event.BaseEventContext;
 import org.mule.runtime.core.privileged.processor.MessageProcessorBuilder;
@@ -58,6 +68,7 @@ import org.mule.runtime.core.privileged.registry.RegistrationException;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -87,6 +98,8 @@ public abstract class AbstractPipeline extends AbstractFlowConstruct implements
   private Sink sink;
   private final int maxConcurrency;
   private final ComponentInitialStateManager componentInitialStateManager;
+  private final BackPressureStatistics backPressureStatistics;
+  private final AtomicInteger inFlightEvents = new AtomicInteger();
 
   public AbstractPipeline(String name, MuleContext muleContext, MessageSource source, List<Processor> processors,
                           Optional<FlowExceptionHandler> exceptionListener,
@@ -115,6 +128,12 @@ public abstract class AbstractPipeline extends AbstractFlowConstruct implements
     }
 
     processingStrategy = this.processingStrategyFactory.create(muleContext, getName());
+    final boolean statisticsEnabled = muleContext.getStatistics() != null && muleContext.getStatistics().isEnabled();
+    if (processingStrategy instanceof AbstractProcessingStrategy && statisticsEnabled) {
+      ((AbstractProcessingStrategy) processingStrategy)
+          .setStatistics(muleContext.getStatistics().getProcessingStrategyStatistics(getName()));
+    }
+    backPressureStatistics = statisticsEnabled ? muleContext.getStatistics().getBackPressureStatistics(getName()) : null;
     overloadErrorType = muleContext.getErrorTypeRepository().getErrorType(OVERLOAD).orElse(null);
   }
 
@@ -261,13 +280,18 @@ public abstract class AbstractPipeline extends AbstractFlowConstruct implements
 
   private Consumer<CoreEvent> beforeProcessors() {
     return event -> {
+      final LatencyHistogram latencyHistogram;
       if (getStatistics().isEnabled()) {
         getStatistics().incReceivedEvents();
+        latencyHistogram = muleContext.getStatistics().getFlowLatencyHistogram(getName());
+      } else {
+        latencyHistogram = null;
       }
       notificationFirer.dispatch(new PipelineMessageNotification(createInfo(event, null, AbstractPipeline.this),
                                                                  AbstractPipeline.this.getName(), PROCESS_START));
 
       long startTime = currentTimeMillis();
+      long startNanos = latencyHistogram != null ? nanoTime() : 0;
 
       BaseEventContext baseEventContext = ((BaseEventContext) event.getContext());
       baseEventContext.onComplete((response, throwable) -> {
@@ -281,6 +305,9 @@ public abstract class AbstractPipeline extends AbstractFlowConstruct implements
         }
         fireCompleteNotification(response, messagingException);
         baseEventContext.getProcessingTime().ifPresent(time -> time.addFlowExecutionBranchTime(startTime));
+        if (latencyHistogram != null) {
+          latencyHistogram.record(nanoTime() - startNanos);
+        }
       });
     };
   }
@@ -405,6 +432,57 @@ public abstract class AbstractPipeline extends AbstractFlowConstruct implements
     return sink;
   }
 
+  /**
+   * Accounts for an event accepted by the {@link #getSink() sink}. Must be matched by a call to {@link #onEventCompleted()}.
+   * <p>
+   * Events in flight are always tracked, regardless of statistics being enabled, since listeners for
+   * {@link FlowBackPressureNotification}s may be registered at any time.
+   */
+  protected void onEventDispatched() {
+    inFlightEvents.incrementAndGet();
+  }
+
+  /**
+   * Accounts for the completion of an event previously accepted by the {@link #getSink() sink}.
+   */
+  protected void onEventCompleted() {
+    inFlightEvents.decrementAndGet();
+  }
+
+  /**
+   * @return why the {@link #getSink() sink} may have not accepted an event without failing: either the flow is processing as
+   *         many events as its {@link #getMaxConcurrency() maxConcurrency} allows, or else the events have accumulated in the
+   *         sink.
+   */
+  protected BackPressureReason getSinkFullReason() {
+    return inFlightEvents.get() >= maxConcurrency ? MAX_CONCURRENCY_EXCEEDED : EVENTS_ACCUMULATED;
+  }
+
+  /**
+   * Accounts for an event not accepted by this flow because of back-pressure, and fires a
+   * {@link FlowBackPressureNotification} if there is any listener for it.
+   *
+   * @param event the event that was not accepted.
+   * @param reason why the event was not accepted.
+   */
+  protected void onBackPressure(CoreEvent event, BackPressureReason reason) {
+    final ServerNotificationManager notificationManager = muleContext.getNotificationManager();
+    final boolean notify = notificationManager != null
+        && notificationManager.isNotificationEnabled(FlowBackPressureNotification.class);
+    if (backPressureStatistics == null && !notify) {
+      return;
+    }
+
+    final ComponentLocation originatingLocation = event.getContext().getOriginatingLocation();
+    final String sourceLocation = originatingLocation != null ? originatingLocation.getLocation() : getName();
+    if (backPressureStatistics != null) {
+      backPressureStatistics.record(sourceLocation, reason);
+    }
+    if (notify) {
+      notificationFirer.dispatch(new FlowBackPressureNotification(getName(), sourceLocation, reason));
+    }
+  }
+
   @Override
   public int getMaxConcurrency() {
     return maxConcurrency;
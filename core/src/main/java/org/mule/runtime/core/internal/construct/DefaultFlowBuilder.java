@@ -16,6 +16,7 @@ import static org.mule.runtime.api.util.Preconditions.checkArgument;
 import static org.mule.runtime.core.api.config.MuleProperties.COMPATIBILITY_PLUGIN_INSTALLED;
 import static org.mule.runtime.core.api.construct.Flow.INITIAL_STATE_STARTED;
 import static org.mule.runtime.core.api.event.EventContextFactory.create;
+import static org.mule.runtime.core.api.management.stats.BackPressureReason.REQUIRED_SCHEDULER_BUSY;
 import static org.mule.runtime.core.internal.construct.AbstractFlowConstruct.createFlowStatistics;
 import static org.mule.runtime.core.internal.construct.FlowBackPressureException.BACK_PRESSURE_ERROR_MESSAGE;
 import static org.mule.runtime.core.internal.event.DefaultEventContext.child;
@@ -294,6 +295,7 @@ public class DefaultFlowBuilder implements Builder {
         try {
           getSink().accept(request);
         } catch (RejectedExecutionException ree) {
+          onBackPressure(request, REQUIRED_SCHEDULER_BUSY);
           Throwable overloadException = new FlowBackPressureException(ree.getMessage(), ree);
           MessagingException me = new MessagingException(request, overloadException, this);
           ((BaseEventContext) request.getContext()).error(exceptionResolver.resolve(me, getMuleContext()));
@@ -314,6 +316,7 @@ public class DefaultFlowBuilder implements Builder {
           return flowResponse(request, responsePublisher, returnEventFromFlowMapper);
         } else {
           // If Event is not accepted and the back-pressure strategy is FAIL then respond to Source with an OVERLOAD error.
+          onBackPressure(request, getSinkFullReason());
           FlowBackPressureException rejectedExecutionException = new FlowBackPressureException(getName());
           PrivilegedEvent result = (PrivilegedEvent) returnEventFromFlowMapper.apply(PrivilegedEvent
               .builder(request)
@@ -331,7 +334,9 @@ public class DefaultFlowBuilder implements Builder {
 
     private Mono<? extends CoreEvent> flowResponse(CoreEvent event, Publisher<CoreEvent> responsePublisher,
                                                    BiFunction<CoreEvent, CoreEvent, CoreEvent> returnEventFromFlowMapper) {
+      onEventDispatched();
       return Mono.from(responsePublisher)
+          .doFinally(signal -> onEventCompleted())
           .cast(PrivilegedEvent.class)
           .map(r -> {
             return returnEventFromFlowMapper.apply(r, event);
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.construct;
+
+import static java.lang.String.format;
+
+import org.mule.runtime.api.notification.CustomNotification;
+import org.mule.runtime.core.api.management.stats.BackPressureReason;
+
+/**
+ * Custom notification fired when a {@link org.mule.runtime.core.api.construct.Flow} doesn't accept an event dispatched by a
+ * source because of back-pressure.
+ *
+ * @since 4.2
+ */
+public class FlowBackPressureNotification extends CustomNotification {
+
+  private static final long serialVersionUID = -2377845094283741163L;
+
+  private static final int FLOW_BACK_PRESSURE_ACTION_BASE = (CUSTOM_EVENT_ACTION_START_RANGE + 5) * 5;
+  private static int ACTION_INDEX = 0;
+
+  public static final int EVENT_REJECTED = ++ACTION_INDEX + FLOW_BACK_PRESSURE_ACTION_BASE;
+
+  static {
+    registerAction("Event rejected by back-pressure", EVENT_REJECTED);
+  }
+
+  private final String flowName;
+  private final String sourceLocation;
+  private final BackPressureReason reason;
+
+  public FlowBackPressureNotification(String flowName, String sourceLocation, BackPressureReason reason) {
+    super(null, EVENT_REJECTED);
+    this.flowName = flowName;
+    this.sourceLocation = sourceLocation;
+    this.reason = reason;
+    this.resourceIdentifier = flowName;
+  }
+
+  /**
+   * @return the name of the flow that didn't accept the event.
+   */
+  public String getFlowName() {
+    return flowName;
+  }
+
+  /**
+   * @return the location of the source that dispatched the event.
+   */
+  public String getSourceLocation() {
+    return sourceLocation;
+  }
+
+  /**
+   * @return why the event was not accepted.
+   */
+  public BackPressureReason getReason() {
+    return reason;
+  }
+
+  @Override
+  public String toString() {
+    return format("%s {action=%s, resourceId=%s, source=%s, reason=%s, timestamp=%s}", getEventName(), getActionName(action),
+                  resourceIdentifier, sourceLocation, reason, timestamp);
+  }
+
+  @Override
+  public String getEventName() {
+    return "FlowBackPressureNotification";
+  }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.context.notification;
+
+import static java.lang.Integer.getInteger;
+import static java.lang.Integer.highestOneBit;
+import static java.lang.Math.max;
+import static java.lang.System.getProperty;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.notification.Notification;
+import org.mule.runtime.api.notification.NotificationListener;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.management.stats.NotificationListenerStatistics;
+
+import org.slf4j.Logger;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Delivers asynchronous notifications to a single {@link NotificationListener}.
+ * <p>
+ * Notifications are put in a bounded ring buffer that many threads may write to, and are delivered in batches by a single
+ * consumer task. At most one such task per listener is submitted to the scheduler at any time, so a slow listener doesn't flood
+ * the schedulers shared with message processing.
+ * <p>
+ * When the buffer is full, notifications are either dropped and counted or the firing thread waits for space, depending on the
+ * {@link OverflowPolicy} configured through {@link #OVERFLOW_POLICY_PROPERTY}. Dropped notifications and failures to schedule
+ * the delivery are logged as warnings at most once every {@link #WARN_INTERVAL_MILLIS}, so a flooded listener doesn't flood
+ * the log as well.
+ *
+ * @since 4.2
+ */
+public final class AsyncNotificationListenerDispatcher implements NotificationListenerStatistics {
+
+  private static final Logger LOGGER = getLogger(AsyncNotificationListenerDispatcher.class);
+
+  /**
+   * Size of the buffer of pending notifications for each listener. Rounded down to a power of 2.
+   */
+  public static final String BUFFER_SIZE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "notifications.async.bufferSize";
+
+  /**
+   * What to do with notifications for a listener which buffer is full. One of {@link OverflowPolicy}.
+   */
+  public static final String OVERFLOW_POLICY_PROPERTY = SYSTEM_PROPERTY_PREFIX + "notifications.async.overflowPolicy";
+
+  /**
+   * Maximum amount of notifications delivered by a consumer task before giving its thread back to the scheduler.
+   */
+  public static final String BATCH_SIZE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "notifications.async.batchSize";
+
+  private static final int BUFFER_SIZE = highestOneBit(max(2, getInteger(BUFFER_SIZE_PROPERTY, 1024)));
+  private static final OverflowPolicy OVERFLOW_POLICY =
+      OverflowPolicy.valueOf(getProperty(OVERFLOW_POLICY_PROPERTY, OverflowPolicy.DROP.name()).toUpperCase());
+  private static final int BATCH_SIZE = max(1, getInteger(BATCH_SIZE_PROPERTY, 256));
+
+  /**
+   * Minimum time between warnings logged for each listener, in milliseconds.
+   */
+  static final long WARN_INTERVAL_MILLIS = 60000;
+  private static final long WARN_INTERVAL_NANOS = MILLISECONDS.toNanos(WARN_INTERVAL_MILLIS);
+
+  /**
+   * What to do when a notification is fired for a listener which buffer is full.
+   */
+  public enum OverflowPolicy {
+    /**
+     * The notification is discarded, and counted in {@link #getDroppedCount()}. A warning with the amount of notifications
+     * dropped so far is logged, rate limited.
+     */
+    DROP,
+
+    /**
+     * The thread firing the notification waits until there is space in the buffer.
+     */
+    BLOCK
+  }
+
+  private final NotificationListener listener;
+  private final Scheduler scheduler;
+  private final OverflowPolicy overflowPolicy;
+  private final int mask;
+
+  // Bounded MPSC ring buffer. Each slot has a sequence that tells whether it is free to be written to or ready to be read.
+  private final AtomicReferenceArray<Notification> buffer;
+  private final AtomicLongArray sequences;
+  private final AtomicLongArray enqueueTimes;
+  private final AtomicLong tail = new AtomicLong();
+  private volatile long head = 0;
+
+  private final AtomicBoolean consumerScheduled = new AtomicBoolean(false);
+  private final Runnable consumer = this::consume;
+  private volatile boolean disposed = false;
+
+  private final LongAdder dropped = new LongAdder();
+  private final AtomicLong lastDropWarnNanos = new AtomicLong(nanoTime() - WARN_INTERVAL_NANOS);
+  private final AtomicLong lastRejectionWarnNanos = new AtomicLong(nanoTime() - WARN_INTERVAL_NANOS);
+  private final LongAdder delivered = new LongAdder();
+  private volatile long lastLagNanos = 0;
+  private final AtomicLong maxLagNanos = new AtomicLong();
+
+  public AsyncNotificationListenerDispatcher(NotificationListener listener, Scheduler scheduler) {
+    this(listener, scheduler, BUFFER_SIZE, OVERFLOW_POLICY);
+  }
+
+  AsyncNotificationListenerDispatcher(NotificationListener listener, Scheduler scheduler, int bufferSize,
+                                      OverflowPolicy overflowPolicy) {
+    this.listener = listener;
+    this.scheduler = scheduler;
+    this.overflowPolicy = overflowPolicy;
+    this.mask = bufferSize - 1;
+    this.buffer = new AtomicReferenceArray<>(bufferSize);
+    this.sequences = new AtomicLongArray(bufferSize);
+    this.enqueueTimes = new AtomicLongArray(bufferSize);
+    for (int i = 0; i < bufferSize; ++i) {
+      sequences.set(i, i);
+    }
+  }
+
+  /**
+   * Enqueues a notification to be delivered to the listener.
+   *
+   * @param notification the notification to deliver.
+   */
+  public void dispatch(Notification notification) {
+    if (disposed) {
+      return;
+    }
+
+    while (!offer(notification)) {
+      if (overflowPolicy == OverflowPolicy.DROP) {
+        dropped.increment();
+        if (shouldWarn(lastDropWarnNanos)) {
+          LOGGER.warn("Notification buffer for listener {} full. {} notifications dropped so far. Set '{}' to {} to wait for"
+              + " space instead.", listener, getDroppedCount(), OVERFLOW_POLICY_PROPERTY, OverflowPolicy.BLOCK);
+        } else if (LOGGER.isDebugEnabled()) {
+          LOGGER.debug("Notification buffer for listener {} full. Dropping notification {}.", listener, notification);
+        }
+        return;
+      }
+
+      scheduleConsumer();
+      parkNanos(1000);
+      if (disposed) {
+        return;
+      }
+    }
+
+    scheduleConsumer();
+  }
+
+  private boolean offer(Notification notification) {
+    while (true) {
+      final long position = tail.get();
+      final int index = (int) position & mask;
+      final long available = sequences.get(index) - position;
+      if (available == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          buffer.lazySet(index, notification);
+          enqueueTimes.lazySet(index, nanoTime());
+          sequences.set(index, position + 1);
+          return true;
+        }
+      } else if (available < 0) {
+        // The consumer has not yet read the notification written in this slot a whole lap before
+        return false;
+      }
+    }
+  }
+
+  private Notification poll() {
+    final long position = head;
+    final int index = (int) position & mask;
+    if (sequences.get(index) != position + 1) {
+      return null;
+    }
+
+    final Notification notification = buffer.get(index);
+    final long lag = nanoTime() - enqueueTimes.get(index);
+    buffer.lazySet(index, null);
+    sequences.set(index, position + mask + 1);
+    head = position + 1;
+
+    lastLagNanos = lag;
+    long currentMax = maxLagNanos.get();
+    while (lag > currentMax && !maxLagNanos.compareAndSet(currentMax, lag)) {
+      currentMax = maxLagNanos.get();
+    }
+    return notification;
+  }
+
+  private void scheduleConsumer() {
+    if (consumerScheduled.compareAndSet(false, true)) {
+      try {
+        scheduler.submit(consumer);
+      } catch (RejectedExecutionException e) {
+        consumerScheduled.set(false);
+        if (shouldWarn(lastRejectionWarnNanos)) {
+          LOGGER.warn("Could not schedule delivery of notifications to listener " + listener, e);
+        } else if (LOGGER.isDebugEnabled()) {
+          LOGGER.debug("Could not schedule delivery of notifications to listener " + listener, e);
+        }
+      }
+    }
+  }
+
+  private static boolean shouldWarn(AtomicLong lastWarnNanos) {
+    final long now = nanoTime();
+    final long lastWarn = lastWarnNanos.get();
+    return now - lastWarn >= WARN_INTERVAL_NANOS && lastWarnNanos.compareAndSet(lastWarn, now);
+  }
+
+  private void consume() {
+    try {
+      Notification notification;
+      int deliveredInBatch = 0;
+      while (deliveredInBatch < BATCH_SIZE && !disposed && (notification = poll()) != null) {
+        try {
+          listener.onNotification(notification);
+        } catch (Throwable t) {
+          LOGGER.info("NotificationListener {} was unable to fire notification {} due to an exception: {}.", listener,
+                      notification, t);
+        }
+        ++deliveredInBatch;
+      }
+      delivered.add(deliveredInBatch);
+    } finally {
+      consumerScheduled.set(false);
+    }
+
+    // Notifications may have been enqueued after the last poll, or the batch limit was reached
+    if (!disposed && getPendingCount() > 0) {
+      scheduleConsumer();
+    }
+  }
+
+  /**
+   * Stops delivering notifications to the listener. Pending notifications are discarded.
+   */
+  public void dispose() {
+    disposed = true;
+  }
+
+  @Override
+  public NotificationListener getListener() {
+    return listener;
+  }
+
+  @Override
+  public long getPendingCount() {
+    return max(0, tail.get() - head);
+  }
+
+  @Override
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+
+  @Override
+  public long getDeliveredCount() {
+    return delivered.sum();
+  }
+
+  @Override
+  public long getLastLagNanos() {
+    return lastLagNanos;
+  }
+
+  @Override
+  public long getMaxLagNanos() {
+    return maxLagNanos.get();
+  }
+}
@@ -91,6 +91,19 @@ public class Configuration {
     listenerSubscriptionPairs.removeAll(toRemove);
   }
 
+  /**
+   * @param listener the listener to look for.
+   * @return whether there is any subscription for the given listener.
+   */
+  public synchronized boolean containsListener(NotificationListener listener) {
+    for (ListenerSubscriptionPair pair : listenerSubscriptionPairs) {
+      if (pair.getListener().equals(listener)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   synchronized void removeAllListeners(Collection listeners) {
     dirty = true;
     for (Iterator listener = listeners.iterator(); listener.hasNext();) {
@@ -15,14 +15,19 @@ import org.mule.runtime.core.api.context.notification.FlowStackElement;
 
 import org.slf4j.Logger;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.EmptyStackException;
 import java.util.List;
-import java.util.Stack;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Keeps context information about the executing flows and its callers in order to provide augmented troubleshooting information
  * for an application developer.
+ * <p>
+ * The stack is kept as a linked list of frames which top is updated atomically, so no locking is needed to push or pop. Updating
+ * the processor being executed in the top-most flow doesn't allocate, and the {@link FlowStackElement}s are only built when the
+ * stack is actually read.
  */
 public class DefaultFlowCallStack implements FlowCallStack {
 
@@ -30,7 +35,7 @@ public class DefaultFlowCallStack implements FlowCallStack {
 
   private static final Logger LOGGER = getLogger(DefaultFlowCallStack.class);
 
-  private Stack<FlowStackElement> innerStack = new Stack<>();
+  private final AtomicReference<Frame> top = new AtomicReference<>();
 
   /**
    * Adds an element to the top of this stack
@@ -41,22 +46,27 @@ public class DefaultFlowCallStack implements FlowCallStack {
     if (LOGGER.isTraceEnabled()) {
       LOGGER.trace("push ({}): {}", identityHashCode(this), flowStackElement.toString());
     }
-    innerStack.push(flowStackElement);
+
+    Frame current;
+    Frame pushed;
+    do {
+      current = top.get();
+      pushed = new Frame(flowStackElement.getFlowName(), flowStackElement.getProcessorPath(), current);
+    } while (!top.compareAndSet(current, pushed));
   }
 
   /**
    * Adds a message processor path to the list of processors that were invoked as part of the processing of this stack's event.
    *
    * @param processorPath the path to mark as invoked.
-   * @throws EmptyStackException if this stack is empty.
    */
   public void setCurrentProcessorPath(String processorPath) {
-    if (!innerStack.empty()) {
+    final Frame current = top.get();
+    if (current != null) {
       if (LOGGER.isTraceEnabled()) {
         LOGGER.trace("setCurrentProcessorPath({}): {}", identityHashCode(this), processorPath);
       }
-      FlowStackElement topElement = innerStack.pop();
-      innerStack.push(new FlowStackElement(topElement.getFlowName(), processorPath));
+      current.processorPath = processorPath;
     }
   }
 
@@ -67,7 +77,15 @@ public class DefaultFlowCallStack implements FlowCallStack {
    * @throws EmptyStackException if this stack is empty.
    */
   public FlowStackElement pop() {
-    FlowStackElement element = innerStack.pop();
+    Frame current;
+    do {
+      current = top.get();
+      if (current == null) {
+        throw new EmptyStackException();
+      }
+    } while (!top.compareAndSet(current, current.next));
+
+    FlowStackElement element = current.toElement();
     if (LOGGER.isTraceEnabled()) {
       LOGGER.trace("pop({}): {}", identityHashCode(this), element.toString());
     }
@@ -77,8 +95,8 @@ public class DefaultFlowCallStack implements FlowCallStack {
   @Override
   public List<FlowStackElement> getElements() {
     List<FlowStackElement> elementsCloned = new ArrayList<>();
-    for (int i = innerStack.size() - 1; i >= 0; --i) {
-      elementsCloned.add(innerStack.get(i));
+    for (Frame frame = top.get(); frame != null; frame = frame.next) {
+      elementsCloned.add(frame.toElement());
     }
     return elementsCloned;
   }
@@ -86,22 +104,50 @@ public class DefaultFlowCallStack implements FlowCallStack {
   @Override
   public DefaultFlowCallStack clone() {
     DefaultFlowCallStack cloned = new DefaultFlowCallStack();
-    for (int i = 0; i < innerStack.size(); ++i) {
-      cloned.innerStack.push(innerStack.get(i));
+    cloned.top.set(copy(top.get()));
+    return cloned;
+  }
+
+  private static Frame copy(Frame frame) {
+    if (frame == null) {
+      return null;
     }
 
-    return cloned;
+    // Frames are copied since the processor path is updated in place, but the stack depth is small enough for recursion
+    return new Frame(frame.flowName, frame.processorPath, copy(frame.next));
   }
 
   @Override
   public String toString() {
     StringBuilder stackString = new StringBuilder();
-    for (int i = innerStack.size() - 1; i >= 0; --i) {
-      stackString.append("at ").append(innerStack.get(i).toString());
-      if (i != 0) {
+    for (Frame frame = top.get(); frame != null; frame = frame.next) {
+      stackString.append("at ").append(frame.toElement().toString());
+      if (frame.next != null) {
         stackString.append(lineSeparator());
       }
     }
     return stackString.toString();
   }
+
+  /**
+   * The execution of a flow within this stack.
+   */
+  private static final class Frame implements Serializable {
+
+    private static final long serialVersionUID = 3398563453726411340L;
+
+    private final String flowName;
+    private volatile String processorPath;
+    private final Frame next;
+
+    private Frame(String flowName, String processorPath, Frame next) {
+      this.flowName = flowName;
+      this.processorPath = processorPath;
+      this.next = next;
+    }
+
+    private FlowStackElement toElement() {
+      return new FlowStackElement(flowName, processorPath);
+    }
+  }
 }
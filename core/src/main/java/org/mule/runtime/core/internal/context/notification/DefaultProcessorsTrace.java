@@ -6,35 +6,137 @@
  */
 package org.mule.runtime.core.internal.context.notification;
 
+import static java.lang.Integer.getInteger;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 
 import org.mule.runtime.core.api.context.notification.ProcessorsTrace;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Keeps context information about the message processors that were executed as part of the processing of an event.
+ * <p>
+ * The executed processors are kept in a ring buffer, so only the last {@link #CAPACITY} are kept. The buffer is allocated on the
+ * first processor added with {@link #INITIAL_CAPACITY} slots, and doubled as needed until it reaches {@link #CAPACITY}. Once
+ * grown, adding to it doesn't allocate nor lock. Callers are expected to pass canonical (i.e.: one per component) processor paths
+ * so the trace doesn't retain a copy of each path.
+ * <p>
+ * Only one out of every {@link #SAMPLING_RATE} events (chosen randomly) will actually keep its trace, so it is cheap enough to
+ * be kept enabled in high throughput scenarios.
  */
 public class DefaultProcessorsTrace implements ProcessorsTrace {
 
   private static final long serialVersionUID = 5327053121687733907L;
 
-  private final List<String> executedProcessors = new ArrayList<>();
+  /**
+   * Maximum amount of executed processors to keep for each event.
+   */
+  public static final int CAPACITY = max(1, getInteger(SYSTEM_PROPERTY_PREFIX + "flowTrace.processorsTrace.capacity", 1024));
+
+  /**
+   * Amount of executed processors the buffer of each event is allocated for, before having to grow it.
+   */
+  static final int INITIAL_CAPACITY = min(16, CAPACITY);
+
+  /**
+   * Keep the trace of one every this many events.
+   */
+  public static final int SAMPLING_RATE =
+      max(1, getInteger(SYSTEM_PROPERTY_PREFIX + "flowTrace.processorsTrace.samplingRate", 1));
+
+  private final boolean sampled = SAMPLING_RATE == 1 || ThreadLocalRandom.current().nextInt(SAMPLING_RATE) == 0;
+
+  private volatile AtomicReferenceArray<String> executedProcessors;
+  private final AtomicInteger executedCount = new AtomicInteger();
 
   /**
    * Adds a message processor path to the list of processors that were executed as part of the processing of this event.
-   * 
+   *
    * @param processorPath the path to mask as executed.
    */
-  public synchronized void addExecutedProcessors(String processorPath) {
-    executedProcessors.add(processorPath);
+  public void addExecutedProcessors(String processorPath) {
+    if (!sampled) {
+      return;
+    }
+
+    final int index = executedCount.getAndIncrement();
+    AtomicReferenceArray<String> buffer = getExecutedProcessorsBuffer(index);
+    buffer.set(index % buffer.length(), processorPath);
+    // A concurrent addition may have grown the buffer before this one was set, in which case it was not copied
+    while (executedProcessors != buffer) {
+      buffer = executedProcessors;
+      buffer.set(index % buffer.length(), processorPath);
+    }
+  }
+
+  private AtomicReferenceArray<String> getExecutedProcessorsBuffer(int index) {
+    AtomicReferenceArray<String> buffer = executedProcessors;
+    if (buffer == null || (index >= buffer.length() && buffer.length() < CAPACITY)) {
+      synchronized (this) {
+        buffer = executedProcessors;
+        if (buffer == null) {
+          buffer = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+          executedProcessors = buffer;
+        }
+        if (index >= buffer.length() && buffer.length() < CAPACITY) {
+          int length = buffer.length();
+          while (index >= length && length < CAPACITY) {
+            length = (int) min((long) length * 2, CAPACITY);
+          }
+          final AtomicReferenceArray<String> grown = new AtomicReferenceArray<>(length);
+          // Not wrapped yet, so each processor goes to the same slot in the grown buffer
+          for (int i = 0; i < buffer.length(); ++i) {
+            grown.set(i, buffer.get(i));
+          }
+          buffer = grown;
+          executedProcessors = buffer;
+        }
+      }
+    }
+    return buffer;
+  }
+
+  /**
+   * @return the amount of executed processors the buffer currently has room for.
+   */
+  int getBufferCapacity() {
+    final AtomicReferenceArray<String> buffer = executedProcessors;
+    return buffer == null ? 0 : buffer.length();
+  }
+
+  /**
+   * @return whether the executed processors are being kept for this event.
+   */
+  public boolean isSampled() {
+    return sampled;
   }
 
   @Override
-  public synchronized List<String> getExecutedProcessors() {
-    return unmodifiableList(executedProcessors);
+  public List<String> getExecutedProcessors() {
+    final AtomicReferenceArray<String> buffer = executedProcessors;
+    if (buffer == null) {
+      return emptyList();
+    }
+
+    final int count = executedCount.get();
+    final int size = min(count, buffer.length());
+    final List<String> processors = new ArrayList<>(size);
+    for (int i = count - size; i < count; ++i) {
+      final String processor = buffer.get(i % buffer.length());
+      // May be null if a concurrent addition got its index but didn't set it yet, or the buffer is being grown
+      if (processor != null) {
+        processors.add(processor);
+      }
+    }
+    return unmodifiableList(processors);
   }
 
 }
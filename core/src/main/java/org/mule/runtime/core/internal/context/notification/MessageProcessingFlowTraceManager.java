@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.core.internal.context.notification;
 
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.mule.runtime.core.api.config.DefaultMuleConfiguration.isFlowTrace;
@@ -30,6 +31,7 @@ import org.mule.runtime.core.internal.logging.LogConfigChangeSubject;
 import org.mule.runtime.core.privileged.event.BaseEventContext;
 import org.mule.runtime.core.privileged.execution.LocationExecutionContextProvider;
 
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.spi.LoggerContext;
 
@@ -49,6 +51,10 @@ public class MessageProcessingFlowTraceManager extends LocationExecutionContextP
 
   private MuleContext muleContext;
 
+  // The same representation instance is used for every execution of a given processor, so traces and stacks don't hold copies
+  private final LoadingCache<Component, String> processorRepresentations =
+      newBuilder().weakKeys().build(this::processorRepresentationOf);
+
   private volatile boolean listenersAdded = false;
   private PropertyChangeListener logConfigChangeListener = evt -> handleNotificationListeners();
 
@@ -113,12 +119,7 @@ public class MessageProcessingFlowTraceManager extends LocationExecutionContextP
    * @param notification the notification that contains the event and the processor that is about to be invoked.
    */
   public void onMessageProcessorNotificationPreInvoke(MessageProcessorNotification notification) {
-    String resolveProcessorRepresentation =
-        resolveProcessorRepresentation(muleContext.getConfiguration().getId(),
-                                       notification.getComponent().getLocation() != null
-                                           ? notification.getComponent().getLocation().getLocation()
-                                           : null,
-                                       notification.getComponent());
+    String resolveProcessorRepresentation = processorRepresentations.get(notification.getComponent());
 
     EventContext eventContext = notification.getEventContext();
     if (eventContext != null) {
@@ -132,6 +133,12 @@ public class MessageProcessingFlowTraceManager extends LocationExecutionContextP
     }
   }
 
+  private String processorRepresentationOf(Component component) {
+    return resolveProcessorRepresentation(muleContext.getConfiguration().getId(),
+                                          component.getLocation() != null ? component.getLocation().getLocation() : null,
+                                          component);
+  }
+
   /**
    * Callback method for when a flow or sub-flow called from a {@code flow-ref} component has been completed.
    *
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -28,16 +29,21 @@ import java.util.concurrent.ConcurrentMap;
 /**
  * For a particular configuration, this describes what events should be delivered where. It is read-only and a lazy instance is
  * cached by the {@link Configuration}
+ * <p>
+ * The {@link Sender}s for each concrete notification class are resolved the first time a notification of that class is
+ * dispatched, and kept in an array that is never modified afterwards. Since a new {@link Policy} is built whenever the
+ * configuration changes, dispatching a notification doesn't need to lock nor allocate.
  */
 public class Policy {
 
   private static final Logger LOGGER = getLogger(Policy.class);
 
+  private static final Sender[] NO_SENDERS = new Sender[0];
+
   // map from event to set of senders
   private Map<Class<? extends Notification>, Collection<Sender>> eventToSenders =
       new HashMap<>();
-  private Map<Class<? extends Notification>, Collection<Sender>> concreteEventToSenders =
-      new HashMap<>();
+  private final ConcurrentMap<Class<? extends Notification>, Sender[]> concreteEventToSenders = new ConcurrentHashMap<>();
 
   // these are cumulative - set values should never change, they are just a cache of known info
   // they are co and contra-variant wrt to exact event type (see code below).
@@ -96,59 +102,46 @@ public class Policy {
 
   public void dispatch(Notification notification, NotifierCallback notifier) {
     if (null != notification) {
-      Class notfnClass = notification.getClass();
-      Boolean eventKnown = knownEventsExact.get(notfnClass);
-      // search if we don't know about this event, or if we do know it is used
-      if (eventKnown == null) {
-        boolean found = doDispatch(notification, notfnClass, notifier);
-        knownEventsExact.put(notfnClass, Boolean.valueOf(found));
-      } else if (eventKnown.booleanValue()) {
-        boolean found = doDispatch(notification, notfnClass, notifier);
-        // reduce contention on the map by not writing the same value over and over again.
-        if (!found) {
-          knownEventsExact.put(notfnClass, Boolean.valueOf(found));
-        }
-      }
+      doDispatch(notification, notification.getClass(), notifier);
     }
   }
 
+  /**
+   * @param notfnClass the concrete class of a notification.
+   * @return whether there is any {@link Sender} that would deliver notifications of the given class.
+   */
+  public boolean hasSenders(Class<? extends Notification> notfnClass) {
+    return getSenders(notfnClass).length > 0;
+  }
+
   protected boolean doDispatch(Notification notification, Class<? extends Notification> notfnClass,
                                NotifierCallback notifier) {
-    boolean found = false;
-
-    // Optimization to avoid iterating the eventToSenders map each time a notification is fired
-    Collection<Sender> senders = concreteEventToSenders.get(notfnClass);
-    if (senders != null) {
-      found = true;
-      dispatchToSenders(notification, senders, notifier);
-    } else {
-      senders = concreteEventToSenders.get(notfnClass);
-      if (senders != null) {
-        dispatchToSenders(notification, senders, notifier);
-      } else {
-        senders = new ArrayList<>();
-        for (Entry<Class<? extends Notification>, Collection<Sender>> event : eventToSenders.entrySet()) {
-          if (event.getKey().isAssignableFrom(notfnClass)) {
-            found = true;
-            senders.addAll(event.getValue());
-            dispatchToSenders(notification, senders, notifier);
-          }
-        }
-        concreteEventToSenders.putIfAbsent(notfnClass, senders);
+    final Sender[] senders = getSenders(notfnClass);
+    for (int i = 0; i < senders.length; ++i) {
+      try {
+        senders[i].dispatch(notification, notifier);
+      } catch (Throwable e) {
+        LOGGER.info("NotificationListener {} was unable to fire notification {} due to an exception: {}.",
+                    senders[i].getListener(), notification, e);
       }
     }
-    return found;
+    return senders.length > 0;
   }
 
-  private void dispatchToSenders(Notification notification, Collection<Sender> senders, NotifierCallback notifier) {
-    for (Sender sender : senders) {
-      try {
-        sender.dispatch(notification, notifier);
-      } catch (Throwable e) {
-        LOGGER.info("NotificationListener {} was unable to fire notification {} due to an exception: {}.", sender.getListener(),
-                    notification, e);
+  private Sender[] getSenders(Class<? extends Notification> notfnClass) {
+    final Sender[] senders = concreteEventToSenders.get(notfnClass);
+    return senders != null ? senders : concreteEventToSenders.computeIfAbsent(notfnClass, this::resolveSenders);
+  }
+
+  private Sender[] resolveSenders(Class<? extends Notification> notfnClass) {
+    final List<Sender> senders = new ArrayList<>();
+    for (Entry<Class<? extends Notification>, Collection<Sender>> event : eventToSenders.entrySet()) {
+      if (event.getKey().isAssignableFrom(notfnClass)) {
+        senders.addAll(event.getValue());
       }
     }
+    knownEventsExact.put(notfnClass, !senders.isEmpty());
+    return senders.isEmpty() ? NO_SENDERS : senders.toArray(new Sender[senders.size()]);
   }
 
   /**
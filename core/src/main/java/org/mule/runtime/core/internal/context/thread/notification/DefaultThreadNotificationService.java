@@ -14,6 +14,7 @@ import org.mule.runtime.api.scheduler.SchedulerService;
 import org.mule.runtime.api.util.Pair;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.context.thread.notification.ThreadNotificationService;
+import org.mule.runtime.core.api.management.stats.LatencySnapshot;
 
 import javax.inject.Inject;
 import java.util.Arrays;
@@ -68,24 +69,26 @@ public class DefaultThreadNotificationService implements ThreadNotificationServi
   public String getNotification() {
     String msg = "";
     for (Pair<String, String> transition : stats.getPossibleTransitions()) {
-      msg += getNotificationFor(transition);
+      msg += getNotificationFor(transition, stats.getSnapshot(transition));
     }
     return msg;
   }
 
-  private String getNotificationFor(Pair<String, String> transition) {
-    String count = formattedNumber(stats.getCount(transition));
-    String mean = formattedNumber(stats.getMean(transition));
-    String std = formattedNumber(stats.getStdDeviation(transition));
-    String percentile = formattedNumber(stats.percentile(transition, 0.9));
+  private String getNotificationFor(Pair<String, String> transition, LatencySnapshot snapshot) {
+    String count = formattedNumber(snapshot.getCount());
+    String mean = formattedNumber(snapshot.getMean());
+    String std = formattedNumber(snapshot.getStdDeviation());
+    String percentile = formattedNumber(snapshot.getValueAtPercentile(90));
+    String p99 = formattedNumber(snapshot.getP99());
 
-    Function<String, String> pad = getPad(count, mean, std, percentile);
+    Function<String, String> pad = getPad(count, mean, std, percentile, p99);
 
     String msg = newLine + "Stats for transition " + transition.getFirst() + " - " + transition.getSecond() + newLine;
     msg += " Transitions count: " + pad.apply(count) + newLine;
     msg += "              Mean: " + pad.apply(mean) + " nSecs" + newLine;
     msg += "Standard Deviation: " + pad.apply(std) + " nSecs" + newLine;
     msg += "    Percentile 90%: " + pad.apply(percentile) + " nSecs" + newLine;
+    msg += "    Percentile 99%: " + pad.apply(p99) + " nSecs" + newLine;
     return msg;
   }
 
@@ -96,10 +99,15 @@ public class DefaultThreadNotificationService implements ThreadNotificationServi
 
   private void logStats() {
     for (Pair<String, String> transition : stats.getPossibleTransitions()) {
+      // Each report only accounts for the thread switches measured since the previous one
+      LatencySnapshot snapshot = stats.getIntervalSnapshot(transition);
+      if (snapshot.getCount() == 0) {
+        continue;
+      }
       // We set this to warn logging level because the entire pipeline is already created, so even if the
       // logging level changes, the pipeline should be defined using a system property (the ThreadNotificationLogger
       // needs to know whether to add logging phases or not).
-      REPORT_LOGGER.warn(getNotificationFor(transition));
+      REPORT_LOGGER.warn(getNotificationFor(transition, snapshot));
     }
   }
 
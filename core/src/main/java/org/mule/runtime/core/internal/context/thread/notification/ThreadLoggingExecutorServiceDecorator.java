@@ -25,16 +25,23 @@ import java.util.concurrent.TimeUnit;
 public class ThreadLoggingExecutorServiceDecorator implements ExecutorService {
 
   private ExecutorService delegate;
-  private Optional<ThreadNotificationLogger> threadNotificationLogger;
+  private ThreadNotificationLogger threadNotificationLogger;
   private String eventId;
 
   public ThreadLoggingExecutorServiceDecorator(Optional<ThreadNotificationLogger> logger, ExecutorService delegate,
                                                String eventId) {
     this.delegate = delegate;
-    this.threadNotificationLogger = logger;
+    this.threadNotificationLogger = logger.orElse(null);
     this.eventId = eventId;
   }
 
+  private void logStartingThread() {
+    // Avoid capturing lambdas here, this is called for every task
+    if (threadNotificationLogger != null) {
+      threadNotificationLogger.setStartingThread(eventId);
+    }
+  }
+
   @Override
   public void shutdown() {
     this.delegate.shutdown();
@@ -62,51 +69,51 @@ public class ThreadLoggingExecutorServiceDecorator implements ExecutorService {
 
   @Override
   public <T> Future<T> submit(Callable<T> task) {
-    threadNotificationLogger.ifPresent(logger -> logger.setStartingThread(eventId));
+    logStartingThread();
     return delegate.submit(task);
   }
 
   @Override
   public <T> Future<T> submit(Runnable task, T result) {
-    threadNotificationLogger.ifPresent(logger -> logger.setStartingThread(eventId));
+    logStartingThread();
     return delegate.submit(task, result);
   }
 
   @Override
   public Future<?> submit(Runnable task) {
-    threadNotificationLogger.ifPresent(logger -> logger.setStartingThread(eventId));
+    logStartingThread();
     return delegate.submit(task);
   }
 
   @Override
   public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
-    threadNotificationLogger.ifPresent(logger -> logger.setStartingThread(eventId));
+    logStartingThread();
     return delegate.invokeAll(tasks);
   }
 
   @Override
   public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
       throws InterruptedException {
-    threadNotificationLogger.ifPresent(logger -> logger.setStartingThread(eventId));
+    logStartingThread();
     return delegate.invokeAll(tasks, timeout, unit);
   }
 
   @Override
   public <T> T invokeAny(Collection<? extends Callable<T>> tasks) throws InterruptedException, ExecutionException {
-    threadNotificationLogger.ifPresent(logger -> logger.setStartingThread(eventId));
+    logStartingThread();
     return delegate.invokeAny(tasks);
   }
 
   @Override
   public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
       throws InterruptedException, ExecutionException, TimeoutException {
-    threadNotificationLogger.ifPresent(logger -> logger.setStartingThread(eventId));
+    logStartingThread();
     return delegate.invokeAny(tasks, timeout, unit);
   }
 
   @Override
   public void execute(Runnable command) {
-    threadNotificationLogger.ifPresent(logger -> logger.setStartingThread(eventId));
+    logStartingThread();
     delegate.execute(command);
   }
 }
@@ -6,24 +6,92 @@
  */
 package org.mule.runtime.core.internal.context.thread.notification;
 
+import static java.lang.Integer.getInteger;
+import static java.lang.Math.max;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+
 import org.mule.runtime.core.api.context.thread.notification.ThreadNotificationService;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Measures the latency of the thread switches an event goes through, reporting them to a {@link ThreadNotificationService}.
+ * <p>
+ * Only 1 in every {@link #SAMPLING_RATE_PROPERTY} events is measured, and at most {@link #MAX_SAMPLES_PER_SECOND_PROPERTY}
+ * thread switches are measured each second, so this may be enabled in production. Nothing is allocated for events or thread
+ * switches that are not sampled.
+ */
 public class ThreadNotificationLogger {
 
   public static final String THREAD_NOTIFICATION_LOGGER_CONTEXT_KEY = "mule.nb.ThreadNotificationLogger";
 
+  /**
+   * Measure the thread switches of 1 in every this many events. Defaults to 1, measuring all events.
+   */
+  public static final String SAMPLING_RATE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "threadLogging.samplingRate";
+
+  /**
+   * Maximum amount of thread switches to measure per second. Defaults to 0, meaning no limit.
+   */
+  public static final String MAX_SAMPLES_PER_SECOND_PROPERTY = SYSTEM_PROPERTY_PREFIX + "threadLogging.maxSamplesPerSecond";
+
+  private static final int SAMPLING_RATE = max(1, getInteger(SAMPLING_RATE_PROPERTY, 1));
+  private static final int MAX_SAMPLES_PER_SECOND = max(0, getInteger(MAX_SAMPLES_PER_SECOND_PROPERTY, 0));
+
   private Map<String, DefaultThreadNotificationElement.Builder> threadNotificationBuilders = new ConcurrentHashMap<>();
   private ThreadNotificationService threadNotificationService;
   private ThreadLocal<Boolean> sameThread = new ThreadLocal<>();
   private boolean isThreadLoggingEnabled;
 
+  private final int samplingRate;
+  private final int maxSamplesPerSecond;
+  private volatile long currentSecond = -1;
+  private final AtomicInteger samplesInCurrentSecond = new AtomicInteger();
+
   public ThreadNotificationLogger(ThreadNotificationService threadNotificationService, boolean isThreadLoggingEnabled) {
+    this(threadNotificationService, isThreadLoggingEnabled, SAMPLING_RATE, MAX_SAMPLES_PER_SECOND);
+  }
+
+  ThreadNotificationLogger(ThreadNotificationService threadNotificationService, boolean isThreadLoggingEnabled,
+                           int samplingRate, int maxSamplesPerSecond) {
     this.threadNotificationService = threadNotificationService;
     sameThread.set(false);
     this.isThreadLoggingEnabled = isThreadLoggingEnabled;
+    this.samplingRate = samplingRate;
+    this.maxSamplesPerSecond = maxSamplesPerSecond;
+  }
+
+  /**
+   * Determines whether the thread switches of an event are to be measured with the default sampling rate. The decision depends
+   * only on the event id, so it is the same for all the thread switches of an event.
+   *
+   * @param eventId the id of the event to check.
+   * @return {@code true} if the thread switches of the event are to be measured.
+   */
+  public static boolean isSampledEvent(String eventId) {
+    return isSampledEvent(eventId, SAMPLING_RATE);
+  }
+
+  private static boolean isSampledEvent(String eventId, int samplingRate) {
+    return samplingRate == 1 || (eventId.hashCode() & Integer.MAX_VALUE) % samplingRate == 0;
+  }
+
+  private boolean tryAcquireSample() {
+    if (maxSamplesPerSecond == 0) {
+      return true;
+    }
+
+    final long second = SECONDS.convert(nanoTime(), NANOSECONDS);
+    if (second != currentSecond) {
+      currentSecond = second;
+      samplesInCurrentSecond.set(0);
+    }
+    return samplesInCurrentSecond.incrementAndGet() <= maxSamplesPerSecond;
   }
 
   public void setStartingThread(String eventId) {
@@ -31,12 +99,17 @@ public class ThreadNotificationLogger {
   }
 
   public void setStartingThread(String eventId, boolean avoidIfSet) {
-    if (!isThreadLoggingEnabled) {
+    if (!isThreadLoggingEnabled || !isSampledEvent(eventId, samplingRate)) {
       return;
     }
     if (avoidIfSet && threadNotificationBuilders.containsKey(eventId)) {
       return;
     }
+    if (!tryAcquireSample()) {
+      // Discard any start of a previous thread switch that didn't happen, so it is not taken as the start of this one
+      threadNotificationBuilders.remove(eventId);
+      return;
+    }
     sameThread.set(true);
     DefaultThreadNotificationElement.Builder builder = new DefaultThreadNotificationElement.Builder();
     builder.fromThread(Thread.currentThread());
@@ -44,7 +117,7 @@ public class ThreadNotificationLogger {
   }
 
   public void setFinishThread(String eventId) {
-    if (!isThreadLoggingEnabled) {
+    if (!isThreadLoggingEnabled || !isSampledEvent(eventId, samplingRate)) {
       return;
     }
     if (sameThread.get() != null && sameThread.get()) {
@@ -52,6 +125,10 @@ public class ThreadNotificationLogger {
       return;
     }
     DefaultThreadNotificationElement.Builder builder = threadNotificationBuilders.remove(eventId);
+    if (builder == null) {
+      // The start of this thread switch was not sampled
+      return;
+    }
     builder.toThread(Thread.currentThread());
     threadNotificationService.addThreadNotificationElement(builder.build());
   }
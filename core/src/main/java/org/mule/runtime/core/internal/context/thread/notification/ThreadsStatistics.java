@@ -8,72 +8,101 @@ package org.mule.runtime.core.internal.context.thread.notification;
 
 import static org.mule.runtime.core.api.context.thread.notification.ThreadNotificationService.ThreadNotificationElement;
 
-import org.apache.commons.math3.stat.StatUtils;
-import org.mule.runtime.api.util.MultiMap;
 import org.mule.runtime.api.util.Pair;
+import org.mule.runtime.core.api.management.stats.LatencyHistogram;
+import org.mule.runtime.core.api.management.stats.LatencySnapshot;
 
 import java.util.Collection;
 import java.util.Set;
-
-import static java.lang.Math.sqrt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Calculates Statistics from {@link ThreadNotificationElement}'s,
- * separated by the type of thread switch
+ * separated by the type of thread switch.
+ * <p>
+ * Latencies are aggregated without locking into a {@link LatencyHistogram} per transition, so memory usage doesn't grow with the
+ * amount of thread switches measured.
  *
  * @since 4.2
  */
 public class ThreadsStatistics {
 
-  private MultiMap<Pair<String, String>, Double> times = new MultiMap<>();
+  private static final LatencySnapshot EMPTY = new LatencyHistogram().getSnapshot();
+
+  private final ConcurrentMap<Pair<String, String>, LatencyHistogram> times = new ConcurrentHashMap<>();
 
-  public synchronized void addThreadNotificationElement(ThreadNotificationElement notification) {
+  public void addThreadNotificationElement(ThreadNotificationElement notification) {
     Pair<String, String> key = new Pair<>(notification.getFromThreadType(), notification.getToThreadType());
-    times.put(key, new Double(notification.getLatencyTime()));
+    LatencyHistogram histogram = times.get(key);
+    if (histogram == null) {
+      histogram = times.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+    histogram.record(notification.getLatencyTime());
   }
 
-  public synchronized void addThreadNotificationElements(Collection<ThreadNotificationElement> notifications) {
-    notifications.stream().forEach(notification -> addThreadNotificationElement(notification));
+  public void addThreadNotificationElements(Collection<ThreadNotificationElement> notifications) {
+    notifications.forEach(notification -> addThreadNotificationElement(notification));
   }
 
   public Set<Pair<String, String>> getPossibleTransitions() {
     return times.keySet();
   }
 
-  private double[] getTimes(String from, String to) {
-    return times.getAll(new Pair<>(from, to)).stream().mapToDouble(i -> i).toArray();
+  /**
+   * @param transition the pair of thread types of the transition.
+   * @return the latencies of all the measured thread switches for the given transition.
+   */
+  public LatencySnapshot getSnapshot(Pair<String, String> transition) {
+    LatencyHistogram histogram = times.get(transition);
+    return histogram == null ? EMPTY : histogram.getSnapshot();
+  }
+
+  /**
+   * @param transition the pair of thread types of the transition.
+   * @return the latencies of the thread switches for the given transition measured since the previous call to this method.
+   */
+  public LatencySnapshot getIntervalSnapshot(Pair<String, String> transition) {
+    LatencyHistogram histogram = times.get(transition);
+    return histogram == null ? EMPTY : histogram.getIntervalSnapshot();
   }
 
   public double getMean(String from, String to) {
-    return StatUtils.mean(getTimes(from, to));
+    return getMean(new Pair<>(from, to));
   }
 
   public double getStdDeviation(String from, String to) {
-    return sqrt(StatUtils.variance(getTimes(from, to)));
+    return getStdDeviation(new Pair<>(from, to));
   }
 
+  /**
+   * @param quantile the quantile to get the latency for, between {@code 0} and {@code 1}.
+   */
   public double percentile(String from, String to, double quantile) {
-    return StatUtils.percentile(getTimes(from, to), quantile);
+    return percentile(new Pair<>(from, to), quantile);
   }
 
   public int getCount(String from, String to) {
-    return getTimes(from, to).length;
+    return getCount(new Pair<>(from, to));
   }
 
   public int getCount(Pair<String, String> transition) {
-    return times.getAll(transition).size();
+    return (int) getSnapshot(transition).getCount();
   }
 
   public double getMean(Pair<String, String> transition) {
-    return getMean(transition.getFirst(), transition.getSecond());
+    return getSnapshot(transition).getMean();
   }
 
   public double getStdDeviation(Pair<String, String> transition) {
-    return getStdDeviation(transition.getFirst(), transition.getSecond());
+    return getSnapshot(transition).getStdDeviation();
   }
 
+  /**
+   * @param quantile the quantile to get the latency for, between {@code 0} and {@code 1}.
+   */
   public double percentile(Pair<String, String> transition, double quantile) {
-    return percentile(transition.getFirst(), transition.getSecond(), quantile);
+    return getSnapshot(transition).getValueAtPercentile(quantile * 100);
   }
 
   public void clear() {
@@ -6,9 +6,10 @@
  */
 package org.mule.runtime.core.internal.el.dataweave;
 
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
 import static java.lang.String.format;
+import static org.mule.runtime.api.el.BindingContextUtils.NULL_BINDING_CONTEXT;
 import static org.mule.runtime.api.el.BindingContextUtils.PAYLOAD;
-import static org.mule.runtime.api.el.BindingContextUtils.addEventBuindingsToBuilder;
 import static org.mule.runtime.api.el.BindingContextUtils.addFlowNameBindingsToBuilder;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.api.metadata.DataType.fromType;
@@ -42,6 +43,8 @@ import java.util.function.Function;
 
 import javax.inject.Inject;
 
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
 public class DataWeaveExpressionLanguageAdaptor implements ExtendedExpressionLanguageAdaptor {
 
   public static final String SERVER = "server";
@@ -51,6 +54,10 @@ public class DataWeaveExpressionLanguageAdaptor implements ExtendedExpressionLan
   private ExpressionLanguage expressionExecutor;
   private MuleContext muleContext;
 
+  // Component locations are immutable and there is one instance per component, so weak keys (identity) are enough here.
+  private final LoadingCache<ComponentLocation, BindingContext> locationBindingsCache =
+      newBuilder().weakKeys().build(location -> addFlowNameBindingsToBuilder(location, BindingContext.builder()).build());
+
   public static DataWeaveExpressionLanguageAdaptor create(MuleContext muleContext, Registry registry) {
     return new DataWeaveExpressionLanguageAdaptor(muleContext, registry,
                                                   registry.lookupByType(DefaultExpressionLanguageFactoryService.class).get());
@@ -211,14 +218,18 @@ public class DataWeaveExpressionLanguageAdaptor implements ExtendedExpressionLan
       return context;
     }
 
-    Builder contextBuilder;
+    // The bindings of the event are built lazily and reused by the event (and the events derived from it), so there is no need
+    // to build them again for each evaluation.
+    if (componentLocation == null && context == NULL_BINDING_CONTEXT) {
+      return event.asBindingContext();
+    }
+
+    Builder contextBuilder = BindingContext.builder(context);
     if (event != null) {
-      contextBuilder = addEventBuindingsToBuilder(event, context);
-    } else {
-      contextBuilder = BindingContext.builder(context);
+      contextBuilder.addAll(event.asBindingContext());
     }
     if (componentLocation != null) {
-      contextBuilder = addFlowNameBindingsToBuilder(componentLocation, contextBuilder);
+      contextBuilder.addAll(locationBindingsCache.get(componentLocation));
     }
     return contextBuilder.build();
   }
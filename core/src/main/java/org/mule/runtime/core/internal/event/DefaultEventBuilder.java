@@ -13,8 +13,13 @@ import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
 import static java.util.Optional.empty;
 import static java.util.Optional.ofNullable;
+import static org.mule.runtime.api.el.BindingContextUtils.ATTRIBUTES;
+import static org.mule.runtime.api.el.BindingContextUtils.DATA_TYPE;
+import static org.mule.runtime.api.el.BindingContextUtils.MESSAGE;
 import static org.mule.runtime.api.el.BindingContextUtils.NULL_BINDING_CONTEXT;
+import static org.mule.runtime.api.el.BindingContextUtils.PAYLOAD;
 import static org.mule.runtime.api.el.BindingContextUtils.addEventBindings;
+import static org.mule.runtime.api.metadata.DataType.fromType;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.cannotReadPayloadAsBytes;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.cannotReadPayloadAsString;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.objectIsNull;
@@ -44,6 +49,7 @@ import org.mule.runtime.core.internal.message.DefaultMessageBuilder;
 import org.mule.runtime.core.internal.message.InternalEvent;
 import org.mule.runtime.core.internal.message.InternalEvent.Builder;
 import org.mule.runtime.core.internal.message.InternalMessage;
+import org.mule.runtime.core.internal.metadata.CanonicalDataTypes;
 import org.mule.runtime.core.privileged.connector.DefaultReplyToHandler;
 import org.mule.runtime.core.privileged.connector.ReplyToHandler;
 import org.mule.runtime.core.privileged.event.BaseEventContext;
@@ -80,6 +86,8 @@ public class DefaultEventBuilder implements InternalEvent.Builder {
   private SecurityContext securityContext;
   private InternalEvent originalEvent;
   private boolean modified;
+  private boolean messageModified;
+  private boolean bindingsModified;
   private boolean notificationsEnabled = true;
 
   public DefaultEventBuilder(BaseEventContext messageContext) {
@@ -108,6 +116,8 @@ public class DefaultEventBuilder implements InternalEvent.Builder {
     this(event);
     this.context = messageContext;
     this.modified = true;
+    // The correlationId binding may depend on the event context
+    this.bindingsModified = true;
   }
 
   @Override
@@ -115,6 +125,7 @@ public class DefaultEventBuilder implements InternalEvent.Builder {
     requireNonNull(message);
     this.messageFactory = e -> message;
     this.modified = true;
+    this.messageModified = true;
     return this;
   }
 
@@ -123,6 +134,7 @@ public class DefaultEventBuilder implements InternalEvent.Builder {
     requireNonNull(messageFactory);
     this.messageFactory = messageFactory;
     this.modified = true;
+    this.messageModified = true;
     return this;
   }
 
@@ -134,8 +146,9 @@ public class DefaultEventBuilder implements InternalEvent.Builder {
 
   @Override
   public DefaultEventBuilder addVariable(String key, Object value) {
-    flowVariables.put(key, new TypedValue<>(value, DataType.fromObject(value)));
+    flowVariables.put(key, new TypedValue<>(value, CanonicalDataTypes.fromObject(value)));
     this.modified = true;
+    this.bindingsModified = true;
     return this;
 
   }
@@ -144,12 +157,16 @@ public class DefaultEventBuilder implements InternalEvent.Builder {
   public DefaultEventBuilder addVariable(String key, Object value, DataType dataType) {
     flowVariables.put(key, new TypedValue<>(value, dataType));
     this.modified = true;
+    this.bindingsModified = true;
     return this;
   }
 
   @Override
   public DefaultEventBuilder removeVariable(String key) {
-    this.modified = flowVariables.remove(key) != null || modified;
+    if (flowVariables.remove(key) != null) {
+      this.modified = true;
+      this.bindingsModified = true;
+    }
     return this;
   }
 
@@ -178,6 +195,7 @@ public class DefaultEventBuilder implements InternalEvent.Builder {
   public DefaultEventBuilder correlationId(String correlationId) {
     legacyCorrelationId = correlationId;
     this.modified = true;
+    this.bindingsModified = true;
     return this;
   }
 
@@ -191,6 +209,7 @@ public class DefaultEventBuilder implements InternalEvent.Builder {
   public DefaultEventBuilder itemSequenceInfo(Optional<ItemSequenceInfo> itemSequenceInfo) {
     this.itemSequenceInfo = itemSequenceInfo;
     this.modified = true;
+    this.bindingsModified = true;
     return this;
   }
 
@@ -198,6 +217,7 @@ public class DefaultEventBuilder implements InternalEvent.Builder {
   public DefaultEventBuilder error(Error error) {
     this.error = error;
     this.modified = true;
+    this.bindingsModified = true;
     return this;
   }
 
@@ -227,6 +247,7 @@ public class DefaultEventBuilder implements InternalEvent.Builder {
     SecurityContext originalValue = this.securityContext;
     this.securityContext = securityContext;
     this.modified = originalValue != securityContext;
+    this.bindingsModified = bindingsModified || originalValue != securityContext;
     return this;
   }
 
@@ -245,19 +266,23 @@ public class DefaultEventBuilder implements InternalEvent.Builder {
       Message message = messageFactory.apply(context);
       requireNonNull(message);
 
+      final InternalEventImplementation bindingsSource = !bindingsModified
+          && originalEvent instanceof InternalEventImplementation ? (InternalEventImplementation) originalEvent : null;
+
       return new InternalEventImplementation(context, message, flowVariables,
                                              internalParameters, session, securityContext, replyToDestination,
                                              replyToHandler, itemSequenceInfo, error,
                                              legacyCorrelationId,
-                                             notificationsEnabled);
+                                             notificationsEnabled, bindingsSource, messageModified);
     }
   }
 
   private void copyFromTo(Map<String, ?> source, Map<String, TypedValue<?>> target) {
     target.clear();
     source.forEach((s, o) -> target
-        .put(s, o instanceof TypedValue ? (TypedValue<Object>) o : new TypedValue<>(o, DataType.fromObject(o))));
+        .put(s, o instanceof TypedValue ? (TypedValue<Object>) o : new TypedValue<>(o, CanonicalDataTypes.fromObject(o))));
     this.modified = true;
+    this.bindingsModified = true;
   }
 
   /**
@@ -295,8 +320,16 @@ public class DefaultEventBuilder implements InternalEvent.Builder {
 
     private ItemSequenceInfo itemSequenceInfo;
 
-    private transient LazyValue<BindingContext> bindingContextBuilder =
-        new LazyValue<>(() -> addEventBindings(this, NULL_BINDING_CONTEXT));
+    /**
+     * The bindings of the whole event, as built by {@link org.mule.runtime.api.el.BindingContextUtils#addEventBindings}. This
+     * may be shared with the events this one was derived from, as long as none of the state those bindings depend on changed.
+     */
+    private transient LazyValue<BindingContext> eventBindingContext;
+    /**
+     * The bindings to expose for this event. When only the message changed with respect to the event this one was derived from,
+     * this overrides just the message related bindings on top of the shared {@link #eventBindingContext}.
+     */
+    private transient LazyValue<BindingContext> bindingContextBuilder;
 
     // Use this constructor from the builder
     private InternalEventImplementation(BaseEventContext context, Message message, Map<String, TypedValue<?>> variables,
@@ -304,7 +337,8 @@ public class DefaultEventBuilder implements InternalEvent.Builder {
                                         Object replyToDestination, ReplyToHandler replyToHandler,
                                         Optional<ItemSequenceInfo> itemSequenceInfo,
                                         Error error,
-                                        String legacyCorrelationId, boolean notificationsEnabled) {
+                                        String legacyCorrelationId, boolean notificationsEnabled,
+                                        InternalEventImplementation bindingsSource, boolean messageModified) {
       this.context = context;
       this.session = session;
       this.securityContext = securityContext;
@@ -320,6 +354,39 @@ public class DefaultEventBuilder implements InternalEvent.Builder {
       this.legacyCorrelationId = legacyCorrelationId;
 
       this.notificationsEnabled = notificationsEnabled;
+
+      if (bindingsSource == null) {
+        initBindingContext();
+      } else if (messageModified) {
+        final LazyValue<BindingContext> sourceEventBindings = bindingsSource.eventBindingContext;
+        this.eventBindingContext = sourceEventBindings;
+        this.bindingContextBuilder = new LazyValue<>(() -> withMessageBindings(sourceEventBindings.get(), this.message));
+      } else {
+        this.eventBindingContext = bindingsSource.eventBindingContext;
+        this.bindingContextBuilder = bindingsSource.bindingContextBuilder;
+      }
+    }
+
+    private void initBindingContext() {
+      eventBindingContext = new LazyValue<>(() -> addEventBindings(this, NULL_BINDING_CONTEXT));
+      bindingContextBuilder = eventBindingContext;
+    }
+
+    /**
+     * Creates a {@link BindingContext} that overrides the message related bindings from {@code eventBindings} with the ones
+     * for the given {@code message}, keeping all other bindings from {@code eventBindings}.
+     *
+     * @param eventBindings the bindings of an event that differs from the current one only in its message
+     * @param message the message of the current event
+     * @return the bindings for the current event
+     */
+    private static BindingContext withMessageBindings(BindingContext eventBindings, Message message) {
+      return BindingContext.builder(eventBindings)
+          .addBinding(MESSAGE, new TypedValue<>(message, fromType(Message.class)))
+          .addBinding(PAYLOAD, message.getPayload())
+          .addBinding(ATTRIBUTES, message.getAttributes())
+          .addBinding(DATA_TYPE, new TypedValue<>(message.getPayload().getDataType(), fromType(DataType.class)))
+          .build();
     }
 
     @Override
@@ -437,7 +504,7 @@ public class DefaultEventBuilder implements InternalEvent.Builder {
         }
       }
 
-      bindingContextBuilder = new LazyValue<>(() -> addEventBindings(this, NULL_BINDING_CONTEXT));
+      initBindingContext();
     }
 
     @Override
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.stats;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.move;
+import static java.nio.file.Files.newBufferedWriter;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import org.mule.runtime.core.api.management.stats.ProcessorProfile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Writes {@link ProcessorProfile}s in the collapsed stacks format used by flame graph tools (i.e.: {@code flamegraph.pl} or
+ * speedscope): one line per processor, with the frames from the flow down to the processor separated by {@code ;}, followed by
+ * a space and the value of the processor itself.
+ * <p>
+ * The frames of a processor are taken from its location, so {@code flow/processors/1/processors/0} becomes
+ * {@code flow;processors/1;processors/0}. Since the profile of a processor includes the values of the processors nested in it,
+ * those are subtracted so each line has just the value of the processor itself, as the format expects.
+ *
+ * @since 4.2
+ */
+public final class CollapsedStacksWriter {
+
+  private CollapsedStacksWriter() {
+    // Nothing to do
+  }
+
+  /**
+   * Writes the CPU time (in nanoseconds) and allocated bytes of the given profiles to the {@code processor-cpu.collapsed} and
+   * {@code processor-alloc.collapsed} files in the given directory, replacing them atomically.
+   *
+   * @param profiles the profiles to write, keyed by processor location.
+   * @param directory where to write the files.
+   * @throws IOException if the profiles could not be written.
+   */
+  public static void writeFiles(Map<String, ProcessorProfile> profiles, File directory) throws IOException {
+    createDirectories(directory.toPath());
+    writeFile(profiles, ProcessorProfile::getCpuTime, new File(directory, "processor-cpu.collapsed"));
+    writeFile(profiles, ProcessorProfile::getAllocatedBytes, new File(directory, "processor-alloc.collapsed"));
+  }
+
+  private static void writeFile(Map<String, ProcessorProfile> profiles, ToLongFunction<ProcessorProfile> value, File file)
+      throws IOException {
+    final Path tempFile = new File(file.getParentFile(), file.getName() + ".tmp").toPath();
+    try (Writer writer = newBufferedWriter(tempFile, UTF_8)) {
+      write(profiles, value, writer);
+    }
+    move(tempFile, file.toPath(), REPLACE_EXISTING, ATOMIC_MOVE);
+  }
+
+  /**
+   * @param profiles the profiles to write, keyed by processor location.
+   * @param value the value of each profile to write.
+   * @param writer where to write the profiles to.
+   * @throws IOException if the profiles could not be written.
+   */
+  public static void write(Map<String, ProcessorProfile> profiles, ToLongFunction<ProcessorProfile> value, Writer writer)
+      throws IOException {
+    final Map<String, Long> totals = new HashMap<>();
+    profiles.forEach((location, profile) -> totals.put(location, value.applyAsLong(profile)));
+
+    final Map<String, Long> selfValues = new TreeMap<>(totals);
+    for (Map.Entry<String, Long> total : totals.entrySet()) {
+      final String parent = nearestProfiledAncestor(total.getKey(), totals);
+      if (parent != null) {
+        selfValues.put(parent, selfValues.get(parent) - total.getValue());
+      }
+    }
+
+    for (Map.Entry<String, Long> selfValue : selfValues.entrySet()) {
+      // Nested processors that run on another thread are not accounted in their parent, so this may be negative
+      if (selfValue.getValue() > 0) {
+        writer.append(toFrames(selfValue.getKey())).append(' ').append(Long.toString(selfValue.getValue())).append('\n');
+      }
+    }
+  }
+
+  private static String nearestProfiledAncestor(String location, Map<String, Long> profiledLocations) {
+    int separator = location.lastIndexOf('/');
+    while (separator > 0) {
+      location = location.substring(0, separator);
+      if (profiledLocations.containsKey(location)) {
+        return location;
+      }
+      separator = location.lastIndexOf('/');
+    }
+    return null;
+  }
+
+  private static String toFrames(String location) {
+    final String[] parts = location.split("/");
+    final StringBuilder frames = new StringBuilder(location.length());
+    frames.append(sanitize(parts[0]));
+    for (int i = 1; i < parts.length; ++i) {
+      if (isIndex(parts[i])) {
+        frames.append('/').append(parts[i]);
+      } else {
+        frames.append(';').append(sanitize(parts[i]));
+      }
+    }
+    return frames.toString();
+  }
+
+  private static boolean isIndex(String part) {
+    if (part.isEmpty()) {
+      return false;
+    }
+    for (int i = 0; i < part.length(); ++i) {
+      if (!Character.isDigit(part.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String sanitize(String frame) {
+    return frame.replace(';', '_').replace(' ', '_');
+  }
+}
@@ -8,13 +8,13 @@ package org.mule.runtime.core.internal.management.stats;
 
 import org.mule.runtime.core.api.management.stats.ComponentStatistics;
 
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 public class DefaultFlowConstructStatistics extends AbstractFlowConstructStatistics {
 
   private static final long serialVersionUID = 5337576392583767442L;
-  private final AtomicLong executionError = new AtomicLong(0);
-  private final AtomicLong fatalError = new AtomicLong(0);
+  private final LongAdder executionError = new LongAdder();
+  private final LongAdder fatalError = new LongAdder();
   protected final ComponentStatistics flowStatistics = new ComponentStatistics();
 
   public DefaultFlowConstructStatistics(String flowConstructType, String name) {
@@ -35,12 +35,12 @@ public class DefaultFlowConstructStatistics extends AbstractFlowConstructStatist
 
   @Override
   public void incExecutionError() {
-    executionError.addAndGet(1);
+    executionError.increment();
   }
 
   @Override
   public void incFatalError() {
-    fatalError.addAndGet(1);
+    fatalError.increment();
   }
 
   /**
@@ -56,8 +56,8 @@ public class DefaultFlowConstructStatistics extends AbstractFlowConstructStatist
   public synchronized void clear() {
     super.clear();
 
-    executionError.set(0);
-    fatalError.set(0);
+    executionError.reset();
+    fatalError.reset();
     if (flowStatistics != null) {
       flowStatistics.clear();
     }
@@ -100,12 +100,12 @@ public class DefaultFlowConstructStatistics extends AbstractFlowConstructStatist
 
   @Override
   public long getExecutionErrors() {
-    return executionError.get();
+    return executionError.sum();
   }
 
   @Override
   public long getFatalErrors() {
-    return fatalError.get();
+    return fatalError.sum();
   }
 
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.stats;
+
+import static java.lang.management.ManagementFactory.getPlatformMBeanServer;
+import static javax.management.ObjectName.quote;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.core.api.management.stats.StatisticsSnapshot;
+import org.mule.runtime.core.api.management.stats.StatisticsSnapshot.Sample;
+import org.mule.runtime.core.api.management.stats.StatisticsSnapshotSink;
+
+import org.slf4j.Logger;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Exposes the last {@link StatisticsSnapshot} taken through JMX, as a {@link StatisticsSnapshotMXBean}.
+ *
+ * @since 4.2
+ */
+public class JmxStatisticsSnapshotSink implements StatisticsSnapshotSink, StatisticsSnapshotMXBean {
+
+  private static final Logger LOGGER = getLogger(JmxStatisticsSnapshotSink.class);
+
+  private ObjectName objectName;
+  private volatile StatisticsSnapshot lastSnapshot;
+
+  public JmxStatisticsSnapshotSink(String applicationId) {
+    try {
+      objectName = new ObjectName("Mule:type=StatisticsSnapshot,application=" + quote(applicationId));
+      getPlatformMBeanServer().registerMBean(this, objectName);
+    } catch (JMException e) {
+      LOGGER.warn("Could not register statistics snapshot MBean", e);
+      objectName = null;
+    }
+  }
+
+  @Override
+  public void write(StatisticsSnapshot snapshot) {
+    lastSnapshot = snapshot;
+  }
+
+  @Override
+  public long getTimestamp() {
+    final StatisticsSnapshot snapshot = lastSnapshot;
+    return snapshot == null ? 0 : snapshot.getTimestamp();
+  }
+
+  @Override
+  public Map<String, Double> getValues() {
+    final Map<String, Double> values = new LinkedHashMap<>();
+    final StatisticsSnapshot snapshot = lastSnapshot;
+    if (snapshot != null) {
+      for (Sample sample : snapshot.getSamples()) {
+        values.put(sample.getName() + sample.getLabels(), sample.getValue());
+      }
+    }
+    return values;
+  }
+
+  @Override
+  public void close() {
+    if (objectName != null) {
+      try {
+        getPlatformMBeanServer().unregisterMBean(objectName);
+      } catch (JMException e) {
+        LOGGER.warn("Could not unregister statistics snapshot MBean", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.stats;
+
+import static java.util.stream.Collectors.joining;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.core.api.management.stats.StatisticsSnapshot;
+import org.mule.runtime.core.api.management.stats.StatisticsSnapshotSink;
+
+import org.slf4j.Logger;
+
+/**
+ * Writes each {@link StatisticsSnapshot} as a single log line.
+ *
+ * @since 4.2
+ */
+public class LoggingStatisticsSnapshotSink implements StatisticsSnapshotSink {
+
+  private static final Logger LOGGER = getLogger(LoggingStatisticsSnapshotSink.class);
+
+  @Override
+  public void write(StatisticsSnapshot snapshot) {
+    if (LOGGER.isInfoEnabled()) {
+      LOGGER.info("Statistics snapshot ({} ms): {}", snapshot.getIntervalMillis(),
+                  snapshot.getSamples().stream().map(Object::toString).collect(joining(", ")));
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.stats;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.move;
+import static java.nio.file.Files.newBufferedWriter;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.core.api.management.stats.StatisticsSnapshot;
+import org.mule.runtime.core.api.management.stats.StatisticsSnapshot.Sample;
+import org.mule.runtime.core.api.management.stats.StatisticsSnapshotSink;
+
+import org.slf4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes each {@link StatisticsSnapshot} to a file in the Prometheus text exposition format, so it can be picked up by a node
+ * exporter textfile collector.
+ * <p>
+ * The file is replaced atomically, so readers never see a partially written snapshot.
+ *
+ * @since 4.2
+ */
+public class PrometheusTextFileStatisticsSnapshotSink implements StatisticsSnapshotSink {
+
+  private static final Logger LOGGER = getLogger(PrometheusTextFileStatisticsSnapshotSink.class);
+
+  private final Path file;
+  private final Path tempFile;
+
+  public PrometheusTextFileStatisticsSnapshotSink(File file) {
+    this.file = file.toPath();
+    this.tempFile = new File(file.getParentFile(), file.getName() + ".tmp").toPath();
+  }
+
+  @Override
+  public void write(StatisticsSnapshot snapshot) {
+    try {
+      if (file.getParent() != null) {
+        createDirectories(file.getParent());
+      }
+      // The samples of each flow come together, but the format requires all the samples of a metric to follow its TYPE line
+      final Map<String, List<Sample>> samplesByName = new LinkedHashMap<>();
+      for (Sample sample : snapshot.getSamples()) {
+        samplesByName.computeIfAbsent(sample.getName(), name -> new ArrayList<>()).add(sample);
+      }
+      try (Writer writer = newBufferedWriter(tempFile, UTF_8)) {
+        for (Map.Entry<String, List<Sample>> metric : samplesByName.entrySet()) {
+          final String name = metric.getKey();
+          writer.append("# TYPE ").append(name).append(name.endsWith("_total") ? " counter\n" : " gauge\n");
+          for (Sample sample : metric.getValue()) {
+            writeSample(writer, sample);
+          }
+        }
+      }
+      move(tempFile, file, REPLACE_EXISTING, ATOMIC_MOVE);
+    } catch (IOException e) {
+      LOGGER.warn("Could not write statistics snapshot to " + file, e);
+    }
+  }
+
+  private void writeSample(Writer writer, Sample sample) throws IOException {
+    writer.append(sample.getName());
+    if (!sample.getLabels().isEmpty()) {
+      writer.append('{');
+      boolean first = true;
+      for (Map.Entry<String, String> label : sample.getLabels().entrySet()) {
+        if (!first) {
+          writer.append(',');
+        }
+        writer.append(label.getKey()).append("=\"").append(escape(label.getValue())).append('"');
+        first = false;
+      }
+      writer.append('}');
+    }
+    writer.append(' ').append(Double.toString(sample.getValue())).append('\n');
+  }
+
+  private static String escape(String labelValue) {
+    return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+}
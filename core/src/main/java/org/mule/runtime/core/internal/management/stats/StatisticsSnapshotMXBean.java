@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.stats;
+
+import java.util.Map;
+
+/**
+ * JMX view of the last statistics snapshot taken of an application.
+ *
+ * @since 4.2
+ */
+public interface StatisticsSnapshotMXBean {
+
+  /**
+   * @return the moment the last snapshot was taken, in milliseconds since the epoch.
+   */
+  long getTimestamp();
+
+  /**
+   * @return the values of the last snapshot, keyed by name and labels.
+   */
+  Map<String, Double> getValues();
+}
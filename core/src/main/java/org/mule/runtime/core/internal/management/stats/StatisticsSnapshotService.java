@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.stats;
+
+import static java.lang.Integer.toHexString;
+import static java.lang.Long.getLong;
+import static java.lang.System.currentTimeMillis;
+import static java.lang.System.getProperty;
+import static java.lang.System.identityHashCode;
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.lifecycle.Startable;
+import org.mule.runtime.api.lifecycle.Stoppable;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.context.MuleContextAware;
+import org.mule.runtime.core.api.context.notification.ServerNotificationManager;
+import org.mule.runtime.core.api.management.stats.AllStatistics;
+import org.mule.runtime.core.api.management.stats.BackPressureStatistics;
+import org.mule.runtime.core.api.management.stats.FlowConstructStatistics;
+import org.mule.runtime.core.api.management.stats.LatencySnapshot;
+import org.mule.runtime.core.api.management.stats.NotificationListenerStatistics;
+import org.mule.runtime.core.api.management.stats.ProcessingStrategyStatistics;
+import org.mule.runtime.core.api.management.stats.RouterStatistics;
+import org.mule.runtime.core.api.management.stats.StatisticsSnapshot;
+import org.mule.runtime.core.api.management.stats.StatisticsSnapshotSink;
+import org.mule.runtime.core.api.streaming.StreamingManager;
+import org.mule.runtime.core.api.streaming.StreamingStatistics;
+import org.mule.runtime.core.internal.context.MuleContextWithRegistry;
+
+import org.slf4j.Logger;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Periodically takes a {@link StatisticsSnapshot} of the flow, component, router and streaming statistics of an application, and
+ * writes it to the registered {@link StatisticsSnapshotSink}s.
+ * <p>
+ * Along with the current value of each counter, its rate per second since the previous snapshot is also calculated.
+ * <p>
+ * Snapshots are only taken if {@link #SNAPSHOT_PERIOD_PROPERTY} is set to a positive value. The built-in sinks to use are set
+ * with {@link #SNAPSHOT_SINKS_PROPERTY}, as a comma separated list of {@code log}, {@code prometheus} and {@code jmx}.
+ *
+ * @since 4.2
+ */
+public class StatisticsSnapshotService implements Startable, Stoppable, MuleContextAware {
+
+  private static final Logger LOGGER = getLogger(StatisticsSnapshotService.class);
+
+  /**
+   * Period between snapshots, in milliseconds.
+   */
+  public static final String SNAPSHOT_PERIOD_PROPERTY = SYSTEM_PROPERTY_PREFIX + "statistics.snapshot.period";
+
+  /**
+   * The built-in sinks to write the snapshots to.
+   */
+  public static final String SNAPSHOT_SINKS_PROPERTY = SYSTEM_PROPERTY_PREFIX + "statistics.snapshot.sinks";
+
+  /**
+   * The file to write the snapshots to when the {@code prometheus} sink is used. Defaults to {@code statistics.prom} in the
+   * working directory of the application.
+   */
+  public static final String PROMETHEUS_FILE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "statistics.snapshot.prometheus.file";
+
+  /**
+   * The directory to write the profiles of the processors to, as collapsed stacks for flame graph tools, along with each
+   * snapshot. The profiles are only collected if {@code mule.processorProfiling.enabled} is set.
+   */
+  public static final String PROCESSOR_PROFILES_DIRECTORY_PROPERTY =
+      SYSTEM_PROPERTY_PREFIX + "statistics.snapshot.processorProfiles.directory";
+
+  private static final String FLOW_LABEL = "flow";
+  private static final String ROUTER_LABEL = "router";
+  private static final String QUANTILE_LABEL = "quantile";
+  private static final String LISTENER_LABEL = "listener";
+  private static final String SCHEDULER_TYPE_LABEL = "type";
+  private static final String SOURCE_LABEL = "source";
+  private static final String REASON_LABEL = "reason";
+
+  private final List<StatisticsSnapshotSink> sinks = new CopyOnWriteArrayList<>();
+  private final List<StatisticsSnapshotSink> builtInSinks = new CopyOnWriteArrayList<>();
+
+  private MuleContext muleContext;
+
+  private StreamingManager streamingManager;
+
+  private Scheduler scheduler;
+  private ScheduledFuture<?> snapshotTask;
+
+  private Map<String, Double> previousCounters = emptyMap();
+  private long previousTimestamp = currentTimeMillis();
+
+  @Override
+  public void setMuleContext(MuleContext muleContext) {
+    this.muleContext = muleContext;
+  }
+
+  @Override
+  public void start() throws MuleException {
+    final long period = getLong(SNAPSHOT_PERIOD_PROPERTY, 0);
+    if (period <= 0) {
+      return;
+    }
+
+    streamingManager = ((MuleContextWithRegistry) muleContext).getRegistry().lookupObject(StreamingManager.class);
+    for (String sinkName : getProperty(SNAPSHOT_SINKS_PROPERTY, "log").split(",")) {
+      createBuiltInSink(sinkName.trim());
+    }
+
+    scheduler = muleContext.getSchedulerService().customScheduler(muleContext.getSchedulerBaseConfig()
+        .withName("statistics.snapshot").withMaxConcurrentTasks(1).withShutdownTimeout(0, MILLISECONDS));
+    snapshotTask = scheduler.scheduleAtFixedRate(this::writeSnapshot, period, period, MILLISECONDS);
+  }
+
+  private void createBuiltInSink(String sinkName) {
+    final StatisticsSnapshotSink sink;
+    switch (sinkName) {
+      case "":
+        return;
+      case "log":
+        sink = new LoggingStatisticsSnapshotSink();
+        break;
+      case "prometheus":
+        sink = new PrometheusTextFileStatisticsSnapshotSink(new File(getProperty(PROMETHEUS_FILE_PROPERTY,
+                                                                                 new File(muleContext.getConfiguration()
+                                                                                     .getWorkingDirectory(), "statistics.prom")
+                                                                                         .getAbsolutePath())));
+        break;
+      case "jmx":
+        sink = new JmxStatisticsSnapshotSink(muleContext.getConfiguration().getId());
+        break;
+      default:
+        LOGGER.warn("Unknown statistics snapshot sink '{}'. Valid values are 'log', 'prometheus' and 'jmx'.", sinkName);
+        return;
+    }
+    builtInSinks.add(sink);
+    sinks.add(sink);
+  }
+
+  @Override
+  public void stop() throws MuleException {
+    if (scheduler != null) {
+      snapshotTask.cancel(false);
+      scheduler.stop();
+      scheduler = null;
+    }
+
+    for (StatisticsSnapshotSink sink : builtInSinks) {
+      sinks.remove(sink);
+      sink.close();
+    }
+    builtInSinks.clear();
+  }
+
+  /**
+   * @param sink a sink to write the snapshots to.
+   */
+  public void addSink(StatisticsSnapshotSink sink) {
+    sinks.add(sink);
+  }
+
+  /**
+   * @param sink a sink to no longer write the snapshots to.
+   */
+  public void removeSink(StatisticsSnapshotSink sink) {
+    sinks.remove(sink);
+  }
+
+  private void writeSnapshot() {
+    try {
+      final StatisticsSnapshot snapshot = takeSnapshot();
+      for (StatisticsSnapshotSink sink : sinks) {
+        sink.write(snapshot);
+      }
+
+      final String processorProfilesDirectory = getProperty(PROCESSOR_PROFILES_DIRECTORY_PROPERTY);
+      if (processorProfilesDirectory != null && !muleContext.getStatistics().getProcessorProfiles().isEmpty()) {
+        CollapsedStacksWriter.writeFiles(muleContext.getStatistics().getProcessorProfiles(),
+                                         new File(processorProfilesDirectory));
+      }
+    } catch (Exception e) {
+      // Do not let the scheduled task die
+      LOGGER.warn("Could not write statistics snapshot", e);
+    }
+  }
+
+  /**
+   * Takes a snapshot of the current statistics, calculating rates from the values of the previous snapshot.
+   *
+   * @return the snapshot.
+   */
+  public synchronized StatisticsSnapshot takeSnapshot() {
+    final long timestamp = currentTimeMillis();
+    final long interval = timestamp - previousTimestamp;
+    final StatisticsSnapshot.Builder builder = StatisticsSnapshot.builder(timestamp, interval);
+    final Map<String, Double> counters = new HashMap<>();
+
+    final AllStatistics statistics = muleContext.getStatistics();
+    for (FlowConstructStatistics flowStatistics : statistics.getServiceStatistics()) {
+      final String flowName = flowStatistics.getName();
+      counter(builder, counters, interval, "mule_flow_events_received", FLOW_LABEL, flowName,
+              flowStatistics.getTotalEventsReceived());
+      counter(builder, counters, interval, "mule_flow_events_processed", FLOW_LABEL, flowName,
+              flowStatistics.getProcessedEvents());
+      counter(builder, counters, interval, "mule_flow_execution_errors", FLOW_LABEL, flowName,
+              flowStatistics.getExecutionErrors());
+      counter(builder, counters, interval, "mule_flow_fatal_errors", FLOW_LABEL, flowName, flowStatistics.getFatalErrors());
+      builder.sample("mule_flow_processing_time_average_ms", FLOW_LABEL, flowName, flowStatistics.getAverageProcessingTime());
+      builder.sample("mule_flow_processing_time_min_ms", FLOW_LABEL, flowName, flowStatistics.getMinProcessingTime());
+      builder.sample("mule_flow_processing_time_max_ms", FLOW_LABEL, flowName, flowStatistics.getMaxProcessingTime());
+    }
+
+    for (Map.Entry<String, LatencySnapshot> flowLatency : statistics.getFlowLatencies().entrySet()) {
+      latency(builder, flowLatency.getKey(), "0.5", flowLatency.getValue().getP50());
+      latency(builder, flowLatency.getKey(), "0.99", flowLatency.getValue().getP99());
+      latency(builder, flowLatency.getKey(), "0.999", flowLatency.getValue().getP999());
+    }
+
+    for (Map.Entry<String, ProcessingStrategyStatistics> strategyStatistics : statistics.getAllProcessingStrategyStatistics()
+        .entrySet()) {
+      final String flowName = strategyStatistics.getKey();
+      final ProcessingStrategyStatistics strategyStats = strategyStatistics.getValue();
+      strategyStats.getQueueingDelays()
+          .forEach((type, snapshot) -> schedulerLatency(builder, "mule_processing_queueing_delay_nanos", flowName, type,
+                                                        snapshot));
+      strategyStats.getServiceTimes()
+          .forEach((type, snapshot) -> schedulerLatency(builder, "mule_processing_service_time_nanos", flowName, type, snapshot));
+      counter(builder, counters, interval, "mule_processing_rejections", FLOW_LABEL, flowName, strategyStats.getRejections());
+      counter(builder, counters, interval, "mule_processing_retries", FLOW_LABEL, flowName, strategyStats.getRetries());
+      if (strategyStats.getRingBufferSize() > 0) {
+        builder.sample("mule_processing_ring_buffer_occupancy", FLOW_LABEL, flowName, strategyStats.getRingBufferOccupancy());
+        builder.sample("mule_processing_ring_buffer_size", FLOW_LABEL, flowName, strategyStats.getRingBufferSize());
+      }
+    }
+
+    for (Map.Entry<String, BackPressureStatistics> backPressureStatistics : statistics.getAllBackPressureStatistics()
+        .entrySet()) {
+      final String flowName = backPressureStatistics.getKey();
+      backPressureStatistics.getValue().getRejectionsBySource().forEach((sourceLocation, rejections) -> rejections
+          .forEach((reason, count) -> {
+            final Map<String, String> labels = new LinkedHashMap<>();
+            labels.put(FLOW_LABEL, flowName);
+            labels.put(SOURCE_LABEL, sourceLocation);
+            labels.put(REASON_LABEL, reason.name());
+            counter(builder, counters, interval, "mule_flow_backpressure_rejections", labels, count);
+          }));
+    }
+
+    for (Map.Entry<String, RouterStatistics> routerStatistics : statistics.getRouterStatistics().entrySet()) {
+      final String routerName = routerStatistics.getKey();
+      counter(builder, counters, interval, "mule_router_routed", ROUTER_LABEL, routerName,
+              routerStatistics.getValue().getTotalRouted());
+      counter(builder, counters, interval, "mule_router_not_routed", ROUTER_LABEL, routerName,
+              routerStatistics.getValue().getNotRouted());
+      counter(builder, counters, interval, "mule_router_caught", ROUTER_LABEL, routerName,
+              routerStatistics.getValue().getCaughtMessages());
+    }
+
+    if (streamingManager != null) {
+      final StreamingStatistics streamingStatistics = streamingManager.getStreamingStatistics();
+      builder.sample("mule_streaming_open_cursor_providers", emptyMap(), streamingStatistics.getOpenCursorProvidersCount());
+      builder.sample("mule_streaming_open_cursors", emptyMap(), streamingStatistics.getOpenCursorsCount());
+      streamingStatistics.getStreamingMemoryByFlow()
+          .forEach((flowName, bytes) -> builder.sample("mule_streaming_memory_bytes", FLOW_LABEL, flowName, bytes));
+    }
+
+    final ServerNotificationManager notificationManager = muleContext.getNotificationManager();
+    if (notificationManager != null) {
+      for (NotificationListenerStatistics listenerStatistics : notificationManager.getAsyncListenersStatistics()) {
+        final String listenerName = listenerStatistics.getListener().getClass().getName() + "@"
+            + toHexString(identityHashCode(listenerStatistics.getListener()));
+        counter(builder, counters, interval, "mule_notifications_delivered", LISTENER_LABEL, listenerName,
+                listenerStatistics.getDeliveredCount());
+        counter(builder, counters, interval, "mule_notifications_dropped", LISTENER_LABEL, listenerName,
+                listenerStatistics.getDroppedCount());
+        builder.sample("mule_notifications_pending", LISTENER_LABEL, listenerName, listenerStatistics.getPendingCount());
+        builder.sample("mule_notifications_lag_max_nanos", LISTENER_LABEL, listenerName, listenerStatistics.getMaxLagNanos());
+      }
+    }
+
+    previousCounters = counters;
+    previousTimestamp = timestamp;
+    return builder.build();
+  }
+
+  private void counter(StatisticsSnapshot.Builder builder, Map<String, Double> counters, long interval, String name,
+                       String labelName, String labelValue, double value) {
+    final Map<String, String> labels = new LinkedHashMap<>();
+    labels.put(labelName, labelValue);
+    counter(builder, counters, interval, name, labels, value);
+  }
+
+  private void counter(StatisticsSnapshot.Builder builder, Map<String, Double> counters, long interval, String name,
+                       Map<String, String> labels, double value) {
+    builder.sample(name + "_total", labels, value);
+
+    final String key = name + labels;
+    counters.put(key, value);
+    final Double previous = previousCounters.get(key);
+    // A counter lower than before means statistics were cleared
+    final double delta = previous == null || previous > value ? value : value - previous;
+    builder.sample(name + "_rate", labels, interval > 0 ? delta * 1000 / interval : 0);
+  }
+
+  private void latency(StatisticsSnapshot.Builder builder, String flowName, String quantile, long value) {
+    final Map<String, String> labels = new LinkedHashMap<>();
+    labels.put(FLOW_LABEL, flowName);
+    labels.put(QUANTILE_LABEL, quantile);
+    builder.sample("mule_flow_latency_nanos", labels, value);
+  }
+
+  private void schedulerLatency(StatisticsSnapshot.Builder builder, String name, String flowName, String schedulerType,
+                                LatencySnapshot snapshot) {
+    schedulerLatency(builder, name, flowName, schedulerType, "0.5", snapshot.getP50());
+    schedulerLatency(builder, name, flowName, schedulerType, "0.99", snapshot.getP99());
+  }
+
+  private void schedulerLatency(StatisticsSnapshot.Builder builder, String name, String flowName, String schedulerType,
+                                String quantile, long value) {
+    final Map<String, String> labels = new LinkedHashMap<>();
+    labels.put(FLOW_LABEL, flowName);
+    labels.put(SCHEDULER_TYPE_LABEL, schedulerType);
+    labels.put(QUANTILE_LABEL, quantile);
+    builder.sample(name, labels, value);
+  }
+}
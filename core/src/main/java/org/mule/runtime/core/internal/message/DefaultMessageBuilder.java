@@ -42,6 +42,7 @@ import org.mule.runtime.core.api.transformer.Transformer;
 import org.mule.runtime.core.api.transformer.TransformerException;
 import org.mule.runtime.core.internal.context.MuleContextWithRegistry;
 import org.mule.runtime.core.internal.message.InternalMessage.CollectionBuilder;
+import org.mule.runtime.core.internal.metadata.CanonicalDataTypes;
 import org.mule.runtime.core.internal.metadata.DefaultCollectionDataType;
 import org.mule.runtime.core.privileged.store.DeserializationPostInitialisable;
 
@@ -80,15 +81,32 @@ public final class DefaultMessageBuilder
 
   private ExceptionPayload exceptionPayload;
 
-  private Map<String, TypedValue<Serializable>> inboundProperties = new CaseInsensitiveMapWrapper<>();
-  private Map<String, TypedValue<Serializable>> outboundProperties = new CaseInsensitiveMapWrapper<>();
-  private Map<String, DataHandler> inboundAttachments = new LinkedHashMap<>();
-  private Map<String, DataHandler> outboundAttachments = new LinkedHashMap<>();
+  // These maps may be shared with the messages built from this builder or the message this builder was created from, so they are
+  // copied before being modified. That way, messages for which only the payload or attributes change don't copy these.
+  private Map<String, TypedValue<Serializable>> inboundProperties = emptyMap();
+  private Map<String, TypedValue<Serializable>> outboundProperties = emptyMap();
+  private Map<String, DataHandler> inboundAttachments = emptyMap();
+  private Map<String, DataHandler> outboundAttachments = emptyMap();
+
+  private boolean inboundPropertiesShared = true;
+  private boolean outboundPropertiesShared = true;
+  private boolean inboundAttachmentsShared = true;
+  private boolean outboundAttachmentsShared = true;
 
   public DefaultMessageBuilder() {}
 
   private void copyMessageAttributes(InternalMessage message) {
     this.exceptionPayload = message.getExceptionPayload();
+    if (message instanceof MessageImplementation) {
+      // The maps of a built message are never modified, so they can be shared
+      final MessageImplementation messageImpl = (MessageImplementation) message;
+      this.inboundProperties = messageImpl.inboundMap;
+      this.outboundProperties = messageImpl.outboundMap;
+      this.inboundAttachments = messageImpl.inboundAttachments;
+      this.outboundAttachments = messageImpl.outboundAttachments;
+      return;
+    }
+
     message.getInboundPropertyNames().forEach(key -> {
       if (message.getInboundPropertyDataType(key) != null) {
         addInboundProperty(key, message.getInboundProperty(key), message.getInboundPropertyDataType(key));
@@ -137,8 +155,8 @@ public final class DefaultMessageBuilder
 
   @Override
   public InternalMessage.CollectionBuilder mediaType(MediaType mediaType) {
-    this.payload =
-        new TypedValue<>(payload.getValue(), builder(payload.getDataType()).mediaType(mediaType).build(), payload.getLength());
+    this.payload = new TypedValue<>(payload.getValue(), CanonicalDataTypes.withMediaType(payload.getDataType(), mediaType),
+                                    payload.getLength());
     return this;
   }
 
@@ -228,8 +246,9 @@ public final class DefaultMessageBuilder
 
   @Override
   public InternalMessage.CollectionBuilder attributesMediaType(MediaType mediaType) {
-    this.attributes = new TypedValue<>(attributes.getValue(), builder(attributes.getDataType()).mediaType(mediaType).build(),
-                                       attributes.getLength());
+    this.attributes =
+        new TypedValue<>(attributes.getValue(), CanonicalDataTypes.withMediaType(attributes.getDataType(), mediaType),
+                         attributes.getLength());
     return this;
   }
 
@@ -241,81 +260,91 @@ public final class DefaultMessageBuilder
 
   @Override
   public InternalMessage.CollectionBuilder addInboundProperty(String key, Serializable value) {
-    inboundProperties.put(key, new TypedValue<>(value, value != null ? fromObject(value) : OBJECT));
+    writableInboundProperties().put(key, new TypedValue<>(value, value != null ? fromObject(value) : OBJECT));
     return this;
   }
 
   @Override
   public InternalMessage.CollectionBuilder addInboundProperty(String key, Serializable value, MediaType mediaType) {
-    inboundProperties.put(key,
-                          new TypedValue<>(value, builder().type(value.getClass()).mediaType(mediaType).build()));
+    writableInboundProperties().put(key,
+                                    new TypedValue<>(value, builder().type(value.getClass()).mediaType(mediaType).build()));
     return this;
   }
 
   @Override
   public InternalMessage.CollectionBuilder addInboundProperty(String key, Serializable value, DataType dataType) {
-    inboundProperties.put(key, new TypedValue<>(value, dataType));
+    writableInboundProperties().put(key, new TypedValue<>(value, dataType));
     return this;
   }
 
   @Override
   public InternalMessage.CollectionBuilder addOutboundProperty(String key, Serializable value) {
-    outboundProperties.put(key, new TypedValue<>(value, value != null ? fromObject(value) : OBJECT));
+    writableOutboundProperties().put(key, new TypedValue<>(value, value != null ? fromObject(value) : OBJECT));
     return this;
   }
 
   @Override
   public InternalMessage.CollectionBuilder addOutboundProperty(String key, Serializable value, MediaType mediaType) {
-    outboundProperties.put(key, new TypedValue<>(value, builder().type(value.getClass()).mediaType(mediaType).build()));
+    writableOutboundProperties()
+        .put(key, new TypedValue<>(value, builder().type(value.getClass()).mediaType(mediaType).build()));
     return this;
   }
 
   @Override
   public InternalMessage.CollectionBuilder addOutboundProperty(String key, Serializable value, DataType dataType) {
-    outboundProperties.put(key, new TypedValue<>(value, dataType));
+    writableOutboundProperties().put(key, new TypedValue<>(value, dataType));
     return this;
   }
 
   @Override
   public InternalMessage.CollectionBuilder removeInboundProperty(String key) {
-    inboundProperties.remove(key);
+    if (inboundProperties.containsKey(key)) {
+      writableInboundProperties().remove(key);
+    }
     return this;
   }
 
   @Override
   public InternalMessage.CollectionBuilder removeOutboundProperty(String key) {
-    outboundProperties.remove(key);
+    if (outboundProperties.containsKey(key)) {
+      writableOutboundProperties().remove(key);
+    }
     return this;
   }
 
   @Override
   public InternalMessage.CollectionBuilder addInboundAttachment(String key, DataHandler value) {
-    inboundAttachments.put(key, value);
+    writableInboundAttachments().put(key, value);
     return this;
   }
 
   @Override
   public InternalMessage.CollectionBuilder addOutboundAttachment(String key, DataHandler value) {
-    outboundAttachments.put(key, value);
+    writableOutboundAttachments().put(key, value);
     return this;
   }
 
   @Override
   public InternalMessage.CollectionBuilder removeInboundAttachment(String key) {
-    inboundAttachments.remove(key);
+    if (inboundAttachments.containsKey(key)) {
+      writableInboundAttachments().remove(key);
+    }
     return this;
   }
 
   @Override
   public InternalMessage.CollectionBuilder removeOutboundAttachment(String key) {
-    outboundAttachments.remove(key);
+    if (outboundAttachments.containsKey(key)) {
+      writableOutboundAttachments().remove(key);
+    }
     return this;
   }
 
   @Override
   public InternalMessage.CollectionBuilder inboundProperties(Map<String, Serializable> inboundProperties) {
     requireNonNull(inboundProperties);
-    this.inboundProperties.clear();
+    this.inboundProperties = new CaseInsensitiveMapWrapper<>();
+    this.inboundPropertiesShared = false;
     inboundProperties.forEach(this::addInboundProperty);
     return this;
   }
@@ -323,7 +352,8 @@ public final class DefaultMessageBuilder
   @Override
   public InternalMessage.CollectionBuilder outboundProperties(Map<String, Serializable> outboundProperties) {
     requireNonNull(outboundProperties);
-    this.outboundProperties.clear();
+    this.outboundProperties = new CaseInsensitiveMapWrapper<>();
+    this.outboundPropertiesShared = false;
     outboundProperties.forEach(this::addOutboundProperty);
     return this;
   }
@@ -332,6 +362,7 @@ public final class DefaultMessageBuilder
   public InternalMessage.CollectionBuilder inboundAttachments(Map<String, DataHandler> inboundAttachments) {
     requireNonNull(inboundAttachments);
     this.inboundAttachments = new LinkedHashMap<>(inboundAttachments);
+    this.inboundAttachmentsShared = false;
     return this;
   }
 
@@ -339,29 +370,79 @@ public final class DefaultMessageBuilder
   public InternalMessage.CollectionBuilder outboundAttachments(Map<String, DataHandler> outbundAttachments) {
     requireNonNull(outbundAttachments);
     this.outboundAttachments = new LinkedHashMap<>(outbundAttachments);
+    this.outboundAttachmentsShared = false;
     return this;
   }
 
   @Override
   public InternalMessage build() {
+    // From now on, the maps are shared with the built message
+    inboundPropertiesShared = true;
+    outboundPropertiesShared = true;
+    inboundAttachmentsShared = true;
+    outboundAttachmentsShared = true;
+
     return new MessageImplementation(payload, attributes,
-                                     inboundProperties, outboundProperties, inboundAttachments,
-                                     outboundAttachments, exceptionPayload);
+                                     emptyIfEmpty(inboundProperties), emptyIfEmpty(outboundProperties),
+                                     emptyIfEmpty(inboundAttachments), emptyIfEmpty(outboundAttachments),
+                                     exceptionPayload);
+  }
+
+  private static <K, V> Map<K, V> emptyIfEmpty(Map<K, V> map) {
+    return map.isEmpty() ? emptyMap() : map;
+  }
+
+  private Map<String, TypedValue<Serializable>> writableInboundProperties() {
+    if (inboundPropertiesShared) {
+      inboundProperties = copyProperties(inboundProperties);
+      inboundPropertiesShared = false;
+    }
+    return inboundProperties;
+  }
+
+  private Map<String, TypedValue<Serializable>> writableOutboundProperties() {
+    if (outboundPropertiesShared) {
+      outboundProperties = copyProperties(outboundProperties);
+      outboundPropertiesShared = false;
+    }
+    return outboundProperties;
+  }
+
+  private Map<String, DataHandler> writableInboundAttachments() {
+    if (inboundAttachmentsShared) {
+      inboundAttachments = new LinkedHashMap<>(inboundAttachments);
+      inboundAttachmentsShared = false;
+    }
+    return inboundAttachments;
+  }
+
+  private Map<String, DataHandler> writableOutboundAttachments() {
+    if (outboundAttachmentsShared) {
+      outboundAttachments = new LinkedHashMap<>(outboundAttachments);
+      outboundAttachmentsShared = false;
+    }
+    return outboundAttachments;
+  }
+
+  private static Map<String, TypedValue<Serializable>> copyProperties(Map<String, TypedValue<Serializable>> properties) {
+    final Map<String, TypedValue<Serializable>> copy = new CaseInsensitiveMapWrapper<>();
+    copy.putAll(properties);
+    return copy;
   }
 
   private DataType resolveDataType(Object value) {
     if (payload == null) {
-      return DataType.fromObject(value);
+      return CanonicalDataTypes.fromObject(value);
     } else {
-      return DataType.builder(payload.getDataType()).fromObject(value).build();
+      return CanonicalDataTypes.fromObject(value, payload.getDataType());
     }
   }
 
   private DataType resolveAttributesDataType(Object value) {
     if (attributes == null) {
-      return DataType.fromObject(value);
+      return CanonicalDataTypes.fromObject(value);
     } else {
-      return DataType.builder(attributes.getDataType()).fromObject(value).build();
+      return CanonicalDataTypes.fromObject(value, attributes.getDataType());
     }
   }
 
@@ -396,18 +477,19 @@ public final class DefaultMessageBuilder
     /**
      * Collection of attachments that were attached to the incoming message
      */
-    private transient Map<String, DataHandler> inboundAttachments = new LinkedHashMap<>();
+    private transient Map<String, DataHandler> inboundAttachments;
 
     /**
      * Collection of attachments that will be sent out with this message
      */
-    private transient Map<String, DataHandler> outboundAttachments = new LinkedHashMap<>();
+    private transient Map<String, DataHandler> outboundAttachments;
 
     private transient TypedValue typedValue;
     private TypedValue typedAttributes;
 
-    private Map<String, TypedValue<Serializable>> inboundMap = new CaseInsensitiveMapWrapper<>();
-    private Map<String, TypedValue<Serializable>> outboundMap = new CaseInsensitiveMapWrapper<>();
+    // These maps are never modified once the message is built, so they may be shared with other messages.
+    private Map<String, TypedValue<Serializable>> inboundMap;
+    private Map<String, TypedValue<Serializable>> outboundMap;
 
     private MessageImplementation(TypedValue typedValue, TypedValue typedAttributes,
                                   Map<String, TypedValue<Serializable>> inboundProperties,
@@ -416,8 +498,8 @@ public final class DefaultMessageBuilder
                                   ExceptionPayload exceptionPayload) {
       this.typedValue = typedValue;
       this.typedAttributes = typedAttributes;
-      this.inboundMap.putAll(inboundProperties);
-      this.outboundMap.putAll(outboundProperties);
+      this.inboundMap = inboundProperties;
+      this.outboundMap = outboundProperties;
       this.inboundAttachments = inboundAttachments;
       this.outboundAttachments = outboundAttachments;
       this.exceptionPayload = exceptionPayload;
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.metadata;
+
+import static org.mule.runtime.api.metadata.MediaType.ANY;
+
+import org.mule.runtime.api.metadata.CollectionDataType;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.FunctionDataType;
+import org.mule.runtime.api.metadata.MapDataType;
+import org.mule.runtime.api.metadata.MediaType;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.activation.DataHandler;
+import javax.activation.DataSource;
+
+/**
+ * Flyweight registry of canonical {@link DataType} instances for the {@link DataType}s that are built on every event from the
+ * values being set as payload, attributes or variables.
+ * <p>
+ * The {@link DataType} inferred from a value (see {@link DataType#fromObject(Object)}) depends only on the class of that value
+ * and, optionally, the {@link MediaType} of the value it replaces. Those are resolved here without allocating a
+ * {@link org.mule.runtime.api.metadata.DataTypeBuilder}, and always to the same instance for the same class and media type, so
+ * comparisons between them are resolved by identity.
+ *
+ * @since 4.2
+ */
+public final class CanonicalDataTypes {
+
+  /**
+   * Maximum amount of non-default media types to keep canonical instances for, for each class. Media types may have arbitrary
+   * parameters (i.e.: a multipart boundary), so this avoids growing without bounds in that case.
+   */
+  private static final int MAX_MEDIA_TYPES_PER_CLASS = 16;
+
+  private static final ClassValue<ClassDataTypes> DATA_TYPES = new ClassValue<ClassDataTypes>() {
+
+    @Override
+    protected ClassDataTypes computeValue(Class<?> type) {
+      return new ClassDataTypes(type);
+    }
+  };
+
+  private CanonicalDataTypes() {
+    // Nothing to do
+  }
+
+  /**
+   * Equivalent to {@link DataType#fromObject(Object)}, but returning a canonical instance when possible.
+   *
+   * @param value the value to get the {@link DataType} for.
+   * @return the {@link DataType} for the given value.
+   */
+  public static DataType fromObject(Object value) {
+    if (value == null) {
+      return DATA_TYPES.get(Object.class).withAnyMediaType();
+    } else if (value instanceof DataHandler || value instanceof DataSource) {
+      // The media type for these depends on the value itself
+      return DataType.fromObject(value);
+    } else {
+      return DATA_TYPES.get(value.getClass()).withAnyMediaType();
+    }
+  }
+
+  /**
+   * Equivalent to {@code DataType.builder(base).fromObject(value).build()}, but returning a canonical instance when possible.
+   *
+   * @param value the value to get the {@link DataType} for.
+   * @param base the {@link DataType} of the value being replaced by {@code value}.
+   * @return the {@link DataType} for the given value.
+   */
+  public static DataType fromObject(Object value, DataType base) {
+    if (value == null || value instanceof DataHandler || value instanceof DataSource
+    // The builder keeps the generics of these from the base type
+        || base instanceof CollectionDataType || base instanceof MapDataType || base instanceof FunctionDataType) {
+      return DataType.builder(base).fromObject(value).build();
+    }
+
+    return canonical(DATA_TYPES.get(value.getClass()), base.getMediaType());
+  }
+
+  /**
+   * Equivalent to {@code DataType.builder(base).mediaType(mediaType).build()}, but returning a canonical instance when possible.
+   *
+   * @param base the {@link DataType} to change the {@link MediaType} of.
+   * @param mediaType the {@link MediaType} to set.
+   * @return a {@link DataType} like {@code base} but with the given {@link MediaType}.
+   */
+  public static DataType withMediaType(DataType base, MediaType mediaType) {
+    if (base instanceof CollectionDataType || base instanceof MapDataType || base instanceof FunctionDataType) {
+      return DataType.builder(base).mediaType(mediaType).build();
+    }
+
+    return canonical(DATA_TYPES.get(base.getType()), mediaType);
+  }
+
+  private static DataType canonical(ClassDataTypes classDataTypes, MediaType mediaType) {
+    return ANY.equals(mediaType) ? classDataTypes.withAnyMediaType() : classDataTypes.withMediaType(mediaType);
+  }
+
+  /**
+   * The canonical {@link DataType}s for a given class.
+   */
+  private static final class ClassDataTypes {
+
+    private final Class<?> type;
+    private final DataType anyMediaType;
+    private final ConcurrentMap<MediaType, DataType> byMediaType = new ConcurrentHashMap<>(4);
+
+    private ClassDataTypes(Class<?> type) {
+      this.type = type;
+      this.anyMediaType = DataType.builder().type(type).build();
+    }
+
+    private DataType withAnyMediaType() {
+      return anyMediaType;
+    }
+
+    private DataType withMediaType(MediaType mediaType) {
+      DataType dataType = byMediaType.get(mediaType);
+      if (dataType != null) {
+        return dataType;
+      }
+
+      dataType = DataType.builder().type(type).mediaType(mediaType).build();
+      if (byMediaType.size() < MAX_MEDIA_TYPES_PER_CLASS) {
+        final DataType existing = byMediaType.putIfAbsent(mediaType, dataType);
+        return existing != null ? existing : dataType;
+      }
+      return dataType;
+    }
+  }
+}
@@ -6,7 +6,9 @@
  */
 package org.mule.runtime.core.internal.metadata.cache;
 
+import static java.lang.Integer.getInteger;
 import static java.lang.String.format;
+import static java.lang.System.currentTimeMillis;
 import static java.lang.System.getProperty;
 import static java.util.Optional.ofNullable;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -25,7 +27,14 @@ import org.mule.runtime.api.store.ObjectStoreManager;
 import org.mule.runtime.api.store.ObjectStoreSettings;
 import org.mule.runtime.api.util.LazyValue;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.function.Function;
 
@@ -40,7 +49,10 @@ import org.slf4j.LoggerFactory;
  * This implementation provides a way of managing persistent {@link MetadataCache}s
  * that are stored at container-level using the ObjectStore as handler for the persistence.
  *
- * Cache's are <b>never evicted</b>, and will be cleared only when an explicit disposal is invoked.
+ * Caches are bounded: when more than {@value #MULE_METADATA_CACHE_MAX_ENTRIES} caches are kept, the least recently used ones
+ * are evicted, and when an entry TTL is configured through {@value #MULE_METADATA_CACHE_ENTRY_TTL}, the caches that weren't
+ * accessed within that time are evicted as well. The last access of each cache is tracked in memory, so the ones persisted by a
+ * previous run are considered accessed when first seen.
  *
  * @since 4.1.4, 4.2.0
  */
@@ -51,6 +63,10 @@ public class DefaultPersistentMetadataCacheManager implements MetadataCacheManag
   public static final String MULE_METADATA_CACHE_ENTRY_TTL = SYSTEM_PROPERTY_PREFIX + "metadata.cache.entryTtl.minutes";
   public static final String MULE_METADATA_CACHE_EXPIRATION_INTERVAL =
       SYSTEM_PROPERTY_PREFIX + "metadata.cache.expirationInterval.millis";
+  public static final String MULE_METADATA_CACHE_MAX_ENTRIES = SYSTEM_PROPERTY_PREFIX + "metadata.cache.maxEntries";
+
+  private static final int DEFAULT_MAX_ENTRIES = 5000;
+  private static final long DEFAULT_EXPIRATION_INTERVAL = 60000;
 
   @Inject
   @Named(OBJECT_STORE_MANAGER)
@@ -61,16 +77,35 @@ public class DefaultPersistentMetadataCacheManager implements MetadataCacheManag
 
   private LazyValue<ObjectStore<MetadataCache>> metadataStore;
 
+  // Last access of each cache, iterated from the least recently used one
+  private final Map<String, Long> lastAccesses = new LinkedHashMap<>(16, 0.75f, true);
+  private boolean lastAccessesLoaded;
+  private long lastExpiration;
+
+  private int maxEntries;
+  private long entryTtl;
+  private long expirationInterval;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
   @Override
   public void start() {
-    metadataStore = new LazyValue<>(() -> {
-      ObjectStoreSettings.Builder builder = ObjectStoreSettings.builder().persistent(true);
-      getSystemProperty(MULE_METADATA_CACHE_ENTRY_TTL).map(stringValue -> toLong(stringValue))
-          .ifPresent(entryTtl -> builder.entryTtl(MINUTES.convert(entryTtl, MILLISECONDS)));
-      getSystemProperty(MULE_METADATA_CACHE_EXPIRATION_INTERVAL).map(stringValue -> toLong(stringValue))
-          .ifPresent(expirationInterval -> builder.expirationInterval(expirationInterval));
-      return objectStoreManager.getOrCreateObjectStore(PERSISTENT_METADATA_SERVICE_CACHE, builder.build());
-    });
+    maxEntries = getInteger(MULE_METADATA_CACHE_MAX_ENTRIES, DEFAULT_MAX_ENTRIES);
+    entryTtl = getSystemProperty(MULE_METADATA_CACHE_ENTRY_TTL)
+        .map(stringValue -> MILLISECONDS.convert(toLong(stringValue), MINUTES)).orElse(0L);
+    expirationInterval = getSystemProperty(MULE_METADATA_CACHE_EXPIRATION_INTERVAL)
+        .map(stringValue -> toLong(stringValue)).orElse(DEFAULT_EXPIRATION_INTERVAL);
+
+    synchronized (lastAccesses) {
+      lastAccesses.clear();
+      lastAccessesLoaded = false;
+      lastExpiration = currentTimeMillis();
+    }
+
+    metadataStore = new LazyValue<>(() -> objectStoreManager
+        .getOrCreateObjectStore(PERSISTENT_METADATA_SERVICE_CACHE, ObjectStoreSettings.builder().persistent(true).build()));
   }
 
   private Optional<String> getSystemProperty(String propertyName) {
@@ -79,12 +114,20 @@ public class DefaultPersistentMetadataCacheManager implements MetadataCacheManag
 
   @Override
   public MetadataCache getOrCreateCache(String id) {
-    return withKeyLock(id, key -> {
+    List<String> evicted = new ArrayList<>();
+    MetadataCache cache = withKeyLock(id, key -> {
       try {
-        if (metadataStore.get().contains(key)) {
+        if (isExpired(key)) {
+          LOGGER.debug("Evicting expired cache " + id);
+          removeIfPresent(key);
+        } else if (metadataStore.get().contains(key)) {
+          evicted.addAll(touch(key));
+          hits.increment();
           return metadataStore.get().retrieve(key);
         }
 
+        evicted.addAll(touch(key));
+        misses.increment();
         LOGGER.debug("Creating new cache " + id);
         DefaultMetadataCache metadataCache = new DefaultMetadataCache();
         metadataStore.get().store(key, metadataCache);
@@ -97,13 +140,18 @@ public class DefaultPersistentMetadataCacheManager implements MetadataCacheManag
         throw new RuntimeException(msg, e);
       }
     });
+
+    evict(evicted);
+    return cache;
   }
 
   @Override
   public void updateCache(String id, MetadataCache cache) {
+    List<String> evicted = new ArrayList<>();
     withKeyLock(id, key -> {
       try {
         LOGGER.debug("updateCache Key: " + id);
+        evicted.addAll(touch(key));
         if (metadataStore.get().contains(key)) {
           metadataStore.get().remove(key);
         }
@@ -116,6 +164,8 @@ public class DefaultPersistentMetadataCacheManager implements MetadataCacheManag
       }
       return null;
     });
+
+    evict(evicted);
   }
 
   @Override
@@ -125,6 +175,7 @@ public class DefaultPersistentMetadataCacheManager implements MetadataCacheManag
         if (isBlank(keyHash)) {
           clearMetadataCaches();
         } else {
+          forget(key);
           metadataStore.get().remove(key);
         }
       } catch (ObjectDoesNotExistException e) {
@@ -163,6 +214,10 @@ public class DefaultPersistentMetadataCacheManager implements MetadataCacheManag
 
   private void clearMetadataCaches() {
     try {
+      synchronized (lastAccesses) {
+        lastAccesses.clear();
+        lastAccessesLoaded = true;
+      }
       metadataStore.get().clear();
     } catch (ObjectStoreException e) {
       String msg = format("An error occurred while clearing MetadataCaches: %s", e.getMessage());
@@ -171,6 +226,116 @@ public class DefaultPersistentMetadataCacheManager implements MetadataCacheManag
     }
   }
 
+  /**
+   * @return how many times an existing cache was requested.
+   */
+  public long getCacheHits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return how many times a cache was requested and had to be created because it didn't exist or had expired.
+   */
+  public long getCacheMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return how many caches were evicted for exceeding the maximum amount of caches or for having expired.
+   */
+  public long getCacheEvictions() {
+    return evictions.sum();
+  }
+
+  private boolean isExpired(String key) {
+    if (entryTtl <= 0) {
+      return false;
+    }
+    synchronized (lastAccesses) {
+      Long lastAccess = lastAccesses.get(key);
+      return lastAccess != null && currentTimeMillis() - lastAccess > entryTtl;
+    }
+  }
+
+  /**
+   * Records an access to the cache with the given {@code key}, which must be done while holding its lock.
+   *
+   * @return the keys of the caches to evict, which have to be removed once that lock is released.
+   */
+  private List<String> touch(String key) {
+    final long now = currentTimeMillis();
+    List<String> evicted = new ArrayList<>();
+
+    synchronized (lastAccesses) {
+      loadLastAccesses(now);
+      lastAccesses.put(key, now);
+
+      boolean expire = entryTtl > 0 && now - lastExpiration >= expirationInterval;
+      if (expire) {
+        lastExpiration = now;
+      }
+
+      Iterator<Entry<String, Long>> iterator = lastAccesses.entrySet().iterator();
+      while (iterator.hasNext()) {
+        Entry<String, Long> eldest = iterator.next();
+        if (eldest.getKey().equals(key)
+            || (lastAccesses.size() <= maxEntries && !(expire && now - eldest.getValue() > entryTtl))) {
+          break;
+        }
+        iterator.remove();
+        evicted.add(eldest.getKey());
+      }
+    }
+
+    return evicted;
+  }
+
+  private void loadLastAccesses(long now) {
+    if (lastAccessesLoaded) {
+      return;
+    }
+    lastAccessesLoaded = true;
+    try {
+      metadataStore.get().allKeys().forEach(key -> lastAccesses.putIfAbsent(key, now));
+    } catch (ObjectStoreException e) {
+      LOGGER.warn(format("Could not fetch the keys of the persisted MetadataCaches, they will not be evicted: %s",
+                         e.getMessage()));
+    }
+  }
+
+  private void forget(String key) {
+    synchronized (lastAccesses) {
+      lastAccesses.remove(key);
+    }
+  }
+
+  private void evict(List<String> keys) {
+    keys.forEach(id -> withKeyLock(id, key -> {
+      synchronized (lastAccesses) {
+        if (lastAccesses.containsKey(key)) {
+          // accessed again since it was picked for eviction
+          return null;
+        }
+      }
+      try {
+        LOGGER.debug("Evicting cache " + key);
+        removeIfPresent(key);
+      } catch (ObjectStoreException e) {
+        LOGGER.debug(format("Failed to evict the MetadataCache with ID '%s': %s", key, e.getMessage()));
+      }
+      return null;
+    }));
+  }
+
+  private void removeIfPresent(String key) throws ObjectStoreException {
+    try {
+      metadataStore.get().remove(key);
+      evictions.increment();
+    } catch (ObjectDoesNotExistException e) {
+      // already gone
+    }
+  }
+
   private <T> T withKeyLock(String key, Function<String, T> producer) {
     Lock lock = lockFactory.createLock(key);
     lock.lock();
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.chain;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+import static java.lang.Boolean.getBoolean;
+import static java.lang.System.nanoTime;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import static reactor.core.publisher.Flux.from;
+
+import org.mule.runtime.api.component.Component;
+import org.mule.runtime.api.event.EventContext;
+import org.mule.runtime.core.api.management.stats.AllStatistics;
+import org.mule.runtime.core.api.management.stats.LatencyHistogram;
+import org.mule.runtime.core.api.processor.Processor;
+import org.mule.runtime.core.api.processor.ReactiveProcessor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+
+/**
+ * Records the time each event takes to go through a processor in the {@link LatencyHistogram} for the processor's location.
+ * <p>
+ * This is only done when {@link #PROCESSOR_LATENCY_PROPERTY enabled} and the statistics are enabled, since it adds work for
+ * every processor and event. As {@link ProcessorProfilingInterceptor} does, the start time of each event is kept apart from the
+ * event, by its {@link EventContext}. Events that fail in the processor are handled outside of this interceptor, so their
+ * latency is not recorded. Their entries are weakly referenced so they don't leak.
+ *
+ * @since 4.2
+ */
+public final class ProcessorLatencyInterceptor implements BiFunction<Processor, ReactiveProcessor, ReactiveProcessor> {
+
+  /**
+   * Whether to record the latency of each processor of the application. Statistics must be enabled as well.
+   */
+  public static final String PROCESSOR_LATENCY_PROPERTY = SYSTEM_PROPERTY_PREFIX + "processorLatency.enabled";
+
+  public static final boolean PROCESSOR_LATENCY_ENABLED = getBoolean(PROCESSOR_LATENCY_PROPERTY);
+
+  private final AllStatistics statistics;
+
+  public ProcessorLatencyInterceptor(AllStatistics statistics) {
+    this.statistics = statistics;
+  }
+
+  @Override
+  public ReactiveProcessor apply(Processor processor, ReactiveProcessor next) {
+    if (!statistics.isEnabled() || !(processor instanceof Component) || ((Component) processor).getLocation() == null) {
+      return next;
+    }
+
+    final LatencyHistogram latencyHistogram =
+        statistics.getProcessorLatencyHistogram(((Component) processor).getLocation().getLocation());
+    final Cache<EventContext, Long> startTimes = newBuilder().weakKeys().build();
+    final ConcurrentMap<EventContext, Long> startTimesMap = startTimes.asMap();
+
+    return stream -> from(stream)
+        .doOnNext(event -> startTimesMap.put(event.getContext(), nanoTime()))
+        .transform(next)
+        .doOnNext(result -> {
+          final Long startTime = startTimesMap.remove(result.getContext());
+          if (startTime != null) {
+            latencyHistogram.record(nanoTime() - startTime);
+          }
+        });
+  }
+}
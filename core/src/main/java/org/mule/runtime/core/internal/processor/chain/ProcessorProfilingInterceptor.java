@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.chain;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+import static java.lang.Boolean.getBoolean;
+import static java.lang.Integer.getInteger;
+import static java.lang.Math.max;
+import static java.lang.Thread.currentThread;
+import static java.lang.management.ManagementFactory.getThreadMXBean;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import static reactor.core.publisher.Flux.from;
+
+import org.mule.runtime.api.component.Component;
+import org.mule.runtime.api.event.EventContext;
+import org.mule.runtime.core.api.management.stats.AllStatistics;
+import org.mule.runtime.core.api.management.stats.ProcessorProfile;
+import org.mule.runtime.core.api.processor.Processor;
+import org.mule.runtime.core.api.processor.ReactiveProcessor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+
+/**
+ * Records the CPU time and the memory allocated by each processor in the {@link ProcessorProfile} for the processor's location.
+ * <p>
+ * Only one in every {@link #PROCESSOR_PROFILING_SAMPLING_RATE_PROPERTY samplingRate} events is measured. Since the CPU time and
+ * allocations are those of the current thread, this must run on the thread that executes the processor, and executions that
+ * complete in a different thread than the one they started in are not accounted for.
+ *
+ * @since 4.2
+ */
+public final class ProcessorProfilingInterceptor implements BiFunction<Processor, ReactiveProcessor, ReactiveProcessor> {
+
+  /**
+   * Whether to profile the processors of the application.
+   */
+  public static final String PROCESSOR_PROFILING_PROPERTY = SYSTEM_PROPERTY_PREFIX + "processorProfiling.enabled";
+
+  /**
+   * Profile one in every this many events. Defaults to {@code 100}.
+   */
+  public static final String PROCESSOR_PROFILING_SAMPLING_RATE_PROPERTY =
+      SYSTEM_PROPERTY_PREFIX + "processorProfiling.samplingRate";
+
+  public static final boolean PROCESSOR_PROFILING_ENABLED = getBoolean(PROCESSOR_PROFILING_PROPERTY);
+
+  private static final int SAMPLING_RATE = max(getInteger(PROCESSOR_PROFILING_SAMPLING_RATE_PROPERTY, 100), 1);
+
+  private static final ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+  private static final com.sun.management.ThreadMXBean ALLOCATION_MX_BEAN = allocationMXBean();
+
+  private final AllStatistics statistics;
+  private final int samplingRate;
+
+  public ProcessorProfilingInterceptor(AllStatistics statistics) {
+    this(statistics, SAMPLING_RATE);
+  }
+
+  ProcessorProfilingInterceptor(AllStatistics statistics, int samplingRate) {
+    this.statistics = statistics;
+    this.samplingRate = samplingRate;
+  }
+
+  @Override
+  public ReactiveProcessor apply(Processor processor, ReactiveProcessor next) {
+    if (!(processor instanceof Component) || ((Component) processor).getLocation() == null
+        || !THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() || !THREAD_MX_BEAN.isThreadCpuTimeEnabled()) {
+      return next;
+    }
+
+    final ProcessorProfile profile = statistics.getProcessorProfile(((Component) processor).getLocation().getLocation());
+    final Cache<EventContext, Measurement> measurements = newBuilder().weakKeys().build();
+    final ConcurrentMap<EventContext, Measurement> measurementsMap = measurements.asMap();
+
+    return stream -> from(stream)
+        .doOnNext(event -> {
+          if (isSampled(event.getContext().getId())) {
+            measurementsMap.put(event.getContext(), new Measurement());
+          }
+        })
+        .transform(next)
+        .doOnNext(result -> {
+          final Measurement measurement = measurementsMap.remove(result.getContext());
+          if (measurement != null && measurement.thread == currentThread().getId()) {
+            profile.record(THREAD_MX_BEAN.getCurrentThreadCpuTime() - measurement.cpuTime,
+                           measurement.allocatedBytes < 0 ? -1 : allocatedBytes(measurement.thread) - measurement.allocatedBytes);
+          }
+        });
+  }
+
+  private boolean isSampled(String eventId) {
+    return samplingRate == 1 || (eventId.hashCode() & Integer.MAX_VALUE) % samplingRate == 0;
+  }
+
+  private static long allocatedBytes(long threadId) {
+    return ALLOCATION_MX_BEAN != null ? ALLOCATION_MX_BEAN.getThreadAllocatedBytes(threadId) : -1;
+  }
+
+  private static com.sun.management.ThreadMXBean allocationMXBean() {
+    if (THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean) {
+      com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) THREAD_MX_BEAN;
+      if (allocationMXBean.isThreadAllocatedMemorySupported() && allocationMXBean.isThreadAllocatedMemoryEnabled()) {
+        return allocationMXBean;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * The values of the thread executing the processor when it started.
+   */
+  private static final class Measurement {
+
+    private final long thread = currentThread().getId();
+    private final long cpuTime = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+    private final long allocatedBytes = allocatedBytes(thread);
+  }
+}
@@ -16,7 +16,9 @@ import org.mule.runtime.api.lifecycle.Disposable;
 import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.core.api.construct.FlowConstruct;
 import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.management.stats.ProcessingStrategyStatistics;
 import org.mule.runtime.core.api.processor.ReactiveProcessor;
+import org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType;
 import org.mule.runtime.core.api.processor.Sink;
 import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
 import org.mule.runtime.core.internal.exception.MessagingException;
@@ -36,6 +38,22 @@ public abstract class AbstractProcessingStrategy implements ProcessingStrategy {
 
   public static final String PROCESSOR_SCHEDULER_CONTEXT_KEY = "mule.nb.processorScheduler";
 
+  private ProcessingStrategyStatistics statistics;
+
+  /**
+   * Sets where to record the queueing delay and service time of the tasks this strategy submits to schedulers. Must be called
+   * before the pipeline is built.
+   *
+   * @param statistics the statistics for the flow this strategy belongs to, or {@code null} to disable instrumentation.
+   */
+  public void setStatistics(ProcessingStrategyStatistics statistics) {
+    this.statistics = statistics;
+  }
+
+  protected ProcessingStrategyStatistics getStatistics() {
+    return statistics;
+  }
+
   @Override
   public Sink createSink(FlowConstruct flowConstruct, ReactiveProcessor pipeline) {
     return new DirectSink(pipeline, createOnEventConsumer(), SMALL_BUFFER_SIZE);
@@ -54,6 +72,18 @@ public abstract class AbstractProcessingStrategy implements ProcessingStrategy {
     return scheduler;
   }
 
+  /**
+   * Decorates the given executor to record the metrics of its tasks in the {@link #setStatistics(ProcessingStrategyStatistics)
+   * statistics}, if any.
+   *
+   * @param executor the executor to instrument.
+   * @param processingType the type of processing the executor runs.
+   * @return the instrumented executor, or {@code executor} if this strategy has no statistics.
+   */
+  protected ExecutorService instrument(ExecutorService executor, ProcessingType processingType) {
+    return statistics == null ? executor : new InstrumentedExecutorService(executor, statistics, processingType.name());
+  }
+
   /**
    * Implementation of {@link Sink} using Reactor's {@link FluxSink} to accept events.
    */
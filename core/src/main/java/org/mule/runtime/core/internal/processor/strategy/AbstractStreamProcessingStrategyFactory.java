@@ -163,6 +163,9 @@ abstract class AbstractStreamProcessingStrategyFactory extends AbstractProcessin
       WorkQueueProcessor<CoreEvent> processor =
           WorkQueueProcessor.<CoreEvent>builder().executor(ringBufferSchedulerSupplier.get()).bufferSize(bufferSize)
               .waitStrategy(waitStrategy.getReactorWaitStrategy()).build();
+      if (getStatistics() != null) {
+        getStatistics().setRingBuffer(processor::getPending, bufferSize);
+      }
       int subscriberCount = maxConcurrency < subscribers ? maxConcurrency : subscribers;
       CountDownLatch completionLatch = new CountDownLatch(subscriberCount);
       for (int i = 0; i < subscriberCount; i++) {
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.strategy;
+
+import static java.lang.System.nanoTime;
+
+import org.mule.runtime.core.api.management.stats.LatencyHistogram;
+import org.mule.runtime.core.api.management.stats.ProcessingStrategyStatistics;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@link ExecutorService} decorator that records in a {@link ProcessingStrategyStatistics} how long each task waits until it
+ * starts running and how long it runs for, and how many tasks are rejected.
+ *
+ * @since 4.2
+ */
+final class InstrumentedExecutorService implements ExecutorService {
+
+  private final ExecutorService delegate;
+  private final ProcessingStrategyStatistics statistics;
+  private final LatencyHistogram queueingDelay;
+  private final LatencyHistogram serviceTime;
+
+  /**
+   * @param delegate the executor to run the tasks in.
+   * @param statistics where to record the metrics.
+   * @param schedulerType the kind of scheduler {@code delegate} is, to record the metrics for.
+   */
+  InstrumentedExecutorService(ExecutorService delegate, ProcessingStrategyStatistics statistics, String schedulerType) {
+    this.delegate = delegate;
+    this.statistics = statistics;
+    this.queueingDelay = statistics.getQueueingDelayHistogram(schedulerType);
+    this.serviceTime = statistics.getServiceTimeHistogram(schedulerType);
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    try {
+      delegate.execute(new InstrumentedRunnable(command));
+    } catch (RejectedExecutionException e) {
+      statistics.incrementRejections();
+      throw e;
+    }
+  }
+
+  @Override
+  public Future<?> submit(Runnable task) {
+    try {
+      return delegate.submit(new InstrumentedRunnable(task));
+    } catch (RejectedExecutionException e) {
+      statistics.incrementRejections();
+      throw e;
+    }
+  }
+
+  @Override
+  public <T> Future<T> submit(Runnable task, T result) {
+    try {
+      return delegate.submit(new InstrumentedRunnable(task), result);
+    } catch (RejectedExecutionException e) {
+      statistics.incrementRejections();
+      throw e;
+    }
+  }
+
+  @Override
+  public <T> Future<T> submit(Callable<T> task) {
+    try {
+      return delegate.submit(new InstrumentedCallable<>(task));
+    } catch (RejectedExecutionException e) {
+      statistics.incrementRejections();
+      throw e;
+    }
+  }
+
+  @Override
+  public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
+    return delegate.invokeAll(tasks);
+  }
+
+  @Override
+  public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+      throws InterruptedException {
+    return delegate.invokeAll(tasks, timeout, unit);
+  }
+
+  @Override
+  public <T> T invokeAny(Collection<? extends Callable<T>> tasks) throws InterruptedException, ExecutionException {
+    return delegate.invokeAny(tasks);
+  }
+
+  @Override
+  public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+      throws InterruptedException, ExecutionException, TimeoutException {
+    return delegate.invokeAny(tasks, timeout, unit);
+  }
+
+  @Override
+  public void shutdown() {
+    delegate.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    return delegate.shutdownNow();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return delegate.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return delegate.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return delegate.awaitTermination(timeout, unit);
+  }
+
+  private final class InstrumentedRunnable implements Runnable {
+
+    private final Runnable task;
+    private final long submittedNanos = nanoTime();
+
+    private InstrumentedRunnable(Runnable task) {
+      this.task = task;
+    }
+
+    @Override
+    public void run() {
+      final long startNanos = nanoTime();
+      queueingDelay.record(startNanos - submittedNanos);
+      try {
+        task.run();
+      } finally {
+        serviceTime.record(nanoTime() - startNanos);
+      }
+    }
+  }
+
+  private final class InstrumentedCallable<T> implements Callable<T> {
+
+    private final Callable<T> task;
+    private final long submittedNanos = nanoTime();
+
+    private InstrumentedCallable(Callable<T> task) {
+      this.task = task;
+    }
+
+    @Override
+    public T call() throws Exception {
+      final long startNanos = nanoTime();
+      queueingDelay.record(startNanos - submittedNanos);
+      try {
+        return task.call();
+      } finally {
+        serviceTime.record(nanoTime() - startNanos);
+      }
+    }
+  }
+}
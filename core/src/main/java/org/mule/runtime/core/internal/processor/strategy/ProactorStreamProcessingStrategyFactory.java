@@ -14,9 +14,11 @@ import static java.time.Duration.ofMillis;
 import static org.mule.runtime.api.util.DataUnit.KB;
 import static org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType.BLOCKING;
 import static org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType.CPU_INTENSIVE;
+import static org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType.CPU_LITE;
 import static org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType.IO_RW;
 import static org.mule.runtime.core.api.rx.Exceptions.unwrap;
 import static org.mule.runtime.core.internal.context.thread.notification.ThreadNotificationLogger.THREAD_NOTIFICATION_LOGGER_CONTEXT_KEY;
+import static org.mule.runtime.core.internal.context.thread.notification.ThreadNotificationLogger.isSampledEvent;
 import static org.slf4j.LoggerFactory.getLogger;
 import static reactor.core.publisher.Flux.from;
 import static reactor.core.publisher.Flux.just;
@@ -36,6 +38,7 @@ import org.mule.runtime.core.internal.context.thread.notification.ThreadLoggingE
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Supplier;
 
@@ -179,7 +182,11 @@ public class ProactorStreamProcessingStrategyFactory extends ReactorStreamProces
     }
 
     private ReactiveProcessor proactor(ReactiveProcessor processor, Scheduler scheduler) {
-      reactor.core.scheduler.Scheduler publishOnScheduler = fromExecutorService(decorateScheduler(getCpuLightScheduler()));
+      reactor.core.scheduler.Scheduler publishOnScheduler =
+          fromExecutorService(instrument(decorateScheduler(getCpuLightScheduler()), CPU_LITE));
+      final ExecutorService processorExecutor =
+          instrument(decorateScheduler(scheduler), processor.getProcessingType() == CPU_INTENSIVE ? CPU_INTENSIVE : BLOCKING);
+      final reactor.core.scheduler.Scheduler subscribeOnScheduler = fromExecutorService(processorExecutor);
 
       return publisher -> from(publisher).flatMap(event -> {
         if (processor.getProcessingType() == IO_RW && !scheduleIoRwEvent(event)) {
@@ -189,7 +196,7 @@ public class ProactorStreamProcessingStrategyFactory extends ReactorStreamProces
               .transform(processor)
               .subscriberContext(ctx -> ctx.put(PROCESSOR_SCHEDULER_CONTEXT_KEY, getCpuLightScheduler()));
         } else {
-          return scheduleProcessor(processor, publishOnScheduler, scheduler, event);
+          return scheduleProcessor(processor, publishOnScheduler, scheduler, processorExecutor, subscribeOnScheduler, event);
         }
       }, max(maxConcurrency / (getParallelism() * subscribers), 1));
     }
@@ -201,33 +208,39 @@ public class ProactorStreamProcessingStrategyFactory extends ReactorStreamProces
 
     private Publisher<CoreEvent> scheduleProcessor(ReactiveProcessor processor,
                                                    reactor.core.scheduler.Scheduler eventLoopScheduler,
-                                                   Scheduler processorScheduler, CoreEvent event) {
-      return scheduleWithLogging(processor, eventLoopScheduler, processorScheduler, event)
+                                                   Scheduler processorScheduler, ExecutorService processorExecutor,
+                                                   reactor.core.scheduler.Scheduler subscribeOnScheduler, CoreEvent event) {
+      return scheduleWithLogging(processor, eventLoopScheduler, processorExecutor, subscribeOnScheduler, event)
           .subscriberContext(ctx -> ctx.put(PROCESSOR_SCHEDULER_CONTEXT_KEY, processorScheduler))
           .doOnError(RejectedExecutionException.class,
-                     throwable -> LOGGER
-                         .trace("Shared scheduler {} is busy. Scheduling of the current event will be retried after {}ms.",
-                                processorScheduler.getName(), SCHEDULER_BUSY_RETRY_INTERVAL_MS))
+                     throwable -> {
+                       LOGGER.trace("Shared scheduler {} is busy. Scheduling of the current event will be retried after {}ms.",
+                                    processorScheduler.getName(), SCHEDULER_BUSY_RETRY_INTERVAL_MS);
+                       if (getStatistics() != null) {
+                         getStatistics().incrementRetries();
+                       }
+                     })
           .retryWhen(onlyIf(ctx -> RejectedExecutionException.class.isAssignableFrom(unwrap(ctx.exception()).getClass()))
               .backoff(ctx -> new BackoffDelay(ofMillis(SCHEDULER_BUSY_RETRY_INTERVAL_MS)))
               .withBackoffScheduler(fromExecutorService(getCpuLightScheduler())));
     }
 
     private Flux<CoreEvent> scheduleWithLogging(ReactiveProcessor processor, reactor.core.scheduler.Scheduler eventLoopScheduler,
-                                                Scheduler processorScheduler, CoreEvent event) {
-      if (isThreadLoggingEnabled) {
+                                                ExecutorService processorExecutor,
+                                                reactor.core.scheduler.Scheduler subscribeOnScheduler, CoreEvent event) {
+      if (isThreadLoggingEnabled && isSampledEvent(event.getContext().getId())) {
         return just(event)
             .flatMap(e -> Mono.subscriberContext()
                 .flatMap(ctx -> Mono.just(e).transform(processor)
                     .publishOn(eventLoopScheduler)
                     .subscribeOn(fromExecutorService(new ThreadLoggingExecutorServiceDecorator(ctx
-                        .getOrEmpty(THREAD_NOTIFICATION_LOGGER_CONTEXT_KEY), decorateScheduler(processorScheduler),
+                        .getOrEmpty(THREAD_NOTIFICATION_LOGGER_CONTEXT_KEY), processorExecutor,
                                                                                                e.getContext().getId())))));
       } else {
         return just(event)
             .transform(processor)
             .publishOn(eventLoopScheduler)
-            .subscribeOn(fromExecutorService(decorateScheduler(processorScheduler)));
+            .subscribeOn(subscribeOnScheduler);
       }
     }
 
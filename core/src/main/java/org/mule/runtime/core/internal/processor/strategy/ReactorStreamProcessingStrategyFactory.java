@@ -81,7 +81,8 @@ public class ReactorStreamProcessingStrategyFactory extends AbstractStreamProces
 
     @Override
     public ReactiveProcessor onPipeline(ReactiveProcessor pipeline) {
-      reactor.core.scheduler.Scheduler scheduler = fromExecutorService(decorateScheduler(getCpuLightScheduler()));
+      reactor.core.scheduler.Scheduler scheduler =
+          fromExecutorService(instrument(decorateScheduler(getCpuLightScheduler()), CPU_LITE));
       if (maxConcurrency > subscribers) {
         return publisher -> from(publisher)
             .parallel(parallelism)
@@ -94,7 +95,8 @@ public class ReactorStreamProcessingStrategyFactory extends AbstractStreamProces
 
     @Override
     public ReactiveProcessor onProcessor(ReactiveProcessor processor) {
-      reactor.core.scheduler.Scheduler cpuLightScheduler = fromExecutorService(decorateScheduler(getCpuLightScheduler()));
+      reactor.core.scheduler.Scheduler cpuLightScheduler =
+          fromExecutorService(instrument(decorateScheduler(getCpuLightScheduler()), CPU_LITE));
       if (processor.getProcessingType() == CPU_LITE_ASYNC) {
         return publisher -> from(publisher)
             .transform(processor)
@@ -63,7 +63,7 @@ public class WorkQueueProcessingStrategyFactory extends AbstractProcessingStrate
     @Override
     public ReactiveProcessor onPipeline(ReactiveProcessor pipeline) {
       return publisher -> from(publisher)
-          .publishOn(fromExecutorService(decorateScheduler(ioScheduler)))
+          .publishOn(fromExecutorService(instrument(decorateScheduler(ioScheduler), BLOCKING)))
           .transform(pipeline)
           .subscriberContext(ctx -> ctx.put(PROCESSOR_SCHEDULER_CONTEXT_KEY, ioScheduler));
     }
@@ -73,7 +73,7 @@ public class WorkQueueProcessingStrategyFactory extends AbstractProcessingStrate
       if (processor.getProcessingType() == CPU_LITE_ASYNC) {
         return publisher -> from(publisher)
             .transform(processor)
-            .publishOn(fromExecutorService(decorateScheduler(ioScheduler)));
+            .publishOn(fromExecutorService(instrument(decorateScheduler(ioScheduler), BLOCKING)));
       } else {
         return super.onProcessor(processor);
       }
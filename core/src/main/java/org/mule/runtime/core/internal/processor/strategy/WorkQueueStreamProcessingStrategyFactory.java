@@ -10,6 +10,7 @@ import static java.util.Objects.requireNonNull;
 import static org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType.BLOCKING;
 import static org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType.CPU_LITE_ASYNC;
 import static org.mule.runtime.core.internal.context.thread.notification.ThreadNotificationLogger.THREAD_NOTIFICATION_LOGGER_CONTEXT_KEY;
+import static org.mule.runtime.core.internal.context.thread.notification.ThreadNotificationLogger.isSampledEvent;
 import static reactor.core.publisher.Flux.from;
 import static reactor.core.publisher.Flux.just;
 import static reactor.core.scheduler.Schedulers.fromExecutorService;
@@ -29,6 +30,7 @@ import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 
 /**
@@ -86,16 +88,22 @@ public class WorkQueueStreamProcessingStrategyFactory extends AbstractStreamProc
     @Override
     public ReactiveProcessor onPipeline(ReactiveProcessor pipeline) {
       if (maxConcurrency > subscribers) {
+        final ExecutorService blockingExecutor = instrument(decorateScheduler(blockingScheduler), BLOCKING);
+        final reactor.core.scheduler.Scheduler subscribeOnScheduler = fromExecutorService(blockingExecutor);
         if (isThreadLoggingEnabled) {
-          return publisher -> from(publisher).flatMap(event -> Mono.subscriberContext()
-              .flatMap(ctx -> Mono.just(event).transform(pipeline)
-                  .subscribeOn(fromExecutorService(new ThreadLoggingExecutorServiceDecorator(ctx
-                      .getOrEmpty(THREAD_NOTIFICATION_LOGGER_CONTEXT_KEY), decorateScheduler(blockingScheduler),
-                                                                                             event.getContext().getId())))));
+          return publisher -> from(publisher).flatMap(event -> isSampledEvent(event.getContext().getId())
+              ? Mono.subscriberContext()
+                  .flatMap(ctx -> Mono.just(event).transform(pipeline)
+                      .subscribeOn(fromExecutorService(new ThreadLoggingExecutorServiceDecorator(ctx
+                          .getOrEmpty(THREAD_NOTIFICATION_LOGGER_CONTEXT_KEY), blockingExecutor,
+                                                                                                 event.getContext().getId()))))
+              : Mono.just(event).transform(pipeline)
+                  .subscribeOn(subscribeOnScheduler)
+                  .subscriberContext(ctx -> ctx.put(PROCESSOR_SCHEDULER_CONTEXT_KEY, blockingScheduler)));
         } else {
           return publisher -> from(publisher)
               .flatMap(event -> just(event).transform(pipeline)
-                  .subscribeOn(fromExecutorService(decorateScheduler(blockingScheduler)))
+                  .subscribeOn(subscribeOnScheduler)
                   .subscriberContext(ctx -> ctx.put(PROCESSOR_SCHEDULER_CONTEXT_KEY, blockingScheduler)),
                        maxConcurrency);
         }
@@ -107,8 +115,9 @@ public class WorkQueueStreamProcessingStrategyFactory extends AbstractStreamProc
     @Override
     public ReactiveProcessor onProcessor(ReactiveProcessor processor) {
       if (processor.getProcessingType() == CPU_LITE_ASYNC) {
-        return publisher -> from(publisher).transform(processor)
-            .publishOn(fromExecutorService(decorateScheduler(blockingScheduler)));
+        final reactor.core.scheduler.Scheduler publishOnScheduler =
+            fromExecutorService(instrument(decorateScheduler(blockingScheduler), BLOCKING));
+        return publisher -> from(publisher).transform(processor).publishOn(publishOnScheduler);
       } else {
         return super.onProcessor(processor);
       }
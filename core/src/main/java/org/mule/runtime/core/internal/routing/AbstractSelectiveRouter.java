@@ -77,6 +77,9 @@ public abstract class AbstractSelectiveRouter extends AbstractComponent implemen
         initialiseIfNeeded(o, muleContext);
       }
     }
+    if (muleContext != null && muleContext.getStatistics() != null && getLocation() != null) {
+      muleContext.getStatistics().addRouterStatistics(getLocation().getLocation(), routerStatistics);
+    }
     initialised.set(true);
   }
 
@@ -117,6 +120,9 @@ public abstract class AbstractSelectiveRouter extends AbstractComponent implemen
         }
       }
     }
+    if (muleContext != null && muleContext.getStatistics() != null && getLocation() != null) {
+      muleContext.getStatistics().removeRouterStatistics(getLocation().getLocation());
+    }
   }
 
   @Override
@@ -6,9 +6,17 @@
  */
 package org.mule.runtime.core.internal.streaming;
 
+import static java.lang.System.nanoTime;
+import static java.util.Optional.of;
+import static java.util.Optional.ofNullable;
+
+import org.mule.runtime.api.component.Component;
+import org.mule.runtime.api.component.location.ComponentLocation;
 import org.mule.runtime.api.streaming.CursorProvider;
 import org.mule.runtime.core.privileged.event.BaseEventContext;
 
+import java.util.Optional;
+
 /**
  * Groups a {@link CursorProvider} with information about its context
  *
@@ -18,6 +26,7 @@ public final class CursorContext {
 
   private final CursorProvider cursorProvider;
   private final BaseEventContext ownerContext;
+  private final long creationNanos = nanoTime();
 
   /**
    * Creates a new instance
@@ -43,4 +52,23 @@ public final class CursorContext {
   public BaseEventContext getOwnerContext() {
     return ownerContext;
   }
+
+  /**
+   * @return the value of {@link System#nanoTime()} when this context was created
+   * @since 4.2
+   */
+  public long getCreationNanos() {
+    return creationNanos;
+  }
+
+  /**
+   * @return the location of the component that created the {@code cursorProvider}, if known
+   * @since 4.2
+   */
+  public Optional<ComponentLocation> getCreatorLocation() {
+    if (cursorProvider instanceof Component && ((Component) cursorProvider).getLocation() != null) {
+      return of(((Component) cursorProvider).getLocation());
+    }
+    return ofNullable(ownerContext.getOriginatingLocation());
+  }
 }
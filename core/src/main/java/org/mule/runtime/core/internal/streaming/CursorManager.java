@@ -6,9 +6,15 @@
  */
 package org.mule.runtime.core.internal.streaming;
 
+import static java.lang.String.format;
+import static java.lang.System.nanoTime;
 import static java.util.Collections.newSetFromMap;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 
+import org.mule.runtime.api.component.location.ComponentLocation;
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.api.streaming.Cursor;
@@ -30,6 +36,8 @@ import com.google.common.cache.RemovalListener;
 import com.google.common.cache.RemovalNotification;
 
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.RejectedExecutionException;
@@ -45,6 +53,16 @@ public class CursorManager {
 
   private static Logger LOGGER = LoggerFactory.getLogger(CursorManager.class);
 
+  /**
+   * How often to look for leaked cursor providers, in milliseconds. Zero or a negative value disables the detection.
+   */
+  public static final String LEAK_DETECTION_PERIOD_PROPERTY = SYSTEM_PROPERTY_PREFIX + "streaming.leakDetection.period";
+
+  /**
+   * How long after the completion of their owner event cursor providers are considered leaked, in milliseconds.
+   */
+  public static final String LEAK_DETECTION_THRESHOLD_PROPERTY = SYSTEM_PROPERTY_PREFIX + "streaming.leakDetection.threshold";
+
   private final LoadingCache<String, EventStreamingState> registry =
       CacheBuilder.newBuilder()
           .removalListener((RemovalNotification<String, EventStreamingState> notification) -> notification.getValue().dispose())
@@ -80,9 +98,9 @@ public class CursorManager {
    */
   public CursorProvider manage(CursorProvider provider, BaseEventContext ownerContext) {
     registerEventContext(ownerContext);
-    registry.getUnchecked(ownerContext.getId()).addProvider(provider);
 
     final CursorContext context = new CursorContext(provider, ownerContext);
+    registry.getUnchecked(ownerContext.getId()).addProvider(context);
     if (provider instanceof CursorStreamProvider) {
       return new ManagedCursorStreamProvider(context, this);
     } else if (provider instanceof CursorIteratorProvider) {
@@ -119,6 +137,24 @@ public class CursorManager {
     }
   }
 
+  /**
+   * Logs a warning for each {@link CursorProvider} that is still open more than {@code thresholdMillis} after the event that
+   * owns it was observed to be complete. Each event is reported only once.
+   * <p>
+   * The providers of completed events are normally released as soon as the event terminates, so these point to either an event
+   * that never terminates or a cursor that is never closed.
+   *
+   * @param thresholdMillis how long after the completion of their owner event providers are considered leaked
+   * @since 4.2
+   */
+  public void detectLeaks(long thresholdMillis) {
+    final long now = nanoTime();
+    final long thresholdNanos = MILLISECONDS.toNanos(thresholdMillis);
+    for (EventStreamingState state : registry.asMap().values()) {
+      state.detectLeaks(now, thresholdNanos);
+    }
+  }
+
   private void terminated(BaseEventContext rootContext) {
     EventStreamingState state = registry.getIfPresent(rootContext.getId());
     if (state != null) {
@@ -141,8 +177,14 @@ public class CursorManager {
     private AtomicBoolean disposed = new AtomicBoolean(false);
     private AtomicInteger cursorCount = new AtomicInteger(0);
 
+    private final Map<CursorProvider, CursorContext> providerContexts = new ConcurrentHashMap<>();
+    private volatile boolean completionObserved = false;
+    private volatile long completionObservedNanos;
+    private volatile boolean leakReported = false;
+
     private final LoadingCache<CursorProvider, Set<Cursor>> cursors = CacheBuilder.newBuilder()
         .removalListener((RemovalListener<CursorProvider, Set<Cursor>>) notification -> {
+          providerContexts.remove(notification.getKey());
           try {
             closeProvider(notification.getKey());
             releaseAll(notification.getValue());
@@ -159,8 +201,45 @@ public class CursorManager {
           }
         });
 
-    private synchronized void addProvider(CursorProvider adapter) {
-      cursors.getUnchecked(adapter);
+    private synchronized void addProvider(CursorContext context) {
+      providerContexts.putIfAbsent(context.getCursorProvider(), context);
+      cursors.getUnchecked(context.getCursorProvider());
+    }
+
+    private void detectLeaks(long now, long thresholdNanos) {
+      if (disposed.get() || leakReported) {
+        return;
+      }
+
+      final Iterator<CursorContext> contexts = providerContexts.values().iterator();
+      if (!contexts.hasNext()) {
+        return;
+      }
+      final BaseEventContext ownerContext = contexts.next().getOwnerContext();
+      if (!ownerContext.isComplete() && !ownerContext.isTerminated()) {
+        return;
+      }
+
+      if (!completionObserved) {
+        completionObservedNanos = now;
+        completionObserved = true;
+        return;
+      }
+
+      if (now - completionObservedNanos < thresholdNanos) {
+        return;
+      }
+
+      leakReported = true;
+      for (CursorContext context : providerContexts.values()) {
+        statistics.incrementLeakedProviders();
+        LOGGER.warn(format("Cursor provider %s of event '%s' is still open %d ms after the event completed. "
+            + "It was created %d ms ago by '%s'. This may be caused by a cursor that is never closed.",
+                           context.getCursorProvider(), ownerContext.getId(),
+                           NANOSECONDS.toMillis(now - completionObservedNanos),
+                           NANOSECONDS.toMillis(now - context.getCreationNanos()),
+                           context.getCreatorLocation().map(ComponentLocation::getLocation).orElse("unknown")));
+      }
     }
 
     private void addCursor(CursorProvider provider, Cursor cursor) {
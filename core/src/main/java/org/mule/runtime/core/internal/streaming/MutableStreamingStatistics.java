@@ -6,9 +6,16 @@
  */
 package org.mule.runtime.core.internal.streaming;
 
+import static java.util.Collections.unmodifiableMap;
+
 import org.mule.runtime.core.api.streaming.StreamingStatistics;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Mutable implementation of {@link StreamingStatistics}
@@ -19,6 +26,8 @@ public class MutableStreamingStatistics implements StreamingStatistics {
 
   private final AtomicInteger openProviders = new AtomicInteger(0);
   private final AtomicInteger openCursors = new AtomicInteger(0);
+  private final LongAdder leakedProviders = new LongAdder();
+  private final ConcurrentMap<String, LongAdder> streamingMemoryByFlow = new ConcurrentHashMap<>();
 
   void incrementOpenProviders() {
     openProviders.incrementAndGet();
@@ -36,6 +45,32 @@ public class MutableStreamingStatistics implements StreamingStatistics {
     openCursors.decrementAndGet();
   }
 
+  void incrementLeakedProviders() {
+    leakedProviders.increment();
+  }
+
+  /**
+   * @return How many cursor providers were found still open long after the event that owns them completed
+   * @since 4.2
+   */
+  public long getLeakedCursorProvidersCount() {
+    return leakedProviders.sum();
+  }
+
+  /**
+   * Accounts for streaming memory allocated or deallocated on behalf of the given flow.
+   *
+   * @param flowName the name of the flow that owns the memory
+   * @param bytes    the amount of bytes allocated, or deallocated if negative
+   */
+  public void addStreamingMemory(String flowName, long bytes) {
+    LongAdder flowMemory = streamingMemoryByFlow.get(flowName);
+    if (flowMemory == null) {
+      flowMemory = streamingMemoryByFlow.computeIfAbsent(flowName, k -> new LongAdder());
+    }
+    flowMemory.add(bytes);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -51,4 +86,19 @@ public class MutableStreamingStatistics implements StreamingStatistics {
   public int getOpenCursorsCount() {
     return openCursors.get();
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Map<String, Long> getStreamingMemoryByFlow() {
+    final Map<String, Long> memoryByFlow = new HashMap<>();
+    streamingMemoryByFlow.forEach((flowName, memory) -> {
+      final long bytes = memory.sum();
+      if (bytes != 0) {
+        memoryByFlow.put(flowName, bytes);
+      }
+    });
+    return unmodifiableMap(memoryByFlow);
+  }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming.bytes;
+
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+
+import org.mule.runtime.api.component.location.ComponentLocation;
+import org.mule.runtime.api.event.EventContext;
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.core.api.streaming.bytes.ByteBufferManager;
+import org.mule.runtime.core.internal.streaming.MutableStreamingStatistics;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link ByteBufferManager} decorator which accounts the memory of the buffers it allocates to the flow that owns them, through
+ * {@link MutableStreamingStatistics#addStreamingMemory(String, long)}.
+ * <p>
+ * Each instance is meant to be used by the buffers of a single cursor provider, so the owner is resolved only once, when the
+ * provider is created.
+ *
+ * @since 4.2
+ */
+public final class FlowAccountingByteBufferManager implements ByteBufferManager {
+
+  static final String UNKNOWN_FLOW = "<unknown>";
+
+  private final ByteBufferManager delegate;
+  private final MutableStreamingStatistics statistics;
+  private final String flowName;
+
+  /**
+   * Creates a new instance
+   *
+   * @param delegate     the {@link ByteBufferManager} that actually allocates the buffers
+   * @param statistics   the statistics to account the allocated memory in
+   * @param eventContext the context of the event the buffers are allocated for
+   */
+  public FlowAccountingByteBufferManager(ByteBufferManager delegate, MutableStreamingStatistics statistics,
+                                         EventContext eventContext) {
+    this.delegate = delegate;
+    this.statistics = statistics;
+    this.flowName = resolveFlowName(eventContext);
+  }
+
+  private static String resolveFlowName(EventContext eventContext) {
+    ComponentLocation location = eventContext != null ? eventContext.getOriginatingLocation() : null;
+    return location != null ? location.getRootContainerName() : UNKNOWN_FLOW;
+  }
+
+  @Override
+  public ByteBuffer allocate(int capacity) {
+    final ByteBuffer buffer;
+    try {
+      buffer = delegate.allocate(capacity);
+    } catch (MuleRuntimeException e) {
+      if (e instanceof MaxStreamingMemoryExceededException || e.getCause() instanceof MaxStreamingMemoryExceededException) {
+        throw new MaxStreamingMemoryExceededException(createStaticMessage(e.getMessage() + " Streaming memory in use by flow: "
+            + statistics.getStreamingMemoryByFlow() + ". Allocation requested by flow '" + flowName + "'."), e);
+      }
+      throw e;
+    }
+
+    statistics.addStreamingMemory(flowName, buffer.capacity());
+    return buffer;
+  }
+
+  @Override
+  public void deallocate(ByteBuffer byteBuffer) {
+    statistics.addStreamingMemory(flowName, -byteBuffer.capacity());
+    delegate.deallocate(byteBuffer);
+  }
+
+  /**
+   * @return the name of the flow the memory allocated through this manager is accounted to
+   */
+  public String getFlowName() {
+    return flowName;
+  }
+}
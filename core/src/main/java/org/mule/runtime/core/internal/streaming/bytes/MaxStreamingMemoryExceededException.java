@@ -24,4 +24,13 @@ public class MaxStreamingMemoryExceededException extends MuleRuntimeException {
     super(message);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * @since 4.2
+   */
+  public MaxStreamingMemoryExceededException(I18nMessage message, Throwable cause) {
+    super(message, cause);
+  }
+
 }
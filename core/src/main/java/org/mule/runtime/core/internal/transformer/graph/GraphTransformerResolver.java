@@ -6,99 +6,100 @@
  */
 package org.mule.runtime.core.internal.transformer.graph;
 
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+import static org.mule.runtime.core.api.config.i18n.CoreMessages.transformHasMultipleMatches;
+
 import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.util.Pair;
 import org.mule.runtime.core.api.transformer.Converter;
 import org.mule.runtime.core.api.transformer.Transformer;
 import org.mule.runtime.core.internal.registry.TransformerResolver;
 import org.mule.runtime.core.internal.transformer.ResolverException;
-import org.mule.runtime.core.api.config.i18n.CoreMessages;
 
-import java.util.List;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import com.github.benmanes.caffeine.cache.Cache;
 
-import org.apache.commons.collections.map.LRUMap;
+import java.util.List;
 
+/**
+ * Resolves {@link Converter}s (or chains of them) by looking for paths in a {@link TransformationGraph}.
+ * <p>
+ * Each pair of {@link DataType}s is looked up in the graph the first time it is resolved, and its resolution is kept in a
+ * bounded cache. The cache is replaced as a whole when the graph changes, so lookups on it don't need to take any lock, and the
+ * ones that were in progress while the graph changed don't pollute the new one.
+ */
 public class GraphTransformerResolver implements TransformerResolver {
 
-  private ReentrantReadWriteLock readWriteLock;
-  private SynchronizedTransformationGraph graph;
-  private CompositeConverterFilter converterFilter;
-  private LRUMap cache;
-  private TransformationGraphLookupStrategy lookupStrategyTransformation;
+  static final int MAX_CACHED_RESOLUTIONS = 100;
+
+  private final SynchronizedTransformationGraph graph;
+  private final CompositeConverterFilter converterFilter;
+  private final TransformationGraphLookupStrategy lookupStrategyTransformation;
+
+  private volatile Cache<Pair<DataType, DataType>, Resolution> cache = createCache();
 
   public GraphTransformerResolver() {
-    this.readWriteLock = new ReentrantReadWriteLock();
     this.graph = new SynchronizedTransformationGraph();
     lookupStrategyTransformation = new TransformationGraphLookupStrategy(graph);
     converterFilter = new CompositeConverterFilter(new TypeMatchingVertexesFilter(),
                                                    new TransformationLengthConverterFilter(),
                                                    new PriorityWeightingConverterFilter(),
                                                    new NameConverterFilter());
-    cache = new LRUMap();
   }
 
   @Override
   public Transformer resolve(DataType source, DataType result) throws ResolverException {
-    String cacheKey = getDataTypeSourceResultPairHash(source, result);
-
-    readWriteLock.readLock().lock();
-    try {
-      if (cache.containsKey(cacheKey)) {
-        return (Converter) cache.get(cacheKey);
-      }
-    } finally {
-      readWriteLock.readLock().unlock();
-    }
+    return cache.get(new Pair<>(source, result), pair -> lookup(source, result)).getTransformer(source, result);
+  }
 
-    List<Converter> converters =
-        converterFilter.filter(lookupStrategyTransformation.lookupConverters(source, result), source, result);
+  private Resolution lookup(DataType source, DataType result) {
+    return new Resolution(converterFilter.filter(lookupStrategyTransformation.lookupConverters(source, result), source,
+                                                 result));
+  }
 
-    if (converters.size() > 1) {
-      throw new ResolverException(CoreMessages.transformHasMultipleMatches(source.getType(), result.getType(), converters));
+  @Override
+  public void transformerChange(Transformer transformer, RegistryAction registryAction) {
+    if (!(transformer instanceof Converter)) {
+      return;
     }
 
-    Transformer converter = (converters.size() == 0) ? null : converters.get(0);
-
+    synchronized (graph) {
+      if (registryAction == RegistryAction.ADDED) {
+        graph.addConverter((Converter) transformer);
+      } else if (registryAction == RegistryAction.REMOVED) {
+        graph.removeConverter((Converter) transformer);
+      }
 
-    readWriteLock.writeLock().lock();
-    try {
-      cache.put(cacheKey, converter);
-    } finally {
-      readWriteLock.writeLock().unlock();
+      // Replaced after changing the graph, so resolutions on the new cache are looked up in the changed graph
+      cache = createCache();
     }
-
-    return converter;
   }
 
-  private String getDataTypeSourceResultPairHash(DataType source, DataType result) {
-    StringBuilder builder = new StringBuilder();
-    builder.append(source.getClass().getName());
-    builder.append(source.hashCode());
-    builder.append(":");
-    builder.append(result.getClass().getName());
-    builder.append(result.hashCode());
+  long getCachedResolutions() {
+    cache.cleanUp();
+    return cache.estimatedSize();
+  }
 
-    return builder.toString();
+  private static Cache<Pair<DataType, DataType>, Resolution> createCache() {
+    return newBuilder().maximumSize(MAX_CACHED_RESOLUTIONS).build();
   }
 
-  @Override
-  public void transformerChange(Transformer transformer, RegistryAction registryAction) {
-    readWriteLock.writeLock().lock();
+  /**
+   * The converters found for a given pair of {@link DataType}s, after applying the {@link ConverterFilter}s.
+   */
+  private static final class Resolution {
 
-    try {
-      if (!(transformer instanceof Converter)) {
-        return;
-      }
+    private final List<Converter> converters;
 
-      cache.clear();
+    private Resolution(List<Converter> converters) {
+      this.converters = converters;
+    }
 
-      if (registryAction == RegistryAction.ADDED) {
-        graph.addConverter((Converter) transformer);
-      } else if (registryAction == RegistryAction.REMOVED) {
-        graph.removeConverter((Converter) transformer);
+    private Transformer getTransformer(DataType source, DataType result) throws ResolverException {
+      if (converters.size() > 1) {
+        throw new ResolverException(transformHasMultipleMatches(source.getType(), result.getType(), converters));
       }
-    } finally {
-      readWriteLock.writeLock().unlock();
+
+      return converters.isEmpty() ? null : converters.get(0);
     }
   }
 }
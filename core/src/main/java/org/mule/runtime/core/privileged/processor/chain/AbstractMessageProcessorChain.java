@@ -20,6 +20,8 @@ import static org.mule.runtime.core.api.util.StreamingUtils.updateEventForStream
 import static org.mule.runtime.core.api.util.StringUtils.isBlank;
 import static org.mule.runtime.core.internal.context.DefaultMuleContext.currentMuleContext;
 import static org.mule.runtime.core.internal.context.thread.notification.ThreadNotificationLogger.THREAD_NOTIFICATION_LOGGER_CONTEXT_KEY;
+import static org.mule.runtime.core.internal.processor.chain.ProcessorLatencyInterceptor.PROCESSOR_LATENCY_ENABLED;
+import static org.mule.runtime.core.internal.processor.chain.ProcessorProfilingInterceptor.PROCESSOR_PROFILING_ENABLED;
 import static org.mule.runtime.core.privileged.event.PrivilegedEvent.setCurrentEvent;
 import static org.mule.runtime.core.privileged.processor.MessageProcessors.processToApply;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -45,6 +47,8 @@ import org.mule.runtime.core.internal.context.thread.notification.ThreadNotifica
 import org.mule.runtime.core.internal.exception.MessagingException;
 import org.mule.runtime.core.internal.interception.InterceptorManager;
 import org.mule.runtime.core.internal.processor.chain.InterceptedReactiveProcessor;
+import org.mule.runtime.core.internal.processor.chain.ProcessorLatencyInterceptor;
+import org.mule.runtime.core.internal.processor.chain.ProcessorProfilingInterceptor;
 import org.mule.runtime.core.internal.processor.interceptor.ReactiveAroundInterceptorAdapter;
 import org.mule.runtime.core.internal.processor.interceptor.ReactiveInterceptorAdapter;
 import org.mule.runtime.core.internal.util.MessagingExceptionResolver;
@@ -238,6 +242,12 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
             // #1 Set back previous TCCL.
             .andThen(doOnNextOrErrorWithContext(TCCL_ORIGINAL_REACTOR_CTX_CONSUMER))));
 
+    // Sample the CPU time and allocations of each processor. This is done before applying the processing strategy so it is
+    // measured on the thread that executes the processor.
+    if (PROCESSOR_PROFILING_ENABLED && muleContext.getStatistics() != null) {
+      interceptors.add(new ProcessorProfilingInterceptor(muleContext.getStatistics()));
+    }
+
     // Apply processing strategy. This is done here to ensure notifications and interceptors do not execute on async processor
     // threads which may be limited to avoid deadlocks.
     if (processingStrategy != null) {
@@ -257,6 +267,11 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
     // Apply processor interceptors around processor and other core logic
     interceptors.addAll(additionalInterceptors);
 
+    // Record the latency of each processor, including the time spent waiting for the processing strategy to execute it
+    if (PROCESSOR_LATENCY_ENABLED && muleContext.getStatistics() != null && muleContext.getStatistics().isEnabled()) {
+      interceptors.add(new ProcessorLatencyInterceptor(muleContext.getStatistics()));
+    }
+
     // #4 Wrap execution, before processing strategy, on flow thread.
     interceptors.add((processor, next) -> stream -> from(stream)
         .doOnNext(preNotification(processor))
@@ -7,9 +7,14 @@
 
 package org.mule.runtime.module.deployment.impl.internal.artifact;
 
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
 import static java.lang.String.format;
+import static java.lang.System.currentTimeMillis;
+import static java.lang.System.identityHashCode;
+import static java.util.Objects.hash;
 import static java.util.stream.Collectors.toSet;
 import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.slf4j.LoggerFactory.getLogger;
 import org.mule.runtime.api.deployment.meta.MulePluginModel;
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.util.Pair;
@@ -22,21 +27,39 @@ import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
 import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
 import org.mule.runtime.module.extension.internal.loader.ExtensionModelLoaderRepository;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.google.common.collect.ImmutableSet;
 
+import java.lang.ref.WeakReference;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import org.slf4j.Logger;
+
 /**
  * Discover the {@link ExtensionModel} based on the {@link ExtensionModelLoader} type.
+ * <p>
+ * The {@link ExtensionModel}s loaded for a plugin are reused when the same plugin {@link ClassLoader} is discovered again with
+ * the same loader parameters and extensions in context, for as long as they are still in use by another artifact. This happens,
+ * for instance, with every instance of a policy template, which share the plugins of the template.
+ * <p>
+ * Models are not reused across artifacts that have their own instance of a plugin, even if it is the same plugin, since the
+ * loaded models reference the classes and resources of the plugin {@link ClassLoader} they were loaded with. For the same
+ * reason they are not persisted across restarts. How long loading each model takes is logged at debug level.
  *
  * @since 4.0
  */
 public class ExtensionModelDiscoverer {
 
+  private static final Logger LOGGER = getLogger(ExtensionModelDiscoverer.class);
+
+  private static final Cache<ExtensionModelKey, ExtensionModel> EXTENSION_MODELS = newBuilder().weakValues().build();
+
   /**
    * For each artifactPlugin discovers the {@link ExtensionModel}.
    *
@@ -122,6 +145,62 @@ public class ExtensionModelDiscoverer {
     if (!extensions.contains(coreModel)) {
       extensions = ImmutableSet.<ExtensionModel>builder().addAll(extensions).add(coreModel).build();
     }
-    return loader.loadExtensionModel(artifactClassloader, getDefault(extensions), loaderDescriber.getAttributes());
+    final Set<ExtensionModel> dependencies = extensions;
+    return EXTENSION_MODELS.get(new ExtensionModelKey(artifactClassloader, loaderDescriber, dependencies), key -> {
+      final long start = currentTimeMillis();
+      final ExtensionModel extensionModel = loadExtensionModel(loader, loaderDescriber, dependencies, artifactClassloader);
+      LOGGER.debug("Loaded the ExtensionModel of plugin '{}' in {} ms", artifactName, currentTimeMillis() - start);
+      return extensionModel;
+    });
+  }
+
+  /**
+   * Loads an {@link ExtensionModel} not found among the ones already loaded.
+   */
+  ExtensionModel loadExtensionModel(ExtensionModelLoader loader, LoaderDescriber loaderDescriber,
+                                    Set<ExtensionModel> dependencies, ClassLoader artifactClassloader) {
+    return loader.loadExtensionModel(artifactClassloader, getDefault(dependencies), loaderDescriber.getAttributes());
+  }
+
+  /**
+   * Identifies the {@link ExtensionModel} loaded from a plugin {@link ClassLoader}. The {@link ClassLoader} is only weakly
+   * referenced, so that an entry left behind by an undeployed plugin doesn't prevent its classes from being unloaded.
+   */
+  private static final class ExtensionModelKey {
+
+    private final WeakReference<ClassLoader> classLoader;
+    private final String loaderId;
+    private final Map<String, Object> attributes;
+    private final Set<String> dependencies;
+    private final int hashCode;
+
+    private ExtensionModelKey(ClassLoader classLoader, LoaderDescriber loaderDescriber, Set<ExtensionModel> dependencies) {
+      this.classLoader = new WeakReference<>(classLoader);
+      this.loaderId = loaderDescriber.getId();
+      this.attributes = new HashMap<>(loaderDescriber.getAttributes());
+      this.dependencies = dependencies.stream().map(e -> e.getName() + ":" + e.getVersion()).collect(toSet());
+      this.hashCode = hash(identityHashCode(classLoader), loaderId, attributes, this.dependencies);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof ExtensionModelKey)) {
+        return false;
+      }
+      ExtensionModelKey other = (ExtensionModelKey) obj;
+      ClassLoader cl = classLoader.get();
+      return cl != null && cl == other.classLoader.get()
+          && loaderId.equals(other.loaderId)
+          && attributes.equals(other.attributes)
+          && dependencies.equals(other.dependencies);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
   }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.module.deployment.impl.internal.artifact;
+
+import static java.util.Collections.singletonList;
+import static java.util.Optional.of;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.util.Pair;
+import org.mule.runtime.deployment.model.api.plugin.ArtifactPluginDescriptor;
+import org.mule.runtime.deployment.model.api.plugin.LoaderDescriber;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
+import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
+import org.mule.runtime.module.extension.internal.loader.ExtensionModelLoaderRepository;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class ExtensionModelDiscovererTestCase extends AbstractMuleTestCase {
+
+  private static final String LOADER_ID = "test";
+
+  private final AtomicInteger loads = new AtomicInteger();
+  private final ExtensionModelLoaderRepository loaderRepository = mock(ExtensionModelLoaderRepository.class);
+  private final ArtifactPluginDescriptor pluginDescriptor = mock(ArtifactPluginDescriptor.class);
+
+  private final ExtensionModelDiscoverer discoverer = new ExtensionModelDiscoverer() {
+
+    @Override
+    ExtensionModel loadExtensionModel(ExtensionModelLoader loader, LoaderDescriber loaderDescriber,
+                                      Set<ExtensionModel> dependencies, ClassLoader artifactClassloader) {
+      loads.incrementAndGet();
+      return mock(ExtensionModel.class);
+    }
+  };
+
+  @Before
+  public void before() {
+    when(loaderRepository.getExtensionModelLoader(any(LoaderDescriber.class))).thenReturn(of(mock(ExtensionModelLoader.class)));
+    when(pluginDescriptor.getName()).thenReturn("plugin");
+    when(pluginDescriptor.getExtensionModelDescriptorProperty()).thenReturn(of(new LoaderDescriber(LOADER_ID)));
+  }
+
+  @Test
+  public void sameClassLoaderReusesModel() {
+    final ClassLoader pluginClassLoader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+
+    final ExtensionModel first = discover(pluginClassLoader);
+    final ExtensionModel second = discover(pluginClassLoader);
+
+    assertThat(second, is(sameInstance(first)));
+    assertThat(loads.get(), is(1));
+  }
+
+  @Test
+  public void otherClassLoaderLoadsModel() {
+    final ExtensionModel first = discover(new URLClassLoader(new URL[0], getClass().getClassLoader()));
+    final ExtensionModel second = discover(new URLClassLoader(new URL[0], getClass().getClassLoader()));
+
+    assertThat(second, is(not(sameInstance(first))));
+    assertThat(loads.get(), is(2));
+  }
+
+  private ExtensionModel discover(ClassLoader pluginClassLoader) {
+    final ArtifactClassLoader artifactClassLoader = mock(ArtifactClassLoader.class);
+    when(artifactClassLoader.getClassLoader()).thenReturn(pluginClassLoader);
+
+    final Set<Pair<ArtifactPluginDescriptor, ExtensionModel>> discovered = discoverer
+        .discoverPluginsExtensionModels(loaderRepository, singletonList(new Pair<>(pluginDescriptor, artifactClassLoader)));
+    return discovered.iterator().next().getSecond();
+  }
+}
@@ -113,6 +113,7 @@ public abstract class ExtensionComponent<T extends ComponentModel> extends Abstr
   private final ValueProviderMediator<T> valueProviderMediator;
   private final ClassTypeLoader typeLoader;
   private final LazyValue<Boolean> requiresConfig = new LazyValue<>(this::computeRequiresConfig);
+  private final LazyValue<MetadataCacheId> metadataCacheId = new LazyValue<>(this::computeMetadataCacheId);
 
   protected final ExtensionManager extensionManager;
   protected final ClassLoader classLoader;
@@ -374,6 +375,10 @@ public abstract class ExtensionComponent<T extends ComponentModel> extends Abstr
   }
 
   private MetadataCacheId getMetadataCacheId() {
+    return metadataCacheId.get();
+  }
+
+  private MetadataCacheId computeMetadataCacheId() {
     return cacheIdGenerator.getIdForGlobalMetadata((ComponentConfiguration) this.getAnnotation(ANNOTATION_COMPONENT_CONFIG))
         .map(id -> {
           if (LOGGER.isDebugEnabled()) {
@@ -9,6 +9,7 @@ package org.mule.runtime.module.extension.internal.runtime.config;
 import org.mule.runtime.api.time.TimeSupplier;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Default implementation of {@link MutableConfigurationStats}
@@ -19,7 +20,10 @@ final class DefaultMutableConfigurationStats implements MutableConfigurationStat
 
   private final AtomicInteger inflightOperations = new AtomicInteger(0);
   private final TimeSupplier timeSupplier;
-  private long lastUsedMillis;
+  private final LongAdder cacheHits = new LongAdder();
+  private final LongAdder cacheMisses = new LongAdder();
+  private volatile long lastUsedMillis;
+  private volatile boolean evicted = false;
 
   /**
    * Creates a new instance using the given {@code timeSupplier} to obtain the current time and update the
@@ -73,4 +77,56 @@ final class DefaultMutableConfigurationStats implements MutableConfigurationStat
     updateLastUsed();
     return inflightOperations.decrementAndGet();
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long addCacheHit() {
+    updateLastUsed();
+    cacheHits.increment();
+    return cacheHits.sum();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long addCacheMiss() {
+    updateLastUsed();
+    cacheMisses.increment();
+    return cacheMisses.sum();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long getCacheHits() {
+    return cacheHits.sum();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long getCacheMisses() {
+    return cacheMisses.sum();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void markEvicted() {
+    evicted = true;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isEvicted() {
+    return evicted;
+  }
 }
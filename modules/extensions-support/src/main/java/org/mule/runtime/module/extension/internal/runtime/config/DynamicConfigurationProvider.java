@@ -6,10 +6,12 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.config;
 
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+import static java.lang.Integer.getInteger;
 import static java.util.Optional.ofNullable;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
-import static org.mule.runtime.api.util.collection.Collectors.toImmutableList;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
@@ -48,14 +50,18 @@ import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolver
 import org.mule.runtime.module.extension.internal.util.ReflectionCache;
 import org.mule.runtime.module.extension.internal.value.ValueProviderMediator;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 
 import org.slf4j.Logger;
 
@@ -67,6 +73,12 @@ import org.slf4j.Logger;
  * {@link #resolverSet#resolve(Object)}, the resulting {@link ResolverSetResult} might not end up generating a new instance. This
  * is so because {@link ResolverSetResult} instances are put in a cache to guarantee that equivalent evaluations of the
  * {@code resolverSet} return the same instance.
+ * <p>
+ * That cache is bounded to {@link #DYNAMIC_CONFIG_CACHE_MAX_SIZE_PROPERTY maxSize} instances. When it is full, the instances
+ * less likely to be used again are evicted. Evicted instances, as well as the ones still cached, are handed over to the
+ * expiration monitor through {@link #getExpired()} once they have no in-flight operations and have been idle for longer than the
+ * {@link ExpirationPolicy}, so they're disposed asynchronously. The idle time also covers evicted instances just returned by
+ * {@link #get(Event)}, whose in-flight operation is not accounted yet.
  *
  * @since 4.0.0
  */
@@ -75,15 +87,21 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
 
   private static final Logger LOGGER = getLogger(DynamicConfigurationProvider.class);
 
+  /**
+   * The maximum amount of {@link ConfigurationInstance}s to keep for each dynamic configuration. Defaults to {@code 10000}.
+   */
+  public static final String DYNAMIC_CONFIG_CACHE_MAX_SIZE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "dynamicConfig.cache.maxSize";
+
+  private static final int DYNAMIC_CONFIG_CACHE_MAX_SIZE = getInteger(DYNAMIC_CONFIG_CACHE_MAX_SIZE_PROPERTY, 10000);
+
   private final ConfigurationInstanceFactory configurationInstanceFactory;
   private final ResolverSet resolverSet;
   private final ConnectionProviderValueResolver connectionProviderResolver;
   private final ExpirationPolicy expirationPolicy;
 
-  private final Map<Pair<ResolverSetResult, ResolverSetResult>, ConfigurationInstance> cache = new ConcurrentHashMap<>();
-  private final ReadWriteLock cacheLock = new ReentrantReadWriteLock();
-  private final Lock cacheReadLock = cacheLock.readLock();
-  private final Lock cacheWriteLock = cacheLock.writeLock();
+  private final Cache<Pair<ResolverSetResult, ResolverSetResult>, ConfigurationInstance> cache;
+  private final ConcurrentMap<Pair<ResolverSetResult, ResolverSetResult>, ConfigurationInstance> cacheMap;
+  private final Queue<ConfigurationInstance> evicted = new ConcurrentLinkedQueue<>();
   private final ReflectionCache reflectionCache;
 
   /**
@@ -104,6 +122,19 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
                                       ExpirationPolicy expirationPolicy,
                                       ReflectionCache reflectionCache,
                                       MuleContext muleContext) {
+    this(name, extensionModel, configurationModel, resolverSet, connectionProviderResolver, expirationPolicy, reflectionCache,
+         muleContext, DYNAMIC_CONFIG_CACHE_MAX_SIZE);
+  }
+
+  DynamicConfigurationProvider(String name,
+                               ExtensionModel extensionModel,
+                               ConfigurationModel configurationModel,
+                               ResolverSet resolverSet,
+                               ConnectionProviderValueResolver connectionProviderResolver,
+                               ExpirationPolicy expirationPolicy,
+                               ReflectionCache reflectionCache,
+                               MuleContext muleContext,
+                               int cacheMaxSize) {
     super(name, extensionModel, configurationModel, muleContext);
     configurationInstanceFactory =
         new ConfigurationInstanceFactory<>(extensionModel, configurationModel, resolverSet, reflectionCache, muleContext);
@@ -111,6 +142,20 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
     this.resolverSet = resolverSet;
     this.connectionProviderResolver = connectionProviderResolver;
     this.expirationPolicy = expirationPolicy;
+
+    cache = newBuilder()
+        .maximumSize(cacheMaxSize)
+        // The removal listener just hands the instance over to the expiration monitor, no need for another thread
+        .executor(Runnable::run)
+        .removalListener((Pair<ResolverSetResult, ResolverSetResult> key, ConfigurationInstance configuration,
+                          RemovalCause cause) -> {
+          if (cause == RemovalCause.SIZE) {
+            ((MutableConfigurationStats) configuration.getStatistics()).markEvicted();
+            evicted.add(configuration);
+          }
+        })
+        .build();
+    cacheMap = cache.asMap();
   }
 
   /**
@@ -135,39 +180,29 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
   private ConfigurationInstance getConfiguration(Pair<ResolverSetResult, ResolverSetResult> resolverSetResult,
                                                  CoreEvent event)
       throws Exception {
-    ConfigurationInstance configuration;
-    cacheReadLock.lock();
-    try {
-      configuration = cache.get(resolverSetResult);
-      if (configuration != null) {
-        // important to account between the boundaries of the lock to prevent race condition
-        updateUsageStatistic(configuration);
+    ConfigurationInstance configuration = cache.getIfPresent(resolverSetResult);
+    if (configuration != null) {
+      // Account the usage before checking that it was not expired in the meantime (see getExpired())
+      ((MutableConfigurationStats) configuration.getStatistics()).addCacheHit();
+      if (cacheMap.get(resolverSetResult) == configuration) {
         return configuration;
       }
-    } finally {
-      cacheReadLock.unlock();
     }
 
-    cacheWriteLock.lock();
-    try {
-      // re-check in case some other thread beat us to it...
-      configuration = cache.get(resolverSetResult);
-      if (configuration == null) {
-        configuration = createConfiguration(resolverSetResult, event);
-        cache.put(resolverSetResult, configuration);
+    // The instance is created within the cache's compute, so concurrent gets of other keys that share the same hash bin also
+    // wait for it, not only those for this very key.
+    configuration = cache.get(resolverSetResult, key -> {
+      try {
+        final ConfigurationInstance created = createConfiguration(key, event);
+        ((MutableConfigurationStats) created.getStatistics()).addCacheMiss();
+        return created;
+      } catch (MuleException e) {
+        throw new MuleRuntimeException(e);
       }
-
-      // accounting here for the same reasons as above
-      updateUsageStatistic(configuration);
-      return configuration;
-    } finally {
-      cacheWriteLock.unlock();
-    }
-  }
-
-  private void updateUsageStatistic(ConfigurationInstance configuration) {
-    MutableConfigurationStats stats = (MutableConfigurationStats) configuration.getStatistics();
-    stats.updateLastUsed();
+    });
+    // Some other thread may have created it first, account its usage as well
+    ((MutableConfigurationStats) configuration.getStatistics()).updateLastUsed();
+    return configuration;
   }
 
   private ConfigurationInstance createConfiguration(Pair<ResolverSetResult, ResolverSetResult> values, CoreEvent event)
@@ -229,17 +264,44 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
     super.registerConfiguration(configuration);
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Also returns the instances evicted from the cache because it was full that have no in-flight operations and are idle.
+   */
   @Override
   public List<ConfigurationInstance> getExpired() {
-    cacheWriteLock.lock();
-    try {
-      return cache.entrySet().stream().filter(entry -> isExpired(entry.getValue())).map(entry -> {
-        cache.remove(entry.getKey());
-        return entry.getValue();
-      }).collect(toImmutableList());
-    } finally {
-      cacheWriteLock.unlock();
+    final List<ConfigurationInstance> expired = new ArrayList<>();
+    // Perform any pending eviction
+    cache.cleanUp();
+
+    for (Map.Entry<Pair<ResolverSetResult, ResolverSetResult>, ConfigurationInstance> entry : cacheMap.entrySet()) {
+      final ConfigurationInstance configuration = entry.getValue();
+      // Only remove it if it's still the same instance, so there's no need to lock the whole cache
+      if (isExpired(configuration) && cacheMap.remove(entry.getKey(), configuration)) {
+        // A concurrent get(Event) may have obtained it right before it was removed. If so, it has already accounted its
+        // usage and the instance has to be put back.
+        if (isExpired(configuration)) {
+          expired.add(configuration);
+        } else if (cacheMap.putIfAbsent(entry.getKey(), configuration) != null) {
+          // Another instance was created for the same key in the meantime, but this one may still be in use. Handle it as
+          // an evicted one so it is disposed only once it is idle.
+          evicted.add(configuration);
+        }
+      }
     }
+
+    for (Iterator<ConfigurationInstance> iterator = evicted.iterator(); iterator.hasNext();) {
+      final ConfigurationInstance configuration = iterator.next();
+      // Operations that got it before it was evicted may still be using it, or be about to
+      if (isExpired(configuration)) {
+        iterator.remove();
+        expired.add(configuration);
+      }
+    }
+
+    expired.forEach(this::unregisterConfiguration);
+    return expired;
   }
 
   private boolean isExpired(ConfigurationInstance configuration) {
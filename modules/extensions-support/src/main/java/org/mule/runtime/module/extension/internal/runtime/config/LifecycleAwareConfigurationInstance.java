@@ -177,6 +177,8 @@ public final class LifecycleAwareConfigurationInstance extends AbstractIntercept
         if (doTestConnectivity.get()) {
           testConnectivity();
         }
+        // Filling up the pools of all the configs happens in the background and in parallel, without holding back the start
+        connectionManager.warmUp(value, getName());
       }
       startIfNeeded(value);
       super.start();
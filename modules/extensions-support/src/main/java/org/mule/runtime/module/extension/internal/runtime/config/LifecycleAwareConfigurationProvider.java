@@ -7,6 +7,7 @@
 package org.mule.runtime.module.extension.internal.runtime.config;
 
 import static java.lang.String.format;
+import static java.util.Collections.newSetFromMap;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
@@ -32,8 +33,8 @@ import org.mule.runtime.core.privileged.lifecycle.SimpleLifecycleManager;
 import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
 import org.mule.runtime.extension.api.runtime.config.ConfigurationProvider;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 
@@ -54,7 +55,7 @@ public abstract class LifecycleAwareConfigurationProvider extends AbstractCompon
   private final String name;
   private final ExtensionModel extensionModel;
   private final ConfigurationModel configurationModel;
-  private final List<ConfigurationInstance> configurationInstances = new LinkedList<>();
+  private final Set<ConfigurationInstance> configurationInstances = newSetFromMap(new ConcurrentHashMap<>());
   private final ClassLoader extensionClassLoader;
   protected final SimpleLifecycleManager lifecycleManager;
   protected final MuleContext muleContext;
@@ -162,6 +163,17 @@ public abstract class LifecycleAwareConfigurationProvider extends AbstractCompon
     configurationInstances.add(configuration);
   }
 
+  /**
+   * Implementations are to invoke this method when a {@link ConfigurationInstance} is no longer provided (i.e.: it expired), so
+   * the lifecycle is no longer propagated to it
+   *
+   * @param configuration a {@link ConfigurationInstance} previously registered through
+   *        {@link #registerConfiguration(ConfigurationInstance)}
+   */
+  protected void unregisterConfiguration(ConfigurationInstance configuration) {
+    configurationInstances.remove(configuration);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -35,4 +35,41 @@ public interface MutableConfigurationStats extends ConfigurationStats {
    * @return the new value
    */
   int discountInflightOperation();
+
+  /**
+   * Accounts that this instance was obtained from the cache of a dynamic configuration. Also updates the value of
+   * {@link #getLastUsedMillis()}.
+   *
+   * @return the new amount of cache hits
+   */
+  long addCacheHit();
+
+  /**
+   * Accounts that this instance was created because there was no equivalent one in the cache of a dynamic configuration. Also
+   * updates the value of {@link #getLastUsedMillis()}.
+   *
+   * @return the new amount of cache misses
+   */
+  long addCacheMiss();
+
+  /**
+   * @return how many times this instance was obtained from the cache of a dynamic configuration
+   */
+  long getCacheHits();
+
+  /**
+   * @return how many times this instance was created because there was no equivalent one in the cache of a dynamic
+   *         configuration
+   */
+  long getCacheMisses();
+
+  /**
+   * Marks this instance as evicted from the cache of a dynamic configuration because it was full.
+   */
+  void markEvicted();
+
+  /**
+   * @return whether this instance was evicted from the cache of a dynamic configuration because it was full
+   */
+  boolean isEvicted();
 }
@@ -26,4 +26,20 @@ interface ArgumentResolverDelegate {
    * @return an object array
    */
   Supplier<Object>[] resolve(ExecutionContext executionContext, Class<?>[] parameterTypes);
+
+  /**
+   * Returns an object array with the argument values of the given {@code executionContext}, already resolved
+   *
+   * @param executionContext the {@link ExecutionContext context} of an {@link ComponentModel} being currently executed
+   * @param parameterTypes
+   * @return an object array
+   */
+  default Object[] resolveValues(ExecutionContext executionContext, Class<?>[] parameterTypes) {
+    final Supplier<Object>[] suppliers = resolve(executionContext, parameterTypes);
+    final Object[] values = new Object[suppliers.length];
+    for (int i = 0; i < suppliers.length; ++i) {
+      values[i] = suppliers[i].get();
+    }
+    return values;
+  }
 }
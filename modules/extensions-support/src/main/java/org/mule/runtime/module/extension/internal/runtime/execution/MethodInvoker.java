@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.execution;
+
+import static java.lang.reflect.Modifier.isPublic;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.util.ReflectionUtils.handleReflectionException;
+import static org.springframework.util.ReflectionUtils.invokeMethod;
+
+import org.mule.runtime.core.internal.util.CompositeClassLoader;
+
+import org.slf4j.Logger;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import net.sf.cglib.reflect.FastClass;
+import net.sf.cglib.reflect.FastMethod;
+
+/**
+ * Invokes a {@link Method} on a target instance.
+ * <p>
+ * Instances are created through {@link #forMethod(Method)}, which generates a class that calls the method directly instead of
+ * going through reflection for each invocation whenever possible.
+ * <p>
+ * Exceptions thrown by the invoked method are propagated as {@link org.springframework.util.ReflectionUtils#invokeMethod(Method,
+ * Object, Object...)} does.
+ *
+ * @since 4.2
+ */
+@FunctionalInterface
+interface MethodInvoker {
+
+  /**
+   * Invokes the method.
+   *
+   * @param target the instance to invoke the method on.
+   * @param args the arguments to invoke the method with.
+   * @return the value returned by the method, or {@code null} if it is {@code void}.
+   */
+  Object invoke(Object target, Object[] args);
+
+  /**
+   * Creates a {@link MethodInvoker} for the given {@code method}.
+   * <p>
+   * If both the method and its declaring class are public, the invocation is done through a class generated in the
+   * {@link ClassLoader} of the declaring class. Otherwise, or if that class can't be generated, the method is invoked
+   * reflectively.
+   *
+   * @param method the method to invoke.
+   * @return a {@link MethodInvoker} for {@code method}.
+   */
+  static MethodInvoker forMethod(Method method) {
+    final Class<?> declaringClass = method.getDeclaringClass();
+    if (isPublic(method.getModifiers()) && isPublic(declaringClass.getModifiers())) {
+      try {
+        final FastMethod fastMethod = fastClass(declaringClass).getMethod(method);
+        return (target, args) -> {
+          try {
+            return fastMethod.invoke(target, args);
+          } catch (InvocationTargetException e) {
+            handleReflectionException(e);
+            // Not reached, the exception is always rethrown
+            return null;
+          }
+        };
+      } catch (Exception e) {
+        final Logger logger = getLogger(MethodInvoker.class);
+        if (logger.isDebugEnabled()) {
+          logger.debug("Could not generate invoker for method '" + method + "'. It will be invoked reflectively.", e);
+        }
+      }
+    }
+
+    return (target, args) -> invokeMethod(method, target, args);
+  }
+
+  /**
+   * The {@link FastClass} of each declaring class, generated once for all of its methods. Since the value is kept in the class
+   * itself, it is collected along with it.
+   */
+  ClassValue<FastClass> FAST_CLASSES = new ClassValue<FastClass>() {
+
+    @Override
+    protected FastClass computeValue(Class<?> type) {
+      final FastClass.Generator generator = new FastClass.Generator();
+      generator.setType(type);
+
+      final ClassLoader classLoader = type.getClassLoader();
+      if (FastClass.class.getClassLoader() != classLoader) {
+        // The generated class has to see both the class to invoke and FastClass. The cglib cache is keyed by class loader, so
+        // it would never hit for a new composite one.
+        generator.setClassLoader(new CompositeClassLoader(MethodInvoker.class.getClassLoader(), classLoader));
+        generator.setUseCache(false);
+      } else {
+        generator.setClassLoader(classLoader);
+      }
+
+      return generator.create();
+    }
+  };
+
+  static FastClass fastClass(Class<?> type) {
+    return FAST_CLASSES.get(type);
+  }
+}
@@ -18,7 +18,6 @@ import static org.mule.runtime.module.extension.internal.util.IntrospectionUtils
 import static org.mule.runtime.module.extension.internal.util.IntrospectionUtils.getField;
 import static org.mule.runtime.module.extension.internal.util.IntrospectionUtils.injectFields;
 import static org.mule.runtime.module.extension.internal.util.MuleExtensionUtils.hasAnyDynamic;
-import static org.springframework.util.ReflectionUtils.setField;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.InitialisationException;
@@ -28,6 +27,7 @@ import org.mule.runtime.module.extension.internal.runtime.ValueResolvingExceptio
 import org.mule.runtime.module.extension.internal.runtime.resolver.ParameterValueResolver;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolver;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolvingContext;
+import org.mule.runtime.module.extension.internal.util.FieldSetter;
 import org.mule.runtime.module.extension.internal.util.ReflectionCache;
 
 import java.lang.reflect.Field;
@@ -48,6 +48,7 @@ public class DefaultObjectBuilder<T> implements ObjectBuilder<T>, Initialisable,
   protected final Class<T> prototypeClass;
   protected final Map<Field, ValueResolver<Object>> resolvers = new HashMap<>();
   protected final Map<String, ValueResolver<? extends Object>> resolverByFieldName = new HashMap<>();
+  private final Map<Field, FieldSetter<Object, Object>> fieldSetters = new HashMap<>();
   protected ReflectionCache reflectionCache;
   private String name = null;
   private String encoding = null;
@@ -98,7 +99,7 @@ public class DefaultObjectBuilder<T> implements ObjectBuilder<T>, Initialisable,
 
     resolverByFieldName.put(field.getName(), resolver);
 
-    field.setAccessible(true);
+    fieldSetters.put(field, reflectionCache.getFieldSetter(field));
     resolvers.put(field, (ValueResolver<Object>) resolver);
     return this;
   }
@@ -116,9 +117,9 @@ public class DefaultObjectBuilder<T> implements ObjectBuilder<T>, Initialisable,
     T object = createInstance(prototypeClass);
 
     for (Map.Entry<Field, ValueResolver<Object>> entry : resolvers.entrySet()) {
-      setField(entry.getKey(), object,
-               context == null || context.resolveCursors() ? resolveCursor(resolveValue(entry.getValue(), context))
-                   : resolveValue(entry.getValue(), context));
+      fieldSetters.get(entry.getKey())
+          .set(object, context == null || context.resolveCursors() ? resolveCursor(resolveValue(entry.getValue(), context))
+              : resolveValue(entry.getValue(), context));
     }
 
     injectFields(object, name, encoding, reflectionCache);
@@ -12,7 +12,6 @@ import static org.mule.runtime.module.extension.internal.runtime.resolver.Resolv
 import static org.mule.runtime.module.extension.internal.runtime.resolver.ResolverUtils.resolveValue;
 import static org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolvingContext.from;
 import static org.mule.runtime.module.extension.internal.util.IntrospectionUtils.checkInstantiable;
-import static org.springframework.util.ReflectionUtils.setField;
 
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.core.api.event.CoreEvent;
@@ -24,6 +23,7 @@ import org.mule.runtime.module.extension.internal.loader.ParameterGroupDescripto
 import org.mule.runtime.module.extension.internal.runtime.resolver.ResolverSetResult;
 import org.mule.runtime.module.extension.internal.runtime.resolver.StaticValueResolver;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolvingContext;
+import org.mule.runtime.module.extension.internal.util.FieldSetter;
 import org.mule.runtime.module.extension.internal.util.ReflectionCache;
 
 import java.util.List;
@@ -40,6 +40,7 @@ public class ParameterGroupObjectBuilder<T> {
 
   private final Class<T> prototypeClass;
   private final List<FieldElement> groupDescriptorFields;
+  private final FieldSetter<Object, Object>[] fieldSetters;
 
   /**
    * Create a new instance
@@ -51,7 +52,10 @@ public class ParameterGroupObjectBuilder<T> {
     this.prototypeClass = (Class<T>) groupDescriptor.getType().getDeclaringClass().get();
     checkInstantiable(prototypeClass, reflectionCache);
     this.groupDescriptorFields = reflectionCache.fieldElementsFor(groupDescriptor);
-    this.groupDescriptorFields.forEach(f -> f.getField().ifPresent(field -> field.setAccessible(true)));
+    this.fieldSetters = new FieldSetter[groupDescriptorFields.size()];
+    for (int i = 0; i < groupDescriptorFields.size(); ++i) {
+      fieldSetters[i] = groupDescriptorFields.get(i).getField().map(reflectionCache::getFieldSetter).orElse(null);
+    }
   }
 
   public T build(EventedExecutionContext executionContext) throws MuleException {
@@ -76,12 +80,12 @@ public class ParameterGroupObjectBuilder<T> {
       throws MuleException {
     T object = createInstance(prototypeClass);
 
-    for (FieldElement field : groupDescriptorFields) {
+    for (int i = 0; i < fieldSetters.length; ++i) {
+      FieldElement field = groupDescriptorFields.get(i);
       String name = field.getName();
       if (hasParameter.test(name)) {
         Object resolvedValue = resolveValue(new StaticValueResolver<>(parameters.apply(name)), context);
-        setField(field.getField().get(), object,
-                 context == null || context.resolveCursors() ? resolveCursor(resolvedValue) : resolvedValue);
+        fieldSetters[i].set(object, context == null || context.resolveCursors() ? resolveCursor(resolvedValue) : resolvedValue);
       }
     }
 
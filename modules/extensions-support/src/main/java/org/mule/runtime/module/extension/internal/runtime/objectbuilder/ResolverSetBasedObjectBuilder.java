@@ -102,7 +102,8 @@ public abstract class ResolverSetBasedObjectBuilder<T> implements ObjectBuilder<
   private List<ValueSetter> createSingleValueSetters(Class<?> prototypeClass, ResolverSet resolverSet) {
     return resolverSet.getResolvers().keySet().stream().map(parameterName -> {
       // if no field, then it means this is a group attribute
-      return getField(prototypeClass, parameterName, getReflectionCache()).map(f -> new SingleValueSetter(parameterName, f));
+      return getField(prototypeClass, parameterName, getReflectionCache())
+          .map(f -> new SingleValueSetter(parameterName, getReflectionCache().getFieldSetter(f)));
     }).filter(Optional::isPresent).map(Optional::get).collect(toImmutableList());
   }
 
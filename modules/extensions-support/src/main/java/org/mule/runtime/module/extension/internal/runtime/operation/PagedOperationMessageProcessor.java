@@ -6,8 +6,13 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.operation;
 
+import static org.mule.runtime.module.extension.internal.runtime.streaming.PagingProviderProducer.PAGING_PREFETCH_DEPTH;
+
+import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.scheduler.SchedulerService;
 import org.mule.runtime.core.api.extension.ExtensionManager;
 import org.mule.runtime.core.api.retry.policy.RetryPolicyTemplate;
 import org.mule.runtime.core.api.streaming.CursorProviderFactory;
@@ -25,6 +30,8 @@ import org.mule.runtime.module.extension.internal.util.ReflectionCache;
 
 import java.util.Optional;
 
+import javax.inject.Inject;
+
 /**
  * A specialization of {@link OperationMessageProcessor} which supports auto paging by the means of a
  * {@link ConsumerStreamingIterator}
@@ -35,6 +42,11 @@ public class PagedOperationMessageProcessor extends OperationMessageProcessor {
 
   private final ExtensionConnectionSupplier connectionSupplier;
 
+  @Inject
+  private SchedulerService schedulerService;
+
+  private volatile Scheduler prefetchScheduler;
+
   public PagedOperationMessageProcessor(ExtensionModel extensionModel,
                                         OperationModel operationModel,
                                         ConfigurationProvider configurationProvider,
@@ -60,7 +72,7 @@ public class PagedOperationMessageProcessor extends OperationMessageProcessor {
       Optional<ConfigurationInstance> config = operationContext.getConfiguration();
       Producer<?> producer =
           new PagingProviderProducer((PagingProvider) value, config.get(),
-                                     operationContext, connectionSupplier);
+                                     operationContext, connectionSupplier, prefetchScheduler, PAGING_PREFETCH_DEPTH);
 
       ListConsumer<?> consumer = new ListConsumer(producer);
       consumer.loadNextPage();
@@ -68,6 +80,26 @@ public class PagedOperationMessageProcessor extends OperationMessageProcessor {
     };
   }
 
+  @Override
+  public void doStart() throws MuleException {
+    super.doStart();
+    if (PAGING_PREFETCH_DEPTH > 0) {
+      prefetchScheduler = schedulerService.ioScheduler();
+    }
+  }
+
+  @Override
+  public void doStop() throws MuleException {
+    try {
+      super.doStop();
+    } finally {
+      if (prefetchScheduler != null) {
+        prefetchScheduler.stop();
+        prefetchScheduler = null;
+      }
+    }
+  }
+
   @Override
   protected ExecutionMediator createExecutionMediator() {
     return new DefaultExecutionMediator(extensionModel,
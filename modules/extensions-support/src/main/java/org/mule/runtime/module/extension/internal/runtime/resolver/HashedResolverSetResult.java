@@ -66,6 +66,15 @@ public class HashedResolverSetResult extends ResolverSetResult {
     this.hashCode = hashCode;
   }
 
+  HashedResolverSetResult(ResolvedValuesMap evaluationResult) {
+    super(evaluationResult);
+    int hashCode = 1;
+    for (Object value : evaluationResult.getValues()) {
+      hashCode = calculateValueHash(hashCode, value);
+    }
+    this.hashCode = hashCode;
+  }
+
   /**
    * A hashCode calculated based on the results
    *
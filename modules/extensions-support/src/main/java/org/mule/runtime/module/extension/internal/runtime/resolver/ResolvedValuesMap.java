@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.resolver;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable {@link Map} with the values resolved by a {@link ResolverSet}.
+ * <p>
+ * The keys and their positions are shared by all the results of the same {@link ResolverSet}, so each result only holds an array
+ * with its values.
+ *
+ * @since 4.2
+ */
+final class ResolvedValuesMap extends AbstractMap<String, Object> {
+
+  private final String[] keys;
+  private final Map<String, Integer> indexes;
+  private final Object[] values;
+
+  ResolvedValuesMap(String[] keys, Map<String, Integer> indexes, Object[] values) {
+    this.keys = keys;
+    this.indexes = indexes;
+    this.values = values;
+  }
+
+  Object[] getValues() {
+    return values;
+  }
+
+  @Override
+  public int size() {
+    return keys.length;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexes.containsKey(key);
+  }
+
+  @Override
+  public Object get(Object key) {
+    final Integer index = indexes.get(key);
+    return index != null ? values[index] : null;
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    return new AbstractSet<Entry<String, Object>>() {
+
+      @Override
+      public Iterator<Entry<String, Object>> iterator() {
+        return new Iterator<Entry<String, Object>>() {
+
+          private int next = 0;
+
+          @Override
+          public boolean hasNext() {
+            return next < keys.length;
+          }
+
+          @Override
+          public Entry<String, Object> next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            final Entry<String, Object> entry = new SimpleImmutableEntry<>(keys[next], values[next]);
+            ++next;
+            return entry;
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return keys.length;
+      }
+    };
+  }
+}
@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.resolver;
 
+import static java.util.Collections.unmodifiableMap;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.api.util.StringUtils.isBlank;
@@ -19,7 +20,10 @@ import org.mule.runtime.module.extension.internal.runtime.objectbuilder.ObjectBu
 
 import com.google.common.collect.ImmutableMap;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -41,6 +45,8 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
   private boolean dynamic = false;
   private final MuleContext muleContext;
 
+  private volatile ResolutionPlan resolutionPlan;
+
   public ResolverSet(MuleContext muleContext) {
     this.muleContext = muleContext;
   }
@@ -61,6 +67,7 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
     if (resolvers.put(key, resolver) != null) {
       throw new IllegalStateException("A value was already given for key " + key);
     }
+    resolutionPlan = null;
 
     if (!dynamic && resolver.isDynamic()) {
       dynamic = true;
@@ -96,6 +103,9 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
 
   /**
    * Evaluates all the added {@link ValueResolver}s and returns the results into a {@link ResolverSetResult}
+   * <p>
+   * The values of the {@link StaticValueResolver}s are resolved only once and reused for every evaluation, so only the rest of
+   * the resolvers are evaluated each time.
    *
    * @param context a not {@code null} {@link ValueResolvingContext}
    * @return a {@link ResolverSetResult}
@@ -103,13 +113,18 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
    */
   @Override
   public ResolverSetResult resolve(ValueResolvingContext context) throws MuleException {
-    ResolverSetResult.Builder builder = getResolverSetBuilder();
+    ResolutionPlan plan = resolutionPlan;
+    if (plan == null) {
+      plan = new ResolutionPlan(resolvers, context);
+      resolutionPlan = plan;
+    }
 
-    for (Map.Entry<String, ValueResolver<?>> entry : resolvers.entrySet()) {
-      builder.add(entry.getKey(), resolveRecursively(entry.getValue(), context));
+    final Object[] values = plan.staticValues.clone();
+    for (int i = 0; i < plan.dynamicIndexes.length; ++i) {
+      values[plan.dynamicIndexes[i]] = resolveRecursively(plan.dynamicResolvers[i], context);
     }
 
-    return builder.build();
+    return createResult(new ResolvedValuesMap(plan.keys, plan.indexes, values));
   }
 
   /**
@@ -137,8 +152,50 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
     initialiseIfNeeded(resolvers.values(), muleContext);
   }
 
-  ResolverSetResult.Builder getResolverSetBuilder() {
-    return ResolverSetResult.newBuilder();
+  ResolverSetResult createResult(ResolvedValuesMap values) {
+    return new ResolverSetResult(values);
+  }
+
+  /**
+   * The keys of a {@link ResolverSet} in order, with the values of its static resolvers already resolved and the resolvers that
+   * have to be evaluated for each resolution.
+   */
+  private static final class ResolutionPlan {
+
+    private final String[] keys;
+    private final Map<String, Integer> indexes;
+    private final Object[] staticValues;
+    private final int[] dynamicIndexes;
+    private final ValueResolver<?>[] dynamicResolvers;
+
+    private ResolutionPlan(Map<String, ValueResolver<?>> resolvers, ValueResolvingContext context) throws MuleException {
+      keys = new String[resolvers.size()];
+      staticValues = new Object[resolvers.size()];
+
+      final Map<String, Integer> indexes = new HashMap<>(resolvers.size() * 2);
+      final List<Integer> dynamicIndexes = new ArrayList<>(resolvers.size());
+      final List<ValueResolver<?>> dynamicResolvers = new ArrayList<>(resolvers.size());
+
+      int index = 0;
+      for (Map.Entry<String, ValueResolver<?>> entry : resolvers.entrySet()) {
+        keys[index] = entry.getKey();
+        indexes.put(entry.getKey(), index);
+
+        final ValueResolver<?> resolver = entry.getValue();
+        final Object staticValue = resolver instanceof StaticValueResolver ? resolver.resolve(context) : null;
+        if (resolver instanceof StaticValueResolver && !(staticValue instanceof ValueResolver)) {
+          staticValues[index] = staticValue;
+        } else {
+          dynamicIndexes.add(index);
+          dynamicResolvers.add(resolver);
+        }
+        ++index;
+      }
+
+      this.indexes = unmodifiableMap(indexes);
+      this.dynamicIndexes = dynamicIndexes.stream().mapToInt(Integer::intValue).toArray();
+      this.dynamicResolvers = dynamicResolvers.toArray(new ValueResolver<?>[dynamicResolvers.size()]);
+    }
   }
 
 }
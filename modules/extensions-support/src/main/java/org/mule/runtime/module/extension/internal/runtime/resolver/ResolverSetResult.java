@@ -77,6 +77,11 @@ public class ResolverSetResult {
     this.evaluationResult = new HashMap<>(evaluationResult);
   }
 
+  ResolverSetResult(ResolvedValuesMap evaluationResult) {
+    // Already immutable, no need to copy
+    this.evaluationResult = evaluationResult;
+  }
+
   /**
    * Returns the value associated with the {@link ParameterModel} of the given {@code parameterName}
    *
@@ -27,6 +27,7 @@ import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.lock.LockFactory;
 import org.mule.runtime.api.scheduler.SchedulerConfig;
 import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.api.store.ObjectAlreadyExistsException;
 import org.mule.runtime.api.store.ObjectStore;
 import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.api.store.ObjectStoreManager;
@@ -46,9 +47,12 @@ import org.mule.runtime.module.extension.internal.runtime.source.SourceWrapper;
 
 import java.io.Serializable;
 import java.util.Comparator;
-import java.util.List;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.function.Consumer;
@@ -62,6 +66,12 @@ import org.slf4j.Logger;
 /**
  * A {@link SourceWrapper} implementation that provides Polling related capabilities to any wrapped {@link Source}, like scheduled
  * polling, watermarking and idempotent processing.
+ * <p>
+ * The watermarks and the ids of the recently processed items are read from their object stores once at the beginning of each
+ * poll, and kept in memory while polling. Polls in other nodes may process the same items in the meantime, so each item with an
+ * id and a watermark is checked again against the stores, and recorded as recently processed, while briefly holding the
+ * watermark lock before being dispatched. The rest of the changes are merged back at the end of the poll, also while holding
+ * the watermark lock.
  *
  * @param <T>
  * @param <A>
@@ -167,14 +177,36 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
       return;
     }
 
+    final DefaultPollContext pollContext;
+    try {
+      pollContext = new DefaultPollContext(sourceCallback);
+    } catch (Throwable t) {
+      LOGGER.error(format("Found exception trying to read the watermark of source at flow '%s'. %s", flowName, t.getMessage()),
+                   t);
+      return;
+    }
+
+    boolean polled = false;
+    try {
+      delegate.poll(pollContext);
+      polled = true;
+    } catch (Throwable t) {
+      LOGGER.error(format("Found exception trying to process item on source at flow '%s'. %s",
+                          flowName, t.getMessage()),
+                   t);
+    }
+
+    // The items already dispatched are accounted for even if the poll failed afterwards
+    final boolean updateWatermark = polled;
     withWatermarkLock(() -> {
-      DefaultPollContext pollContext = new DefaultPollContext(sourceCallback, getCurrentWatermark(), getUpdatedWatermark());
       try {
-        delegate.poll(pollContext);
-        pollContext.getUpdatedWatermark()
-            .ifPresent(w -> updateWatermark(w, pollContext.getWatermarkComparator()));
+        pollContext.flush();
+        if (updateWatermark) {
+          pollContext.getUpdatedWatermark()
+              .ifPresent(w -> updateWatermark(w, pollContext.getWatermarkComparator()));
+        }
       } catch (Throwable t) {
-        LOGGER.error(format("Found exception trying to process item on source at flow '%s'. %s",
+        LOGGER.error(format("Found exception trying to update the watermark of source at flow '%s'. %s",
                             flowName, t.getMessage()),
                      t);
       }
@@ -203,11 +235,24 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
     private Serializable updatedWatermark;
     private Comparator<Serializable> watermarkComparator = null;
 
-    private DefaultPollContext(SourceCallback<T, A> sourceCallback, Serializable currentWatermark,
-                               Serializable updatedWatermark) {
+    private final Map<String, Serializable> recentlyProcessed;
+    private final Set<String> onUpdatedWatermark;
+    private final Map<String, Serializable> onUpdatedWatermarkToStore = new LinkedHashMap<>();
+    private boolean updatedWatermarkChanged = false;
+
+    private DefaultPollContext(SourceCallback<T, A> sourceCallback) {
       this.sourceCallback = sourceCallback;
-      this.currentWatermark = currentWatermark;
-      this.updatedWatermark = updatedWatermark;
+      this.currentWatermark = getCurrentWatermark();
+      this.updatedWatermark = PollingSourceWrapper.this.getUpdatedWatermark();
+      try {
+        this.recentlyProcessed = new HashMap<>(recentlyProcessedIds.retrieveAll());
+        this.onUpdatedWatermark = new HashSet<>(idsOnUpdatedWatermark.allKeys());
+      } catch (ObjectStoreException e) {
+        throw new MuleRuntimeException(
+                                       createStaticMessage(format("Failed to fetch the recently processed ids for Message source at location '%s'. %s",
+                                                                  flowName, e.getMessage())),
+                                       e);
+      }
     }
 
     @Override
@@ -222,10 +267,10 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
       PollItemStatus status;
       if (!acquireItem(pollItem, callbackContext)) {
         status = ALREADY_IN_PROCESS;
-      } else if (!passesWatermark(pollItem)) {
-        status = FILTERED_BY_WATERMARK;
       } else if (isRequestedToStop()) {
         status = SOURCE_STOPPING;
+      } else if (!passesWatermarkAcrossPolls(pollItem)) {
+        status = FILTERED_BY_WATERMARK;
       } else {
         sourceCallback.handle(pollItem.getResult(), callbackContext);
         status = ACCEPTED;
@@ -268,12 +313,65 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
     }
 
     private void setUpdatedWatermark(Serializable updatedWatermark) {
+      this.updatedWatermark = updatedWatermark;
+      updatedWatermarkChanged = true;
+    }
+
+    private void addToIdsOnUpdatedWatermark(String itemId, Serializable itemWatermark) {
+      if (onUpdatedWatermark.add(itemId)) {
+        onUpdatedWatermarkToStore.put(itemId, itemWatermark);
+      }
+    }
+
+    /**
+     * Writes the changes done to the watermarks and the ids on the updated watermark during the poll to their object stores. The
+     * ids of the recently processed items were already written when the items were dispatched.
+     * <p>
+     * Since the stores are read before the watermark lock is acquired, another poll may have written them in the meantime. Their
+     * values are merged with this poll's, keeping the greatest watermarks, rather than overwritten.
+     */
+    private void flush() {
+      String itemId = null;
+      try {
+        mergeUpdatedWatermark();
+
+        for (Map.Entry<String, Serializable> onUpdated : onUpdatedWatermarkToStore.entrySet()) {
+          itemId = onUpdated.getKey();
+          if (compareWatermarks(updatedWatermark, onUpdated.getValue(), watermarkComparator) != 0) {
+            // The updated watermark was moved further by another poll
+            continue;
+          }
+          try {
+            idsOnUpdatedWatermark.store(itemId, onUpdated.getValue());
+          } catch (ObjectAlreadyExistsException e) {
+            // Stored by another poll since this one started
+          }
+        }
+        onUpdatedWatermarkToStore.clear();
+      } catch (ObjectStoreException e) {
+        throw new MuleRuntimeException(
+                                       createStaticMessage("An error occurred while updating the watermark for Item with ID [%s]",
+                                                           itemId),
+                                       e);
+      }
+    }
+
+    private void mergeUpdatedWatermark() {
       try {
-        this.updatedWatermark = updatedWatermark;
         if (watermarkObjectStore.contains(UPDATED_WATERMARK_OS_KEY)) {
+          Serializable storedWatermark = watermarkObjectStore.retrieve(UPDATED_WATERMARK_OS_KEY);
+          // Another poll may have moved it further, even if this one didn't move it at all
+          if (!updatedWatermarkChanged || compareWatermarks(storedWatermark, updatedWatermark, watermarkComparator) >= 0) {
+            updatedWatermark = storedWatermark;
+            updatedWatermarkChanged = false;
+            return;
+          }
           watermarkObjectStore.remove(UPDATED_WATERMARK_OS_KEY);
+        } else if (!updatedWatermarkChanged) {
+          return;
         }
         watermarkObjectStore.store(UPDATED_WATERMARK_OS_KEY, updatedWatermark);
+        updatedWatermarkChanged = false;
       } catch (ObjectStoreException e) {
         throw new MuleRuntimeException(
                                        createStaticMessage("An error occurred while trying to update the updatedWatermark in the the object store"),
@@ -281,20 +379,63 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
       }
     }
 
-    private void addToIdsOnUpdatedWatermark(String itemId, Serializable itemWatermark) {
+    private void mergeRecentlyProcessed(String itemId, Serializable itemWatermark) throws ObjectStoreException {
       try {
-        if (!idsOnUpdatedWatermark.contains(itemId)) {
-          idsOnUpdatedWatermark.store(itemId, itemWatermark);
+        recentlyProcessedIds.store(itemId, itemWatermark);
+        return;
+      } catch (ObjectAlreadyExistsException e) {
+        // Stored by a previous poll, or by another one since this one started
+      }
+
+      if (compareWatermarks(recentlyProcessedIds.retrieve(itemId), itemWatermark, watermarkComparator) < 0) {
+        recentlyProcessedIds.remove(itemId);
+        recentlyProcessedIds.store(itemId, itemWatermark);
+      }
+    }
+
+    /**
+     * Checks the item against the watermark. Since another poll may have processed it after this one read the stores, an item
+     * with an id is also checked against their current values, and recorded as recently processed right away, all while holding
+     * the watermark lock. So, only one of the polls that overlap dispatches it.
+     */
+    private boolean passesWatermarkAcrossPolls(DefaultPollItem pollItem) {
+      final String itemId = pollItem.getItemId().orElse(null);
+      final Serializable itemWatermark = pollItem.getWatermark().orElse(null);
+      if (itemId == null || itemWatermark == null) {
+        return passesWatermark(pollItem);
+      }
+
+      final Lock lock = getWatermarkLock();
+      lock.lock();
+      try {
+        if (processedByAnotherPoll(itemId, itemWatermark) || !passesWatermark(pollItem)) {
+          return false;
         }
-      } catch (ObjectStoreException e) {
-        throw new MuleRuntimeException(
-                                       createStaticMessage("An error occurred while adding an item id to the object store" +
-                                           " of the items with the highest updated watermark for Item with ID [%s]",
-                                                           itemId),
-                                       e);
+        mergeRecentlyProcessed(itemId, itemWatermark);
+        return true;
+      } catch (ObjectStoreException | MuleRuntimeException e) {
+        LOGGER.error(format("Source at flow '%s' could not check item '%s' against the watermark. %s",
+                            flowName, itemId, e.getMessage()),
+                     e);
+        return false;
+      } finally {
+        lock.unlock();
       }
     }
 
+    private boolean processedByAnotherPoll(String itemId, Serializable itemWatermark) throws ObjectStoreException {
+      final Serializable storedWatermark = getCurrentWatermark();
+      if (storedWatermark != null) {
+        final int compare = compareWatermarks(storedWatermark, itemWatermark, watermarkComparator);
+        if (compare > 0 || (compare == 0 && idsOnUpdatedWatermark.contains(itemId))) {
+          return true;
+        }
+      }
+
+      return recentlyProcessedIds.contains(itemId)
+          && compareWatermarks(recentlyProcessedIds.retrieve(itemId), itemWatermark, watermarkComparator) >= 0;
+    }
+
     private boolean passesWatermark(DefaultPollItem pollItem) {
       Serializable itemWatermark = pollItem.getWatermark().orElse(null);
       if (itemWatermark == null) {
@@ -310,58 +451,31 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
       } else {
         compare = currentWatermark != null ? compareWatermarks(currentWatermark, itemWatermark, watermarkComparator) : -1;
         if (compare < 0) {
-
-          try {
-            if (itemId != null && recentlyProcessedIds.contains(itemId)) {
-              Serializable previousItemWatermark = recentlyProcessedIds.retrieve(itemId);
-              if (compareWatermarks(itemWatermark, previousItemWatermark, watermarkComparator) <= 0) {
-                accept = false;
-              }
-            } else {
-              int updatedWatermarkCompare =
-                  updatedWatermark != null ? compareWatermarks(updatedWatermark, itemWatermark, watermarkComparator) : -1;
-              if (updatedWatermarkCompare == 0) {
-                pollItem.getItemId().ifPresent(id -> addToIdsOnUpdatedWatermark(id, itemWatermark));
-              } else if (updatedWatermarkCompare < 0) {
-                pollItem.getItemId().ifPresent(id -> addToIdsOnUpdatedWatermark(id, itemWatermark));
-                setUpdatedWatermark(itemWatermark);
-              }
-
+          if (itemId != null && recentlyProcessed.containsKey(itemId)) {
+            Serializable previousItemWatermark = recentlyProcessed.get(itemId);
+            if (compareWatermarks(itemWatermark, previousItemWatermark, watermarkComparator) <= 0) {
+              accept = false;
+            }
+          } else {
+            int updatedWatermarkCompare =
+                updatedWatermark != null ? compareWatermarks(updatedWatermark, itemWatermark, watermarkComparator) : -1;
+            if (updatedWatermarkCompare == 0) {
+              pollItem.getItemId().ifPresent(id -> addToIdsOnUpdatedWatermark(id, itemWatermark));
+            } else if (updatedWatermarkCompare < 0) {
+              pollItem.getItemId().ifPresent(id -> addToIdsOnUpdatedWatermark(id, itemWatermark));
+              setUpdatedWatermark(itemWatermark);
             }
-          } catch (ObjectStoreException e) {
-            throw new MuleRuntimeException(
-                                           createStaticMessage("An error occurred while checking the previus watermark" +
-                                               " for an item id that was recently processed. Item with ID [%s]",
-                                                               itemId),
-                                           e);
           }
         } else if (compare == 0 && pollItem.getItemId().isPresent()) {
-          try {
-            accept = !(recentlyProcessedIds.contains(itemId) || idsOnUpdatedWatermark.contains(itemId));
-          } catch (ObjectStoreException e) {
-            throw new MuleRuntimeException(
-                                           createStaticMessage("An error occurred while checking the existance for Item with ID [%s]",
-                                                               itemId),
-                                           e);
-          }
+          accept = !(recentlyProcessed.containsKey(itemId) || onUpdatedWatermark.contains(itemId));
         } else {
           accept = false;
         }
       }
 
       if (accept) {
-        try {
-          if (itemId != null) {
-            if (recentlyProcessedIds.contains(itemId)) {
-              recentlyProcessedIds.remove(itemId);
-            }
-            recentlyProcessedIds.store(itemId, itemWatermark);
-          }
-        } catch (ObjectStoreException e) {
-          throw new MuleRuntimeException(
-                                         createStaticMessage("An error occurred while updating the watermark for Item with ID [%s]",
-                                                             itemId),
-                                         e);
+        if (itemId != null) {
+          recentlyProcessed.put(itemId, itemWatermark);
         }
       } else {
         if (LOGGER.isDebugEnabled()) {
@@ -488,11 +602,11 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
     Lock osClearingLock = lockFactory.createLock(UPDATE_PROCESSED_LOCK);
     try {
       osClearingLock.lock();
-      List<String> strings = recentlyProcessedIds.allKeys();
+      Map<String, Serializable> processed = recentlyProcessedIds.retrieveAll();
       idsOnUpdatedWatermark.clear();
-      strings.forEach(key -> {
+      processed.forEach((key, itemWatermark) -> {
         try {
-          idsOnUpdatedWatermark.store(key, recentlyProcessedIds.retrieve(key));
+          idsOnUpdatedWatermark.store(key, itemWatermark);
         } catch (ObjectStoreException e) {
           throw new MuleRuntimeException(createStaticMessage("An error occurred while updating the watermark Ids. Failed to update key '%s' in Watermark-IDs ObjectStore: %s",
                                                              key, e.getMessage()),
@@ -551,24 +665,21 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
     }
 
     try {
-      if (inflightIdsObjectStore.contains(id)) {
-        if (LOGGER.isDebugEnabled()) {
-          LOGGER.debug("Source at flow '{}' polled item '{}', but skipping it since it is already being processed in another "
-              + "thread or node", flowName, id);
-        }
-        return false;
-      } else {
-        try {
-          inflightIdsObjectStore.store(id, id);
-          callbackContext.addVariable(ITEM_RELEASER_CTX_VAR, new ItemReleaser(id, lock));
-          return true;
-        } catch (ObjectStoreException e) {
-          LOGGER.error(format("Flow at source '%s' could not track item '%s' as being processed. %s",
-                              flowName, id, e.getMessage()),
-                       e);
-          return false;
-        }
+      // Storing fails if it is already there, so there's no need to check first
+      inflightIdsObjectStore.store(id, id);
+      callbackContext.addVariable(ITEM_RELEASER_CTX_VAR, new ItemReleaser(id, lock));
+      return true;
+    } catch (ObjectAlreadyExistsException e) {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Source at flow '{}' polled item '{}', but skipping it since it is already being processed in another "
+            + "thread or node", flowName, id);
       }
+      return false;
+    } catch (ObjectStoreException e) {
+      LOGGER.error(format("Flow at source '%s' could not track item '%s' as being processed. %s",
+                          flowName, id, e.getMessage()),
+                   e);
+      return false;
     } catch (Exception e) {
       LOGGER.error(format("Could not guarantee idempotency for item '%s' for source at flow '%s'. '%s",
                           id, flowName, e.getMessage()),
@@ -7,7 +7,14 @@
 
 package org.mule.runtime.module.extension.internal.runtime.streaming;
 
+import static java.lang.Integer.getInteger;
+import static java.lang.Thread.currentThread;
+import static org.apache.commons.collections.CollectionUtils.isEmpty;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.core.api.util.ClassUtils.withContextClassLoader;
+import static org.slf4j.LoggerFactory.getLogger;
+
 import org.mule.runtime.api.connection.ConnectionHandler;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.exception.MuleRuntimeException;
@@ -23,11 +30,26 @@ import org.mule.runtime.module.extension.internal.runtime.connectivity.Extension
 import org.mule.runtime.module.extension.internal.runtime.transaction.ExtensionTransactionKey;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
+import org.slf4j.Logger;
+
 /**
  * Implementation of {@link Producer} that uses an instance of {@link PagingProvider} to get its results.
+ * <p>
+ * When given a prefetch depth, up to that many pages are fetched ahead in the background while the current one is being
+ * consumed. The pages are still fetched one after the other, so the {@link PagingProvider} and a sticky connection are never
+ * used by two threads at the same time. Prefetching pauses while the pages fetched ahead hold more than
+ * {@link #PAGING_PREFETCH_MAX_ELEMENTS_PROPERTY maxElements}, and doesn't happen within a transaction, since the transacted
+ * connection belongs to the thread executing the flow.
  *
  * @param <T> the type of the elements returned by the {@link PagingProvider}.
  * @since 3.5.0
@@ -35,30 +57,106 @@ import java.util.function.Function;
 public final class PagingProviderProducer<T> implements Producer<List<T>> {
 
   public static final String COULD_NOT_OBTAIN_A_CONNECTION = "Could not obtain a connection for the configuration";
+
+  /**
+   * How many pages to fetch ahead in the background. Defaults to {@code 0}, fetching each page only when the previous one is
+   * consumed.
+   */
+  public static final String PAGING_PREFETCH_DEPTH_PROPERTY = SYSTEM_PROPERTY_PREFIX + "paging.prefetchDepth";
+
+  /**
+   * How many elements the pages fetched ahead may hold before prefetching pauses. Defaults to {@code 10000}.
+   */
+  public static final String PAGING_PREFETCH_MAX_ELEMENTS_PROPERTY = SYSTEM_PROPERTY_PREFIX + "paging.prefetchMaxElements";
+
+  public static final int PAGING_PREFETCH_DEPTH = getInteger(PAGING_PREFETCH_DEPTH_PROPERTY, 0);
+
+  private static final int PAGING_PREFETCH_MAX_ELEMENTS = getInteger(PAGING_PREFETCH_MAX_ELEMENTS_PROPERTY, 10000);
+
+  private static final Logger LOGGER = getLogger(PagingProviderProducer.class);
+
   private PagingProvider<Object, T> delegate;
   private final ConfigurationInstance config;
   private final ExtensionConnectionSupplier connectionSupplier;
   private final ExecutionContextAdapter executionContext;
   private final ConnectionSupplierFactory connectionSupplierFactory;
 
+  private final Executor prefetchExecutor;
+  private final int prefetchDepth;
+  private final int prefetchMaxElements;
+  private final ClassLoader prefetchClassLoader;
+  private final Deque<CompletableFuture<List<T>>> prefetched = new ArrayDeque<>();
+  private final AtomicInteger prefetchedElements = new AtomicInteger();
+  private boolean exhausted = false;
+
   public PagingProviderProducer(PagingProvider<Object, T> delegate,
                                 ConfigurationInstance config,
                                 ExecutionContextAdapter executionContext,
                                 ExtensionConnectionSupplier connectionSupplier) {
+    this(delegate, config, executionContext, connectionSupplier, null, 0);
+  }
+
+  /**
+   * Creates a new instance which fetches pages ahead in the background.
+   *
+   * @param prefetchExecutor the {@link Executor} where to fetch the pages ahead
+   * @param prefetchDepth how many pages to fetch ahead. If not positive, pages are not fetched ahead
+   */
+  public PagingProviderProducer(PagingProvider<Object, T> delegate,
+                                ConfigurationInstance config,
+                                ExecutionContextAdapter executionContext,
+                                ExtensionConnectionSupplier connectionSupplier,
+                                Executor prefetchExecutor,
+                                int prefetchDepth) {
+    this(delegate, config, executionContext, connectionSupplier, prefetchExecutor, prefetchDepth, PAGING_PREFETCH_MAX_ELEMENTS);
+  }
+
+  PagingProviderProducer(PagingProvider<Object, T> delegate,
+                         ConfigurationInstance config,
+                         ExecutionContextAdapter executionContext,
+                         ExtensionConnectionSupplier connectionSupplier,
+                         Executor prefetchExecutor,
+                         int prefetchDepth,
+                         int prefetchMaxElements) {
     this.delegate = new PagingProviderWrapper(delegate);
     this.config = config;
     this.executionContext = executionContext;
     this.connectionSupplier = connectionSupplier;
 
-    this.connectionSupplierFactory = createConnectionSupplierFactory();
+    final boolean transactional = isTransactional();
+    this.connectionSupplierFactory = createConnectionSupplierFactory(transactional);
+    this.prefetchExecutor = prefetchExecutor;
+    this.prefetchDepth = prefetchExecutor != null && !transactional ? prefetchDepth : 0;
+    this.prefetchMaxElements = prefetchMaxElements;
+    this.prefetchClassLoader = currentThread().getContextClassLoader();
   }
 
   /**
-   * Asks the delegate for the next page
+   * Asks the delegate for the next page, or takes it from the ones fetched ahead
    */
   @Override
   public List<T> produce() {
-    return performWithConnection(connection -> delegate.getPage(connection));
+    if (prefetchDepth <= 0) {
+      return fetchPage();
+    }
+
+    final CompletableFuture<List<T>> next = prefetched.poll();
+    final List<T> page;
+    if (next == null) {
+      page = fetchPage();
+    } else {
+      page = join(next);
+      if (page != null) {
+        prefetchedElements.addAndGet(-page.size());
+      }
+    }
+
+    if (isEmpty(page)) {
+      exhausted = true;
+    } else {
+      prefetch();
+    }
+    return page;
   }
 
   /**
@@ -66,9 +164,93 @@ public final class PagingProviderProducer<T> implements Producer<List<T>> {
    */
   @Override
   public int getSize() {
+    awaitPrefetched();
     return performWithConnection(connection -> delegate.getTotalResults(connection)).orElse(-1);
   }
 
+  private List<T> fetchPage() {
+    return performWithConnection(connection -> delegate.getPage(connection));
+  }
+
+  /**
+   * Fetches pages ahead until there are {@link #prefetchDepth} of them or they hold {@link #prefetchMaxElements}. Each page is
+   * fetched after the previous one, and not at all if the previous one was the last.
+   */
+  private void prefetch() {
+    while (!exhausted && prefetched.size() < prefetchDepth && prefetchedElements.get() < prefetchMaxElements) {
+      final CompletableFuture<List<T>> previous = prefetched.peekLast();
+      final CompletableFuture<List<T>> page = new CompletableFuture<>();
+      if (previous == null) {
+        try {
+          prefetchExecutor.execute(() -> prefetchPage(page));
+        } catch (RejectedExecutionException e) {
+          LOGGER.debug("Could not fetch pages ahead, they will be fetched when needed", e);
+          return;
+        }
+      } else {
+        previous.whenComplete((previousPage, failure) -> {
+          if (failure != null) {
+            page.completeExceptionally(failure);
+          } else if (isEmpty(previousPage)) {
+            page.complete(previousPage);
+          } else {
+            prefetchNextPage(page);
+          }
+        });
+      }
+      prefetched.add(page);
+    }
+  }
+
+  /**
+   * Fetches the page following one just fetched. Being already chained to the previous page, the fetch can't just be given up if
+   * the executor rejects it, so it is then done on the thread that fetched the previous page.
+   */
+  private void prefetchNextPage(CompletableFuture<List<T>> page) {
+    try {
+      prefetchExecutor.execute(() -> prefetchPage(page));
+    } catch (RejectedExecutionException e) {
+      LOGGER.debug("Could not fetch page ahead in the background, fetching it right away", e);
+      prefetchPage(page);
+    }
+  }
+
+  private void prefetchPage(CompletableFuture<List<T>> page) {
+    try {
+      final List<T> fetched = withContextClassLoader(prefetchClassLoader, this::fetchPage);
+      if (fetched != null) {
+        prefetchedElements.addAndGet(fetched.size());
+      }
+      page.complete(fetched);
+    } catch (Throwable t) {
+      page.completeExceptionally(t);
+    }
+  }
+
+  private List<T> join(CompletableFuture<List<T>> page) {
+    try {
+      return page.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Waits for the pages being fetched ahead, so the delegate and the connection can be used from the current thread.
+   */
+  private void awaitPrefetched() {
+    for (CompletableFuture<List<T>> page : prefetched) {
+      try {
+        page.join();
+      } catch (CompletionException e) {
+        // Thrown when the page is consumed
+      }
+    }
+  }
+
   /**
    * Finds a connection and applies the {@link Function} passed as parameter.
    *
@@ -95,6 +277,9 @@ public final class PagingProviderProducer<T> implements Producer<List<T>> {
    */
   @Override
   public void close() throws IOException {
+    awaitPrefetched();
+    prefetched.clear();
+
     ConnectionSupplier connectionSupplier = null;
     try {
       connectionSupplier = connectionSupplierFactory.getConnectionSupplier();
@@ -109,8 +294,8 @@ public final class PagingProviderProducer<T> implements Producer<List<T>> {
     }
   }
 
-  private ConnectionSupplierFactory createConnectionSupplierFactory() {
-    if (delegate.useStickyConnections() || isTransactional()) {
+  private ConnectionSupplierFactory createConnectionSupplierFactory(boolean transactional) {
+    if (delegate.useStickyConnections() || transactional) {
       return new StickyConnectionSupplierFactory();
     }
 
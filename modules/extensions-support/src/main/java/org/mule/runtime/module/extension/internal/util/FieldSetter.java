@@ -6,12 +6,20 @@
  */
 package org.mule.runtime.module.extension.internal.util;
 
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 
 import org.springframework.util.ReflectionUtils;
 
 /**
  * Utility class which allows setting the value of a {@link Field} on random compatible instances
+ * <p>
+ * The value is set through a {@link MethodHandle} rather than through {@link Field#set(Object, Object)}, unless such a handle
+ * can't be obtained for the field. Since obtaining it is expensive, instances should be reused (see
+ * {@link ReflectionCache#getFieldSetter(Field)}).
  *
  * @param <Target> the generic type of the objects which contain the field
  * @param <Value> the field's generic type
@@ -23,9 +31,24 @@ public final class FieldSetter<Target, Value> {
    */
   private final Field field;
 
+  /**
+   * A handle of type {@code (Object, Object)void} which sets the {@link #field}, or {@code null} if it must be set reflectively
+   */
+  private final MethodHandle setter;
+
   public FieldSetter(Field field) {
     this.field = field;
     field.setAccessible(true);
+    this.setter = createSetter(field);
+  }
+
+  private static MethodHandle createSetter(Field field) {
+    try {
+      return lookup().unreflectSetter(field).asType(methodType(void.class, Object.class, Object.class));
+    } catch (IllegalAccessException e) {
+      // i.e.: final fields
+      return null;
+    }
   }
 
   /**
@@ -35,7 +58,28 @@ public final class FieldSetter<Target, Value> {
    * @param value the value to set
    */
   public void set(Target target, Value value) {
-    ReflectionUtils.setField(field, target, value);
+    if (setter == null) {
+      ReflectionUtils.setField(field, target, value);
+      return;
+    }
+
+    try {
+      setter.invokeExact((Object) target, (Object) value);
+    } catch (NullPointerException e) {
+      if (value == null && field.getType().isPrimitive()) {
+        // Keep the same behavior as when setting the field reflectively
+        throw new IllegalArgumentException("Can not set " + field.getType().getName() + " field " + field + " to null value", e);
+      }
+      throw e;
+    } catch (ClassCastException e) {
+      // Keep the same behavior as when setting the field reflectively
+      throw new IllegalArgumentException("Can not set field " + field + " to value of type "
+          + (value != null ? value.getClass().getName() : null), e);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException(t);
+    }
   }
 
   /**
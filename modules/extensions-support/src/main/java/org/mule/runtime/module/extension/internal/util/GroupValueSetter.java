@@ -8,11 +8,11 @@ package org.mule.runtime.module.extension.internal.util;
 
 import static org.mule.runtime.api.meta.model.parameter.ParameterGroupModel.DEFAULT_GROUP_NAME;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
-import static org.springframework.util.ReflectionUtils.setField;
 
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.meta.model.EnrichableModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterizedModel;
+import org.mule.runtime.api.util.LazyValue;
 import org.mule.runtime.module.extension.internal.loader.ParameterGroupDescriptor;
 import org.mule.runtime.module.extension.internal.loader.java.property.ParameterGroupModelProperty;
 import org.mule.runtime.module.extension.internal.runtime.objectbuilder.ParameterGroupObjectBuilder;
@@ -56,9 +56,8 @@ public final class GroupValueSetter implements ValueSetter {
     return setters.build();
   }
 
-  private final ParameterGroupDescriptor groupDescriptor;
-  private final Field container;
-  private final Supplier<ReflectionCache> reflectionCache;
+  private final LazyValue<FieldSetter<Object, Object>> containerSetter;
+  private final LazyValue<ParameterGroupObjectBuilder<?>> groupObjectBuilder;
 
   /**
    * Creates a new instance that can set values defined in the given {@code group}
@@ -67,15 +66,13 @@ public final class GroupValueSetter implements ValueSetter {
    * @param reflectionCache the cache for expensive reflection lookups
    */
   public GroupValueSetter(ParameterGroupDescriptor groupDescriptor, Supplier<ReflectionCache> reflectionCache) {
-    this.groupDescriptor = groupDescriptor;
     checkArgument(groupDescriptor.getContainer() instanceof Field, "Only field contained parameter groups are allowed");
-    container = (Field) groupDescriptor.getContainer();
-    this.reflectionCache = reflectionCache;
+    containerSetter = new LazyValue<>(() -> reflectionCache.get().getFieldSetter((Field) groupDescriptor.getContainer()));
+    groupObjectBuilder = new LazyValue<>(() -> new ParameterGroupObjectBuilder<>(groupDescriptor, reflectionCache.get()));
   }
 
   @Override
   public void set(Object target, ResolverSetResult result) throws MuleException {
-    container.setAccessible(true);
-    setField(container, target, new ParameterGroupObjectBuilder<>(groupDescriptor, reflectionCache.get()).build(result));
+    containerSetter.get().set(target, groupObjectBuilder.get().build(result));
   }
 }
@@ -38,6 +38,7 @@ public class ReflectionCache {
       new ConcurrentHashMap<>(3, 0.9f);
   private final ConcurrentMap<Class<?>, List<Field>> fieldsByClass = new ConcurrentHashMap<>();
   private final ConcurrentMap<Class<?>, Boolean> hasDefaultConstructorsByClass = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Field, FieldSetter<Object, Object>> fieldSetters = new ConcurrentHashMap<>();
 
   public List<FieldElement> fieldElementsFor(ParameterGroupDescriptor groupDescriptor) {
     Class<?> clazz = groupDescriptor.getType().getDeclaringClass().get();
@@ -79,6 +80,16 @@ public class ReflectionCache {
     return setter;
   }
 
+  public FieldSetter<Object, Object> getFieldSetter(Field field) {
+    FieldSetter<Object, Object> setter = fieldSetters.get(field);
+    // This pre-check is made in order to avoid the synchronized block in the implementation of ConcurrentHashMap
+    // (https://bugs.openjdk.java.net/browse/JDK-8161372)
+    if (setter == null) {
+      setter = fieldSetters.computeIfAbsent(field, FieldSetter::new);
+    }
+    return setter;
+  }
+
   public List<Field> getFields(Class<?> clazz) {
     List<Field> fields = fieldsByClass.get(clazz);
     // This pre-check is made in order to avoid the synchronized block in the implementation of ConcurrentHashMap
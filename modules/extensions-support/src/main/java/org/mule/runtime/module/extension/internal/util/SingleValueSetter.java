@@ -28,8 +28,12 @@ public final class SingleValueSetter implements ValueSetter {
   private final FieldSetter<Object, Object> fieldSetter;
 
   public SingleValueSetter(String parameterName, Field field) {
+    this(parameterName, new FieldSetter<>(field));
+  }
+
+  public SingleValueSetter(String parameterName, FieldSetter<Object, Object> fieldSetter) {
     this.parameterName = parameterName;
-    this.fieldSetter = new FieldSetter<>(field);
+    this.fieldSetter = fieldSetter;
   }
 
   /**
@@ -14,11 +14,14 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
 import static org.junit.Assert.assertThat;
 import static org.junit.internal.matchers.ThrowableMessageMatcher.hasMessage;
 import static org.junit.rules.ExpectedException.none;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -63,6 +66,10 @@ import com.google.common.collect.ImmutableList;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 @SmallTest
 @RunWith(MockitoJUnitRunner.class)
@@ -201,6 +208,128 @@ public class DynamicConfigurationProviderTestCase extends AbstractConfigurationP
     assertThat(configs, containsInAnyOrder(instance1, instance2));
   }
 
+  @Test
+  public void evictedWhenFull() throws Exception {
+    provider.stop();
+    provider.dispose();
+    DynamicConfigurationProvider provider =
+        new DynamicConfigurationProvider(CONFIG_NAME, extensionModel, configurationModel, resolverSet, connectionProviderResolver,
+                                         expirationPolicy, new ReflectionCache(), muleContext, 1);
+    this.provider = provider;
+    muleContext.getInjector().inject(provider);
+    provider.initialise();
+    provider.start();
+
+    ConfigurationInstance instance1 = provider.get(event);
+    assertThat(provider.get(event), is(sameInstance(instance1)));
+
+    ResolverSetResult alternateResult = mock(ResolverSetResult.class, Mockito.RETURNS_DEEP_STUBS);
+    when(alternateResult.asMap()).thenReturn(new HashMap<>());
+    mockConfigurationInstance(configurationModel, MODULE_CLASS.newInstance());
+    when(resolverSet.resolve(from(event))).thenReturn(alternateResult);
+    ConfigurationInstance instance2 = provider.get(event);
+
+    ((MutableConfigurationStats) instance1.getStatistics()).addInflightOperation();
+    ((MutableConfigurationStats) instance2.getStatistics()).addInflightOperation();
+
+    assertThat(((MutableConfigurationStats) instance1.getStatistics()).getCacheMisses(), is(1L));
+    assertThat(((MutableConfigurationStats) instance1.getStatistics()).getCacheHits(), is(1L));
+    assertThat(((MutableConfigurationStats) instance2.getStatistics()).getCacheMisses(), is(1L));
+
+    // In-flight operations are still using the evicted instance
+    assertThat(provider.getExpired().isEmpty(), is(true));
+    assertThat(((MutableConfigurationStats) instance1.getStatistics()).isEvicted(), is(true));
+
+    ((MutableConfigurationStats) instance1.getStatistics()).discountInflightOperation();
+    ((MutableConfigurationStats) instance2.getStatistics()).discountInflightOperation();
+
+    // Not idle yet
+    assertThat(provider.getExpired().isEmpty(), is(true));
+    timeSupplier.move(2, MINUTES);
+    ((MutableConfigurationStats) instance2.getStatistics()).updateLastUsed();
+    timeSupplier.move(4, MINUTES);
+
+    List<ConfigurationInstance> expired = provider.getExpired();
+    assertThat(expired, hasSize(1));
+    assertThat(((MutableConfigurationStats) expired.get(0).getStatistics()).isEvicted(), is(true));
+    assertThat(provider.getExpired().isEmpty(), is(true));
+  }
+
+  @Test
+  public void evictedNotExpiredBeforeUsed() throws Exception {
+    provider.stop();
+    provider.dispose();
+    DynamicConfigurationProvider provider =
+        new DynamicConfigurationProvider(CONFIG_NAME, extensionModel, configurationModel, resolverSet, connectionProviderResolver,
+                                         expirationPolicy, new ReflectionCache(), muleContext, 1);
+    this.provider = provider;
+    muleContext.getInjector().inject(provider);
+    provider.initialise();
+    provider.start();
+
+    // Obtained, but its operation has not started yet
+    ConfigurationInstance instance1 = provider.get(event);
+
+    ResolverSetResult alternateResult = mock(ResolverSetResult.class, Mockito.RETURNS_DEEP_STUBS);
+    when(alternateResult.asMap()).thenReturn(new HashMap<>());
+    mockConfigurationInstance(configurationModel, MODULE_CLASS.newInstance());
+    when(resolverSet.resolve(from(event))).thenReturn(alternateResult);
+    provider.get(event);
+
+    assertThat(provider.getExpired().isEmpty(), is(true));
+    assertThat(((MutableConfigurationStats) instance1.getStatistics()).isEvicted(), is(true));
+
+    ((MutableConfigurationStats) instance1.getStatistics()).addInflightOperation();
+    timeSupplier.move(10, MINUTES);
+    assertThat(provider.getExpired().isEmpty(), is(true));
+
+    ((MutableConfigurationStats) instance1.getStatistics()).discountInflightOperation();
+    timeSupplier.move(10, MINUTES);
+    assertThat(provider.getExpired(), hasItem(sameInstance(instance1)));
+  }
+
+  @Test
+  public void replacedWhileExpiringNotDisposedUntilIdle() throws Exception {
+    provider.stop();
+    provider.dispose();
+
+    final AtomicBoolean racing = new AtomicBoolean(false);
+    final AtomicInteger expirationChecks = new AtomicInteger();
+    final AtomicReference<ConfigurationInstance> concurrentlyUsed = new AtomicReference<>();
+    final AtomicReference<ConfigurationInstance> concurrentlyCreated = new AtomicReference<>();
+    final ExpirationPolicy racingPolicy = mock(ExpirationPolicy.class);
+
+    DynamicConfigurationProvider provider =
+        new DynamicConfigurationProvider(CONFIG_NAME, extensionModel, configurationModel, resolverSet, connectionProviderResolver,
+                                         racingPolicy, new ReflectionCache(), muleContext);
+    this.provider = provider;
+    muleContext.getInjector().inject(provider);
+    provider.initialise();
+    provider.start();
+
+    // The second check happens right after the expired instance was removed from the cache. Simulate that a concurrent get
+    // obtained it just before the removal and that another one created a new instance for the same key right after it.
+    when(racingPolicy.isExpired(anyLong(), any(TimeUnit.class))).thenAnswer(inv -> {
+      if (racing.get() && expirationChecks.incrementAndGet() == 2) {
+        ((MutableConfigurationStats) concurrentlyUsed.get().getStatistics()).addCacheHit();
+        concurrentlyCreated.set(provider.get(event));
+      }
+      return expirationPolicy.isExpired((Long) inv.getArguments()[0], (TimeUnit) inv.getArguments()[1]);
+    });
+
+    final ConfigurationInstance instance1 = provider.get(event);
+    concurrentlyUsed.set(instance1);
+    timeSupplier.move(10, MINUTES);
+    racing.set(true);
+
+    assertThat(provider.getExpired().isEmpty(), is(true));
+    assertThat(concurrentlyCreated.get(), is(not(sameInstance(instance1))));
+    assertThat(provider.get(event), is(sameInstance(concurrentlyCreated.get())));
+
+    timeSupplier.move(10, MINUTES);
+    assertThat(provider.getExpired(), containsInAnyOrder(sameInstance(instance1), sameInstance(concurrentlyCreated.get())));
+  }
+
   private HeisenbergExtension makeAlternateInstance() throws Exception {
     ResolverSetResult alternateResult = mock(ResolverSetResult.class, Mockito.RETURNS_DEEP_STUBS);
     when(alternateResult.asMap()).thenReturn(new HashMap<>());
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.execution;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+@SmallTest
+public class MethodInvokerTestCase extends AbstractMuleTestCase {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void invokeWithPrimitiveArguments() throws Exception {
+    MethodInvoker invoker = MethodInvoker.forMethod(Operations.class.getMethod("sum", int.class, long.class));
+    assertThat(invoker.invoke(new Operations(), new Object[] {1, 2L}), is(3L));
+  }
+
+  @Test
+  public void invokeVoid() throws Exception {
+    Operations operations = new Operations();
+    MethodInvoker invoker = MethodInvoker.forMethod(Operations.class.getMethod("set", String.class));
+    assertThat(invoker.invoke(operations, new Object[] {"value"}), is(nullValue()));
+    assertThat(operations.value, is("value"));
+  }
+
+  @Test
+  public void invokeNonPublicClass() throws Exception {
+    MethodInvoker invoker = MethodInvoker.forMethod(HiddenOperations.class.getMethod("echo", String.class));
+    assertThat(invoker.invoke(new HiddenOperations(), new Object[] {"value"}), is("value"));
+  }
+
+  @Test
+  public void runtimeExceptionPropagated() throws Exception {
+    MethodInvoker invoker = MethodInvoker.forMethod(Operations.class.getMethod("fail"));
+    expectedException.expect(IllegalStateException.class);
+    invoker.invoke(new Operations(), new Object[] {});
+  }
+
+  @Test
+  public void fastClassGeneratedOncePerClass() throws Exception {
+    assertThat(MethodInvoker.fastClass(Operations.class), is(sameInstance(MethodInvoker.fastClass(Operations.class))));
+  }
+
+  public static class Operations {
+
+    private String value;
+
+    public long sum(int a, long b) {
+      return a + b;
+    }
+
+    public void set(String value) {
+      this.value = value;
+    }
+
+    public void fail() {
+      throw new IllegalStateException();
+    }
+  }
+
+  static class HiddenOperations {
+
+    public String echo(String value) {
+      return value;
+    }
+  }
+}
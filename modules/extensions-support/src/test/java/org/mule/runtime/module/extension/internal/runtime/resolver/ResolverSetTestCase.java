@@ -8,7 +8,12 @@ package org.mule.runtime.module.extension.internal.runtime.resolver;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.Matchers.contains;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mule.test.module.extension.internal.util.ExtensionsTestUtils.getParameter;
 import org.mule.runtime.api.lifecycle.Lifecycle;
@@ -100,6 +105,40 @@ public class ResolverSetTestCase extends AbstractMuleTestCase {
     assertThat(set.isDynamic(), is(true));
   }
 
+  @Test
+  public void staticResolversResolvedOnce() throws Exception {
+    StaticValueResolver<String> staticResolver = spy(new StaticValueResolver<>(NAME));
+    ValueResolver<Integer> dynamicResolver = getResolver(AGE);
+    set = new ResolverSet(muleContext);
+    set.add("myName", staticResolver);
+    set.add("age", dynamicResolver);
+
+    for (int i = 0; i < 3; ++i) {
+      ResolverSetResult result = set.resolve(resolvingContext);
+      assertThat(result.get("myName"), is(NAME));
+      assertThat(result.get("age"), is(AGE));
+    }
+
+    verify(staticResolver, times(1)).resolve(any(ValueResolvingContext.class));
+    verify(dynamicResolver, times(3)).resolve(resolvingContext);
+  }
+
+  @Test
+  public void resolveKeepsOrder() throws Exception {
+    set.add("static", new StaticValueResolver<>("value"));
+    assertThat(set.resolve(resolvingContext).asMap().keySet(), contains("myName", "age", "static"));
+  }
+
+  @Test
+  public void resolveAfterAdd() throws Exception {
+    set.resolve(resolvingContext);
+    set.add("static", new StaticValueResolver<>("value"));
+
+    ResolverSetResult result = set.resolve(resolvingContext);
+    assertThat(result.get("static"), is("value"));
+    assertResult(result, mapping);
+  }
+
   private void assertResult(ResolverSetResult result, Map<ParameterModel, ValueResolver> mapping) throws Exception {
     assertThat(result, is(notNullValue()));
     for (Map.Entry<ParameterModel, ValueResolver> entry : mapping.entrySet()) {
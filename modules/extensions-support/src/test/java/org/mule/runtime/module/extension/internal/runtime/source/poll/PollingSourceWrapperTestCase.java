@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.source.poll;
+
+import static java.util.Optional.empty;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.extension.api.runtime.source.PollContext.PollItemStatus.FILTERED_BY_WATERMARK;
+
+import org.mule.runtime.api.component.location.ComponentLocation;
+import org.mule.runtime.api.lock.LockFactory;
+import org.mule.runtime.api.scheduler.SchedulerConfig;
+import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.api.store.ObjectStore;
+import org.mule.runtime.api.store.ObjectStoreManager;
+import org.mule.runtime.api.store.ObjectStoreSettings;
+import org.mule.runtime.api.store.SimpleMemoryObjectStore;
+import org.mule.runtime.core.api.source.scheduler.Scheduler;
+import org.mule.runtime.extension.api.runtime.operation.Result;
+import org.mule.runtime.extension.api.runtime.source.PollContext;
+import org.mule.runtime.extension.api.runtime.source.PollContext.PollItemStatus;
+import org.mule.runtime.extension.api.runtime.source.PollingSource;
+import org.mule.runtime.extension.api.runtime.source.SourceCallback;
+import org.mule.runtime.extension.api.runtime.source.SourceCallbackContext;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+@SmallTest
+public class PollingSourceWrapperTestCase extends AbstractMuleTestCase {
+
+  private static final String FLOW_NAME = "flow";
+  private static final String KEY_PREFIX = "_pollingSource_" + FLOW_NAME + "/";
+
+  private final Map<String, ObjectStore<Serializable>> stores = new ConcurrentHashMap<>();
+  private final Map<String, Lock> locks = new ConcurrentHashMap<>();
+  private final Map<String, Integer> handled = new ConcurrentHashMap<>();
+
+  private final ObjectStoreManager objectStoreManager = mock(ObjectStoreManager.class);
+  private final LockFactory lockFactory = mock(LockFactory.class);
+  private final SchedulerService schedulerService = mock(SchedulerService.class);
+  private final ComponentLocation componentLocation = mock(ComponentLocation.class);
+
+  @Before
+  public void before() {
+    when(objectStoreManager.getOrCreateObjectStore(anyString(), any(ObjectStoreSettings.class)))
+        .thenAnswer(inv -> stores.computeIfAbsent((String) inv.getArguments()[0], name -> new SimpleMemoryObjectStore<>()));
+    when(lockFactory.createLock(anyString()))
+        .thenAnswer(inv -> locks.computeIfAbsent((String) inv.getArguments()[0], name -> new ReentrantLock()));
+    when(schedulerService.customScheduler(any(SchedulerConfig.class)))
+        .thenReturn(mock(org.mule.runtime.api.scheduler.Scheduler.class));
+    when(componentLocation.getRootContainerName()).thenReturn(FLOW_NAME);
+  }
+
+  @Test
+  public void olderPollDoesNotOverwriteNewerUpdatedWatermark() throws Exception {
+    final CountDownLatch olderPollStarted = new CountDownLatch(1);
+    final CountDownLatch newerPollDone = new CountDownLatch(1);
+
+    final Runnable olderPoll = startPolling(ctx -> {
+      olderPollStarted.countDown();
+      newerPollDone.await();
+      accept(ctx, "a", 1);
+    });
+    final Runnable newerPoll = startPolling(ctx -> accept(ctx, "b", 2));
+
+    interleave(olderPoll, olderPollStarted, newerPoll, newerPollDone);
+
+    assertThat(store("watermark").retrieve("updatedWatermark"), is(2));
+    assertThat(store("watermark").retrieve("watermark"), is(2));
+  }
+
+  @Test
+  public void olderPollDoesNotOverwriteNewerRecentlyProcessedId() throws Exception {
+    final CountDownLatch olderPollStarted = new CountDownLatch(1);
+    final CountDownLatch newerPollDone = new CountDownLatch(1);
+
+    final Runnable olderPoll = startPolling(ctx -> {
+      olderPollStarted.countDown();
+      newerPollDone.await();
+      accept(ctx, "x", 2);
+    });
+    // The failed poll keeps the watermark, so the id remains as recently processed
+    final Runnable newerPoll = startPolling(ctx -> {
+      accept(ctx, "x", 3);
+      throw new IllegalStateException("Expected");
+    });
+
+    interleave(olderPoll, olderPollStarted, newerPoll, newerPollDone);
+
+    assertThat(store("watermark").retrieve("watermark"), is(3));
+    assertThat(store("ids-on-updated-watermark").retrieve("x"), is(3));
+  }
+
+  @Test
+  public void overlappingPollsDispatchItemOnce() throws Exception {
+    final CountDownLatch olderPollDispatched = new CountDownLatch(1);
+    final CountDownLatch newerPollDone = new CountDownLatch(1);
+    final AtomicReference<PollItemStatus> newerPollStatus = new AtomicReference<>();
+
+    // The older poll has not merged its changes yet when the newer one gets the same item
+    final Runnable olderPoll = startPolling(ctx -> {
+      accept(ctx, "x", 1);
+      olderPollDispatched.countDown();
+      newerPollDone.await();
+    });
+    final Runnable newerPoll = startPolling(ctx -> newerPollStatus.set(accept(ctx, "x", 1)));
+
+    interleave(olderPoll, olderPollDispatched, newerPoll, newerPollDone);
+
+    assertThat(newerPollStatus.get(), is(FILTERED_BY_WATERMARK));
+    assertThat(handled.get("x"), is(1));
+  }
+
+  @Test
+  public void pollDoesNotDispatchItemProcessedByAnotherSinceItStarted() throws Exception {
+    final CountDownLatch olderPollStarted = new CountDownLatch(1);
+    final CountDownLatch newerPollDone = new CountDownLatch(1);
+    final AtomicReference<PollItemStatus> olderPollStatus = new AtomicReference<>();
+
+    final Runnable olderPoll = startPolling(ctx -> {
+      olderPollStarted.countDown();
+      newerPollDone.await();
+      olderPollStatus.set(accept(ctx, "x", 1));
+    });
+    final Runnable newerPoll = startPolling(ctx -> accept(ctx, "x", 1));
+
+    interleave(olderPoll, olderPollStarted, newerPoll, newerPollDone);
+
+    assertThat(olderPollStatus.get(), is(FILTERED_BY_WATERMARK));
+    assertThat(handled.get("x"), is(1));
+    assertThat(store("watermark").retrieve("watermark"), is(1));
+  }
+
+  private void interleave(Runnable olderPoll, CountDownLatch olderPollStarted, Runnable newerPoll,
+                          CountDownLatch newerPollDone)
+      throws InterruptedException {
+    final Thread olderPollThread = new Thread(olderPoll);
+    olderPollThread.start();
+    assertThat(olderPollStarted.await(5, SECONDS), is(true));
+
+    newerPoll.run();
+    newerPollDone.countDown();
+
+    olderPollThread.join(SECONDS.toMillis(5));
+    assertThat(olderPollThread.isAlive(), is(false));
+  }
+
+  private PollItemStatus accept(PollContext<String, Object> ctx, String id, int watermark) {
+    return ctx.accept(item -> item.setResult(Result.<String, Object>builder().output(id).build()).setId(id).setWatermark(watermark));
+  }
+
+  private ObjectStore<Serializable> store(String name) {
+    return stores.get(KEY_PREFIX + name);
+  }
+
+  /**
+   * Starts a {@link PollingSourceWrapper} sharing its stores and locks with the others started by the test, as another node in
+   * the cluster would
+   *
+   * @return the job which polls the source
+   */
+  private Runnable startPolling(TestPoll poll) throws Exception {
+    final PollingSource<String, Object> delegate = mock(PollingSource.class);
+    doAnswer(inv -> {
+      poll.poll((PollContext<String, Object>) inv.getArguments()[0]);
+      return null;
+    }).when(delegate).poll(any(PollContext.class));
+
+    final SourceCallback<String, Object> sourceCallback = mock(SourceCallback.class);
+    when(sourceCallback.createContext()).thenAnswer(inv -> {
+      final SourceCallbackContext context = mock(SourceCallbackContext.class);
+      when(context.getVariable(anyString())).thenReturn(empty());
+      return context;
+    });
+    // The flow is done with the item as soon as it is handled
+    doAnswer(inv -> {
+      final String id = ((Result<String, Object>) inv.getArguments()[0]).getOutput();
+      handled.merge(id, 1, Integer::sum);
+      store("inflight-ids").remove(id);
+      return null;
+    }).when(sourceCallback).handle(any(Result.class), any(SourceCallbackContext.class));
+
+    final Scheduler scheduler = mock(Scheduler.class);
+    final PollingSourceWrapper<String, Object> wrapper = new PollingSourceWrapper<>(delegate, scheduler);
+    inject(wrapper, "lockFactory", lockFactory);
+    inject(wrapper, "objectStoreManager", objectStoreManager);
+    inject(wrapper, "schedulerService", schedulerService);
+    inject(wrapper, "componentLocation", componentLocation);
+    wrapper.onStart(sourceCallback);
+
+    final ArgumentCaptor<Runnable> job = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduler).schedule(any(org.mule.runtime.api.scheduler.Scheduler.class), job.capture());
+    return job.getValue();
+  }
+
+  private void inject(Object target, String fieldName, Object value) throws Exception {
+    final Field field = PollingSourceWrapper.class.getDeclaredField(fieldName);
+    field.setAccessible(true);
+    field.set(target, value);
+  }
+
+  @FunctionalInterface
+  private interface TestPoll {
+
+    void poll(PollContext<String, Object> ctx) throws Exception;
+  }
+}
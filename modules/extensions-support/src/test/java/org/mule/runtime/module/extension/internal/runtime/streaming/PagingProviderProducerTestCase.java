@@ -7,9 +7,12 @@
 package org.mule.runtime.module.extension.internal.runtime.streaming;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyObject;
 import static org.mockito.Mockito.doThrow;
@@ -29,6 +32,11 @@ import org.mule.tck.size.SmallTest;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -114,6 +122,74 @@ public class PagingProviderProducerTestCase {
     verify(connectionHandler, times(1)).release();
   }
 
+  @Test
+  public void prefetch() throws Exception {
+    List<String> page1 = asList("a");
+    List<String> page2 = asList("b");
+    List<String> page3 = asList("c");
+    when(delegate.getPage(anyObject())).thenReturn(page1, page2, page3, emptyList());
+    producer = new PagingProviderProducer<>(delegate, config, executionContext, extensionConnectionSupplier, Runnable::run, 2);
+
+    assertThat(producer.produce(), sameInstance(page1));
+    verify(delegate, times(3)).getPage(anyObject());
+
+    assertThat(producer.produce(), sameInstance(page2));
+    assertThat(producer.produce(), sameInstance(page3));
+    assertThat(producer.produce().isEmpty(), is(true));
+    verify(delegate, times(4)).getPage(anyObject());
+  }
+
+  @Test
+  public void prefetchUpToMaxElements() throws Exception {
+    when(delegate.getPage(anyObject())).thenReturn(asList("a", "b"));
+    producer = new PagingProviderProducer<>(delegate, config, executionContext, extensionConnectionSupplier, Runnable::run, 5, 3);
+
+    producer.produce();
+    verify(delegate, times(3)).getPage(anyObject());
+  }
+
+  @Test
+  public void prefetchFailure() throws Exception {
+    final RuntimeException exception = new RuntimeException();
+    when(delegate.getPage(anyObject())).thenReturn(asList("a")).thenThrow(exception);
+    producer = new PagingProviderProducer<>(delegate, config, executionContext, extensionConnectionSupplier, Runnable::run, 2);
+
+    producer.produce();
+    try {
+      producer.produce();
+      fail("Was expecting the failure of the prefetched page");
+    } catch (RuntimeException e) {
+      assertThat(e, sameInstance(exception));
+    }
+  }
+
+  @Test(timeout = 10000)
+  public void prefetchRejected() throws Exception {
+    final CountDownLatch firstPageProduced = new CountDownLatch(1);
+    List<String> page1 = asList("a");
+    List<String> page2 = asList("b");
+    List<String> page3 = asList("c");
+    when(delegate.getPage(anyObject())).thenReturn(page1).thenAnswer(inv -> {
+      firstPageProduced.await();
+      return page2;
+    }).thenReturn(page3, emptyList());
+
+    // Its only thread is busy fetching the second page when the third one is to be fetched
+    final ExecutorService executor = new ThreadPoolExecutor(1, 1, 0, SECONDS, new SynchronousQueue<>(), new AbortPolicy());
+    try {
+      producer = new PagingProviderProducer<>(delegate, config, executionContext, extensionConnectionSupplier, executor, 2);
+
+      assertThat(producer.produce(), sameInstance(page1));
+      firstPageProduced.countDown();
+      assertThat(producer.produce(), sameInstance(page2));
+      assertThat(producer.produce(), sameInstance(page3));
+      assertThat(producer.produce().isEmpty(), is(true));
+      verify(delegate, times(4)).getPage(anyObject());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   @Test(expected = Exception.class)
   public void closeNoisely() throws Exception {
     doThrow(new DefaultMuleException(new Exception())).when(delegate).close(any());
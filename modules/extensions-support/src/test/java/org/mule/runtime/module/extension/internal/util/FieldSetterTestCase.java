@@ -38,6 +38,11 @@ public class FieldSetterTestCase extends AbstractMuleTestCase {
     assertThat(apple.isBitten(), is(true));
   }
 
+  @Test(expected = IllegalArgumentException.class)
+  public void setNullOnPrimitive() throws Exception {
+    setter.set(apple, null);
+  }
+
   @Test
   public void getField() {
     assertThat(setter.getField(), is(sameInstance(field)));
@@ -44,6 +44,7 @@ import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_OBJECT_NAME
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_POLICY_MANAGER;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_POLICY_MANAGER_STATE_HANDLER;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_PROCESSING_TIME_WATCHER;
+import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_STATISTICS_SNAPSHOT_SERVICE;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_QUEUE_MANAGER;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_REGISTRY;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_RESOURCE_LOCATOR;
@@ -120,6 +121,7 @@ import org.mule.runtime.core.internal.execution.MuleMessageProcessingManager;
 import org.mule.runtime.core.internal.lock.MuleLockFactory;
 import org.mule.runtime.core.internal.lock.SingleServerLockProvider;
 import org.mule.runtime.core.internal.management.stats.DefaultProcessingTimeWatcher;
+import org.mule.runtime.core.internal.management.stats.StatisticsSnapshotService;
 import org.mule.runtime.core.internal.metadata.MuleMetadataService;
 import org.mule.runtime.core.internal.policy.DefaultPolicyManager;
 import org.mule.runtime.core.internal.policy.DefaultPolicyStateHandler;
@@ -181,6 +183,7 @@ class SpringMuleContextServiceConfigurator {
       .add(OBJECT_MULE_STREAM_CLOSER_SERVICE)
       .add(OBJECT_CONVERTER_RESOLVER)
       .add(OBJECT_PROCESSING_TIME_WATCHER)
+      .add(OBJECT_STATISTICS_SNAPSHOT_SERVICE)
       .add(OBJECT_EXCEPTION_LOCATION_PROVIDER)
       .add(OBJECT_MESSAGE_PROCESSING_FLOW_TRACE_MANAGER)
       .build();
@@ -231,6 +234,7 @@ class SpringMuleContextServiceConfigurator {
       .put(OBJECT_LOCK_FACTORY, getBeanDefinition(MuleLockFactory.class))
       .put(OBJECT_LOCK_PROVIDER, getBeanDefinition(SingleServerLockProvider.class))
       .put(OBJECT_PROCESSING_TIME_WATCHER, getBeanDefinition(DefaultProcessingTimeWatcher.class))
+      .put(OBJECT_STATISTICS_SNAPSHOT_SERVICE, getBeanDefinition(StatisticsSnapshotService.class))
       .put(OBJECT_EXCEPTION_LOCATION_PROVIDER, getBeanDefinition(MessagingExceptionLocationProvider.class))
       .put(OBJECT_MESSAGE_PROCESSING_FLOW_TRACE_MANAGER, getBeanDefinition(MessageProcessingFlowTraceManager.class))
       .put(CONNECTIVITY_TESTING_SERVICE_KEY, getBeanDefinition(DefaultConnectivityTestingService.class))
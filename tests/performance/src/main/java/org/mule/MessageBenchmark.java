@@ -59,6 +59,11 @@ public class MessageBenchmark extends AbstractBenchmark {
     return Message.builder(message).value(VALUE).build();
   }
 
+  @Benchmark
+  public Message mutateMessageAttributes() {
+    return Message.builder(message).attributesValue(VALUE).build();
+  }
+
   @Benchmark
   public Message mutateMessagePayloadWithDataType() {
     return Message.builder(message).value(VALUE).mediaType(MediaType.TEXT).build();
@@ -25,6 +25,7 @@ import org.mule.runtime.api.metadata.DataType;
 import org.mule.runtime.api.metadata.TypedValue;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.exception.NullExceptionHandler;
+import org.mule.runtime.core.internal.message.InternalEvent;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
@@ -33,6 +34,8 @@ import org.openjdk.jmh.annotations.TearDown;
 @OutputTimeUnit(NANOSECONDS)
 public class BindingContextBenchmark extends AbstractBenchmark {
 
+  private static final int CHAIN_LENGTH = 10;
+
   private static final CoreEvent event = CoreEvent.builder(create("", "", CONNECTOR_LOCATION, NullExceptionHandler.getInstance()))
       .message(of(PAYLOAD)).addVariable("foo", "bar").build();
 
@@ -94,4 +97,33 @@ public class BindingContextBenchmark extends AbstractBenchmark {
   public Object parentLookup() {
     return childCtx.lookup("onParent");
   }
+
+  /**
+   * Simulates a chain of processors where each one replaces the payload and evaluates an expression on the resulting event,
+   * so the bindings of each event derive from the ones of the previous event.
+   */
+  @Benchmark
+  public Object chainedPayloadTransforms() {
+    CoreEvent current = event;
+    Object result = null;
+    for (int i = 0; i < CHAIN_LENGTH; ++i) {
+      current = CoreEvent.builder(current).message(of(PAYLOAD)).build();
+      result = current.asBindingContext().lookup(VARS);
+    }
+    return result;
+  }
+
+  /**
+   * Simulates a chain of processors that do not change the event bindings and evaluate an expression each.
+   */
+  @Benchmark
+  public Object chainedUnchangedBindings() {
+    CoreEvent current = event;
+    Object result = null;
+    for (int i = 0; i < CHAIN_LENGTH; ++i) {
+      current = InternalEvent.builder(current).addInternalParameter("foo", "bar").build();
+      result = current.asBindingContext().lookup(BindingContextUtils.PAYLOAD);
+    }
+    return result;
+  }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.connection;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_NONE;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_WAIT;
+import static org.mule.runtime.api.connection.ConnectionValidationResult.success;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.config.PoolingProfile;
+import org.mule.runtime.api.connection.ConnectionProvider;
+import org.mule.runtime.api.connection.ConnectionValidationResult;
+import org.mule.runtime.core.internal.connection.ConnectionPool.Entry;
+
+import org.apache.commons.pool.BasePoolableObjectFactory;
+import org.apache.commons.pool.impl.GenericObjectPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares borrowing and returning connections under contention from the commons-pool {@link GenericObjectPool}, as was done
+ * before, against doing it from the {@link ConnectionPool}.
+ */
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(64)
+public class ConnectionPoolBenchmark extends AbstractBenchmark {
+
+  @Param({"8", "64"})
+  public int maxActive;
+
+  private GenericObjectPool<Object> genericObjectPool;
+  private ConnectionPool<Object> connectionPool;
+
+  @Setup
+  public void setup() {
+    final PoolingProfile poolingProfile =
+        new PoolingProfile(maxActive, maxActive, 60000, WHEN_EXHAUSTED_WAIT, INITIALISE_NONE);
+
+    genericObjectPool = new GenericObjectPool<>(new BasePoolableObjectFactory<Object>() {
+
+      @Override
+      public Object makeObject() {
+        return new Object();
+      }
+    });
+    genericObjectPool.setMaxActive(maxActive);
+    genericObjectPool.setMaxIdle(maxActive);
+    genericObjectPool.setMaxWait(60000);
+    genericObjectPool.setWhenExhaustedAction(GenericObjectPool.WHEN_EXHAUSTED_BLOCK);
+
+    connectionPool = new ConnectionPool<>(new TestConnectionProvider(), poolingProfile, null);
+  }
+
+  @TearDown
+  public void teardown() throws Exception {
+    genericObjectPool.close();
+    connectionPool.close();
+  }
+
+  @Benchmark
+  public Object genericObjectPool() throws Exception {
+    final Object connection = genericObjectPool.borrowObject();
+    genericObjectPool.returnObject(connection);
+    return connection;
+  }
+
+  @Benchmark
+  public Object connectionPool() throws Exception {
+    final Entry<Object> entry = connectionPool.borrow();
+    connectionPool.returnConnection(entry);
+    return entry;
+  }
+
+  private static class TestConnectionProvider implements ConnectionProvider<Object> {
+
+    @Override
+    public Object connect() {
+      return new Object();
+    }
+
+    @Override
+    public void disconnect(Object connection) {
+      // Nothing to do
+    }
+
+    @Override
+    public ConnectionValidationResult validate(Object connection) {
+      return success();
+    }
+  }
+}
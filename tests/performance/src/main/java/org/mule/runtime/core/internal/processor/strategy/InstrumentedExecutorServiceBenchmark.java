@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.strategy;
+
+import static com.google.common.util.concurrent.MoreExecutors.newDirectExecutorService;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType.BLOCKING;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.core.api.management.stats.ProcessingStrategyStatistics;
+
+import java.util.concurrent.ExecutorService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+@OutputTimeUnit(NANOSECONDS)
+@Threads(3)
+public class InstrumentedExecutorServiceBenchmark extends AbstractBenchmark {
+
+  private ExecutorService direct;
+  private ExecutorService instrumented;
+
+  @Setup
+  public void setup() {
+    direct = newDirectExecutorService();
+    instrumented = new InstrumentedExecutorService(direct, new ProcessingStrategyStatistics(), BLOCKING.name());
+  }
+
+  @TearDown
+  public void teardown() {
+    direct.shutdownNow();
+  }
+
+  @Benchmark
+  public void executeDirect(Blackhole blackhole) {
+    direct.execute(() -> blackhole.consume(this));
+  }
+
+  @Benchmark
+  public void executeInstrumented(Blackhole blackhole) {
+    instrumented.execute(() -> blackhole.consume(this));
+  }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.util;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.springframework.util.ReflectionUtils.setField;
+
+import org.mule.AbstractBenchmark;
+
+import java.lang.reflect.Field;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares setting the fields of a parameter group POJO reflectively, as was done before, against doing it through
+ * {@link FieldSetter}.
+ */
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Benchmark)
+public class FieldSetterBenchmark extends AbstractBenchmark {
+
+  private static final String[] VALUES = {"host", "user", "password", "database"};
+
+  private Field[] fields;
+  private FieldSetter<Object, Object>[] fieldSetters;
+
+  @Setup
+  public void setup() throws Exception {
+    fields = new Field[] {
+        ParameterGroup.class.getDeclaredField("host"),
+        ParameterGroup.class.getDeclaredField("user"),
+        ParameterGroup.class.getDeclaredField("password"),
+        ParameterGroup.class.getDeclaredField("database")
+    };
+
+    final ReflectionCache reflectionCache = new ReflectionCache();
+    fieldSetters = new FieldSetter[fields.length];
+    for (int i = 0; i < fields.length; ++i) {
+      fields[i].setAccessible(true);
+      fieldSetters[i] = reflectionCache.getFieldSetter(fields[i]);
+    }
+  }
+
+  @Benchmark
+  public Object reflectiveSetField() {
+    final ParameterGroup group = new ParameterGroup();
+    for (int i = 0; i < fields.length; ++i) {
+      setField(fields[i], group, VALUES[i]);
+    }
+    return group;
+  }
+
+  @Benchmark
+  public Object reflectiveSetFieldSettingAccessible() {
+    final ParameterGroup group = new ParameterGroup();
+    for (int i = 0; i < fields.length; ++i) {
+      fields[i].setAccessible(true);
+      setField(fields[i], group, VALUES[i]);
+    }
+    return group;
+  }
+
+  @Benchmark
+  public Object fieldSetter() {
+    final ParameterGroup group = new ParameterGroup();
+    for (int i = 0; i < fieldSetters.length; ++i) {
+      fieldSetters[i].set(group, VALUES[i]);
+    }
+    return group;
+  }
+
+  public static class ParameterGroup {
+
+    private String host;
+    private String user;
+    private String password;
+    private String database;
+  }
+}
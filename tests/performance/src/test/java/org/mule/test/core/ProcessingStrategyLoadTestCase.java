@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.test.core;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.test.performance.util.AbstractFlowLoadTestCase;
+import org.mule.test.performance.util.OpenLoopLoadGenerator.LoadResult;
+
+import org.junit.Test;
+
+public class ProcessingStrategyLoadTestCase extends AbstractFlowLoadTestCase {
+
+  private static final int RATE_PER_SECOND = 2000;
+  private static final long DURATION_MILLIS = 10000;
+  private static final int MAX_OUTSTANDING = 10000;
+
+  public ProcessingStrategyLoadTestCase(String strategyName, String processingStrategyFactoryClassName) {
+    super(strategyName, processingStrategyFactoryClassName);
+  }
+
+  @Override
+  protected String getConfigFile() {
+    return "flow-load-config.xml";
+  }
+
+  @Test
+  public void transform() throws Exception {
+    assertNoFailures(runLoad("transform", asList("a", "b", "c", "d"), RATE_PER_SECOND, DURATION_MILLIS, MAX_OUTSTANDING));
+  }
+
+  @Test
+  public void errorHandling() throws Exception {
+    assertNoFailures(runLoad("errorHandling", TEST_PAYLOAD, RATE_PER_SECOND, DURATION_MILLIS, MAX_OUTSTANDING));
+  }
+
+  @Test
+  public void scatterGather() throws Exception {
+    assertNoFailures(runLoad("scatterGather", TEST_PAYLOAD, RATE_PER_SECOND, DURATION_MILLIS, MAX_OUTSTANDING));
+  }
+
+  private void assertNoFailures(LoadResult result) {
+    assertThat(result.getFailed(), is(0L));
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.test.performance.util;
+
+import static java.lang.Boolean.getBoolean;
+import static org.junit.Assume.assumeTrue;
+import static org.mule.runtime.api.message.Message.of;
+import static org.mule.runtime.core.api.event.EventContextFactory.create;
+import static reactor.core.publisher.Mono.just;
+
+import org.mule.runtime.core.api.construct.Flow;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.processor.strategy.ProcessingStrategyFactory;
+import org.mule.tck.junit4.rule.SystemProperty;
+import org.mule.test.performance.util.OpenLoopLoadGenerator.LoadResult;
+import org.mule.test.runner.RunnerDelegateTo;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base class for tests that drive the flows of a configuration at a fixed arrival rate with an {@link OpenLoopLoadGenerator},
+ * with each of the processing strategies used in production, so the latency distributions they achieve can be compared.
+ * <p>
+ * These only run when the {@code enablePerformanceTests} system property is set (see the {@code performance} profile).
+ */
+@RunnerDelegateTo(Parameterized.class)
+public abstract class AbstractFlowLoadTestCase extends AbstractIsolatedFunctionalPerformanceTestCase {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AbstractFlowLoadTestCase.class);
+
+  private static final String ENABLE_PERFORMANCE_TESTS_SYSTEM_PROPERTY = "enablePerformanceTests";
+  private static final String INTERNAL_STRATEGY_PACKAGE = "org.mule.runtime.core.internal.processor.strategy.";
+
+  @Parameters(name = "{0}")
+  public static Object[][] parameters() {
+    return new Object[][] {
+        {"ReactorStream", INTERNAL_STRATEGY_PACKAGE + "ReactorStreamProcessingStrategyFactory"},
+        {"ProactorStream", INTERNAL_STRATEGY_PACKAGE + "ProactorStreamProcessingStrategyFactory"},
+        {"WorkQueue", INTERNAL_STRATEGY_PACKAGE + "WorkQueueProcessingStrategyFactory"}
+    };
+  }
+
+  @Rule
+  public SystemProperty processingStrategy;
+
+  private final String strategyName;
+
+  public AbstractFlowLoadTestCase(String strategyName, String processingStrategyFactoryClassName) {
+    this.strategyName = strategyName;
+    this.processingStrategy =
+        new SystemProperty(ProcessingStrategyFactory.class.getName(), processingStrategyFactoryClassName);
+  }
+
+  @Before
+  public void checkPerformanceTestsEnabled() {
+    assumeTrue(getBoolean(ENABLE_PERFORMANCE_TESTS_SYSTEM_PROPERTY));
+  }
+
+  @Override
+  public int getTestTimeoutSecs() {
+    return 5 * 60;
+  }
+
+  /**
+   * Sends events with the given payload to a flow at a fixed rate, after a warmup run at the same rate.
+   *
+   * @param flowName the name of the flow to send the events to.
+   * @param payload the payload of each event.
+   * @param ratePerSecond how many events to send each second.
+   * @param durationMillis for how long to send events.
+   * @param maxOutstanding how many events may be in the flow at the same time before new ones are shed.
+   * @return the outcome of the measured run.
+   */
+  protected LoadResult runLoad(String flowName, Object payload, int ratePerSecond, long durationMillis, int maxOutstanding)
+      throws Exception {
+    final Flow flow = (Flow) getFlowConstruct(flowName);
+    final OpenLoopLoadGenerator generator = new OpenLoopLoadGenerator(ratePerSecond, durationMillis, maxOutstanding);
+
+    generator.run(() -> just(newEvent(flow, payload)).transform(flow));
+    final LoadResult result = generator.run(() -> just(newEvent(flow, payload)).transform(flow));
+
+    LOGGER.info("Flow '{}' with {} processing strategy at {} events/s: {}", flowName, strategyName, ratePerSecond, result);
+    return result;
+  }
+
+  private CoreEvent newEvent(Flow flow, Object payload) {
+    return CoreEvent.builder(create(flow, TEST_CONNECTOR_LOCATION)).message(of(payload)).build();
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.test.performance.util;
+
+import static java.lang.String.format;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
+
+import org.mule.runtime.core.api.management.stats.LatencyHistogram;
+import org.mule.runtime.core.api.management.stats.LatencySnapshot;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+/**
+ * Generates load at a fixed arrival rate, regardless of how long the previous requests take to complete (open-loop).
+ * <p>
+ * Each request has an intended start time, determined only by the rate. Latencies are measured from that intended start time
+ * rather than from the moment the request was actually issued, so any time a request waits because the system under test (or
+ * the generator itself) is falling behind is accounted for. Measuring from the actual start time instead hides the stalls of the
+ * system under test, a problem known as <i>coordinated omission</i>.
+ */
+public class OpenLoopLoadGenerator {
+
+  private final int ratePerSecond;
+  private final long durationMillis;
+  private final int maxOutstanding;
+
+  /**
+   * @param ratePerSecond how many requests to issue each second.
+   * @param durationMillis for how long to issue requests.
+   * @param maxOutstanding how many requests may be awaiting completion at the same time. Requests that would exceed this are not
+   *        issued and accounted as shed, to keep the generator from exhausting memory when the system under test can't keep up.
+   */
+  public OpenLoopLoadGenerator(int ratePerSecond, long durationMillis, int maxOutstanding) {
+    if (ratePerSecond < 1) {
+      throw new IllegalArgumentException("ratePerSecond must be at least 1");
+    }
+    this.ratePerSecond = ratePerSecond;
+    this.durationMillis = durationMillis;
+    this.maxOutstanding = maxOutstanding;
+  }
+
+  /**
+   * Issues requests at the configured rate for the configured duration, and waits for all of them to complete.
+   *
+   * @param request provides the {@link Publisher} for each request. The request is considered complete when the publisher
+   *        completes or fails.
+   * @return the outcome of the load run.
+   * @throws InterruptedException if interrupted while waiting for the outstanding requests.
+   */
+  public LoadResult run(Supplier<Publisher<?>> request) throws InterruptedException {
+    final LatencyHistogram latencies = new LatencyHistogram();
+    final LongAdder completed = new LongAdder();
+    final LongAdder failed = new LongAdder();
+    final Semaphore outstanding = new Semaphore(maxOutstanding);
+    long shed = 0;
+
+    final long intervalNanos = SECONDS.toNanos(1) / ratePerSecond;
+    final long requests = durationMillis * ratePerSecond / SECONDS.toMillis(1);
+    final long start = nanoTime();
+
+    for (long i = 0; i < requests; ++i) {
+      final long intendedStart = start + i * intervalNanos;
+      long wait;
+      while ((wait = intendedStart - nanoTime()) > 0) {
+        parkNanos(wait);
+      }
+
+      if (!outstanding.tryAcquire()) {
+        ++shed;
+        continue;
+      }
+
+      try {
+        Mono.from(request.get())
+            .subscribe(result -> {
+            }, e -> {
+              failed.increment();
+              latencies.record(nanoTime() - intendedStart);
+              outstanding.release();
+            }, () -> {
+              completed.increment();
+              latencies.record(nanoTime() - intendedStart);
+              outstanding.release();
+            });
+      } catch (RuntimeException e) {
+        failed.increment();
+        latencies.record(nanoTime() - intendedStart);
+        outstanding.release();
+      }
+    }
+
+    outstanding.acquire(maxOutstanding);
+    final long elapsed = nanoTime() - start;
+    return new LoadResult(latencies.getSnapshot(), completed.sum(), failed.sum(), shed, elapsed);
+  }
+
+  /**
+   * The outcome of a load run.
+   */
+  public static final class LoadResult {
+
+    private final LatencySnapshot latencies;
+    private final long completed;
+    private final long failed;
+    private final long shed;
+    private final long elapsedNanos;
+
+    private LoadResult(LatencySnapshot latencies, long completed, long failed, long shed, long elapsedNanos) {
+      this.latencies = latencies;
+      this.completed = completed;
+      this.failed = failed;
+      this.shed = shed;
+      this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return the distribution of the latencies of the requests, measured from their intended start time, in nanoseconds.
+     */
+    public LatencySnapshot getLatencies() {
+      return latencies;
+    }
+
+    /**
+     * @return how many requests completed successfully.
+     */
+    public long getCompleted() {
+      return completed;
+    }
+
+    /**
+     * @return how many requests failed.
+     */
+    public long getFailed() {
+      return failed;
+    }
+
+    /**
+     * @return how many requests were not issued because too many were already outstanding.
+     */
+    public long getShed() {
+      return shed;
+    }
+
+    /**
+     * @return the amount of requests completed, successfully or not, per second.
+     */
+    public double getThroughput() {
+      return (completed + failed) * (double) SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+      return format("completed=%d, failed=%d, shed=%d, throughput=%.1f/s, p50=%.3fms, p99=%.3fms, p99.9=%.3fms, max=%.3fms",
+                    completed, failed, shed, getThroughput(), toMillis(latencies.getP50()), toMillis(latencies.getP99()),
+                    toMillis(latencies.getP999()), toMillis(latencies.getMax()));
+    }
+
+    private static double toMillis(long nanos) {
+      return nanos / (double) NANOSECONDS.convert(1, MILLISECONDS);
+    }
+  }
+}